@@ -7,12 +7,15 @@
  */
 package org.opendaylight.openflowplugin.applications.frm;
 
+import java.util.List;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.openflowplugin.api.openflow.configuration.ConfigurationListener;
 import org.opendaylight.openflowplugin.applications.frm.impl.DevicesGroupRegistry;
+import org.opendaylight.openflowplugin.applications.frm.impl.FlowBatcher;
 import org.opendaylight.openflowplugin.applications.frm.impl.FlowNodeConnectorInventoryTranslatorImpl;
 import org.opendaylight.serviceutils.srm.RecoverableListener;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatch;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
@@ -108,6 +111,9 @@ public interface ForwardingRulesManager extends ConfigurationListener {
     // arbitrator-reconcile RPC services
     @NonNull GetActiveBundle getActiveBundle();
 
+    // Flat batch RPC services
+    @NonNull ProcessFlatBatch processFlatBatch();
+
     /**
      * Return Devices Group Registry which can be used to track the groups present in a device.
      *
@@ -115,6 +121,13 @@ public interface ForwardingRulesManager extends ConfigurationListener {
      */
     DevicesGroupRegistry getDevicesGroupRegistry();
 
+    /**
+     * Return the {@link FlowBatcher} which collects flow changes into flat batches.
+     *
+     * @return flowBatcher
+     */
+    @NonNull FlowBatcher getFlowBatcher();
+
     /**
      * Content definition method and prevent code duplicity in Reconcil.
      *
@@ -201,6 +214,41 @@ public interface ForwardingRulesManager extends ConfigurationListener {
      */
     boolean isBundleBasedReconciliationEnabled();
 
+    /**
+     * Return the maximum number of devices reconciled at the same time.
+     *
+     * @return maximum number of concurrent reconciliations
+     */
+    int getReconciliationConcurrency();
+
+    /**
+     * Return the maximum number of flows or groups sent in a single bundle add request.
+     *
+     * @return bundle chunk size
+     */
+    int getBundleReconciliationChunkSize();
+
+    /**
+     * Return the node IDs which are reconciled ahead of other nodes, in the order they should be reconciled.
+     *
+     * @return list of node IDs
+     */
+    List<String> getReconciliationPriorityNodes();
+
+    /**
+     * Return the time in milliseconds for which flow changes of a node are collected into a flat batch.
+     *
+     * @return batch delay, 0 if flow changes are not batched
+     */
+    int getFlowBatchDelay();
+
+    /**
+     * Return the maximum number of flow changes sent in a single flat batch.
+     *
+     * @return batch size
+     */
+    int getFlowBatchSize();
+
     /**
      * Return the NodeConfigurator which could be used to serialize jobs.
      *
@@ -16,7 +16,12 @@ public enum ForwardingRulesProperty {
     DISABLE_RECONCILIATION,
     STALE_MARKING_ENABLED,
     RECONCILIATION_RETRY_COUNT,
-    BUNDLE_BASED_RECONCILIATION_ENABLED;
+    BUNDLE_BASED_RECONCILIATION_ENABLED,
+    RECONCILIATION_CONCURRENCY,
+    BUNDLE_RECONCILIATION_CHUNK_SIZE,
+    RECONCILIATION_PRIORITY_NODES,
+    FLOW_BATCH_DELAY,
+    FLOW_BATCH_SIZE;
 
 
     private static final Map<String, ForwardingRulesProperty> KEY_VALUE_MAP;
@@ -7,29 +7,352 @@
  */
 package org.opendaylight.openflowplugin.applications.frm.impl;
 
-import java.util.ArrayList;
-import java.util.List;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowplugin.applications.frm.util.FrmUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.service.rev130918.AddGroupOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.opendaylight.yangtools.yang.common.Uint32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+/**
+ * Index of the groups of each device. For every device it tracks the groups in the config datastore, the flows and
+ * groups referring to each of them, and the groups and group dependent flows programmed on the device or being added
+ * to it, so that flows depending on a group can be pushed without reading the group from the datastore.
+ *
+ * <p>
+ * The configuration part is kept up to date by the flow and group listeners and survives device reconnections, the
+ * device part is kept up to date from the results of the group and flow requests. Removing a group from the device
+ * removes the flows and groups forwarding to it, hence those are no longer considered programmed either.
+ */
 public class DevicesGroupRegistry {
-    private final Map<String, List<Uint32>> deviceGroupMapping = new ConcurrentHashMap<>();
+    private static final Logger LOG = LoggerFactory.getLogger(DevicesGroupRegistry.class);
+
+    private static final class NodeGroups {
+        // Groups in the config datastore
+        @GuardedBy("this")
+        final Map<Uint32, Group> configured = new HashMap<>();
+        // Flows in the config datastore referring to each group
+        @GuardedBy("this")
+        final Map<Uint32, Set<InstanceIdentifier<Flow>>> flows = new HashMap<>();
+        // Groups in the config datastore chaining to each group
+        @GuardedBy("this")
+        final Map<Uint32, Set<Uint32>> parents = new HashMap<>();
+        // Groups programmed on the device
+        @GuardedBy("this")
+        final Set<Uint32> programmed = new HashSet<>();
+        // Groups being added to the device
+        @GuardedBy("this")
+        final Map<Uint32, ListenableFuture<RpcResult<AddGroupOutput>>> pending = new HashMap<>();
+        // Flows referring to a group programmed on the device
+        @GuardedBy("this")
+        final Set<InstanceIdentifier<Flow>> programmedFlows = new HashSet<>();
+    }
+
+    private final Map<String, NodeGroups> nodes = new ConcurrentHashMap<>();
 
     public boolean isGroupPresent(final String nodeId, final Uint32 groupId) {
-        final List<Uint32> groups = deviceGroupMapping.get(nodeId);
-        return groups != null && groups.contains(groupId);
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return false;
+        }
+        synchronized (groups) {
+            return groups.programmed.contains(groupId);
+        }
     }
 
     public void storeGroup(final String nodeId, final Uint32 groupId) {
-        deviceGroupMapping.computeIfAbsent(nodeId, groupIdList -> new ArrayList<>()).add(groupId);
+        final NodeGroups groups = node(nodeId);
+        synchronized (groups) {
+            groups.programmed.add(groupId);
+            groups.pending.remove(groupId);
+        }
     }
 
+    /**
+     * Record a group was removed from the device. The device removes the flows and groups forwarding to the group
+     * along with it, hence the removal cascades to the flows referring to the group and to its parent groups, along
+     * with their own dependents.
+     *
+     * @param nodeId node ID
+     * @param groupId group ID
+     */
     public void removeGroup(final String nodeId, final Uint32 groupId) {
-        deviceGroupMapping.computeIfPresent(nodeId, (node, groupIds) -> groupIds).remove(groupId);
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return;
+        }
+        synchronized (groups) {
+            final Set<Uint32> removed = new HashSet<>();
+            final Deque<Uint32> queue = new ArrayDeque<>();
+            queue.add(groupId);
+            int flowCount = 0;
+            while (!queue.isEmpty()) {
+                final Uint32 removedId = queue.remove();
+                if (removed.add(removedId)) {
+                    groups.programmed.remove(removedId);
+                    groups.pending.remove(removedId);
+                    for (InstanceIdentifier<Flow> flowIdent : groups.flows.getOrDefault(removedId, Set.of())) {
+                        if (groups.programmedFlows.remove(flowIdent)) {
+                            flowCount++;
+                        }
+                    }
+                    queue.addAll(groups.parents.getOrDefault(removedId, Set.of()));
+                }
+            }
+            LOG.debug("Group {} removed from node {} along with {} parent groups and {} flows referring to them",
+                groupId, nodeId, removed.size() - 1, flowCount);
+        }
+    }
+
+    /**
+     * Check whether a flow referring to a group is programmed on the device.
+     *
+     * @param nodeId node ID
+     * @param flowIdent flow identifier
+     * @return true if the flow is programmed
+     */
+    public boolean isFlowPresent(final String nodeId, final InstanceIdentifier<Flow> flowIdent) {
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return false;
+        }
+        synchronized (groups) {
+            return groups.programmedFlows.contains(flowIdent);
+        }
+    }
+
+    /**
+     * Record a flow referring to a group was programmed on the device.
+     *
+     * @param nodeId node ID
+     * @param flowIdent flow identifier
+     */
+    public void storeFlow(final String nodeId, final InstanceIdentifier<Flow> flowIdent) {
+        final NodeGroups groups = node(nodeId);
+        synchronized (groups) {
+            groups.programmedFlows.add(flowIdent);
+        }
     }
 
+    /**
+     * Record a flow was removed from the device or no longer refers to a group.
+     *
+     * @param nodeId node ID
+     * @param flowIdent flow identifier
+     */
+    public void removeFlow(final String nodeId, final InstanceIdentifier<Flow> flowIdent) {
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups != null) {
+            synchronized (groups) {
+                groups.programmedFlows.remove(flowIdent);
+            }
+        }
+    }
+
+    /**
+     * Forget the groups and flows programmed on a device, keeping the configured groups.
+     *
+     * @param nodeId node ID
+     */
     public void clearNodeGroups(final String nodeId) {
-        deviceGroupMapping.remove(nodeId);
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups != null) {
+            synchronized (groups) {
+                groups.programmed.clear();
+                groups.pending.clear();
+                groups.programmedFlows.clear();
+            }
+        }
+    }
+
+    /**
+     * Track a request adding a group to the device. Until it completes, flows depending on the group can wait for it
+     * instead of adding the group again.
+     *
+     * @param nodeId node ID
+     * @param groupId group ID
+     * @param future future of the add group request, may complete with null
+     * @return future of the add group request, never completing with null
+     */
+    public ListenableFuture<RpcResult<AddGroupOutput>> trackGroupAdd(final String nodeId, final Uint32 groupId,
+            final ListenableFuture<? extends RpcResult<AddGroupOutput>> future) {
+        final ListenableFuture<RpcResult<AddGroupOutput>> pending = Futures.transform(future,
+            result -> result != null ? result : RpcResultBuilder.<AddGroupOutput>failed()
+                .withError(ErrorType.APPLICATION, "Group " + groupId + " was not added")
+                .build(), MoreExecutors.directExecutor());
+        final NodeGroups groups = node(nodeId);
+        synchronized (groups) {
+            groups.pending.put(groupId, pending);
+        }
+
+        Futures.addCallback(pending, new FutureCallback<RpcResult<AddGroupOutput>>() {
+            @Override
+            public void onSuccess(final RpcResult<AddGroupOutput> result) {
+                synchronized (groups) {
+                    if (groups.pending.remove(groupId, pending) && result.isSuccessful()) {
+                        groups.programmed.add(groupId);
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                synchronized (groups) {
+                    groups.pending.remove(groupId, pending);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+        return pending;
+    }
+
+    /**
+     * Return the request adding a group to the device, if there is one in progress.
+     *
+     * @param nodeId node ID
+     * @param groupId group ID
+     * @return future of the add group request, or null
+     */
+    public @Nullable ListenableFuture<RpcResult<AddGroupOutput>> getPendingGroup(final String nodeId,
+            final Uint32 groupId) {
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return null;
+        }
+        synchronized (groups) {
+            return groups.pending.get(groupId);
+        }
+    }
+
+    /**
+     * Return a group in the config datastore.
+     *
+     * @param nodeId node ID
+     * @param groupId group ID
+     * @return configured group, or null if it is not known
+     */
+    public @Nullable Group getConfiguredGroup(final String nodeId, final Uint32 groupId) {
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return null;
+        }
+        synchronized (groups) {
+            return groups.configured.get(groupId);
+        }
+    }
+
+    /**
+     * Return the flows in the config datastore which refer to a group.
+     *
+     * @param nodeId node ID
+     * @param groupId group ID
+     * @return flow identifiers
+     */
+    public Set<InstanceIdentifier<Flow>> getDependentFlows(final String nodeId, final Uint32 groupId) {
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return Set.of();
+        }
+        synchronized (groups) {
+            return Set.copyOf(groups.flows.getOrDefault(groupId, Set.of()));
+        }
+    }
+
+    /**
+     * Return the groups in the config datastore which chain to a group.
+     *
+     * @param nodeId node ID
+     * @param groupId group ID
+     * @return parent group IDs
+     */
+    public Set<Uint32> getParentGroups(final String nodeId, final Uint32 groupId) {
+        final NodeGroups groups = nodes.get(nodeId);
+        if (groups == null) {
+            return Set.of();
+        }
+        synchronized (groups) {
+            return Set.copyOf(groups.parents.getOrDefault(groupId, Set.of()));
+        }
+    }
+
+    /**
+     * Update the index with a change of a group in the config datastore.
+     *
+     * @param nodeId node ID
+     * @param before group before the change, null if it was created
+     * @param after group after the change, null if it was removed
+     */
+    public void updateConfiguredGroup(final String nodeId, final @Nullable Group before, final @Nullable Group after) {
+        final NodeGroups groups = node(nodeId);
+        synchronized (groups) {
+            if (before != null) {
+                final Uint32 groupId = before.getGroupId().getValue();
+                groups.configured.remove(groupId);
+                FrmUtil.getChainedGroups(before).forEach(child -> removeDependency(groups.parents, child, groupId));
+            }
+            if (after != null) {
+                final Uint32 groupId = after.getGroupId().getValue();
+                groups.configured.put(groupId, after);
+                FrmUtil.getChainedGroups(after).forEach(child -> addDependency(groups.parents, child, groupId));
+            }
+        }
+    }
+
+    /**
+     * Update the index with a change of a flow in the config datastore.
+     *
+     * @param nodeId node ID
+     * @param flowIdent flow identifier
+     * @param before group the flow referred to before the change, or null
+     * @param after group the flow refers to after the change, or null
+     */
+    public void updateFlowDependency(final String nodeId, final InstanceIdentifier<Flow> flowIdent,
+            final @Nullable Uint32 before, final @Nullable Uint32 after) {
+        if (before == null && after == null) {
+            return;
+        }
+        final NodeGroups groups = node(nodeId);
+        synchronized (groups) {
+            if (before != null) {
+                removeDependency(groups.flows, before, flowIdent);
+            }
+            if (after != null) {
+                addDependency(groups.flows, after, flowIdent);
+            }
+        }
+    }
+
+    private NodeGroups node(final String nodeId) {
+        return nodes.computeIfAbsent(nodeId, key -> new NodeGroups());
+    }
+
+    private static <T> void addDependency(final Map<Uint32, Set<T>> dependencies, final Uint32 groupId,
+            final T dependent) {
+        dependencies.computeIfAbsent(groupId, key -> new HashSet<>()).add(dependent);
+    }
+
+    private static <T> void removeDependency(final Map<Uint32, Set<T>> dependencies, final Uint32 groupId,
+            final T dependent) {
+        dependencies.computeIfPresent(groupId, (key, dependents) -> {
+            dependents.remove(dependent);
+            return dependents.isEmpty() ? null : dependents;
+        });
     }
-}
\ No newline at end of file
+}
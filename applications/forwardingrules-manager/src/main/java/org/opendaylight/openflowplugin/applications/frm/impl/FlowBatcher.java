@@ -0,0 +1,308 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frm.impl;
+
+import static java.util.Objects.requireNonNull;
+import static org.opendaylight.openflowplugin.applications.frm.util.FrmUtil.getNodeIdValueFromNodeIdentifier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.lock.qual.Holding;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowplugin.applications.frm.ForwardingRulesManager;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchAddFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchRemoveFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchUpdateFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.flat.batch.add.flow._case.FlatBatchAddFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.flat.batch.remove.flow._case.FlatBatchRemoveFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.flat.batch.update.flow._case.FlatBatchUpdateFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.input.Batch;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.input.BatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.input.batch.BatchChoice;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.output.BatchFailureKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flows.service.rev160314.batch.flow.input.update.grouping.OriginalBatchedFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flows.service.rev160314.batch.flow.input.update.grouping.UpdatedBatchedFlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects flow additions, updates and removals of each node and sends them to the node in a single
+ * {@link org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatch} request, either
+ * {@link ForwardingRulesManager#getFlowBatchDelay()} milliseconds after the first of them was collected, or as soon as
+ * {@link ForwardingRulesManager#getFlowBatchSize()} of them are collected. The flows keep their order: each run of
+ * consecutive changes of the same kind becomes one step of the batch. The result of each change is completed from the
+ * batch failures reported for it.
+ *
+ * <p>
+ * Batches are sent through the {@link org.opendaylight.openflowplugin.applications.frm.NodeConfigurator} of the node,
+ * so changes which must not overtake the collected flows, such as the removal of a group the flows may refer to, have
+ * to {@link #flush(InstanceIdentifier)} the node before they are enqueued there.
+ *
+ * <p>
+ * The flat batch model has no transaction URI, hence unlike flow changes sent one by one, batched changes are not
+ * tagged with a {@link ForwardingRulesManager#getNewTransactionId()} and cannot be correlated with the transaction
+ * aware notifications of the device.
+ */
+public final class FlowBatcher implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(FlowBatcher.class);
+    private static final RpcResult<Void> SUCCESS = RpcResultBuilder.<Void>success().build();
+
+    @VisibleForTesting
+    enum Kind {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+
+    @VisibleForTesting
+    record PendingFlow(Kind kind, Flow original, Flow flow, SettableFuture<RpcResult<Void>> future) {
+        PendingFlow(final Kind kind, final Flow original, final Flow flow) {
+            this(kind, original, requireNonNull(flow), SettableFuture.create());
+        }
+    }
+
+    private static final class NodeBatch {
+        final List<PendingFlow> flows = new ArrayList<>();
+        final InstanceIdentifier<FlowCapableNode> nodeIdent;
+        ScheduledFuture<?> flushTask;
+
+        NodeBatch(final InstanceIdentifier<FlowCapableNode> nodeIdent) {
+            this.nodeIdent = nodeIdent;
+        }
+    }
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("frm-flow-batcher-%d").setDaemon(true).build());
+    private final ForwardingRulesManager provider;
+
+    @GuardedBy("this")
+    private final Map<String, NodeBatch> batches = new HashMap<>();
+    // Written while holding the lock, allows flushes to skip it when no flows are collected
+    private volatile boolean collecting;
+
+    FlowBatcher(final ForwardingRulesManager provider) {
+        this.provider = requireNonNull(provider);
+    }
+
+    public @NonNull ListenableFuture<RpcResult<Void>> addFlow(final InstanceIdentifier<FlowCapableNode> nodeIdent,
+            final Flow flow) {
+        return collect(nodeIdent, new PendingFlow(Kind.ADD, null, flow));
+    }
+
+    public @NonNull ListenableFuture<RpcResult<Void>> updateFlow(final InstanceIdentifier<FlowCapableNode> nodeIdent,
+            final Flow original, final Flow update) {
+        return collect(nodeIdent, new PendingFlow(Kind.UPDATE, requireNonNull(original), update));
+    }
+
+    public @NonNull ListenableFuture<RpcResult<Void>> removeFlow(final InstanceIdentifier<FlowCapableNode> nodeIdent,
+            final Flow flow) {
+        return collect(nodeIdent, new PendingFlow(Kind.REMOVE, null, flow));
+    }
+
+    /**
+     * Send the flows collected for a node, if any, without waiting for the batch delay.
+     *
+     * @param nodeIdent node identifier
+     */
+    public void flush(final InstanceIdentifier<FlowCapableNode> nodeIdent) {
+        if (collecting) {
+            flush(getNodeIdValueFromNodeIdentifier(nodeIdent));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        executor.shutdownNow();
+        batches.forEach(this::send);
+        batches.clear();
+        collecting = false;
+    }
+
+    private ListenableFuture<RpcResult<Void>> collect(final InstanceIdentifier<FlowCapableNode> nodeIdent,
+            final PendingFlow pending) {
+        final String nodeId = getNodeIdValueFromNodeIdentifier(nodeIdent);
+        synchronized (this) {
+            final NodeBatch batch = batches.computeIfAbsent(nodeId, key -> new NodeBatch(nodeIdent));
+            batch.flows.add(pending);
+            if (batch.flows.size() >= provider.getFlowBatchSize() || executor.isShutdown()) {
+                batches.remove(nodeId);
+                if (batch.flushTask != null) {
+                    batch.flushTask.cancel(false);
+                }
+                send(nodeId, batch);
+            } else if (batch.flushTask == null) {
+                batch.flushTask = executor.schedule(() -> flush(nodeId), provider.getFlowBatchDelay(),
+                    TimeUnit.MILLISECONDS);
+            }
+            collecting = !batches.isEmpty();
+        }
+        return pending.future();
+    }
+
+    private synchronized void flush(final String nodeId) {
+        final NodeBatch batch = batches.remove(nodeId);
+        if (batch != null) {
+            if (batch.flushTask != null) {
+                batch.flushTask.cancel(false);
+            }
+            send(nodeId, batch);
+            collecting = !batches.isEmpty();
+        }
+    }
+
+    // Batches are enqueued while holding the lock, so that batches of a node cannot overtake each other
+    @Holding("this")
+    private void send(final String nodeId, final NodeBatch batch) {
+        final List<PendingFlow> flows = batch.flows;
+        LOG.debug("Sending flat batch of {} flows to node {}", flows.size(), nodeId);
+        provider.getNodeConfigurator().enqueueJob(nodeId, () -> {
+            final var resultFuture = provider.processFlatBatch().invoke(new ProcessFlatBatchInputBuilder()
+                .setNode(new NodeRef(batch.nodeIdent.firstIdentifierOf(Node.class)))
+                .setExitOnFirstError(false)
+                .setBatch(BindingMap.ordered(assembleBatches(flows)))
+                .build());
+            Futures.addCallback(resultFuture, new FutureCallback<RpcResult<ProcessFlatBatchOutput>>() {
+                @Override
+                public void onSuccess(final RpcResult<ProcessFlatBatchOutput> result) {
+                    completeFlows(nodeId, flows, result);
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    LOG.error("Service call for flat batch of {} flows failed for node {}", flows.size(), nodeId,
+                        throwable);
+                    flows.forEach(flow -> flow.future().setException(throwable));
+                }
+            }, MoreExecutors.directExecutor());
+            return resultFuture;
+        });
+    }
+
+    @VisibleForTesting
+    static List<Batch> assembleBatches(final List<PendingFlow> flows) {
+        final List<Batch> batches = new ArrayList<>();
+        int start = 0;
+        while (start < flows.size()) {
+            final Kind kind = flows.get(start).kind();
+            int end = start + 1;
+            while (end < flows.size() && flows.get(end).kind() == kind) {
+                end++;
+            }
+            // Item orders restart in each step, the step order is the index of its first flow
+            batches.add(new BatchBuilder()
+                .setBatchOrder(Uint16.valueOf(start))
+                .setBatchChoice(batchChoice(kind, flows.subList(start, end)))
+                .build());
+            start = end;
+        }
+        return batches;
+    }
+
+    private static BatchChoice batchChoice(final Kind kind, final List<PendingFlow> flows) {
+        final IntStream orders = IntStream.range(0, flows.size());
+        switch (kind) {
+            case ADD:
+                return new FlatBatchAddFlowCaseBuilder()
+                    .setFlatBatchAddFlow(orders
+                        .mapToObj(order -> new FlatBatchAddFlowBuilder(flows.get(order).flow())
+                            .setBatchOrder(Uint16.valueOf(order))
+                            .setFlowId(flows.get(order).flow().getId())
+                            .build())
+                        .collect(BindingMap.toOrderedMap()))
+                    .build();
+            case UPDATE:
+                // Only the flow entry associated with the flow object is updated, see FlowForwarder
+                return new FlatBatchUpdateFlowCaseBuilder()
+                    .setFlatBatchUpdateFlow(orders
+                        .mapToObj(order -> new FlatBatchUpdateFlowBuilder()
+                            .setBatchOrder(Uint16.valueOf(order))
+                            .setFlowId(flows.get(order).flow().getId())
+                            .setOriginalBatchedFlow(new OriginalBatchedFlowBuilder(flows.get(order).original())
+                                .setStrict(Boolean.TRUE)
+                                .build())
+                            .setUpdatedBatchedFlow(new UpdatedBatchedFlowBuilder(flows.get(order).flow())
+                                .setStrict(Boolean.TRUE)
+                                .build())
+                            .build())
+                        .collect(BindingMap.toOrderedMap()))
+                    .build();
+            case REMOVE:
+                // Only the flow entry associated with the flow object is removed, see FlowForwarder
+                return new FlatBatchRemoveFlowCaseBuilder()
+                    .setFlatBatchRemoveFlow(orders
+                        .mapToObj(order -> new FlatBatchRemoveFlowBuilder(flows.get(order).flow())
+                            .setBatchOrder(Uint16.valueOf(order))
+                            .setFlowId(flows.get(order).flow().getId())
+                            .setStrict(Boolean.TRUE)
+                            .build())
+                        .collect(BindingMap.toOrderedMap()))
+                    .build();
+            default:
+                throw new IllegalArgumentException("Unhandled flow change " + kind);
+        }
+    }
+
+    @VisibleForTesting
+    static void completeFlows(final String nodeId, final List<PendingFlow> flows,
+            final RpcResult<ProcessFlatBatchOutput> result) {
+        if (result.isSuccessful()) {
+            flows.forEach(flow -> flow.future().set(SUCCESS));
+            return;
+        }
+
+        final ProcessFlatBatchOutput output = result.getResult();
+        final Set<Integer> failed = output == null ? Set.of() : output.nonnullBatchFailure().keySet().stream()
+            .map(BatchFailureKey::getBatchOrder)
+            .map(Uint16::toJava)
+            .collect(Collectors.toSet());
+        LOG.error("Flat batch of {} flows failed for node {} with {} failed flows and error {}", flows.size(), nodeId,
+            failed.size(), result.getErrors());
+
+        // Without batch failures the batch failed as a whole
+        for (int i = 0; i < flows.size(); i++) {
+            final PendingFlow flow = flows.get(i);
+            if (failed.isEmpty() || failed.contains(i)) {
+                flow.future().set(RpcResultBuilder.<Void>failed()
+                    .withError(ErrorType.APPLICATION, "Flow " + flow.flow().getId().getValue() + " failed in batch")
+                    .withRpcErrors(result.getErrors())
+                    .build());
+            } else {
+                flow.future().set(SUCCESS);
+            }
+        }
+    }
+}
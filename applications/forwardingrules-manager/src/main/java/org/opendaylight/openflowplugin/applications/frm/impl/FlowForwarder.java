@@ -20,9 +20,13 @@ import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.infrautils.utils.concurrent.LoggingFutures;
 import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.frm.ForwardingRulesManager;
@@ -78,6 +82,21 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
         super(manager, dataBroker);
     }
 
+    @Override
+    public void onDataTreeChanged(final List<DataTreeModification<Flow>> changes) {
+        for (DataTreeModification<Flow> change : changes) {
+            final InstanceIdentifier<Flow> identifier = change.getRootPath().path();
+            final DataObjectModification<Flow> mod = change.getRootNode();
+            final Flow dataBefore = mod.dataBefore();
+            final Flow dataAfter = mod.dataAfter();
+            provider.getDevicesGroupRegistry().updateFlowDependency(
+                getNodeIdValueFromNodeIdentifier(identifier.firstIdentifierOf(FlowCapableNode.class)), identifier,
+                dataBefore != null ? isFlowDependentOnGroup(dataBefore) : null,
+                dataAfter != null ? isFlowDependentOnGroup(dataAfter) : null);
+        }
+        super.onDataTreeChanged(changes);
+    }
+
     @Override
     public void remove(final InstanceIdentifier<Flow> identifier, final Flow removeDataObj,
             final InstanceIdentifier<FlowCapableNode> nodeIdent) {
@@ -85,7 +104,9 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
         final TableKey tableKey = identifier.firstKeyOf(Table.class);
         if (tableIdValidationPrecondition(tableKey, removeDataObj)) {
             BundleId bundleId = getActiveBundle(nodeIdent, provider);
-            if (bundleId != null) {
+            if (isBatched(nodeIdent, bundleId, null)) {
+                provider.getFlowBatcher().removeFlow(nodeIdent, removeDataObj);
+            } else if (bundleId != null) {
                 provider.getBundleFlowListener().remove(identifier, removeDataObj, nodeIdent, bundleId);
             } else {
                 final String nodeId = getNodeIdValueFromNodeIdentifier(nodeIdent);
@@ -102,7 +123,7 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
                     builder.setTransactionUri(new Uri(provider.getNewTransactionId())).setStrict(Boolean.TRUE);
                     final var resultFuture = provider.removeFlow().invoke(builder.build());
                     LoggingFutures.addErrorLogging(resultFuture, LOG, "removeFlow");
-                    return resultFuture;
+                    return trackFlow(nodeId, identifier, null, resultFuture);
                 });
             }
         }
@@ -125,7 +146,8 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
             // into remove-flow input so that only a flow entry associated with
             // a given flow object is removed.
             builder.setTransactionUri(new Uri(provider.getNewTransactionId())).setStrict(Boolean.TRUE);
-            return provider.removeFlow().invoke(builder.build());
+            return trackFlow(getNodeIdValueFromNodeIdentifier(nodeIdent), identifier, null,
+                provider.removeFlow().invoke(builder.build()));
         }
         // FIXME: this future never completes!
         return SettableFuture.create();
@@ -138,7 +160,9 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
         final TableKey tableKey = identifier.firstKeyOf(Table.class);
         if (tableIdValidationPrecondition(tableKey, update)) {
             BundleId bundleId = getActiveBundle(nodeIdent, provider);
-            if (bundleId != null) {
+            if (isBatched(nodeIdent, bundleId, update)) {
+                provider.getFlowBatcher().updateFlow(nodeIdent, original, update);
+            } else if (bundleId != null) {
                 provider.getBundleFlowListener().update(identifier, original, update, nodeIdent, bundleId);
             } else {
                 final String nodeId = getNodeIdValueFromNodeIdentifier(nodeIdent);
@@ -162,7 +186,8 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
                         if (isGroupExistsOnDevice(nodeIdent, groupId, provider)) {
                             LOG.trace("The dependent group {} is already programmed. Updating the flow {}", groupId,
                                     getFlowId(identifier));
-                            return provider.updateFlow().invoke(builder.build());
+                            return trackFlow(nodeId, identifier, groupId,
+                                provider.updateFlow().invoke(builder.build()));
                         } else {
                             LOG.trace("The dependent group {} isn't programmed yet. Pushing the group", groupId);
                             ListenableFuture<RpcResult<AddGroupOutput>> groupFuture = pushDependentGroup(nodeIdent,
@@ -171,13 +196,13 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
                             Futures.addCallback(groupFuture,
                                     new UpdateFlowCallBack(builder.build(), nodeId, resultFuture, groupId),
                                     MoreExecutors.directExecutor());
-                            return resultFuture;
+                            return trackFlow(nodeId, identifier, groupId, resultFuture);
                         }
                     }
 
                     LOG.trace("The flow {} is not dependent on any group. Updating the flow",
                             getFlowId(identifier));
-                    return provider.updateFlow().invoke(builder.build());
+                    return trackFlow(nodeId, identifier, null, provider.updateFlow().invoke(builder.build()));
                 });
             }
         }
@@ -191,6 +216,9 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
             return Futures.immediateFuture(null);
         }
         final var bundleId = getActiveBundle(nodeIdent, provider);
+        if (isBatched(nodeIdent, bundleId, addDataObj)) {
+            return provider.getFlowBatcher().addFlow(nodeIdent, addDataObj);
+        }
         if (bundleId != null) {
             return provider.getBundleFlowListener().add(identifier, addDataObj, nodeIdent, bundleId);
         }
@@ -209,7 +237,7 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
                 if (isGroupExistsOnDevice(nodeIdent, groupId, provider)) {
                     LOG.trace("The dependent group {} is already programmed. Adding the flow {}", groupId,
                         getFlowId(new FlowRef(identifier)));
-                    return provider.addFlow().invoke(builder.build());
+                    return trackFlow(nodeId, identifier, groupId, provider.addFlow().invoke(builder.build()));
                 }
 
                 LOG.trace("The dependent group {} isn't programmed yet. Pushing the group", groupId);
@@ -217,7 +245,7 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
                 final var resultFuture = SettableFuture.<RpcResult<AddFlowOutput>>create();
                 Futures.addCallback(groupFuture, new AddFlowCallBack(builder.build(), nodeId, groupId,
                     resultFuture), MoreExecutors.directExecutor());
-                return resultFuture;
+                return trackFlow(nodeId, identifier, groupId, resultFuture);
             }
 
             LOG.trace("The flow {} is not dependent on any group. Adding the flow",
@@ -240,6 +268,25 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
                 .child(Table.class).child(Flow.class);
     }
 
+    /**
+     * Check whether a flow change is collected into a flat batch. Changes which are not, because batching is disabled,
+     * a bundle is active or the flow needs a group which has not been pushed yet, are ordered after the flows collected
+     * so far. Those can be present even with batching disabled, if it was disabled at runtime.
+     *
+     * @param flow flow whose group has to be present on the device, or {@code null} for removals
+     */
+    private boolean isBatched(final InstanceIdentifier<FlowCapableNode> nodeIdent, final BundleId bundleId,
+            final @Nullable Flow flow) {
+        if (provider.getFlowBatchDelay() > 0 && bundleId == null) {
+            final Uint32 groupId = flow != null ? isFlowDependentOnGroup(flow) : null;
+            if (groupId == null || isGroupExistsOnDevice(nodeIdent, groupId, provider)) {
+                return true;
+            }
+        }
+        provider.getFlowBatcher().flush(nodeIdent);
+        return false;
+    }
+
     private static boolean tableIdValidationPrecondition(final TableKey tableKey, final Flow flow) {
         requireNonNull(tableKey, "TableKey can not be null or empty!");
         requireNonNull(flow, "Flow can not be null or empty!");
@@ -278,30 +325,68 @@ public class FlowForwarder extends AbstractListeningCommiter<Flow> {
 
     private ListenableFuture<RpcResult<AddGroupOutput>> pushDependentGroup(
             final InstanceIdentifier<FlowCapableNode> nodeIdent, final Uint32 groupId) {
+        final String nodeId = getNodeIdValueFromNodeIdentifier(nodeIdent);
+        final DevicesGroupRegistry groupRegistry = provider.getDevicesGroupRegistry();
+        final var pendingGroup = groupRegistry.getPendingGroup(nodeId, groupId);
+        if (pendingGroup != null) {
+            LOG.trace("The dependent group {} is being added, waiting for it", groupId);
+            return pendingGroup;
+        }
 
-        //TODO This read to the DS might have a performance impact.
-        //if the dependent group is not installed than we should just cache the parent group,
-        //till we receive the dependent group DTCN and then push it.
+        var group = groupRegistry.getConfiguredGroup(nodeId, groupId);
+        if (group == null) {
+            // The group listener may not have seen the group yet
+            group = readGroup(nodeIdent, groupId);
+            if (group == null) {
+                return RpcResultBuilder.<AddGroupOutput>failed()
+                    .withError(ErrorType.APPLICATION, "Group " + groupId + " not present in the config inventory")
+                    .buildFuture();
+            }
+        }
+        return groupRegistry.trackGroupAdd(nodeId, groupId, provider.addGroup().invoke(new AddGroupInputBuilder(group)
+            .setNode(new NodeRef(nodeIdent.firstIdentifierOf(Node.class)))
+            .setGroupRef(new GroupRef(nodeIdent))
+            .setTransactionUri(new Uri(provider.getNewTransactionId()))
+            .build()));
+    }
 
+    /**
+     * Record the outcome of a flow request in the group registry, so that removing a group can tell which of the
+     * flows referring to it were programmed.
+     *
+     * @param groupId group the flow refers to after the request, or {@code null} if it is removed or refers to none
+     */
+    private <T extends RpcResult<?>> ListenableFuture<T> trackFlow(final String nodeId,
+            final InstanceIdentifier<Flow> identifier, final @Nullable Uint32 groupId,
+            final ListenableFuture<T> future) {
+        Futures.addCallback(future, new FutureCallback<T>() {
+            @Override
+            public void onSuccess(final T result) {
+                if (result != null && result.isSuccessful()) {
+                    if (groupId != null) {
+                        provider.getDevicesGroupRegistry().storeFlow(nodeId, identifier);
+                    } else {
+                        provider.getDevicesGroupRegistry().removeFlow(nodeId, identifier);
+                    }
+                }
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                // Failures are reported by the callers, the device state is unknown and left as it was
+            }
+        }, MoreExecutors.directExecutor());
+        return future;
+    }
+
+    private @Nullable Group readGroup(final InstanceIdentifier<FlowCapableNode> nodeIdent, final Uint32 groupId) {
         InstanceIdentifier<Group> groupIdent = buildGroupInstanceIdentifier(nodeIdent, groupId);
         LOG.info("Reading the group from config inventory: {}", groupId);
         try (var readTransaction = provider.getReadTransaction()) {
-            final var group = readTransaction.read(LogicalDatastoreType.CONFIGURATION, groupIdent).get();
-            if (group.isPresent()) {
-                return provider.addGroup().invoke(new AddGroupInputBuilder(group.orElseThrow())
-                    .setNode(new NodeRef(nodeIdent.firstIdentifierOf(Node.class)))
-                    .setGroupRef(new GroupRef(nodeIdent))
-                    .setTransactionUri(new Uri(provider.getNewTransactionId()))
-                    .build());
-            }
-            return RpcResultBuilder.<AddGroupOutput>failed()
-                .withError(ErrorType.APPLICATION, "Group " + groupId + " not present in the config inventory")
-                .buildFuture();
+            return readTransaction.read(LogicalDatastoreType.CONFIGURATION, groupIdent).get().orElse(null);
         } catch (InterruptedException | ExecutionException e) {
             LOG.error("Error while reading group from config datastore for the group ID {}", groupId, e);
-            return RpcResultBuilder.<AddGroupOutput>failed()
-                .withError(ErrorType.APPLICATION, "Error while reading group " + groupId + " from inventory")
-                .buildFuture();
+            return null;
         }
     }
 
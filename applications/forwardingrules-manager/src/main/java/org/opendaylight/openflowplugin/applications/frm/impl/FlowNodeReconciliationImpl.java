@@ -16,14 +16,17 @@ import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.math.BigInteger;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -32,9 +35,9 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -79,14 +82,18 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeRef
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesInputBuilder;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.AddBundleMessagesOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.ControlBundleInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.Messages;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.MessagesBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.Message;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.add.bundle.messages.input.messages.MessageBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.BundleInnerMessage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddFlowCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleAddGroupCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleRemoveFlowCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.BundleRemoveGroupCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.add.flow._case.AddFlowCaseDataBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.add.group._case.AddGroupCaseDataBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.remove.flow._case.RemoveFlowCaseDataBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.bundle.inner.message.grouping.bundle.inner.message.bundle.remove.group._case.RemoveGroupCaseDataBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.rev170124.BundleControlType;
@@ -113,20 +120,20 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
 
     private static final String SEPARATOR = ":";
     private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder()
-            .setNameFormat("BundleResync-%d")
+            .setNameFormat("FlowNodeReconciliation-%d")
             .setDaemon(false)
             .setUncaughtExceptionHandler((thread, ex) -> LOG.error("Uncaught exception {}", thread, ex))
             .build();
 
-    // FIXME: these three should be configurable
-    private static final int THREAD_POOL_SIZE = 4;
+    // FIXME: these two should be configurable
     // The number of nanoseconds to wait for a single group to be added.
     private static final long ADD_GROUP_TIMEOUT = TimeUnit.SECONDS.toNanos(3);
     // The maximum number of nanoseconds to wait for completion of add-group RPCs.
     private static final long MAX_ADD_GROUP_TIMEOUT = TimeUnit.SECONDS.toNanos(20);
 
     private final ConcurrentMap<DeviceInfo, ListenableFuture<Boolean>> futureMap = new ConcurrentHashMap<>();
-    private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_POOL_SIZE);
+    private final AtomicLong queueSequence = new AtomicLong();
+    private final ThreadPoolExecutor executor;
     private static final BundleFlags BUNDLE_FLAGS = new BundleFlags(true, true);
     private static final AtomicLong BUNDLE_ID = new AtomicLong();
     private final Map<String, ReconciliationState> reconciliationStates;
@@ -145,12 +152,31 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
         this.priority = priority;
         this.resultState = resultState;
         reconciliationStates = flowGroupCacheManager.getReconciliationStates();
+
+        final int concurrency = provider.getReconciliationConcurrency();
+        executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+            new PriorityBlockingQueue<>(), THREAD_FACTORY);
     }
 
     @Override
     public void close() {
-        if (executor != null) {
-            executor.shutdownNow();
+        // Reconciliations which have not started yet would never complete otherwise
+        executor.shutdownNow().forEach(queued -> ((QueuedReconciliation) queued).task().cancel(false));
+    }
+
+    /**
+     * Change the maximum number of devices reconciled at the same time.
+     *
+     * @param concurrency maximum number of concurrent reconciliations
+     */
+    void setConcurrency(final int concurrency) {
+        // The core pool size may never exceed the maximum pool size
+        if (concurrency > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(concurrency);
+            executor.setCorePoolSize(concurrency);
+        } else {
+            executor.setCorePoolSize(concurrency);
+            executor.setMaximumPoolSize(concurrency);
         }
     }
 
@@ -166,8 +192,38 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
             reconciliationPreProcess(connectedNode);
         }
 
-        return Futures.submit(provider.isBundleBasedReconciliationEnabled()
-            ? new BundleBasedReconciliationTask(connectedNode) : new ReconciliationTask(connectedNode), executor);
+        final var task = ListenableFutureTask.create(provider.isBundleBasedReconciliationEnabled()
+            ? new BundleBasedReconciliationTask(connectedNode) : new ReconciliationTask(connectedNode));
+        // Ranked without reading the node, its configuration is read once the reconciliation starts
+        executor.execute(new QueuedReconciliation(task, priorityRank(nodeId), queueSequence.getAndIncrement()));
+        return task;
+    }
+
+    /**
+     * Return the position of a node in the list of nodes to be reconciled first, {@link Integer#MAX_VALUE} if it is
+     * not listed.
+     */
+    private int priorityRank(final String nodeId) {
+        final int rank = provider.getReconciliationPriorityNodes().indexOf(nodeId);
+        return rank < 0 ? Integer.MAX_VALUE : rank;
+    }
+
+    /**
+     * A reconciliation waiting for a free thread. Nodes listed by the operator go first in the listed order, then
+     * other nodes in order of arrival.
+     */
+    private record QueuedReconciliation(ListenableFutureTask<Boolean> task, int priorityRank, long sequence)
+            implements Runnable, Comparable<QueuedReconciliation> {
+        @Override
+        public void run() {
+            task.run();
+        }
+
+        @Override
+        public int compareTo(final QueuedReconciliation other) {
+            final int ret = Integer.compare(priorityRank, other.priorityRank);
+            return ret != 0 ? ret : Long.compare(sequence, other.sequence);
+        }
     }
 
     @Override
@@ -191,7 +247,6 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
             Optional<FlowCapableNode> flowNode = Optional.empty();
             BundleId bundleIdValue = new BundleId(Uint32.valueOf(BUNDLE_ID.getAndIncrement()));
             BigInteger dpnId = getDpnIdFromNodeName(node);
-            ExecutorService service = Executors.newSingleThreadExecutor(THREAD_FACTORY);
             LOG.info("Triggering bundle based reconciliation for device : {}", dpnId);
             try (ReadTransaction trans = provider.getReadTransaction()) {
                 flowNode = trans.read(LogicalDatastoreType.CONFIGURATION, nodeIdentity).get();
@@ -206,93 +261,31 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
                 LOG.debug("FlowNode present for Datapath ID {}", dpnId);
                 OF_EVENT_LOG.debug("Bundle Reconciliation Start, Node: {}", dpnId);
                 final var nodeRef = new NodeRef(nodeIdentity.firstIdentifierOf(Node.class));
-
-                final var closeBundleInput = new ControlBundleInputBuilder().setNode(nodeRef)
-                        .setBundleId(bundleIdValue).setFlags(BUNDLE_FLAGS)
-                        .setType(BundleControlType.ONFBCTCLOSEREQUEST).build();
-
-                final var openBundleInput = new ControlBundleInputBuilder().setNode(nodeRef)
-                        .setBundleId(bundleIdValue).setFlags(BUNDLE_FLAGS)
-                        .setType(BundleControlType.ONFBCTOPENREQUEST).build();
-
-                final var commitBundleInput = new ControlBundleInputBuilder().setNode(nodeRef)
-                        .setBundleId(bundleIdValue).setFlags(BUNDLE_FLAGS)
-                        .setType(BundleControlType.ONFBCTCOMMITREQUEST).build();
-
-                final var deleteAllFlowGroupsInput = new AddBundleMessagesInputBuilder()
-                        .setNode(nodeRef).setBundleId(bundleIdValue).setFlags(BUNDLE_FLAGS)
-                        .setMessages(createMessages(nodeRef)).build();
-
-                LOG.debug("Closing openflow bundle for device {}", dpnId);
-                /* Close previously opened bundle on the openflow switch if any */
-                final var closeBundle = provider.controlBundle().invoke(closeBundleInput);
-
-                /* Open a new bundle on the switch */
-                final var openBundle = Futures.transformAsync(closeBundle, rpcResult -> {
-                    if (rpcResult.isSuccessful()) {
-                        LOG.debug("Existing bundle is successfully closed for device {}", dpnId);
-                    }
-                    return provider.controlBundle().invoke(openBundleInput);
-                }, service);
-
-                /* Push groups and flows via bundle add messages */
-                final var deleteAllFlowGroupsFuture = Futures.transformAsync(openBundle, rpcResult -> {
-                    if (rpcResult.isSuccessful()) {
-                        LOG.debug("Open bundle is successful for device {}", dpnId);
-                        return provider.addBundleMessages().invoke(deleteAllFlowGroupsInput);
-                    }
-                    return Futures.immediateFuture(null);
-                }, service);
-
-                /* Push flows and groups via bundle add messages */
-                final var finalFlowNode = flowNode;
-                final var addbundlesFuture = Futures.transformAsync(deleteAllFlowGroupsFuture, rpcResult -> {
-                    if (rpcResult.isSuccessful()) {
-                        LOG.debug("Adding delete all flow/group message is successful for device {}", dpnId);
-                        return Futures.allAsList(addBundleMessages(finalFlowNode.orElseThrow(), bundleIdValue,
-                            nodeIdentity));
-                    }
-                    return Futures.immediateFuture(null);
-                }, service);
-
-                /* Commit the bundle on the openflow switch */
-                final var commitBundleFuture = Futures.transformAsync(addbundlesFuture, rpcResult -> {
-                    LOG.debug("Adding bundle messages completed for device {}", dpnId);
-                    return provider.controlBundle().invoke(commitBundleInput);
-                }, service);
-
-                /* Bundles not supported for meters */
-                final var meters = finalFlowNode.orElseThrow().nonnullMeter().values();
-                Futures.transformAsync(commitBundleFuture,
-                    rpcResult -> {
-                        if (rpcResult.isSuccessful()) {
-                            for (var meter : meters) {
-                                provider.getMeterCommiter().add(nodeIdentity.child(Meter.class, meter.key()), meter,
-                                    nodeIdentity);
-                            }
-                        }
-                        return Futures.immediateFuture(null);
-                    }, service);
+                final var bundle = new BundleWriter(nodeRef, bundleIdValue, dpnId);
+                final long started = System.nanoTime();
 
                 try {
-                    final var bundleFuture = commitBundleFuture.get();
-                    if (bundleFuture != null && bundleFuture.isSuccessful()) {
+                    if (bundle.push(node, flowNode.orElseThrow())) {
+                        final var took = Duration.ofNanos(System.nanoTime() - started);
                         reconciliationState.setState(COMPLETED, LocalDateTime.now());
+                        reconciliationState.setStatistics(bundle.messageCount(), took);
                         LOG.debug("Completing bundle based reconciliation for device ID:{}", dpnId);
-                        OF_EVENT_LOG.debug("Bundle Reconciliation Finish, Node: {}", dpnId);
+                        OF_EVENT_LOG.debug("Bundle Reconciliation Finish, Node: {}, Messages: {}, Duration: {} ms",
+                            dpnId, bundle.messageCount(), took.toMillis());
+
+                        /* Bundles not supported for meters */
+                        for (var meter : flowNode.orElseThrow().nonnullMeter().values()) {
+                            provider.getMeterCommiter().add(nodeIdentity.child(Meter.class, meter.key()), meter,
+                                nodeIdentity);
+                        }
                         return true;
-                    } else {
-                        reconciliationState.setState(FAILED, LocalDateTime.now());
-                        LOG.error("commit bundle failed for device {} with error {}", dpnId,
-                                commitBundleFuture.get().getErrors());
-                        return false;
                     }
+                    reconciliationState.setState(FAILED, LocalDateTime.now());
+                    return false;
                 } catch (InterruptedException | ExecutionException e) {
                     reconciliationState.setState(FAILED, LocalDateTime.now());
                     LOG.error("Error while doing bundle based reconciliation for device ID:{}", dpnId, e);
                     return false;
-                } finally {
-                    service.shutdown();
                 }
             }
             LOG.error("FlowNode not present for Datapath ID {}", dpnId);
@@ -300,6 +293,144 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
         }
     }
 
+    /**
+     * Replaces the content of a device with the configured groups and flows in a single bundle. Groups and flows are
+     * sent in chunks of up to {@link ForwardingRulesManager#getBundleReconciliationChunkSize()} messages and a chunk
+     * is sent only once the previous one was acknowledged, so a device is never flooded with requests.
+     */
+    private final class BundleWriter {
+        private final List<Message> chunk = new ArrayList<>();
+        private final List<Uint32> chunkGroups = new ArrayList<>();
+        private final NodeRef nodeRef;
+        private final BundleId bundleId;
+        private final BigInteger dpnId;
+        private final int chunkSize;
+
+        private long messageCount;
+
+        BundleWriter(final NodeRef nodeRef, final BundleId bundleId, final BigInteger dpnId) {
+            this.nodeRef = nodeRef;
+            this.bundleId = bundleId;
+            this.dpnId = dpnId;
+            chunkSize = provider.getBundleReconciliationChunkSize();
+        }
+
+        long messageCount() {
+            return messageCount;
+        }
+
+        boolean push(final String nodeId, final FlowCapableNode flowNode)
+                throws InterruptedException, ExecutionException {
+            final var control = new ControlBundleInputBuilder().setNode(nodeRef).setBundleId(bundleId)
+                .setFlags(BUNDLE_FLAGS);
+
+            LOG.debug("Closing openflow bundle for device {}", dpnId);
+            /* Close previously opened bundle on the openflow switch if any */
+            if (provider.controlBundle().invoke(control.setType(BundleControlType.ONFBCTCLOSEREQUEST).build())
+                    .get().isSuccessful()) {
+                LOG.debug("Existing bundle is successfully closed for device {}", dpnId);
+            }
+            messageCount++;
+
+            /* Open a new bundle on the switch */
+            if (!await("Open bundle",
+                    provider.controlBundle().invoke(control.setType(BundleControlType.ONFBCTOPENREQUEST).build()))) {
+                return false;
+            }
+            messageCount++;
+
+            if (!await("Adding delete all flow/group message", provider.addBundleMessages().invoke(
+                    new AddBundleMessagesInputBuilder().setNode(nodeRef).setBundleId(bundleId).setFlags(BUNDLE_FLAGS)
+                        .setMessages(createMessages(nodeRef)).build()))) {
+                return false;
+            }
+            messageCount += 2;
+
+            /* Push groups and flows via bundle add messages, groups first as flows may depend on them */
+            final var groups = flowNode.nonnullGroup().values();
+            final var groupIds = new HashSet<Uint32>();
+            for (Group group : groups) {
+                groupIds.add(group.getGroupId().getValue());
+                chunkGroups.add(group.getGroupId().getValue());
+                if (!add(new BundleAddGroupCaseBuilder()
+                        .setAddGroupCaseData(new AddGroupCaseDataBuilder(group).build())
+                        .build(), nodeId)) {
+                    return false;
+                }
+            }
+            if (!flush(nodeId)) {
+                return false;
+            }
+
+            for (Table table : flowNode.nonnullTable().values()) {
+                for (Flow flow : table.nonnullFlow().values()) {
+                    final Uint32 groupId = FrmUtil.isFlowDependentOnGroup(flow);
+                    if (groupId != null && !groupIds.contains(groupId)) {
+                        LOG.error("Flow {} in table {} depends on group {} not present in the config inventory of "
+                            + "device {}, skipping it", flow.getId().getValue(), table.getId(), groupId, dpnId);
+                        continue;
+                    }
+                    if (!add(new BundleAddFlowCaseBuilder()
+                            .setAddFlowCaseData(new AddFlowCaseDataBuilder(flow).build())
+                            .build(), nodeId)) {
+                        return false;
+                    }
+                }
+            }
+            if (!flush(nodeId)) {
+                return false;
+            }
+            LOG.debug("Adding bundle messages completed for device {}", dpnId);
+
+            /* Commit the bundle on the openflow switch */
+            if (!await("Commit bundle",
+                    provider.controlBundle().invoke(control.setType(BundleControlType.ONFBCTCOMMITREQUEST).build()))) {
+                return false;
+            }
+            messageCount++;
+            return true;
+        }
+
+        private boolean add(final BundleInnerMessage message, final String nodeId)
+                throws InterruptedException, ExecutionException {
+            chunk.add(new MessageBuilder().setNode(nodeRef).setBundleInnerMessage(message).build());
+            return chunk.size() < chunkSize || flush(nodeId);
+        }
+
+        private boolean flush(final String nodeId) throws InterruptedException, ExecutionException {
+            if (chunk.isEmpty()) {
+                return true;
+            }
+
+            final var input = new AddBundleMessagesInputBuilder().setNode(nodeRef).setBundleId(bundleId)
+                .setFlags(BUNDLE_FLAGS).setMessages(new MessagesBuilder().setMessage(List.copyOf(chunk)).build())
+                .build();
+            final int size = chunk.size();
+            chunk.clear();
+            if (!await("Adding " + size + " bundle messages", provider.addBundleMessages().invoke(input))) {
+                return false;
+            }
+
+            messageCount += size;
+            for (Uint32 groupId : chunkGroups) {
+                provider.getDevicesGroupRegistry().storeGroup(nodeId, groupId);
+            }
+            chunkGroups.clear();
+            return true;
+        }
+
+        private boolean await(final String step, final ListenableFuture<? extends RpcResult<?>> future)
+                throws InterruptedException, ExecutionException {
+            final var result = future.get();
+            if (result.isSuccessful()) {
+                LOG.debug("{} is successful for device {}", step, dpnId);
+                return true;
+            }
+            LOG.error("{} failed for device {} with error {}", step, dpnId, result.getErrors());
+            return false;
+        }
+    }
+
     @Override
     public ListenableFuture<Boolean> startReconciliation(final DeviceInfo node) {
         InstanceIdentifier<FlowCapableNode> connectedNode = node.getNodeInstanceIdentifier()
@@ -703,26 +834,6 @@ public class FlowNodeReconciliationImpl implements FlowNodeReconciliation {
         return nodeIdent.child(StaleMeter.class, new StaleMeterKey(new MeterId(staleMeter.getMeterId())));
     }
 
-    private List<ListenableFuture<RpcResult<AddBundleMessagesOutput>>> addBundleMessages(final FlowCapableNode flowNode,
-                                                         final BundleId bundleIdValue,
-                                                         final InstanceIdentifier<FlowCapableNode> nodeIdentity) {
-        List<ListenableFuture<RpcResult<AddBundleMessagesOutput>>> futureList = new ArrayList<>();
-        for (Group group : flowNode.nonnullGroup().values()) {
-            final KeyedInstanceIdentifier<Group, GroupKey> groupIdent = nodeIdentity.child(Group.class, group.key());
-            futureList.add(provider.getBundleGroupListener().add(groupIdent, group, nodeIdentity, bundleIdValue));
-        }
-
-        for (Table table : flowNode.nonnullTable().values()) {
-            final KeyedInstanceIdentifier<Table, TableKey> tableIdent = nodeIdentity.child(Table.class, table.key());
-            for (Flow flow : table.nonnullFlow().values()) {
-                final KeyedInstanceIdentifier<Flow, FlowKey> flowIdent = tableIdent.child(Flow.class, flow.key());
-                futureList.add(provider.getBundleFlowListener().add(flowIdent, flow, nodeIdentity, bundleIdValue));
-            }
-        }
-        OF_EVENT_LOG.debug("Flow/Group count is {}", futureList.size());
-        return futureList;
-    }
-
     private static void handleStaleEntityDeletionResultFuture(final FluentFuture<? extends CommitInfo> submitFuture) {
         submitFuture.addCallback(new FutureCallback<CommitInfo>() {
             @Override
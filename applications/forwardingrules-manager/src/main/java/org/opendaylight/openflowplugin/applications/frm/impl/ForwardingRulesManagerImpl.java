@@ -10,6 +10,8 @@ package org.opendaylight.openflowplugin.applications.frm.impl;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Splitter;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.PreDestroy;
@@ -36,6 +38,7 @@ import org.opendaylight.openflowplugin.applications.reconciliation.NotificationR
 import org.opendaylight.openflowplugin.applications.reconciliation.ReconciliationManager;
 import org.opendaylight.serviceutils.srm.RecoverableListener;
 import org.opendaylight.serviceutils.srm.ServiceRecoveryRegistry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatch;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
@@ -70,9 +73,11 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
 
     private static final int FRM_RECONCILIATION_PRIORITY = Integer.getInteger("frm.reconciliation.priority", 1);
     private static final String SERVICE_NAME = "FRM";
+    private static final Splitter NODE_LIST_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
 
     private final FlowNodeConnectorInventoryTranslatorImpl flowNodeConnectorInventoryTranslatorImpl;
     private final DevicesGroupRegistry devicesGroupRegistry = new DevicesGroupRegistry();
+    private final FlowBatcher flowBatcher = new FlowBatcher(this);
     private final NodeConfigurator nodeConfigurator = new NodeConfiguratorImpl();
     private final OpenflowServiceRecoveryHandler openflowServiceRecoveryHandler;
     private final BundleMessagesCommiter<Group> bundleGroupListener;
@@ -93,6 +98,11 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
     private boolean staleMarkingEnabled;
     private int reconciliationRetryCount;
     private boolean isBundleBasedReconciliationEnabled;
+    private int reconciliationConcurrency;
+    private int bundleReconciliationChunkSize;
+    private List<String> reconciliationPriorityNodes;
+    private int flowBatchDelay;
+    private int flowBatchSize;
 
     private final @NonNull AddFlow addFlow;
     private final @NonNull RemoveFlow removeFlow;
@@ -107,6 +117,7 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
     private final @NonNull ControlBundle controlBundle;
     private final @NonNull AddBundleMessages addBundleMessages;
     private final @NonNull GetActiveBundle getActiveBundle;
+    private final @NonNull ProcessFlatBatch processFlatBatch;
 
     @Inject
     public ForwardingRulesManagerImpl(final DataBroker dataBroker,
@@ -123,6 +134,11 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         staleMarkingEnabled = config.getStaleMarkingEnabled();
         reconciliationRetryCount = config.getReconciliationRetryCount().toJava();
         isBundleBasedReconciliationEnabled = config.getBundleBasedReconciliationEnabled();
+        reconciliationConcurrency = config.getReconciliationConcurrency().toJava();
+        bundleReconciliationChunkSize = config.getBundleReconciliationChunkSize().toJava();
+        reconciliationPriorityNodes = NODE_LIST_SPLITTER.splitToList(config.getReconciliationPriorityNodes());
+        flowBatchDelay = config.getFlowBatchDelay().toJava();
+        flowBatchSize = config.getFlowBatchSize().toJava();
         configurationServiceRegistration = configurationService.registerListener(this);
         dataService = requireNonNull(dataBroker);
         this.openflowServiceRecoveryHandler = requireNonNull(openflowServiceRecoveryHandler);
@@ -141,6 +157,7 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         addBundleMessages = rpcRegistry.getRpc(AddBundleMessages.class);
         updateTable = rpcRegistry.getRpc(UpdateTable.class);
         getActiveBundle = rpcRegistry.getRpc(GetActiveBundle.class);
+        processFlatBatch = rpcRegistry.getRpc(ProcessFlatBatch.class);
 
         flowNodeReconciliation = new FlowNodeReconciliationImpl(this, dataService, SERVICE_NAME,
                 FRM_RECONCILIATION_PRIORITY, ResultState.DONOTHING, flowGroupCacheManager);
@@ -184,6 +201,7 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
             tableListener.close();
             tableListener = null;
         }
+        flowBatcher.close();
         if (flowNodeReconciliation != null) {
             flowNodeReconciliation.close();
             flowNodeReconciliation = null;
@@ -295,11 +313,21 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         return getActiveBundle;
     }
 
+    @Override
+    public ProcessFlatBatch processFlatBatch() {
+        return processFlatBatch;
+    }
+
     @Override
     public DevicesGroupRegistry getDevicesGroupRegistry() {
         return devicesGroupRegistry;
     }
 
+    @Override
+    public FlowBatcher getFlowBatcher() {
+        return flowBatcher;
+    }
+
     @Override
     public ForwardingRulesCommiter<Flow> getFlowCommiter() {
         return flowListener;
@@ -371,6 +399,31 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
         return isBundleBasedReconciliationEnabled;
     }
 
+    @Override
+    public int getReconciliationConcurrency() {
+        return reconciliationConcurrency;
+    }
+
+    @Override
+    public int getBundleReconciliationChunkSize() {
+        return bundleReconciliationChunkSize;
+    }
+
+    @Override
+    public List<String> getReconciliationPriorityNodes() {
+        return reconciliationPriorityNodes;
+    }
+
+    @Override
+    public int getFlowBatchDelay() {
+        return flowBatchDelay;
+    }
+
+    @Override
+    public int getFlowBatchSize() {
+        return flowBatchSize;
+    }
+
     @Override
     public boolean isNodeOwner(final InstanceIdentifier<FlowCapableNode> ident) {
         return ident != null && deviceMastershipManager.isDeviceMastered(ident.firstKeyOf(Node.class).getId());
@@ -398,6 +451,24 @@ public final class ForwardingRulesManagerImpl implements ForwardingRulesManager,
                 case BUNDLE_BASED_RECONCILIATION_ENABLED:
                     isBundleBasedReconciliationEnabled = Boolean.parseBoolean(propertyValue);
                     break;
+                case RECONCILIATION_CONCURRENCY:
+                    reconciliationConcurrency = Integer.parseInt(propertyValue);
+                    if (flowNodeReconciliation != null) {
+                        flowNodeReconciliation.setConcurrency(reconciliationConcurrency);
+                    }
+                    break;
+                case BUNDLE_RECONCILIATION_CHUNK_SIZE:
+                    bundleReconciliationChunkSize = Integer.parseInt(propertyValue);
+                    break;
+                case RECONCILIATION_PRIORITY_NODES:
+                    reconciliationPriorityNodes = NODE_LIST_SPLITTER.splitToList(propertyValue);
+                    break;
+                case FLOW_BATCH_DELAY:
+                    flowBatchDelay = Integer.parseInt(propertyValue);
+                    break;
+                case FLOW_BATCH_SIZE:
+                    flowBatchSize = Integer.parseInt(propertyValue);
+                    break;
                 default:
                     LOG.warn("No forwarding rule property found.");
                     break;
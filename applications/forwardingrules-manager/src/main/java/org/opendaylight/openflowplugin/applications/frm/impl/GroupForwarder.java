@@ -14,8 +14,11 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.List;
 import org.opendaylight.infrautils.utils.concurrent.LoggingFutures;
 import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.frm.ForwardingRulesManager;
@@ -59,6 +62,17 @@ public class GroupForwarder extends AbstractListeningCommiter<Group> {
         super(manager, dataBroker);
     }
 
+    @Override
+    public void onDataTreeChanged(final List<DataTreeModification<Group>> changes) {
+        for (DataTreeModification<Group> change : changes) {
+            final DataObjectModification<Group> mod = change.getRootNode();
+            provider.getDevicesGroupRegistry().updateConfiguredGroup(getNodeIdValueFromNodeIdentifier(
+                change.getRootPath().path().firstIdentifierOf(FlowCapableNode.class)), mod.dataBefore(),
+                mod.dataAfter());
+        }
+        super.onDataTreeChanged(changes);
+    }
+
     @Override
     protected InstanceIdentifier<Group> getWildCardPath() {
         return InstanceIdentifier.create(Nodes.class)
@@ -70,6 +84,8 @@ public class GroupForwarder extends AbstractListeningCommiter<Group> {
     @Override
     public void remove(final InstanceIdentifier<Group> identifier, final Group removeDataObj,
             final InstanceIdentifier<FlowCapableNode> nodeIdent) {
+        // Flows collected for the node may refer to the group
+        provider.getFlowBatcher().flush(nodeIdent);
         BundleId bundleId = getActiveBundle(nodeIdent, provider);
         if (bundleId != null) {
             provider.getBundleGroupListener().remove(identifier, removeDataObj, nodeIdent, bundleId);
@@ -105,6 +121,8 @@ public class GroupForwarder extends AbstractListeningCommiter<Group> {
     @Override
     public void update(final InstanceIdentifier<Group> identifier, final Group original, final Group update,
             final InstanceIdentifier<FlowCapableNode> nodeIdent) {
+        // Flows collected for the node may refer to the group
+        provider.getFlowBatcher().flush(nodeIdent);
         final var bundleId = getActiveBundle(nodeIdent, provider);
         if (bundleId != null) {
             provider.getBundleGroupListener().update(identifier, original, update, nodeIdent, bundleId);
@@ -138,7 +156,7 @@ public class GroupForwarder extends AbstractListeningCommiter<Group> {
         }
 
         final var nodeId = getNodeIdValueFromNodeIdentifier(nodeIdent);
-        return nodeConfigurator.enqueueJob(nodeId, () -> {
+        final var future = nodeConfigurator.enqueueJob(nodeId, () -> {
             final var addGroupInput = new AddGroupInputBuilder(addDataObj)
                 .setNode(new NodeRef(nodeIdent.firstIdentifierOf(Node.class)))
                 .setGroupRef(new GroupRef(identifier))
@@ -149,6 +167,9 @@ public class GroupForwarder extends AbstractListeningCommiter<Group> {
                 MoreExecutors.directExecutor());
             return resultFuture;
         });
+        // Flows depending on the group wait for this request rather than adding the group again
+        provider.getDevicesGroupRegistry().trackGroupAdd(nodeId, addDataObj.getGroupId().getValue(), future);
+        return future;
     }
 
     @Override
@@ -9,6 +9,8 @@ package org.opendaylight.openflowplugin.applications.frm.util;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -25,6 +27,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instru
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.WriteActionsCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.Instruction;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.buckets.Bucket;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.GroupKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
@@ -107,6 +110,26 @@ public final class FrmUtil {
         return null;
     }
 
+    /**
+     * Return the groups a group chains to through group actions in its buckets.
+     *
+     * @param group group
+     * @return chained group IDs
+     */
+    public static Set<Uint32> getChainedGroups(final Group group) {
+        final Set<Uint32> chained = new HashSet<>();
+        if (group.getBuckets() != null) {
+            for (Bucket bucket : group.getBuckets().nonnullBucket().values()) {
+                for (Action action : bucket.nonnullAction().values()) {
+                    if (action.getAction() instanceof GroupActionCase groupAction) {
+                        chained.add(groupAction.getGroupAction().getGroupId());
+                    }
+                }
+            }
+        }
+        return chained;
+    }
+
     public static InstanceIdentifier<Group> buildGroupInstanceIdentifier(
             final InstanceIdentifier<FlowCapableNode> nodeIdent, final Uint32 groupId) {
         NodeId nodeId = getNodeIdFromNodeIdentifier(nodeIdent);
@@ -25,6 +25,7 @@ import org.opendaylight.openflowplugin.api.openflow.mastership.MastershipChangeS
 import org.opendaylight.openflowplugin.applications.frm.recovery.OpenflowServiceRecoveryHandler;
 import org.opendaylight.openflowplugin.applications.reconciliation.ReconciliationManager;
 import org.opendaylight.serviceutils.srm.ServiceRecoveryRegistry;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatch;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.AddFlow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.service.rev130819.RemoveFlow;
@@ -83,6 +84,7 @@ public abstract class AbstractFRMTest extends AbstractDataBrokerTest {
     final CapturingControlBundle controlBundle = new CapturingControlBundle();
     final CapturingAddBundleMessages addBundleMessages = new CapturingAddBundleMessages();
     final CapturingGetActiveBundle getActiveBundle = new CapturingGetActiveBundle();
+    final CapturingProcessFlatBatch processFlatBatch = new CapturingProcessFlatBatch();
 
     protected void setUpForwardingRulesManager() {
         when(rpcConsumerRegistry.getRpc(AddFlow.class)).thenReturn(addFlow);
@@ -98,6 +100,7 @@ public abstract class AbstractFRMTest extends AbstractDataBrokerTest {
         when(rpcConsumerRegistry.getRpc(ControlBundle.class)).thenReturn(controlBundle);
         when(rpcConsumerRegistry.getRpc(AddBundleMessages.class)).thenReturn(addBundleMessages);
         when(rpcConsumerRegistry.getRpc(GetActiveBundle.class)).thenReturn(getActiveBundle);
+        when(rpcConsumerRegistry.getRpc(ProcessFlatBatch.class)).thenReturn(processFlatBatch);
 
         final var dataBroker = getDataBroker();
         forwardingRulesManager = new ForwardingRulesManagerImpl(getDataBroker(), rpcConsumerRegistry,
@@ -138,6 +141,11 @@ public abstract class AbstractFRMTest extends AbstractDataBrokerTest {
                 .setStaleMarkingEnabled(false)
                 .setReconciliationRetryCount(Uint16.ZERO)
                 .setBundleBasedReconciliationEnabled(false)
+                .setReconciliationConcurrency(Uint16.valueOf(4))
+                .setBundleReconciliationChunkSize(Uint16.valueOf(500))
+                .setReconciliationPriorityNodes("")
+                .setFlowBatchDelay(Uint16.ZERO)
+                .setFlowBatchSize(Uint16.valueOf(500))
                 .build();
     }
 
@@ -160,6 +168,21 @@ public abstract class AbstractFRMTest extends AbstractDataBrokerTest {
         lenient().when(configurationService.getProperty(eq("bundle-based-reconciliation-enabled"),
                 any())).thenReturn(config.getBundleBasedReconciliationEnabled());
 
+        lenient().when(configurationService.getProperty(eq("reconciliation-concurrency"),
+                any())).thenReturn(config.getReconciliationConcurrency());
+
+        lenient().when(configurationService.getProperty(eq("bundle-reconciliation-chunk-size"),
+                any())).thenReturn(config.getBundleReconciliationChunkSize());
+
+        lenient().when(configurationService.getProperty(eq("reconciliation-priority-nodes"),
+                any())).thenReturn(config.getReconciliationPriorityNodes());
+
+        lenient().when(configurationService.getProperty(eq("flow-batch-delay"),
+                any())).thenReturn(config.getFlowBatchDelay());
+
+        lenient().when(configurationService.getProperty(eq("flow-batch-size"),
+                any())).thenReturn(config.getFlowBatchSize());
+
         return configurationService;
     }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frm.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.GroupActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.group.action._case.GroupActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.service.rev130918.AddGroupOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.service.rev130918.AddGroupOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.BucketsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.buckets.BucketBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.buckets.BucketId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.GroupBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link DevicesGroupRegistry}.
+ */
+public class DevicesGroupRegistryTest {
+    private static final String NODE_ID = "testnode:1";
+    private static final Uint32 GROUP_1 = Uint32.ONE;
+    private static final Uint32 GROUP_2 = Uint32.TWO;
+    private static final Uint32 GROUP_3 = Uint32.valueOf(3);
+
+    private final DevicesGroupRegistry registry = new DevicesGroupRegistry();
+
+    @Test
+    public void testConfiguredGroups() {
+        final Group child = group(GROUP_1);
+        final Group parent = group(GROUP_2, GROUP_1);
+        registry.updateConfiguredGroup(NODE_ID, null, child);
+        registry.updateConfiguredGroup(NODE_ID, null, parent);
+        assertSame(child, registry.getConfiguredGroup(NODE_ID, GROUP_1));
+        assertEquals(Set.of(GROUP_2), registry.getParentGroups(NODE_ID, GROUP_1));
+
+        // Removing the parent removes its chaining, the child stays
+        registry.updateConfiguredGroup(NODE_ID, parent, null);
+        assertNull(registry.getConfiguredGroup(NODE_ID, GROUP_2));
+        assertEquals(Set.of(), registry.getParentGroups(NODE_ID, GROUP_1));
+        assertSame(child, registry.getConfiguredGroup(NODE_ID, GROUP_1));
+    }
+
+    @Test
+    public void testFlowDependency() {
+        final InstanceIdentifier<Flow> flowIdent = flowIdent("flow");
+
+        registry.updateFlowDependency(NODE_ID, flowIdent, null, GROUP_1);
+        assertEquals(Set.of(flowIdent), registry.getDependentFlows(NODE_ID, GROUP_1));
+
+        registry.updateFlowDependency(NODE_ID, flowIdent, GROUP_1, GROUP_2);
+        assertEquals(Set.of(), registry.getDependentFlows(NODE_ID, GROUP_1));
+        assertEquals(Set.of(flowIdent), registry.getDependentFlows(NODE_ID, GROUP_2));
+    }
+
+    @Test
+    public void testGroupAdd() {
+        final SettableFuture<RpcResult<AddGroupOutput>> future = SettableFuture.create();
+        final var pending = registry.trackGroupAdd(NODE_ID, GROUP_1, future);
+        assertSame(pending, registry.getPendingGroup(NODE_ID, GROUP_1));
+        assertFalse(registry.isGroupPresent(NODE_ID, GROUP_1));
+
+        future.set(RpcResultBuilder.success(new AddGroupOutputBuilder().build()).build());
+        assertNull(registry.getPendingGroup(NODE_ID, GROUP_1));
+        assertTrue(registry.isGroupPresent(NODE_ID, GROUP_1));
+
+        registry.removeGroup(NODE_ID, GROUP_1);
+        assertFalse(registry.isGroupPresent(NODE_ID, GROUP_1));
+    }
+
+    @Test
+    public void testGroupAddAfterClear() throws Exception {
+        final SettableFuture<RpcResult<AddGroupOutput>> future = SettableFuture.create();
+        final var pending = registry.trackGroupAdd(NODE_ID, GROUP_1, future);
+        registry.clearNodeGroups(NODE_ID);
+        assertNull(registry.getPendingGroup(NODE_ID, GROUP_1));
+
+        // A request sent before the device reconnected does not mark the group programmed
+        future.set(null);
+        assertFalse(pending.get().isSuccessful());
+        assertFalse(registry.isGroupPresent(NODE_ID, GROUP_1));
+    }
+
+    @Test
+    public void testGroupRemoveCascade() {
+        // GROUP_3 chains to GROUP_2 which chains to GROUP_1
+        registry.updateConfiguredGroup(NODE_ID, null, group(GROUP_1));
+        registry.updateConfiguredGroup(NODE_ID, null, group(GROUP_2, GROUP_1));
+        registry.updateConfiguredGroup(NODE_ID, null, group(GROUP_3, GROUP_2));
+        final InstanceIdentifier<Flow> childFlow = flowIdent("child");
+        final InstanceIdentifier<Flow> parentFlow = flowIdent("parent");
+        final InstanceIdentifier<Flow> otherFlow = flowIdent("other");
+        registry.updateFlowDependency(NODE_ID, childFlow, null, GROUP_1);
+        registry.updateFlowDependency(NODE_ID, parentFlow, null, GROUP_3);
+        registry.updateFlowDependency(NODE_ID, otherFlow, null, Uint32.TEN);
+        registry.storeGroup(NODE_ID, GROUP_1);
+        registry.storeGroup(NODE_ID, GROUP_2);
+        registry.storeGroup(NODE_ID, GROUP_3);
+        registry.storeGroup(NODE_ID, Uint32.TEN);
+        registry.storeFlow(NODE_ID, childFlow);
+        registry.storeFlow(NODE_ID, parentFlow);
+        registry.storeFlow(NODE_ID, otherFlow);
+
+        registry.removeGroup(NODE_ID, GROUP_1);
+        assertFalse(registry.isGroupPresent(NODE_ID, GROUP_1));
+        assertFalse(registry.isGroupPresent(NODE_ID, GROUP_2));
+        assertFalse(registry.isGroupPresent(NODE_ID, GROUP_3));
+        assertFalse(registry.isFlowPresent(NODE_ID, childFlow));
+        assertFalse(registry.isFlowPresent(NODE_ID, parentFlow));
+
+        // Unrelated groups and flows stay programmed, the configuration stays as it was
+        assertTrue(registry.isGroupPresent(NODE_ID, Uint32.TEN));
+        assertTrue(registry.isFlowPresent(NODE_ID, otherFlow));
+        assertEquals(Set.of(GROUP_2), registry.getParentGroups(NODE_ID, GROUP_1));
+        assertEquals(Set.of(childFlow), registry.getDependentFlows(NODE_ID, GROUP_1));
+    }
+
+    private static InstanceIdentifier<Flow> flowIdent(final String flowId) {
+        return InstanceIdentifier.create(Nodes.class)
+            .child(Node.class, new NodeKey(new NodeId(NODE_ID)))
+            .augmentation(FlowCapableNode.class)
+            .child(Table.class, new TableKey(Uint8.ZERO))
+            .child(Flow.class, new FlowKey(new FlowId(flowId)));
+    }
+
+    private static Group group(final Uint32 groupId, final Uint32... chained) {
+        return new GroupBuilder()
+            .setGroupId(new GroupId(groupId))
+            .setBuckets(new BucketsBuilder()
+                .setBucket(BindingMap.of(new BucketBuilder()
+                    .setBucketId(new BucketId(Uint32.ZERO))
+                    .setAction(IntStream.range(0, chained.length)
+                        .mapToObj(order -> new ActionBuilder()
+                            .setOrder(order)
+                            .setAction(new GroupActionCaseBuilder()
+                                .setGroupAction(new GroupActionBuilder().setGroupId(chained[order]).build())
+                                .build())
+                            .build())
+                        .collect(BindingMap.toOrderedMap()))
+                    .build()))
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frm.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.opendaylight.openflowplugin.applications.frm.impl.FlowBatcher.Kind;
+import org.opendaylight.openflowplugin.applications.frm.impl.FlowBatcher.PendingFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchAddFlowCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchRemoveFlowCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchUpdateFlowCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.input.Batch;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.output.BatchFailureBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yangtools.yang.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.ErrorType;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link FlowBatcher}.
+ */
+public class FlowBatcherTest {
+    private static final String NODE_ID = "testnode:1";
+
+    private final List<PendingFlow> flows = List.of(
+        new PendingFlow(Kind.ADD, null, flow("f1")),
+        new PendingFlow(Kind.ADD, null, flow("f2")),
+        new PendingFlow(Kind.UPDATE, flow("f1"), flow("f1")),
+        new PendingFlow(Kind.REMOVE, null, flow("f2")),
+        new PendingFlow(Kind.ADD, null, flow("f3")));
+
+    @Test
+    public void testAssembleBatches() {
+        final List<Batch> batches = FlowBatcher.assembleBatches(flows);
+        assertEquals(4, batches.size());
+
+        assertEquals(0, batches.get(0).getBatchOrder().intValue());
+        assertEquals(2, ((FlatBatchAddFlowCase) batches.get(0).getBatchChoice()).nonnullFlatBatchAddFlow().size());
+        assertEquals(2, batches.get(1).getBatchOrder().intValue());
+        assertEquals(Boolean.TRUE, ((FlatBatchUpdateFlowCase) batches.get(1).getBatchChoice())
+            .nonnullFlatBatchUpdateFlow().values().iterator().next().getUpdatedBatchedFlow().getStrict());
+        assertEquals(3, batches.get(2).getBatchOrder().intValue());
+        assertEquals(Boolean.TRUE, ((FlatBatchRemoveFlowCase) batches.get(2).getBatchChoice())
+            .nonnullFlatBatchRemoveFlow().values().iterator().next().getStrict());
+        assertEquals(4, batches.get(3).getBatchOrder().intValue());
+        assertEquals(new FlowId("f3"), ((FlatBatchAddFlowCase) batches.get(3).getBatchChoice())
+            .nonnullFlatBatchAddFlow().values().iterator().next().getFlowId());
+    }
+
+    @Test
+    public void testCompleteFlows() throws InterruptedException, ExecutionException {
+        FlowBatcher.completeFlows(NODE_ID, flows, RpcResultBuilder.<ProcessFlatBatchOutput>failed()
+            .withResult(new ProcessFlatBatchOutputBuilder()
+                .setBatchFailure(BindingMap.of(new BatchFailureBuilder().setBatchOrder(Uint16.valueOf(3)).build()))
+                .build())
+            .build());
+
+        for (int i = 0; i < flows.size(); i++) {
+            assertEquals(i != 3, flows.get(i).future().get().isSuccessful());
+        }
+    }
+
+    @Test
+    public void testCompleteFlowsFailed() throws InterruptedException, ExecutionException {
+        FlowBatcher.completeFlows(NODE_ID, flows, RpcResultBuilder.<ProcessFlatBatchOutput>failed()
+            .withError(ErrorType.APPLICATION, "device disconnected")
+            .build());
+
+        for (PendingFlow flow : flows) {
+            assertFalse(flow.future().get().isSuccessful());
+        }
+    }
+
+    @Test
+    public void testCompleteFlowsSuccessful() throws InterruptedException, ExecutionException {
+        FlowBatcher.completeFlows(NODE_ID, flows, RpcResultBuilder.success(new ProcessFlatBatchOutputBuilder().build())
+            .build());
+
+        for (PendingFlow flow : flows) {
+            assertTrue(flow.future().get().isSuccessful());
+        }
+    }
+
+    private static Flow flow(final String id) {
+        return new FlowBuilder().setId(new FlowId(id)).setTableId(Uint8.TWO).build();
+    }
+}
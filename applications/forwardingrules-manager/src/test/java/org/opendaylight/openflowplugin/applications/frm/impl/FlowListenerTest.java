@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.applications.frm.impl;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.awaitility.Awaitility.await;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -19,6 +20,8 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.api.WriteTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.Dscp;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchAddFlowCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.FlatBatchRemoveFlowCase;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
@@ -201,6 +204,46 @@ public class FlowListenerTest extends AbstractFRMTest {
         assertEquals(Boolean.TRUE, removeFlowCalls.get(0).getStrict());
     }
 
+    @Test
+    public void batchFlowsTest() {
+        getForwardingRulesManager().onPropertyChanged("flow-batch-delay", "100");
+        addFlowCapableNode(NODE_KEY);
+
+        final InstanceIdentifier<Table> tableII = InstanceIdentifier.create(Nodes.class).child(Node.class, NODE_KEY)
+                .augmentation(FlowCapableNode.class).child(Table.class, tableKey);
+        final FlowKey flowKey = new FlowKey(new FlowId("test_Flow"));
+        final FlowKey flowKey2 = new FlowKey(new FlowId("test_Flow2"));
+
+        WriteTransaction writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.put(LogicalDatastoreType.CONFIGURATION, tableII, new TableBuilder().withKey(tableKey).build());
+        writeTx.put(LogicalDatastoreType.CONFIGURATION, tableII.child(Flow.class, flowKey),
+                new FlowBuilder().withKey(flowKey).setTableId(Uint8.TWO).build());
+        writeTx.put(LogicalDatastoreType.CONFIGURATION, tableII.child(Flow.class, flowKey2),
+                new FlowBuilder().withKey(flowKey2).setTableId(Uint8.TWO).build());
+        assertCommit(writeTx.commit());
+        await().atMost(10, SECONDS).until(() -> processFlatBatch.calls.size() == 1);
+        assertTrue(addFlow.calls.isEmpty());
+
+        var batches = processFlatBatch.calls.get(0).nonnullBatch().values();
+        assertEquals(1, batches.size());
+        var batch = batches.iterator().next();
+        assertEquals(0, batch.getBatchOrder().intValue());
+        assertEquals(2, ((FlatBatchAddFlowCase) batch.getBatchChoice()).nonnullFlatBatchAddFlow().size());
+
+        writeTx = getDataBroker().newWriteOnlyTransaction();
+        writeTx.delete(LogicalDatastoreType.CONFIGURATION, tableII.child(Flow.class, flowKey));
+        assertCommit(writeTx.commit());
+        await().atMost(10, SECONDS).until(() -> processFlatBatch.calls.size() == 2);
+        assertTrue(removeFlow.calls.isEmpty());
+
+        batches = processFlatBatch.calls.get(1).nonnullBatch().values();
+        assertEquals(1, batches.size());
+        final var removed = ((FlatBatchRemoveFlowCase) batches.iterator().next().getBatchChoice())
+                .nonnullFlatBatchRemoveFlow().values().iterator().next();
+        assertEquals(flowKey.getId(), removed.getFlowId());
+        assertEquals(Boolean.TRUE, removed.getStrict());
+    }
+
     @Test
     public void staleMarkedFlowCreationTest() throws Exception {
         addFlowCapableNode(NODE_KEY);
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frm.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.Uninterruptibles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.ReadTransaction;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.api.openflow.FlowGroupCacheManager;
+import org.opendaylight.openflowplugin.applications.frm.ForwardingRulesManager;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.GroupBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.ControlBundle;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.ControlBundleInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.ControlBundleOutput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.bundle.service.rev170124.ControlBundleOutputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.onf.rev170124.BundleControlType;
+import org.opendaylight.yangtools.util.concurrent.FluentFutures;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test of bundle based reconciliation in {@link FlowNodeReconciliationImpl}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FlowNodeReconciliationImplTest {
+    private static final FlowCapableNode CONFIG = new FlowCapableNodeBuilder()
+        .setGroup(BindingMap.of(IntStream.rangeClosed(1, 3)
+            .mapToObj(i -> new GroupBuilder().setGroupId(new GroupId(Uint32.valueOf(i))).build())
+            .toList()))
+        .setTable(BindingMap.of(new TableBuilder()
+            .setId(Uint8.ZERO)
+            .setFlow(BindingMap.of(IntStream.rangeClosed(1, 3)
+                .mapToObj(i -> new FlowBuilder().setId(new FlowId("flow" + i)).setTableId(Uint8.ZERO).build())
+                .toList()))
+            .build()))
+        .build();
+
+    @Mock
+    private ForwardingRulesManager provider;
+    @Mock
+    private DataBroker dataBroker;
+    @Mock
+    private FlowGroupCacheManager flowGroupCacheManager;
+    @Mock
+    private ReadTransaction readTransaction;
+
+    private final CapturingAddBundleMessages addBundleMessages = new CapturingAddBundleMessages();
+    private final DevicesGroupRegistry devicesGroupRegistry = new DevicesGroupRegistry();
+    // Close requests of reconciliations which have been started, in the order they were started
+    private final List<String> started = Collections.synchronizedList(new ArrayList<>());
+    private final Semaphore startedPermits = new Semaphore(0);
+    private volatile CountDownLatch release = new CountDownLatch(0);
+    private FlowNodeReconciliationImpl reconciliation;
+
+    @Before
+    public void setUp() {
+        final ControlBundle controlBundle = this::invokeControlBundle;
+        when(provider.getReconciliationConcurrency()).thenReturn(1);
+        when(provider.getBundleReconciliationChunkSize()).thenReturn(2);
+        when(provider.getReconciliationPriorityNodes()).thenReturn(List.of("openflow:3"));
+        when(provider.isBundleBasedReconciliationEnabled()).thenReturn(true);
+        when(provider.getDevicesGroupRegistry()).thenReturn(devicesGroupRegistry);
+        when(provider.getReadTransaction()).thenReturn(readTransaction);
+        when(provider.controlBundle()).thenReturn(controlBundle);
+        when(provider.addBundleMessages()).thenReturn(addBundleMessages);
+        when(flowGroupCacheManager.getReconciliationStates()).thenReturn(new ConcurrentHashMap<>());
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(CONFIG))).when(readTransaction)
+            .read(eq(LogicalDatastoreType.CONFIGURATION), any());
+
+        reconciliation = new FlowNodeReconciliationImpl(provider, dataBroker, "test", 0, null,
+            flowGroupCacheManager);
+    }
+
+    @After
+    public void tearDown() {
+        reconciliation.close();
+    }
+
+    /**
+     * Groups and then flows are sent in chunks of up to the configured size, after the initial delete of everything.
+     */
+    @Test
+    public void testBundleChunks() throws Exception {
+        assertTrue(reconciliation.reconcileConfiguration(nodePath("openflow:1")).get(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of(2, 2, 1, 2, 1), addBundleMessages.calls.stream()
+            .map(input -> input.getMessages().getMessage().size())
+            .toList());
+        assertTrue(devicesGroupRegistry.isGroupPresent("openflow:1", Uint32.valueOf(3)));
+    }
+
+    /**
+     * Nodes listed as priority nodes are reconciled before other waiting nodes, others in order of arrival.
+     */
+    @Test
+    public void testPriorityOrder() throws Exception {
+        release = new CountDownLatch(1);
+        final var first = reconciliation.reconcileConfiguration(nodePath("openflow:1"));
+        assertTrue(startedPermits.tryAcquire(5, TimeUnit.SECONDS));
+
+        final var second = reconciliation.reconcileConfiguration(nodePath("openflow:2"));
+        final var third = reconciliation.reconcileConfiguration(nodePath("openflow:3"));
+        release.countDown();
+
+        awaitAll(first, second, third);
+        assertEquals(List.of("openflow:1", "openflow:3", "openflow:2"), started);
+    }
+
+    /**
+     * Raising the concurrency lets waiting nodes start right away, lowering it again keeps reconciliations working.
+     */
+    @Test
+    public void testSetConcurrency() throws Exception {
+        reconciliation.setConcurrency(2);
+        release = new CountDownLatch(1);
+        final var first = reconciliation.reconcileConfiguration(nodePath("openflow:1"));
+        final var second = reconciliation.reconcileConfiguration(nodePath("openflow:2"));
+        assertTrue(startedPermits.tryAcquire(2, 5, TimeUnit.SECONDS));
+        release.countDown();
+        awaitAll(first, second);
+
+        reconciliation.setConcurrency(1);
+        assertTrue(reconciliation.reconcileConfiguration(nodePath("openflow:3")).get(5, TimeUnit.SECONDS));
+    }
+
+    private ListenableFuture<RpcResult<ControlBundleOutput>> invokeControlBundle(final ControlBundleInput input) {
+        if (input.getType() == BundleControlType.ONFBCTCLOSEREQUEST) {
+            started.add(input.getNode().getValue().firstKeyOf(Node.class).getId().getValue());
+            startedPermits.release();
+            Uninterruptibles.awaitUninterruptibly(release);
+        }
+        return RpcResultBuilder.success(new ControlBundleOutputBuilder().build()).buildFuture();
+    }
+
+    private static void awaitAll(final ListenableFuture<?>... futures) throws Exception {
+        for (var future : futures) {
+            assertEquals(Boolean.TRUE, future.get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    private static InstanceIdentifier<FlowCapableNode> nodePath(final String nodeId) {
+        return InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId(nodeId)))
+            .augmentation(FlowCapableNode.class);
+    }
+}
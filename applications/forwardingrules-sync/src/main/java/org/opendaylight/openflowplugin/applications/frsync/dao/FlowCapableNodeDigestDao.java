@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frsync.dao;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDigest;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+
+/**
+ * Cache of {@link FlowCapableNodeDigest}s of {@link FlowCapableNode}s, kept up to date by applying each modification
+ * of a node to its previous digest.
+ */
+public class FlowCapableNodeDigestDao {
+    private record Entry(FlowCapableNode node, FlowCapableNodeDigest digest) {
+    }
+
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public void updateCache(final @NonNull NodeId nodeId,
+                            final @NonNull DataObjectModification<FlowCapableNode> modification) {
+        final FlowCapableNode dataAfter = modification.dataAfter();
+        if (dataAfter == null) {
+            cache.remove(nodeId.getValue());
+            return;
+        }
+
+        final Entry previous = cache.get(nodeId.getValue());
+        cache.put(nodeId.getValue(), new Entry(dataAfter,
+            FlowCapableNodeDigest.update(previous == null ? null : previous.digest(), modification)));
+    }
+
+    /**
+     * Load the digest of a node, if it was computed from that very node instance.
+     *
+     * @param nodeId node id
+     * @param node node instance
+     * @return digest of the node, or empty if the cached digest describes a different instance or is not present
+     */
+    public Optional<FlowCapableNodeDigest> loadByNode(final NodeId nodeId, final FlowCapableNode node) {
+        final Entry entry = cache.get(nodeId.getValue());
+        return entry != null && entry.node() == node ? Optional.of(entry.digest()) : Optional.empty();
+    }
+}
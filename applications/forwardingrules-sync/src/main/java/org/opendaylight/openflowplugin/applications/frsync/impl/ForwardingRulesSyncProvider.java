@@ -22,6 +22,7 @@ import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.singleton.api.ClusterSingletonServiceProvider;
 import org.opendaylight.openflowplugin.applications.frsync.NodeListener;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeCachedDao;
+import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeDigestDao;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeOdlDao;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeSnapshotDao;
 import org.opendaylight.openflowplugin.applications.frsync.impl.clustering.DeviceMastershipManager;
@@ -94,13 +95,14 @@ public class ForwardingRulesSyncProvider implements AutoCloseable {
             .setUncaughtExceptionHandler((thread, ex) -> LOG.error("Uncaught exception {}", thread, ex))
             .build());
 
-        final var syncPlanPushStrategy = new SyncPlanPushStrategyFlatBatchImpl(processFlatBatch);
+        final var syncPlanPushStrategy = new SyncPlanPushStrategyFlatBatchImpl(processFlatBatch, syncThreadPool);
 
         final var reconciliationRegistry = new ReconciliationRegistry();
         final var deviceMastershipManager = new DeviceMastershipManager(clusterSingletonService,
             reconciliationRegistry);
 
-        final var syncReactorImpl = new SyncReactorImpl(syncPlanPushStrategy);
+        final var configDigests = new FlowCapableNodeDigestDao();
+        final var syncReactorImpl = new SyncReactorImpl(syncPlanPushStrategy, configDigests);
         final var syncReactorRetry = new SyncReactorRetryDecorator(syncReactorImpl, reconciliationRegistry);
         final var syncReactorGuard = new SyncReactorGuardDecorator(syncReactorRetry);
         final var syncReactorFutureZip = new SyncReactorFutureZipDecorator(syncReactorGuard, syncThreadPool);
@@ -115,7 +117,7 @@ public class ForwardingRulesSyncProvider implements AutoCloseable {
                 new FlowCapableNodeOdlDao(dataService, LogicalDatastoreType.OPERATIONAL));
 
         final NodeListener<FlowCapableNode> nodeListenerConfig =
-                new SimplifiedConfigListener(reactor, configSnapshot, operationalDao);
+                new SimplifiedConfigListener(reactor, configSnapshot, configDigests, operationalDao);
         final NodeListener<Node> nodeListenerOperational = new SimplifiedOperationalListener(reactor,
                 operationalSnapshot, configDao, reconciliationRegistry, deviceMastershipManager);
 
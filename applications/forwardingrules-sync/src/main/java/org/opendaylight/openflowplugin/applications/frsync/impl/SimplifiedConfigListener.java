@@ -15,6 +15,7 @@ import org.opendaylight.mdsal.binding.api.DataTreeModification;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.frsync.SyncReactor;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeDao;
+import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeDigestDao;
 import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeSnapshotDao;
 import org.opendaylight.openflowplugin.applications.frsync.util.PathUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncupEntry;
@@ -32,13 +33,16 @@ public class SimplifiedConfigListener extends AbstractFrmSyncListener<FlowCapabl
     private static final Logger LOG = LoggerFactory.getLogger(SimplifiedConfigListener.class);
     private final SyncReactor reactor;
     private final FlowCapableNodeSnapshotDao configSnapshot;
+    private final FlowCapableNodeDigestDao configDigests;
     private final FlowCapableNodeDao operationalDao;
 
     public SimplifiedConfigListener(final SyncReactor reactor,
                                     final FlowCapableNodeSnapshotDao configSnapshot,
+                                    final FlowCapableNodeDigestDao configDigests,
                                     final FlowCapableNodeDao operationalDao) {
         this.reactor = reactor;
         this.configSnapshot = configSnapshot;
+        this.configDigests = configDigests;
         this.operationalDao = operationalDao;
     }
 
@@ -48,7 +52,7 @@ public class SimplifiedConfigListener extends AbstractFrmSyncListener<FlowCapabl
     }
 
     /**
-     * Update cache. If operational data are present, choose appropriate data and start syncup.
+     * Update cache and digest. If operational data are present, choose appropriate data and start syncup.
      * Otherwise skip incoming change.
      */
     @Override
@@ -58,6 +62,7 @@ public class SimplifiedConfigListener extends AbstractFrmSyncListener<FlowCapabl
         final NodeId nodeId = PathUtil.digNodeId(nodePath);
 
         configSnapshot.updateCache(nodeId, Optional.ofNullable(modification.getRootNode().dataAfter()));
+        configDigests.updateCache(nodeId, modification.getRootNode());
 
         final Optional<FlowCapableNode> operationalNode = operationalDao.loadByNodeId(nodeId);
         if (operationalNode.isEmpty()) {
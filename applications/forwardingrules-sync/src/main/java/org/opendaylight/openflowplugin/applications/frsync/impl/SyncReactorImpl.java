@@ -19,16 +19,21 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.applications.frsync.SyncPlanPushStrategy;
 import org.opendaylight.openflowplugin.applications.frsync.SyncReactor;
+import org.opendaylight.openflowplugin.applications.frsync.dao.FlowCapableNodeDigestDao;
 import org.opendaylight.openflowplugin.applications.frsync.impl.strategy.SynchronizationDiffInput;
 import org.opendaylight.openflowplugin.applications.frsync.util.CrudCounts;
+import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeDigest;
 import org.opendaylight.openflowplugin.applications.frsync.util.FlowCapableNodeLookups;
 import org.opendaylight.openflowplugin.applications.frsync.util.ItemSyncBox;
 import org.opendaylight.openflowplugin.applications.frsync.util.PathUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.ReconcileUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncCrudCounters;
 import org.opendaylight.openflowplugin.applications.frsync.util.SyncupEntry;
+import org.opendaylight.openflowplugin.applications.frsync.util.TableFlowDiffs;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
@@ -52,9 +57,16 @@ public class SyncReactorImpl implements SyncReactor {
 
     private static final Logger LOG = LoggerFactory.getLogger(SyncReactorImpl.class);
     private final SyncPlanPushStrategy syncPlanPushStrategy;
+    private final FlowCapableNodeDigestDao configDigests;
 
     public SyncReactorImpl(final SyncPlanPushStrategy syncPlanPushStrategy) {
+        this(syncPlanPushStrategy, new FlowCapableNodeDigestDao());
+    }
+
+    public SyncReactorImpl(final SyncPlanPushStrategy syncPlanPushStrategy,
+                           final FlowCapableNodeDigestDao configDigests) {
         this.syncPlanPushStrategy = requireNonNull(syncPlanPushStrategy, "execution strategy is mandatory");
+        this.configDigests = requireNonNull(configDigests);
     }
 
     @Override
@@ -75,18 +87,37 @@ public class SyncReactorImpl implements SyncReactor {
          *  - table features - groups (reordered) - meters - flows
          * reconciliation strategy - phase 2: - remove redundant objects in following order:
          *  - flows - meters - groups (reordered)
+         * optimization: - diff only flow tables, groups and meters whose digests differ
+         *               - diff flow tables one at a time while the strategy pushes them
          **/
 
-        final List<ItemSyncBox<Group>> groupsToAddOrUpdate =
-                extractGroupsToAddOrUpdate(nodeId, configTree, operationalTree);
-        final ItemSyncBox<Meter> metersToAddOrUpdate = extractMetersToAddOrUpdate(nodeId, configTree, operationalTree);
+        final FlowCapableNodeDigest configDigest = digest(nodeId, configTree, syncupEntry.getDsTypeAfter());
+        final FlowCapableNodeDigest operationalDigest = digest(nodeId, operationalTree,
+                syncupEntry.getDsTypeBefore());
+        if (configDigest.equals(operationalDigest)) {
+            LOG.debug("Syncup skipped[{}]: flows, groups and meters are in sync", nodeId.getValue());
+            return Futures.immediateFuture(Boolean.TRUE);
+        }
+
+        final Set<Uint8> tablesToSync = configDigest.differingTables(operationalDigest);
+        final boolean syncGroups = configDigest.groups() != operationalDigest.groups();
+        final boolean syncMeters = configDigest.meters() != operationalDigest.meters();
+        LOG.trace("Syncup scope[{}]: tables={}, groups={}, meters={}", nodeId.getValue(), tablesToSync, syncGroups,
+                syncMeters);
+
+        final List<ItemSyncBox<Group>> groupsToAddOrUpdate = syncGroups
+                ? extractGroupsToAddOrUpdate(nodeId, configTree, operationalTree) : List.of();
+        final ItemSyncBox<Meter> metersToAddOrUpdate = syncMeters
+                ? extractMetersToAddOrUpdate(nodeId, configTree, operationalTree) : new ItemSyncBox<>();
         final Map<TableKey, ItemSyncBox<Flow>> flowsToAddOrUpdate =
-                extractFlowsToAddOrUpdate(nodeId, configTree, operationalTree);
+                extractFlowsToAddOrUpdate(configTree, operationalTree, tablesToSync);
 
         final Map<TableKey, ItemSyncBox<Flow>> flowsToRemove =
-                extractFlowsToRemove(nodeId, configTree, operationalTree);
-        final ItemSyncBox<Meter> metersToRemove = extractMetersToRemove(nodeId, configTree, operationalTree);
-        final List<ItemSyncBox<Group>> groupsToRemove = extractGroupsToRemove(nodeId, configTree, operationalTree);
+                extractFlowsToRemove(configTree, operationalTree, tablesToSync);
+        final ItemSyncBox<Meter> metersToRemove = syncMeters
+                ? extractMetersToRemove(nodeId, configTree, operationalTree) : new ItemSyncBox<>();
+        final List<ItemSyncBox<Group>> groupsToRemove = syncGroups
+                ? extractGroupsToRemove(nodeId, configTree, operationalTree) : List.of();
 
         final SynchronizationDiffInput input = new SynchronizationDiffInput(nodeIdent,
                 groupsToAddOrUpdate, metersToAddOrUpdate, flowsToAddOrUpdate,
@@ -105,17 +136,33 @@ public class SyncReactorImpl implements SyncReactor {
                 final CrudCounts meterCrudCounts = counters.getMeterCrudCounts();
                 final CrudCounts groupCrudCounts = counters.getGroupCrudCounts();
                 LOG.debug("Syncup outcome[{}] (added/updated/removed): flow={}/{}/{}, group={}/{}/{}, "
-                                + "meter={}/{}/{}, errors={}",
+                                + "meter={}/{}/{}, chunks={}, items/s={}, errors={}",
                         nodeId.getValue(),
                         flowCrudCounts.getAdded(), flowCrudCounts.getUpdated(), flowCrudCounts.getRemoved(),
                         groupCrudCounts.getAdded(), groupCrudCounts.getUpdated(), groupCrudCounts.getRemoved(),
                         meterCrudCounts.getAdded(), meterCrudCounts.getUpdated(), meterCrudCounts.getRemoved(),
+                        counters.getChunks(), counters.getThroughput(),
                         Arrays.toString(input1.getErrors().toArray()));
             }
             return input1.isSuccessful();
         }, MoreExecutors.directExecutor());
     }
 
+    private FlowCapableNodeDigest digest(final NodeId nodeId, final FlowCapableNode node,
+                                         final LogicalDatastoreType dsType) {
+        if (dsType == LogicalDatastoreType.CONFIGURATION && node != null) {
+            final var cached = configDigests.loadByNode(nodeId, node);
+            if (cached.isPresent()) {
+                return cached.orElseThrow();
+            }
+        }
+        return FlowCapableNodeDigest.of(node);
+    }
+
+    private static Collection<Table> filterTables(final Collection<Table> tables, final Set<Uint8> tableIds) {
+        return tables.stream().filter(table -> tableIds.contains(table.getId())).toList();
+    }
+
     @VisibleForTesting
     private static List<ItemSyncBox<Group>> extractGroupsToAddOrUpdate(final NodeId nodeId,
             final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational) {
@@ -141,9 +188,11 @@ public class SyncReactorImpl implements SyncReactor {
     }
 
     @VisibleForTesting
-    private static Map<TableKey, ItemSyncBox<Flow>> extractFlowsToAddOrUpdate(final NodeId nodeId,
-            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational) {
-        final Collection<Table> tablesConfigured = ReconcileUtil.safeTables(flowCapableNodeConfigured);
+    private static Map<TableKey, ItemSyncBox<Flow>> extractFlowsToAddOrUpdate(
+            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational,
+            final Set<Uint8> tablesToSync) {
+        final Collection<Table> tablesConfigured =
+                filterTables(ReconcileUtil.safeTables(flowCapableNodeConfigured), tablesToSync);
         if (tablesConfigured.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -151,13 +200,15 @@ public class SyncReactorImpl implements SyncReactor {
         final Collection<Table> tablesOperational = ReconcileUtil.safeTables(flowCapableNodeOperational);
         final Map<Uint8, Table> tableOperationalMap = FlowCapableNodeLookups.wrapTablesToMap(tablesOperational);
 
-        return ReconcileUtil.resolveFlowDiffsInAllTables(nodeId, tableOperationalMap, tablesConfigured, true);
+        return new TableFlowDiffs(tableOperationalMap, tablesConfigured, true);
     }
 
     @VisibleForTesting
-    private static Map<TableKey, ItemSyncBox<Flow>> extractFlowsToRemove(final NodeId nodeId,
-            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational) {
-        final Collection<Table> tablesOperational = ReconcileUtil.safeTables(flowCapableNodeOperational);
+    private static Map<TableKey, ItemSyncBox<Flow>> extractFlowsToRemove(
+            final FlowCapableNode flowCapableNodeConfigured, final FlowCapableNode flowCapableNodeOperational,
+            final Set<Uint8> tablesToSync) {
+        final Collection<Table> tablesOperational =
+                filterTables(ReconcileUtil.safeTables(flowCapableNodeOperational), tablesToSync);
         if (tablesOperational.isEmpty()) {
             return Collections.emptyMap();
         }
@@ -165,7 +216,7 @@ public class SyncReactorImpl implements SyncReactor {
         final Collection<Table> tablesConfigured = ReconcileUtil.safeTables(flowCapableNodeConfigured);
         final Map<Uint8, Table> tableConfiguredMap = FlowCapableNodeLookups.wrapTablesToMap(tablesConfigured);
 
-        return ReconcileUtil.resolveFlowDiffsInAllTables(nodeId, tableConfiguredMap, tablesOperational, false);
+        return new TableFlowDiffs(tableConfiguredMap, tablesOperational, false);
     }
 
     @VisibleForTesting
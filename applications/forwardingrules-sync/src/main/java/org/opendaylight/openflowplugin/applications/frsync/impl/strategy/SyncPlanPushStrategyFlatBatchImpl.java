@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowplugin.applications.frsync.impl.strategy;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
@@ -19,10 +20,14 @@ import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import org.opendaylight.openflowplugin.applications.frsync.SyncPlanPushStrategy;
+import org.opendaylight.openflowplugin.applications.frsync.util.CrudCounts;
 import org.opendaylight.openflowplugin.applications.frsync.util.ItemSyncBox;
 import org.opendaylight.openflowplugin.applications.frsync.util.PathUtil;
 import org.opendaylight.openflowplugin.applications.frsync.util.ReconcileUtil;
@@ -98,70 +103,213 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Execute CRUD API for flow + group + meter involving flat-batch strategy.
+ * Execute CRUD API for flow + group + meter involving flat-batch strategy. The synchronization plan is pushed in
+ * chunks of bounded size, one after another, each chunk being assembled only once the previous one is done. Together
+ * with flow differences resolved one table at a time this bounds the memory needed to synchronize large nodes.
+ * Chunks are assembled on the supplied executor, so that resolving flow differences does not hold up the thread
+ * completing the previous chunk.
  */
 public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(SyncPlanPushStrategyFlatBatchImpl.class);
 
+    /**
+     * Default maximum number of flows, groups and meters pushed in a single flat batch.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 10_000;
+
     private final ProcessFlatBatch processFlatBatch;
+    private final Executor executor;
+    private final int chunkSize;
+
+    public SyncPlanPushStrategyFlatBatchImpl(final ProcessFlatBatch processFlatBatch, final Executor executor) {
+        this(processFlatBatch, executor, DEFAULT_CHUNK_SIZE);
+    }
 
-    public SyncPlanPushStrategyFlatBatchImpl(final ProcessFlatBatch processFlatBatch) {
+    public SyncPlanPushStrategyFlatBatchImpl(final ProcessFlatBatch processFlatBatch, final Executor executor,
+            final int chunkSize) {
         this.processFlatBatch = requireNonNull(processFlatBatch);
+        this.executor = requireNonNull(executor);
+        // batch order of the items is 16 bit
+        checkArgument(chunkSize > 0 && chunkSize <= Uint16.MAX_VALUE.toJava(), "Invalid chunk size %s", chunkSize);
+        this.chunkSize = chunkSize;
     }
 
     @Override
     public ListenableFuture<RpcResult<Void>> executeSyncStrategy(ListenableFuture<RpcResult<Void>> resultVehicle,
                                                                  final SynchronizationDiffInput diffInput,
                                                                  final SyncCrudCounters counters) {
-        // prepare default (full) counts
-        counters.getGroupCrudCounts().setAdded(ReconcileUtil.countTotalPushed(diffInput.getGroupsToAddOrUpdate()));
-        counters.getGroupCrudCounts().setUpdated(ReconcileUtil.countTotalUpdated(diffInput.getGroupsToAddOrUpdate()));
-        counters.getGroupCrudCounts().setRemoved(ReconcileUtil.countTotalPushed(diffInput.getGroupsToRemove()));
-
-        counters.getFlowCrudCounts().setAdded(ReconcileUtil.countTotalPushed(
-                diffInput.getFlowsToAddOrUpdate().values()));
-        counters.getFlowCrudCounts().setUpdated(ReconcileUtil.countTotalUpdated(
-                diffInput.getFlowsToAddOrUpdate().values()));
-        counters.getFlowCrudCounts().setRemoved(ReconcileUtil.countTotalPushed(diffInput.getFlowsToRemove().values()));
-
-        counters.getMeterCrudCounts().setAdded(diffInput.getMetersToAddOrUpdate().getItemsToPush().size());
-        counters.getMeterCrudCounts().setUpdated(diffInput.getMetersToAddOrUpdate().getItemsToUpdate().size());
-        counters.getMeterCrudCounts().setRemoved(diffInput.getMetersToRemove().getItemsToPush().size());
-
         /* Tables - have to be pushed before groups */
         // TODO enable table-update when ready
         //resultVehicle = updateTableFeatures(nodeIdent, configTree);
 
-        resultVehicle = Futures.transformAsync(resultVehicle, input -> {
-            final var batchBag = new ArrayList<Batch>();
-            int batchOrder = 0;
+        resultVehicle = Futures.transformAsync(resultVehicle,
+            input -> pushChunks(new NodeRef(PathUtil.digNodePath(diffInput.getNodeIdent())),
+                new PlanChunker(createPlanSteps(diffInput, counters), chunkSize), counters, new ArrayList<>()),
+            executor);
+        return resultVehicle;
+    }
 
-            batchOrder = assembleAddOrUpdateGroups(batchBag, batchOrder, diffInput.getGroupsToAddOrUpdate());
-            batchOrder = assembleAddOrUpdateMeters(batchBag, batchOrder, diffInput.getMetersToAddOrUpdate());
-            batchOrder = assembleAddOrUpdateFlows(batchBag, batchOrder, diffInput.getFlowsToAddOrUpdate());
+    private ListenableFuture<RpcResult<Void>> pushChunks(final NodeRef node, final PlanChunker chunker,
+            final SyncCrudCounters counters, final List<RpcResult<Void>> chunkResults) {
+        final var batchBag = new ArrayList<Batch>();
+        final int batchOrder = chunker.nextChunk(batchBag);
+        if (batchBag.isEmpty()) {
+            return Futures.immediateFuture(ReconcileUtil.<Void>createRpcResultCondenser("flat-batch")
+                .apply(chunkResults));
+        }
 
-            batchOrder = assembleRemoveFlows(batchBag, batchOrder, diffInput.getFlowsToRemove());
-            batchOrder = assembleRemoveMeters(batchBag, batchOrder, diffInput.getMetersToRemove());
-            batchOrder = assembleRemoveGroups(batchBag, batchOrder, diffInput.getGroupsToRemove());
+        LOG.trace("Index of last batch step: {}", batchOrder);
+        counters.incChunks();
+        final var rpcResultFuture = processFlatBatch.invoke(new ProcessFlatBatchInputBuilder()
+            .setNode(node)
+            // TODO: propagate from input
+            .setExitOnFirstError(false)
+            .setBatch(BindingMap.ordered(batchBag))
+            .build());
+
+        if (LOG.isDebugEnabled()) {
+            Futures.addCallback(rpcResultFuture, createCounterCallback(batchBag, batchOrder, counters),
+                MoreExecutors.directExecutor());
+        }
 
-            LOG.trace("Index of last batch step: {}", batchOrder);
+        return Futures.transformAsync(rpcResultFuture, result -> {
+            chunkResults.add(ReconcileUtil.<ProcessFlatBatchOutput>createRpcResultToVoidFunction("flat-batch")
+                .apply(result));
+            LOG.debug("Syncup progress[{}]: chunk {} of {} items pushed, {} items in total, {} items/s",
+                PathUtil.digNodeId(node.getValue()).getValue(), counters.getChunks(), batchOrder,
+                counters.getTotalCount(), counters.getThroughput());
+            return pushChunks(node, chunker, counters, chunkResults);
+        }, executor);
+    }
 
-            final var rpcResultFuture = processFlatBatch.invoke(new ProcessFlatBatchInputBuilder()
-                .setNode(new NodeRef(PathUtil.digNodePath(diffInput.getNodeIdent())))
-                // TODO: propagate from input
-                .setExitOnFirstError(false)
-                .setBatch(BindingMap.ordered(batchBag))
-                .build());
+    /**
+     * Create the steps of the synchronization plan in safe order. The flow steps are created lazily, table by table.
+     */
+    @VisibleForTesting
+    static Iterator<PlanStep<?>> createPlanSteps(final SynchronizationDiffInput diffInput,
+            final SyncCrudCounters counters) {
+        final CrudCounts flowCounts = counters.getFlowCrudCounts();
+        final CrudCounts groupCounts = counters.getGroupCrudCounts();
+        final CrudCounts meterCounts = counters.getMeterCrudCounts();
+
+        final List<Iterator<PlanStep<?>>> phases = new ArrayList<>();
+        if (diffInput.getGroupsToAddOrUpdate() != null) {
+            phases.add(Iterators.concat(Iterators.transform(diffInput.getGroupsToAddOrUpdate().iterator(),
+                box -> Iterators.<PlanStep<?>>forArray(
+                    new PlanStep<>(box.getItemsToPush(), groupCounts::incAdded,
+                        SyncPlanPushStrategyFlatBatchImpl::createAddGroups),
+                    new PlanStep<>(box.getItemsToUpdate(), groupCounts::incUpdated,
+                        SyncPlanPushStrategyFlatBatchImpl::createUpdateGroups)))));
+        }
+        final ItemSyncBox<Meter> metersToAddOrUpdate = diffInput.getMetersToAddOrUpdate();
+        if (metersToAddOrUpdate != null) {
+            phases.add(Iterators.<PlanStep<?>>forArray(
+                new PlanStep<>(metersToAddOrUpdate.getItemsToPush(), meterCounts::incAdded,
+                    SyncPlanPushStrategyFlatBatchImpl::createAddMeters),
+                new PlanStep<>(metersToAddOrUpdate.getItemsToUpdate(), meterCounts::incUpdated,
+                    SyncPlanPushStrategyFlatBatchImpl::createUpdateMeters)));
+        }
+        if (diffInput.getFlowsToAddOrUpdate() != null) {
+            phases.add(Iterators.concat(Iterators.transform(diffInput.getFlowsToAddOrUpdate().values().iterator(),
+                box -> Iterators.<PlanStep<?>>forArray(
+                    new PlanStep<>(box.getItemsToPush(), flowCounts::incAdded,
+                        SyncPlanPushStrategyFlatBatchImpl::createAddFlows),
+                    new PlanStep<>(box.getItemsToUpdate(), flowCounts::incUpdated,
+                        SyncPlanPushStrategyFlatBatchImpl::createUpdateFlows)))));
+        }
+
+        if (diffInput.getFlowsToRemove() != null) {
+            phases.add(Iterators.transform(diffInput.getFlowsToRemove().values().iterator(),
+                box -> new PlanStep<>(box.getItemsToPush(), flowCounts::incRemoved,
+                    SyncPlanPushStrategyFlatBatchImpl::createRemoveFlows)));
+        }
+        final ItemSyncBox<Meter> metersToRemove = diffInput.getMetersToRemove();
+        if (metersToRemove != null) {
+            phases.add(Iterators.<PlanStep<?>>singletonIterator(new PlanStep<>(metersToRemove.getItemsToPush(),
+                meterCounts::incRemoved, SyncPlanPushStrategyFlatBatchImpl::createRemoveMeters)));
+        }
+        if (diffInput.getGroupsToRemove() != null) {
+            phases.add(Iterators.transform(diffInput.getGroupsToRemove().iterator(),
+                box -> new PlanStep<>(box.getItemsToPush(), groupCounts::incRemoved,
+                    SyncPlanPushStrategyFlatBatchImpl::createRemoveGroups)));
+        }
+        return Iterators.concat(phases.iterator());
+    }
+
+    /**
+     * Items of one type and operation, pushed in one or more batches.
+     *
+     * @param <T> item type
+     */
+    @VisibleForTesting
+    static final class PlanStep<T> {
+        private final Iterator<T> items;
+        private final Runnable counter;
+        private final Function<Collection<T>, BatchChoice> assembler;
+
+        PlanStep(final Collection<T> items, final Runnable counter,
+                final Function<Collection<T>, BatchChoice> assembler) {
+            this.items = items.iterator();
+            this.counter = requireNonNull(counter);
+            this.assembler = requireNonNull(assembler);
+        }
 
-            if (LOG.isDebugEnabled()) {
-                Futures.addCallback(rpcResultFuture, createCounterCallback(batchBag, batchOrder, counters),
-                    MoreExecutors.directExecutor());
+        boolean hasNext() {
+            return items.hasNext();
+        }
+
+        /**
+         * Assemble a batch of the next items.
+         *
+         * @param batchBag   batches to add the batch to
+         * @param batchOrder batch order of the first item
+         * @param maxItems   maximum number of items
+         * @return number of items in the batch
+         */
+        int assemble(final List<Batch> batchBag, final int batchOrder, final int maxItems) {
+            final List<T> chunk = new ArrayList<>();
+            while (chunk.size() < maxItems && items.hasNext()) {
+                chunk.add(items.next());
+                counter.run();
             }
+            return appendBatch(batchBag, batchOrder, chunk, assembler);
+        }
+    }
 
-            return Futures.transform(rpcResultFuture, ReconcileUtil.createRpcResultToVoidFunction("flat-batch"),
-                MoreExecutors.directExecutor());
-        }, MoreExecutors.directExecutor());
-        return resultVehicle;
+    /**
+     * Splits the steps of the synchronization plan into chunks of bounded size.
+     */
+    @VisibleForTesting
+    static final class PlanChunker {
+        private final Iterator<PlanStep<?>> steps;
+        private final int chunkSize;
+        private PlanStep<?> currentStep;
+
+        PlanChunker(final Iterator<PlanStep<?>> steps, final int chunkSize) {
+            this.steps = requireNonNull(steps);
+            this.chunkSize = chunkSize;
+        }
+
+        /**
+         * Assemble the batches of the next chunk.
+         *
+         * @param batchBag batches to add the batches of the chunk to
+         * @return number of items in the chunk, zero if the plan is done
+         */
+        int nextChunk(final List<Batch> batchBag) {
+            int order = 0;
+            while (order < chunkSize) {
+                if (currentStep != null && currentStep.hasNext()) {
+                    order += currentStep.assemble(batchBag, order, chunkSize - order);
+                } else if (steps.hasNext()) {
+                    currentStep = steps.next();
+                } else {
+                    currentStep = null;
+                    break;
+                }
+            }
+            return order;
+        }
     }
 
     private static FutureCallback<RpcResult<ProcessFlatBatchOutput>> createCounterCallback(
@@ -237,28 +385,9 @@ public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
         // process flow remove
         int order = batchOrder;
         if (flowItemSyncTableMap != null) {
-            for (Map.Entry<TableKey, ItemSyncBox<Flow>> syncBoxEntry : flowItemSyncTableMap.entrySet()) {
-                final ItemSyncBox<Flow> flowItemSyncBox = syncBoxEntry.getValue();
-
-                if (!flowItemSyncBox.getItemsToPush().isEmpty()) {
-                    final Builder<FlatBatchRemoveFlowKey, FlatBatchRemoveFlow> flatBatchRemoveFlowBag =
-                            BindingMap.orderedBuilder(flowItemSyncBox.getItemsToUpdate().size());
-                    int itemOrder = 0;
-                    for (Flow flow : flowItemSyncBox.getItemsToPush()) {
-                        flatBatchRemoveFlowBag.add(new FlatBatchRemoveFlowBuilder(flow)
-                                .setBatchOrder(Uint16.valueOf(itemOrder++))
-                                .setFlowId(flow.getId())
-                                .build());
-                    }
-                    final Batch batch = new BatchBuilder()
-                            .setBatchChoice(new FlatBatchRemoveFlowCaseBuilder()
-                                    .setFlatBatchRemoveFlow(flatBatchRemoveFlowBag.build())
-                                    .build())
-                            .setBatchOrder(Uint16.valueOf(order))
-                            .build();
-                    order += itemOrder;
-                    batchBag.add(batch);
-                }
+            for (ItemSyncBox<Flow> flowItemSyncBox : flowItemSyncTableMap.values()) {
+                order = appendBatch(batchBag, order, flowItemSyncBox.getItemsToPush(),
+                    SyncPlanPushStrategyFlatBatchImpl::createRemoveFlows);
             }
         }
         return order;
@@ -271,44 +400,10 @@ public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
         int order = batchOrder;
         if (groupsToAddOrUpdate != null) {
             for (ItemSyncBox<Group> groupItemSyncBox : groupsToAddOrUpdate) {
-                if (!groupItemSyncBox.getItemsToPush().isEmpty()) {
-                    final Builder<FlatBatchAddGroupKey, FlatBatchAddGroup> flatBatchAddGroupBag =
-                        BindingMap.orderedBuilder(groupItemSyncBox.getItemsToPush().size());
-                    int itemOrder = 0;
-                    for (Group group : groupItemSyncBox.getItemsToPush()) {
-                        flatBatchAddGroupBag.add(new FlatBatchAddGroupBuilder(group)
-                                .setBatchOrder(Uint16.valueOf(itemOrder++)).build());
-                    }
-                    final Batch batch = new BatchBuilder()
-                            .setBatchChoice(new FlatBatchAddGroupCaseBuilder()
-                                    .setFlatBatchAddGroup(flatBatchAddGroupBag.build())
-                                    .build())
-                            .setBatchOrder(Uint16.valueOf(order))
-                            .build();
-                    order += itemOrder;
-                    batchBag.add(batch);
-                }
-
-                if (!groupItemSyncBox.getItemsToUpdate().isEmpty()) {
-                    final Builder<FlatBatchUpdateGroupKey, FlatBatchUpdateGroup> flatBatchUpdateGroupBag =
-                        BindingMap.orderedBuilder(groupItemSyncBox.getItemsToUpdate().size());
-                    int itemOrder = 0;
-                    for (ItemSyncBox.ItemUpdateTuple<Group> groupUpdate : groupItemSyncBox.getItemsToUpdate()) {
-                        flatBatchUpdateGroupBag.add(new FlatBatchUpdateGroupBuilder()
-                            .setBatchOrder(Uint16.valueOf(itemOrder++))
-                            .setOriginalBatchedGroup(new OriginalBatchedGroupBuilder(groupUpdate.getOriginal()).build())
-                            .setUpdatedBatchedGroup(new UpdatedBatchedGroupBuilder(groupUpdate.getUpdated()).build())
-                            .build());
-                    }
-                    final Batch batch = new BatchBuilder()
-                            .setBatchChoice(new FlatBatchUpdateGroupCaseBuilder()
-                                    .setFlatBatchUpdateGroup(flatBatchUpdateGroupBag.build())
-                                    .build())
-                            .setBatchOrder(Uint16.valueOf(order))
-                            .build();
-                    order += itemOrder;
-                    batchBag.add(batch);
-                }
+                order = appendBatch(batchBag, order, groupItemSyncBox.getItemsToPush(),
+                    SyncPlanPushStrategyFlatBatchImpl::createAddGroups);
+                order = appendBatch(batchBag, order, groupItemSyncBox.getItemsToUpdate(),
+                    SyncPlanPushStrategyFlatBatchImpl::createUpdateGroups);
             }
         }
         return order;
@@ -317,27 +412,12 @@ public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
     @VisibleForTesting
     static int assembleRemoveGroups(final List<Batch> batchBag, final int batchOrder,
             final List<ItemSyncBox<Group>> groupsToRemoveOrUpdate) {
-        // process group add+update
+        // process group remove
         int order = batchOrder;
         if (groupsToRemoveOrUpdate != null) {
             for (ItemSyncBox<Group> groupItemSyncBox : groupsToRemoveOrUpdate) {
-                if (!groupItemSyncBox.getItemsToPush().isEmpty()) {
-                    final Builder<FlatBatchRemoveGroupKey, FlatBatchRemoveGroup> flatBatchRemoveGroupBag =
-                        BindingMap.orderedBuilder(groupItemSyncBox.getItemsToUpdate().size());
-                    int itemOrder = 0;
-                    for (Group group : groupItemSyncBox.getItemsToPush()) {
-                        flatBatchRemoveGroupBag.add(new FlatBatchRemoveGroupBuilder(group)
-                                .setBatchOrder(Uint16.valueOf(itemOrder++)).build());
-                    }
-                    final Batch batch = new BatchBuilder()
-                            .setBatchChoice(new FlatBatchRemoveGroupCaseBuilder()
-                                    .setFlatBatchRemoveGroup(flatBatchRemoveGroupBag.build())
-                                    .build())
-                            .setBatchOrder(Uint16.valueOf(order))
-                            .build();
-                    order += itemOrder;
-                    batchBag.add(batch);
-                }
+                order = appendBatch(batchBag, order, groupItemSyncBox.getItemsToPush(),
+                    SyncPlanPushStrategyFlatBatchImpl::createRemoveGroups);
             }
         }
         return order;
@@ -349,45 +429,10 @@ public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
         // process meter add+update
         int order = batchOrder;
         if (meterItemSyncBox != null) {
-            if (!meterItemSyncBox.getItemsToPush().isEmpty()) {
-                final Builder<FlatBatchAddMeterKey, FlatBatchAddMeter> flatBatchAddMeterBag =
-                    BindingMap.orderedBuilder(meterItemSyncBox.getItemsToPush().size());
-                int itemOrder = 0;
-                for (Meter meter : meterItemSyncBox.getItemsToPush()) {
-                    flatBatchAddMeterBag.add(new FlatBatchAddMeterBuilder(meter)
-                        .setBatchOrder(Uint16.valueOf(itemOrder++))
-                        .build());
-                }
-                final Batch batch = new BatchBuilder()
-                        .setBatchChoice(new FlatBatchAddMeterCaseBuilder()
-                                .setFlatBatchAddMeter(flatBatchAddMeterBag.build())
-                                .build())
-                        .setBatchOrder(Uint16.valueOf(order))
-                        .build();
-                order += itemOrder;
-                batchBag.add(batch);
-            }
-
-            if (!meterItemSyncBox.getItemsToUpdate().isEmpty()) {
-                final Builder<FlatBatchUpdateMeterKey, FlatBatchUpdateMeter> flatBatchUpdateMeterBag =
-                        BindingMap.orderedBuilder(meterItemSyncBox.getItemsToUpdate().size());
-                int itemOrder = 0;
-                for (ItemSyncBox.ItemUpdateTuple<Meter> meterUpdate : meterItemSyncBox.getItemsToUpdate()) {
-                    flatBatchUpdateMeterBag.add(new FlatBatchUpdateMeterBuilder()
-                            .setBatchOrder(Uint16.valueOf(itemOrder++))
-                            .setOriginalBatchedMeter(new OriginalBatchedMeterBuilder(meterUpdate.getOriginal()).build())
-                            .setUpdatedBatchedMeter(new UpdatedBatchedMeterBuilder(meterUpdate.getUpdated()).build())
-                            .build());
-                }
-                final Batch batch = new BatchBuilder()
-                        .setBatchChoice(new FlatBatchUpdateMeterCaseBuilder()
-                                .setFlatBatchUpdateMeter(flatBatchUpdateMeterBag.build())
-                                .build())
-                        .setBatchOrder(Uint16.valueOf(order))
-                        .build();
-                order += itemOrder;
-                batchBag.add(batch);
-            }
+            order = appendBatch(batchBag, order, meterItemSyncBox.getItemsToPush(),
+                SyncPlanPushStrategyFlatBatchImpl::createAddMeters);
+            order = appendBatch(batchBag, order, meterItemSyncBox.getItemsToUpdate(),
+                SyncPlanPushStrategyFlatBatchImpl::createUpdateMeters);
         }
         return order;
     }
@@ -397,23 +442,9 @@ public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
             final ItemSyncBox<Meter> meterItemSyncBox) {
         // process meter remove
         int order = batchOrder;
-        if (meterItemSyncBox != null && !meterItemSyncBox.getItemsToPush().isEmpty()) {
-            final Builder<FlatBatchRemoveMeterKey, FlatBatchRemoveMeter> flatBatchRemoveMeterBag =
-                BindingMap.orderedBuilder(meterItemSyncBox.getItemsToPush().size());
-            int itemOrder = 0;
-            for (Meter meter : meterItemSyncBox.getItemsToPush()) {
-                flatBatchRemoveMeterBag.add(new FlatBatchRemoveMeterBuilder(meter)
-                    .setBatchOrder(Uint16.valueOf(itemOrder++))
-                    .build());
-            }
-            final Batch batch = new BatchBuilder()
-                    .setBatchChoice(new FlatBatchRemoveMeterCaseBuilder()
-                            .setFlatBatchRemoveMeter(flatBatchRemoveMeterBag.build())
-                            .build())
-                    .setBatchOrder(Uint16.valueOf(order))
-                    .build();
-            order += itemOrder;
-            batchBag.add(batch);
+        if (meterItemSyncBox != null) {
+            order = appendBatch(batchBag, order, meterItemSyncBox.getItemsToPush(),
+                SyncPlanPushStrategyFlatBatchImpl::createRemoveMeters);
         }
         return order;
     }
@@ -424,52 +455,140 @@ public class SyncPlanPushStrategyFlatBatchImpl implements SyncPlanPushStrategy {
         // process flow add+update
         int order = batchOrder;
         if (flowItemSyncTableMap != null) {
-            for (Map.Entry<TableKey, ItemSyncBox<Flow>> syncBoxEntry : flowItemSyncTableMap.entrySet()) {
-                final ItemSyncBox<Flow> flowItemSyncBox = syncBoxEntry.getValue();
-
-                if (!flowItemSyncBox.getItemsToPush().isEmpty()) {
-                    final Builder<FlatBatchAddFlowKey, FlatBatchAddFlow> flatBatchAddFlowBag =
-                        BindingMap.orderedBuilder(flowItemSyncBox.getItemsToPush().size());
-                    int itemOrder = 0;
-                    for (Flow flow : flowItemSyncBox.getItemsToPush()) {
-                        flatBatchAddFlowBag.add(new FlatBatchAddFlowBuilder(flow)
-                                .setBatchOrder(Uint16.valueOf(itemOrder++))
-                                .setFlowId(flow.getId())
-                                .build());
-                    }
-                    final Batch batch = new BatchBuilder()
-                            .setBatchChoice(new FlatBatchAddFlowCaseBuilder()
-                                    .setFlatBatchAddFlow(flatBatchAddFlowBag.build())
-                                    .build())
-                            .setBatchOrder(Uint16.valueOf(order))
-                            .build();
-                    order += itemOrder;
-                    batchBag.add(batch);
-                }
-
-                if (!flowItemSyncBox.getItemsToUpdate().isEmpty()) {
-                    final Builder<FlatBatchUpdateFlowKey, FlatBatchUpdateFlow> flatBatchUpdateFlowBag =
-                        BindingMap.orderedBuilder(flowItemSyncBox.getItemsToUpdate().size());
-                    int itemOrder = 0;
-                    for (ItemSyncBox.ItemUpdateTuple<Flow> flowUpdate : flowItemSyncBox.getItemsToUpdate()) {
-                        flatBatchUpdateFlowBag.add(new FlatBatchUpdateFlowBuilder()
-                            .setBatchOrder(Uint16.valueOf(itemOrder++))
-                            .setFlowId(flowUpdate.getUpdated().getId())
-                            .setOriginalBatchedFlow(new OriginalBatchedFlowBuilder(flowUpdate.getOriginal()).build())
-                            .setUpdatedBatchedFlow(new UpdatedBatchedFlowBuilder(flowUpdate.getUpdated()).build())
-                            .build());
-                    }
-                    final Batch batch = new BatchBuilder()
-                            .setBatchChoice(new FlatBatchUpdateFlowCaseBuilder()
-                                    .setFlatBatchUpdateFlow(flatBatchUpdateFlowBag.build())
-                                    .build())
-                            .setBatchOrder(Uint16.valueOf(order))
-                            .build();
-                    order += itemOrder;
-                    batchBag.add(batch);
-                }
+            for (ItemSyncBox<Flow> flowItemSyncBox : flowItemSyncTableMap.values()) {
+                order = appendBatch(batchBag, order, flowItemSyncBox.getItemsToPush(),
+                    SyncPlanPushStrategyFlatBatchImpl::createAddFlows);
+                order = appendBatch(batchBag, order, flowItemSyncBox.getItemsToUpdate(),
+                    SyncPlanPushStrategyFlatBatchImpl::createUpdateFlows);
             }
         }
         return order;
     }
+
+    private static <T> int appendBatch(final List<Batch> batchBag, final int batchOrder, final Collection<T> items,
+            final Function<Collection<T>, BatchChoice> assembler) {
+        if (items.isEmpty()) {
+            return batchOrder;
+        }
+        batchBag.add(new BatchBuilder()
+                .setBatchChoice(assembler.apply(items))
+                .setBatchOrder(Uint16.valueOf(batchOrder))
+                .build());
+        return batchOrder + items.size();
+    }
+
+    private static BatchChoice createAddFlows(final Collection<Flow> flows) {
+        final Builder<FlatBatchAddFlowKey, FlatBatchAddFlow> flatBatchAddFlowBag =
+            BindingMap.orderedBuilder(flows.size());
+        int itemOrder = 0;
+        for (Flow flow : flows) {
+            flatBatchAddFlowBag.add(new FlatBatchAddFlowBuilder(flow)
+                    .setBatchOrder(Uint16.valueOf(itemOrder++))
+                    .setFlowId(flow.getId())
+                    .build());
+        }
+        return new FlatBatchAddFlowCaseBuilder().setFlatBatchAddFlow(flatBatchAddFlowBag.build()).build();
+    }
+
+    private static BatchChoice createUpdateFlows(final Collection<ItemSyncBox.ItemUpdateTuple<Flow>> flowUpdates) {
+        final Builder<FlatBatchUpdateFlowKey, FlatBatchUpdateFlow> flatBatchUpdateFlowBag =
+            BindingMap.orderedBuilder(flowUpdates.size());
+        int itemOrder = 0;
+        for (ItemSyncBox.ItemUpdateTuple<Flow> flowUpdate : flowUpdates) {
+            flatBatchUpdateFlowBag.add(new FlatBatchUpdateFlowBuilder()
+                .setBatchOrder(Uint16.valueOf(itemOrder++))
+                .setFlowId(flowUpdate.getUpdated().getId())
+                .setOriginalBatchedFlow(new OriginalBatchedFlowBuilder(flowUpdate.getOriginal()).build())
+                .setUpdatedBatchedFlow(new UpdatedBatchedFlowBuilder(flowUpdate.getUpdated()).build())
+                .build());
+        }
+        return new FlatBatchUpdateFlowCaseBuilder().setFlatBatchUpdateFlow(flatBatchUpdateFlowBag.build()).build();
+    }
+
+    private static BatchChoice createRemoveFlows(final Collection<Flow> flows) {
+        final Builder<FlatBatchRemoveFlowKey, FlatBatchRemoveFlow> flatBatchRemoveFlowBag =
+            BindingMap.orderedBuilder(flows.size());
+        int itemOrder = 0;
+        for (Flow flow : flows) {
+            flatBatchRemoveFlowBag.add(new FlatBatchRemoveFlowBuilder(flow)
+                    .setBatchOrder(Uint16.valueOf(itemOrder++))
+                    .setFlowId(flow.getId())
+                    .build());
+        }
+        return new FlatBatchRemoveFlowCaseBuilder().setFlatBatchRemoveFlow(flatBatchRemoveFlowBag.build()).build();
+    }
+
+    private static BatchChoice createAddGroups(final Collection<Group> groups) {
+        final Builder<FlatBatchAddGroupKey, FlatBatchAddGroup> flatBatchAddGroupBag =
+            BindingMap.orderedBuilder(groups.size());
+        int itemOrder = 0;
+        for (Group group : groups) {
+            flatBatchAddGroupBag.add(new FlatBatchAddGroupBuilder(group)
+                    .setBatchOrder(Uint16.valueOf(itemOrder++)).build());
+        }
+        return new FlatBatchAddGroupCaseBuilder().setFlatBatchAddGroup(flatBatchAddGroupBag.build()).build();
+    }
+
+    private static BatchChoice createUpdateGroups(final Collection<ItemSyncBox.ItemUpdateTuple<Group>> groupUpdates) {
+        final Builder<FlatBatchUpdateGroupKey, FlatBatchUpdateGroup> flatBatchUpdateGroupBag =
+            BindingMap.orderedBuilder(groupUpdates.size());
+        int itemOrder = 0;
+        for (ItemSyncBox.ItemUpdateTuple<Group> groupUpdate : groupUpdates) {
+            flatBatchUpdateGroupBag.add(new FlatBatchUpdateGroupBuilder()
+                .setBatchOrder(Uint16.valueOf(itemOrder++))
+                .setOriginalBatchedGroup(new OriginalBatchedGroupBuilder(groupUpdate.getOriginal()).build())
+                .setUpdatedBatchedGroup(new UpdatedBatchedGroupBuilder(groupUpdate.getUpdated()).build())
+                .build());
+        }
+        return new FlatBatchUpdateGroupCaseBuilder().setFlatBatchUpdateGroup(flatBatchUpdateGroupBag.build()).build();
+    }
+
+    private static BatchChoice createRemoveGroups(final Collection<Group> groups) {
+        final Builder<FlatBatchRemoveGroupKey, FlatBatchRemoveGroup> flatBatchRemoveGroupBag =
+            BindingMap.orderedBuilder(groups.size());
+        int itemOrder = 0;
+        for (Group group : groups) {
+            flatBatchRemoveGroupBag.add(new FlatBatchRemoveGroupBuilder(group)
+                    .setBatchOrder(Uint16.valueOf(itemOrder++)).build());
+        }
+        return new FlatBatchRemoveGroupCaseBuilder().setFlatBatchRemoveGroup(flatBatchRemoveGroupBag.build()).build();
+    }
+
+    private static BatchChoice createAddMeters(final Collection<Meter> meters) {
+        final Builder<FlatBatchAddMeterKey, FlatBatchAddMeter> flatBatchAddMeterBag =
+            BindingMap.orderedBuilder(meters.size());
+        int itemOrder = 0;
+        for (Meter meter : meters) {
+            flatBatchAddMeterBag.add(new FlatBatchAddMeterBuilder(meter)
+                .setBatchOrder(Uint16.valueOf(itemOrder++))
+                .build());
+        }
+        return new FlatBatchAddMeterCaseBuilder().setFlatBatchAddMeter(flatBatchAddMeterBag.build()).build();
+    }
+
+    private static BatchChoice createUpdateMeters(final Collection<ItemSyncBox.ItemUpdateTuple<Meter>> meterUpdates) {
+        final Builder<FlatBatchUpdateMeterKey, FlatBatchUpdateMeter> flatBatchUpdateMeterBag =
+                BindingMap.orderedBuilder(meterUpdates.size());
+        int itemOrder = 0;
+        for (ItemSyncBox.ItemUpdateTuple<Meter> meterUpdate : meterUpdates) {
+            flatBatchUpdateMeterBag.add(new FlatBatchUpdateMeterBuilder()
+                    .setBatchOrder(Uint16.valueOf(itemOrder++))
+                    .setOriginalBatchedMeter(new OriginalBatchedMeterBuilder(meterUpdate.getOriginal()).build())
+                    .setUpdatedBatchedMeter(new UpdatedBatchedMeterBuilder(meterUpdate.getUpdated()).build())
+                    .build());
+        }
+        return new FlatBatchUpdateMeterCaseBuilder().setFlatBatchUpdateMeter(flatBatchUpdateMeterBag.build()).build();
+    }
+
+    private static BatchChoice createRemoveMeters(final Collection<Meter> meters) {
+        final Builder<FlatBatchRemoveMeterKey, FlatBatchRemoveMeter> flatBatchRemoveMeterBag =
+            BindingMap.orderedBuilder(meters.size());
+        int itemOrder = 0;
+        for (Meter meter : meters) {
+            flatBatchRemoveMeterBag.add(new FlatBatchRemoveMeterBuilder(meter)
+                .setBatchOrder(Uint16.valueOf(itemOrder++))
+                .build());
+        }
+        return new FlatBatchRemoveMeterCaseBuilder().setFlatBatchRemoveMeter(flatBatchRemoveMeterBag.build()).build();
+    }
 }
@@ -17,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import org.opendaylight.openflowplugin.applications.frsync.SyncPlanPushStrategy;
 import org.opendaylight.openflowplugin.applications.frsync.util.CrudCounts;
 import org.opendaylight.openflowplugin.applications.frsync.util.FxChainUtil;
@@ -54,7 +55,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Execute CRUD API for flow + group + meter involving one-by-one (incremental) strategy.
+ * Execute CRUD API for flow + group + meter involving one-by-one (incremental) strategy. Flows are pushed and removed
+ * on the supplied executor, as their differences are resolved while pushing them.
  */
 public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy {
     private static final Logger LOG = LoggerFactory.getLogger(SyncPlanPushStrategyIncrementalImpl.class);
@@ -63,13 +65,15 @@ public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy
     private final MeterForwarder meterForwarder;
     private final GroupForwarder groupForwarder;
     private final SendBarrier sendBarrier;
+    private final Executor executor;
 
     public SyncPlanPushStrategyIncrementalImpl(final FlowForwarder flowForwarder, final MeterForwarder meterForwarder,
-            final GroupForwarder groupForwarder, final SendBarrier sendBarrier) {
+            final GroupForwarder groupForwarder, final SendBarrier sendBarrier, final Executor executor) {
         this.flowForwarder = requireNonNull(flowForwarder);
         this.meterForwarder = requireNonNull(meterForwarder);
         this.groupForwarder = requireNonNull(groupForwarder);
         this.sendBarrier = requireNonNull(sendBarrier);
+        this.executor = requireNonNull(executor);
     }
 
     @Override
@@ -94,13 +98,13 @@ public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy
             MoreExecutors.directExecutor());
         resultVehicle = Futures.transformAsync(resultVehicle,
             input -> addMissingFlows(nodeId, nodeIdent, diffInput.getFlowsToAddOrUpdate(), counters),
-            MoreExecutors.directExecutor());
+            executor);
         Futures.addCallback(resultVehicle, FxChainUtil.logResultCallback(nodeId, "addMissingFlows"),
             MoreExecutors.directExecutor());
 
         resultVehicle = Futures.transformAsync(resultVehicle,
             input -> removeRedundantFlows(nodeId, nodeIdent, diffInput.getFlowsToRemove(), counters),
-            MoreExecutors.directExecutor());
+            executor);
         Futures.addCallback(resultVehicle, FxChainUtil.logResultCallback(nodeId, "removeRedundantFlows"),
             MoreExecutors.directExecutor());
         resultVehicle = Futures.transformAsync(resultVehicle,
@@ -120,7 +124,9 @@ public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy
     ListenableFuture<RpcResult<Void>> addMissingFlows(final NodeId nodeId,
             final InstanceIdentifier<FlowCapableNode> nodeIdent,
             final Map<TableKey, ItemSyncBox<Flow>> flowsInTablesSyncBox, final SyncCrudCounters counters) {
-        if (flowsInTablesSyncBox.isEmpty()) {
+        // Differences may be resolved while iterating, hence they are iterated only once
+        final var tableIterator = flowsInTablesSyncBox.entrySet().iterator();
+        if (!tableIterator.hasNext()) {
             LOG.trace("no tables in config for node: {} -> SKIPPING", nodeId.getValue());
             return RpcResultBuilder.<Void>success().buildFuture();
         }
@@ -129,7 +135,8 @@ public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy
         final List<ListenableFuture<RpcResult<UpdateFlowOutput>>> allUpdateResults = new ArrayList<>();
         final CrudCounts flowCrudCounts = counters.getFlowCrudCounts();
 
-        for (Map.Entry<TableKey, ItemSyncBox<Flow>> flowsInTableBoxEntry : flowsInTablesSyncBox.entrySet()) {
+        while (tableIterator.hasNext()) {
+            final Map.Entry<TableKey, ItemSyncBox<Flow>> flowsInTableBoxEntry = tableIterator.next();
             final TableKey tableKey = flowsInTableBoxEntry.getKey();
             final ItemSyncBox<Flow> flowSyncBox = flowsInTableBoxEntry.getValue();
 
@@ -178,7 +185,9 @@ public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy
                                                            final InstanceIdentifier<FlowCapableNode> nodeIdent,
                                                            final Map<TableKey, ItemSyncBox<Flow>> removalPlan,
                                                            final SyncCrudCounters counters) {
-        if (removalPlan.isEmpty()) {
+        // Differences may be resolved while iterating, hence they are iterated only once
+        final var tableIterator = removalPlan.entrySet().iterator();
+        if (!tableIterator.hasNext()) {
             LOG.trace("no tables in operational for node: {} -> SKIPPING", nodeId.getValue());
             return RpcResultBuilder.<Void>success().buildFuture();
         }
@@ -186,7 +195,8 @@ public class SyncPlanPushStrategyIncrementalImpl implements SyncPlanPushStrategy
         final List<ListenableFuture<RpcResult<RemoveFlowOutput>>> allResults = new ArrayList<>();
         final CrudCounts flowCrudCounts = counters.getFlowCrudCounts();
 
-        for (final Map.Entry<TableKey, ItemSyncBox<Flow>> flowsPerTable : removalPlan.entrySet()) {
+        while (tableIterator.hasNext()) {
+            final Map.Entry<TableKey, ItemSyncBox<Flow>> flowsPerTable = tableIterator.next();
             final KeyedInstanceIdentifier<Table, TableKey> tableIdent =
                     nodeIdent.child(Table.class, flowsPerTable.getKey());
 
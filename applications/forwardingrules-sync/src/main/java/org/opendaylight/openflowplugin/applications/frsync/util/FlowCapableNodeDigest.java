@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frsync.util;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.meters.Meter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.Group;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Order independent digest of the flows in each table, the groups and the meters of a {@link FlowCapableNode}.
+ * Each item contributes the mixed hash of the content compared by {@link ReconcileUtil}, so items can be added and
+ * removed without hashing the rest of the node. A flow contributes its id, table id and instructions, groups and
+ * meters contribute their configuration but not their statistics. Tables without flows are not part of the digest.
+ *
+ * <p>
+ * Different digests always mean different content. Equal digests mean equal content with a very high probability.
+ *
+ * @param tables digest of flows in each table which has flows
+ * @param groups digest of all groups
+ * @param meters digest of all meters
+ */
+public record FlowCapableNodeDigest(@NonNull Map<Uint8, Long> tables, long groups, long meters) {
+    public static final @NonNull FlowCapableNodeDigest EMPTY = new FlowCapableNodeDigest(Map.of(), 0, 0);
+
+    public FlowCapableNodeDigest {
+        tables = Map.copyOf(tables);
+    }
+
+    /**
+     * Compute the digest of a node.
+     *
+     * @param node node, null for no node
+     * @return digest of the node
+     */
+    public static @NonNull FlowCapableNodeDigest of(final @Nullable FlowCapableNode node) {
+        if (node == null) {
+            return EMPTY;
+        }
+
+        final Map<Uint8, Long> tables = new HashMap<>();
+        for (final Table table : ReconcileUtil.safeTables(node)) {
+            putTable(tables, table.getId(), tableDigest(table));
+        }
+
+        long groups = 0;
+        for (final Group group : ReconcileUtil.safeGroups(node)) {
+            groups += groupDigest(group);
+        }
+        long meters = 0;
+        for (final Meter meter : ReconcileUtil.safeMeters(node)) {
+            meters += meterDigest(meter);
+        }
+        return new FlowCapableNodeDigest(tables, groups, meters);
+    }
+
+    /**
+     * Compute the digest of a node after a modification, hashing only the modified items if the digest before the
+     * modification is known.
+     *
+     * @param before digest of the node before the modification, null if not known
+     * @param modification modification of the node
+     * @return digest of the node after the modification
+     */
+    public static @NonNull FlowCapableNodeDigest update(final @Nullable FlowCapableNodeDigest before,
+            final @NonNull DataObjectModification<FlowCapableNode> modification) {
+        final FlowCapableNode dataAfter = modification.dataAfter();
+        if (dataAfter == null) {
+            return EMPTY;
+        }
+        if (before == null || modification.modificationType() != ModificationType.SUBTREE_MODIFIED) {
+            return of(dataAfter);
+        }
+
+        final Map<Uint8, Long> tables = new HashMap<>(before.tables);
+        long groups = before.groups;
+        long meters = before.meters;
+        for (final DataObjectModification<?> child : modification.modifiedChildren()) {
+            final Class<?> type = child.dataType();
+            if (Table.class.equals(type)) {
+                updateTable(tables, child);
+            } else if (Group.class.equals(type)) {
+                groups += groupDigest((Group) child.dataAfter()) - groupDigest((Group) child.dataBefore());
+            } else if (Meter.class.equals(type)) {
+                meters += meterDigest((Meter) child.dataAfter()) - meterDigest((Meter) child.dataBefore());
+            }
+        }
+        return new FlowCapableNodeDigest(tables, groups, meters);
+    }
+
+    /**
+     * Find the tables whose flows differ between this and another digest.
+     *
+     * @param other other digest
+     * @return ids of tables with different digests, including tables which have flows in one digest only
+     */
+    public @NonNull Set<Uint8> differingTables(final @NonNull FlowCapableNodeDigest other) {
+        final Set<Uint8> ret = new HashSet<>();
+        tables.forEach((id, digest) -> {
+            if (!digest.equals(other.tables.get(id))) {
+                ret.add(id);
+            }
+        });
+        other.tables.keySet().forEach(id -> {
+            if (!tables.containsKey(id)) {
+                ret.add(id);
+            }
+        });
+        return ret;
+    }
+
+    private static void updateTable(final Map<Uint8, Long> tables, final DataObjectModification<?> modification) {
+        final Table tableBefore = (Table) modification.dataBefore();
+        final Table tableAfter = (Table) modification.dataAfter();
+        final Uint8 tableId = tableAfter != null ? tableAfter.getId() : tableBefore.getId();
+
+        if (tableAfter == null) {
+            tables.remove(tableId);
+        } else if (modification.modificationType() != ModificationType.SUBTREE_MODIFIED) {
+            putTable(tables, tableId, tableDigest(tableAfter));
+        } else {
+            long digest = tables.getOrDefault(tableId, 0L);
+            for (final DataObjectModification<?> child : modification.modifiedChildren()) {
+                if (Flow.class.equals(child.dataType())) {
+                    digest += flowDigest((Flow) child.dataAfter()) - flowDigest((Flow) child.dataBefore());
+                }
+            }
+            putTable(tables, tableId, digest);
+        }
+    }
+
+    private static void putTable(final Map<Uint8, Long> tables, final Uint8 tableId, final long digest) {
+        if (digest != 0) {
+            tables.put(tableId, digest);
+        } else {
+            tables.remove(tableId);
+        }
+    }
+
+    private static long tableDigest(final Table table) {
+        long digest = 0;
+        for (final Flow flow : table.nonnullFlow().values()) {
+            digest += flowDigest(flow);
+        }
+        return digest;
+    }
+
+    private static long flowDigest(final @Nullable Flow flow) {
+        if (flow == null) {
+            return 0;
+        }
+        return mix((long) Objects.hashCode(flow.getId()) << 32
+            | Integer.toUnsignedLong(Objects.hash(flow.getTableId(), flow.getInstructions())));
+    }
+
+    private static long groupDigest(final @Nullable Group group) {
+        if (group == null) {
+            return 0;
+        }
+        return mix((long) Objects.hashCode(group.getGroupId()) << 32
+            | Integer.toUnsignedLong(Objects.hash(group.getGroupType(), group.getGroupName(), group.getBuckets(),
+                group.getContainerName(), group.getBarrier())));
+    }
+
+    private static long meterDigest(final @Nullable Meter meter) {
+        if (meter == null) {
+            return 0;
+        }
+        return mix((long) Objects.hashCode(meter.getMeterId()) << 32
+            | Integer.toUnsignedLong(Objects.hash(meter.getFlags(), meter.getMeterName(), meter.getMeterBandHeaders(),
+                meter.getContainerName(), meter.getBarrier())));
+    }
+
+    // Finalizer of SplitMix64, spreading the 32-bit hashes over the whole 64 bits before they are summed
+    private static long mix(final long value) {
+        long ret = value * 0x9E3779B97F4A7C15L;
+        ret = (ret ^ ret >>> 30) * 0xBF58476D1CE4E5B9L;
+        ret = (ret ^ ret >>> 27) * 0x94D049BB133111EBL;
+        return ret ^ ret >>> 31;
+    }
+}
@@ -306,29 +306,43 @@ public final class ReconcileUtil {
         LOG.trace("resolving flows in tables for {}", nodeId.getValue());
         final Map<TableKey, ItemSyncBox<Flow>> tableFlowSyncBoxes = new HashMap<>();
         for (final Table tableConfigured : tablesConfigured) {
-            final Collection<Flow> flowsConfigured = tableConfigured.nonnullFlow().values();
-            if (flowsConfigured.isEmpty()) {
-                continue;
-            }
-
-            // lookup table (on device)
-            final Table tableOperational = tableOperationalMap.get(tableConfigured.getId());
-            // wrap existing (on device) flows in current table into map
-            final Map<FlowDescriptor, Flow> flowOperationalMap = FlowCapableNodeLookups.wrapFlowsToMap(
-                    tableOperational != null
-                            ? tableOperational.nonnullFlow().values()
-                            : null);
-
-
-            final ItemSyncBox<Flow> flowsSyncBox = resolveFlowDiffsInTable(
-                    flowsConfigured, flowOperationalMap, gatherUpdates);
-            if (!flowsSyncBox.isEmpty()) {
+            final ItemSyncBox<Flow> flowsSyncBox = resolveTableFlowDiffs(tableConfigured, tableOperationalMap,
+                    gatherUpdates);
+            if (flowsSyncBox != null) {
                 tableFlowSyncBoxes.put(tableConfigured.key(), flowsSyncBox);
             }
         }
         return tableFlowSyncBoxes;
     }
 
+    /**
+     * Resolves flow differences in a single table.
+     *
+     * @param tableConfigured     flow-table configured for device
+     * @param tableOperationalMap flow-tables resent on device
+     * @param gatherUpdates       check content of pending item if present on device (and create update task eventually)
+     * @return {@link ItemSyncBox} of safe synchronization steps, null if there are none
+     */
+    static ItemSyncBox<Flow> resolveTableFlowDiffs(final Table tableConfigured,
+            final Map<Uint8, Table> tableOperationalMap, final boolean gatherUpdates) {
+        final Collection<Flow> flowsConfigured = tableConfigured.nonnullFlow().values();
+        if (flowsConfigured.isEmpty()) {
+            return null;
+        }
+
+        // lookup table (on device)
+        final Table tableOperational = tableOperationalMap.get(tableConfigured.getId());
+        // wrap existing (on device) flows in current table into map
+        final Map<FlowDescriptor, Flow> flowOperationalMap = FlowCapableNodeLookups.wrapFlowsToMap(
+                tableOperational != null
+                        ? tableOperational.nonnullFlow().values()
+                        : null);
+
+        final ItemSyncBox<Flow> flowsSyncBox = resolveFlowDiffsInTable(
+                flowsConfigured, flowOperationalMap, gatherUpdates);
+        return flowsSyncBox.isEmpty() ? null : flowsSyncBox;
+    }
+
     public static Collection<Group> safeGroups(final FlowCapableNode node) {
         return node == null ? List.of() : node.nonnullGroup().values();
     }
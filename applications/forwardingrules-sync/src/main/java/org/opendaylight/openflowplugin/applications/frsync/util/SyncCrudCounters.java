@@ -7,19 +7,25 @@
  */
 package org.opendaylight.openflowplugin.applications.frsync.util;
 
+import java.util.concurrent.TimeUnit;
+
 /**
- * One-shot (per sync) placeholder for counts of added/updated/removed flows/groups/meters.
+ * One-shot (per sync) placeholder for counts of added/updated/removed flows/groups/meters. Strategies pushing the
+ * changes in chunks update the counts as they go, so they also reflect the progress and throughput of the sync.
  */
 public class SyncCrudCounters {
 
     private final CrudCounts flowCrudCounts;
     private final CrudCounts groupCrudCounts;
     private final CrudCounts meterCrudCounts;
+    private final long startNanos;
+    private int chunks;
 
     public SyncCrudCounters() {
         flowCrudCounts = new CrudCounts();
         groupCrudCounts = new CrudCounts();
         meterCrudCounts = new CrudCounts();
+        startNanos = System.nanoTime();
     }
 
     public CrudCounts getFlowCrudCounts() {
@@ -34,6 +40,33 @@ public class SyncCrudCounters {
         return meterCrudCounts;
     }
 
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void incChunks() {
+        chunks++;
+    }
+
+    /**
+     * Return the number of flows, groups and meters added, updated and removed so far.
+     *
+     * @return total count
+     */
+    public int getTotalCount() {
+        return getTotalCount(flowCrudCounts) + getTotalCount(groupCrudCounts) + getTotalCount(meterCrudCounts);
+    }
+
+    /**
+     * Return the number of flows, groups and meters added, updated and removed per second since the sync started.
+     *
+     * @return throughput in items per second
+     */
+    public long getThroughput() {
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return elapsedMillis == 0 ? 0 : getTotalCount() * 1000L / elapsedMillis;
+    }
+
     public void resetAll() {
         getGroupCrudCounts().setUpdated(0);
         getGroupCrudCounts().setAdded(0);
@@ -47,4 +80,8 @@ public class SyncCrudCounters {
         getMeterCrudCounts().setAdded(0);
         getMeterCrudCounts().setRemoved(0);
     }
+
+    private static int getTotalCount(final CrudCounts counts) {
+        return counts.getAdded() + counts.getUpdated() + counts.getRemoved();
+    }
 }
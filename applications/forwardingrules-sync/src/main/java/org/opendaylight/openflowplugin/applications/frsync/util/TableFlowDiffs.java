@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frsync.util;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Flow differences of flow-tables, resolved one table at a time while iterating. Only the differences of the table
+ * being iterated are held in memory, so that large nodes can be synchronized table by table.
+ *
+ * <p>
+ * This map is meant to be iterated once. Differences are not retained, hence every iteration resolves them again and
+ * so does every {@link #size()}, {@link #get(Object)} and similar query, each of them iterating the tables. Even
+ * {@link #isEmpty()} resolves the differences of the tables up to the first one with differences. Consumers should use
+ * a single {@link #entrySet()} or {@link #values()} iterator, checking {@link Iterator#hasNext()} instead of
+ * {@link #isEmpty()}. Resolving differences of large tables is costly, so the iteration should not happen on
+ * a thread completing RPC results.
+ */
+public final class TableFlowDiffs extends AbstractMap<TableKey, ItemSyncBox<Flow>> {
+    private final Map<Uint8, Table> tableCounterpartMap;
+    private final Collection<Table> tables;
+    private final boolean gatherUpdates;
+
+    /**
+     * Create flow differences of flow-tables.
+     *
+     * @param tableCounterpartMap flow-tables the flows are compared against
+     * @param tables              flow-tables whose flows are to be pushed
+     * @param gatherUpdates       check content of pending item if present on device (and create update task eventually)
+     */
+    public TableFlowDiffs(final Map<Uint8, Table> tableCounterpartMap, final Collection<Table> tables,
+            final boolean gatherUpdates) {
+        this.tableCounterpartMap = requireNonNull(tableCounterpartMap);
+        this.tables = requireNonNull(tables);
+        this.gatherUpdates = gatherUpdates;
+    }
+
+    @Override
+    public Set<Entry<TableKey, ItemSyncBox<Flow>>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<TableKey, ItemSyncBox<Flow>>> iterator() {
+                final Iterator<Table> tableIterator = tables.iterator();
+                return new AbstractIterator<>() {
+                    @Override
+                    protected Entry<TableKey, ItemSyncBox<Flow>> computeNext() {
+                        while (tableIterator.hasNext()) {
+                            final Table table = tableIterator.next();
+                            final ItemSyncBox<Flow> flowsSyncBox = ReconcileUtil.resolveTableFlowDiffs(table,
+                                tableCounterpartMap, gatherUpdates);
+                            if (flowsSyncBox != null) {
+                                return new SimpleImmutableEntry<>(table.key(), flowsSyncBox);
+                            }
+                        }
+                        return endOfData();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return Iterators.size(iterator());
+            }
+        };
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // stop at the first table with differences
+        return !entrySet().iterator().hasNext();
+    }
+}
@@ -130,4 +130,35 @@ public class SyncReactorImplTest {
         Assert.assertEquals(0, diffInput.getMetersToAddOrUpdate().getItemsToUpdate().size());
         Assert.assertEquals(1, diffInput.getMetersToRemove().getItemsToPush().size());
     }
+
+    @Test
+    public void testSyncupInSync() throws Exception {
+        final FlowCapableNode configFcn = new FlowCapableNodeBuilder()
+                .setGroup(BindingMap.of(DSInputFactory.createGroup(Uint32.ONE)))
+                .setTable(BindingMap.of(new TableBuilder()
+                        .setId(Uint8.valueOf(42))
+                        .setFlow(BindingMap.of(DSInputFactory.createFlow("f1", 1), DSInputFactory.createFlow("f2", 2)))
+                        .build()))
+                .setMeter(BindingMap.of(DSInputFactory.createMeter(Uint32.ONE)))
+                .build();
+
+        final FlowCapableNode operationalFcn = new FlowCapableNodeBuilder()
+                .setGroup(BindingMap.of(DSInputFactory.createGroup(Uint32.ONE)))
+                .setTable(BindingMap.of(new TableBuilder()
+                        .setId(Uint8.valueOf(42))
+                        .setFlow(BindingMap.of(DSInputFactory.createFlow("f2", 2), DSInputFactory.createFlow("f1", 1)))
+                        .build(), new TableBuilder()
+                        .setId(Uint8.valueOf(43))
+                        .build()))
+                .setMeter(BindingMap.of(DSInputFactory.createMeter(Uint32.ONE)))
+                .build();
+
+        final SyncupEntry syncupEntry = new SyncupEntry(configFcn, LogicalDatastoreType.CONFIGURATION,
+                                                        operationalFcn, LogicalDatastoreType.OPERATIONAL);
+
+        final ListenableFuture<Boolean> syncupResult = reactor.syncup(NODE_IDENT, syncupEntry);
+        Assert.assertTrue(syncupResult.isDone());
+        Assert.assertTrue(syncupResult.get(2, TimeUnit.SECONDS));
+        Mockito.verifyNoInteractions(syncPlanPushStrategy);
+    }
 }
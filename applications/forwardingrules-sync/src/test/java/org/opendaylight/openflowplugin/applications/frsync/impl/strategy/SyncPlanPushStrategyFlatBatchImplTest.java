@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.applications.frsync.impl.strategy;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -111,7 +112,7 @@ public class SyncPlanPushStrategyFlatBatchImplTest {
 
     @Before
     public void setUp() {
-        syncPlanPushStrategy = new SyncPlanPushStrategyFlatBatchImpl(processFlatBatch);
+        syncPlanPushStrategy = new SyncPlanPushStrategyFlatBatchImpl(processFlatBatch, MoreExecutors.directExecutor());
 
         batchBag = new ArrayList<>();
     }
@@ -151,6 +152,66 @@ public class SyncPlanPushStrategyFlatBatchImplTest {
         Assert.assertEquals(3, counters.getMeterCrudCounts().getRemoved());
     }
 
+    @Test
+    public void testExecuteSyncStrategyInChunks() throws Exception {
+        final SynchronizationDiffInput diffInput = new SynchronizationDiffInput(NODE_IDENT,
+                groupsToAddOrUpdate, metersToAddOrUpdate, flowsToAddOrUpdate,
+                flowsToRemove, metersToRemove, groupsToRemove);
+
+        Mockito.when(processFlatBatch.invoke(ArgumentMatchers.any()))
+                .thenReturn(RpcResultBuilder.success(new ProcessFlatBatchOutputBuilder().build()).buildFuture());
+
+        final SyncCrudCounters counters = new SyncCrudCounters();
+        final ListenableFuture<RpcResult<Void>> rpcResult = new SyncPlanPushStrategyFlatBatchImpl(processFlatBatch,
+                MoreExecutors.directExecutor(), 4)
+                .executeSyncStrategy(RpcResultBuilder.<Void>success().buildFuture(), diffInput, counters);
+
+        // 39 items in chunks of 4
+        Mockito.verify(processFlatBatch, Mockito.times(10)).invoke(processFlatBatchInputCpt.capture());
+        Assert.assertEquals(10, counters.getChunks());
+
+        int totalItems = 0;
+        for (ProcessFlatBatchInput input : processFlatBatchInputCpt.getAllValues()) {
+            Assert.assertFalse(input.getExitOnFirstError());
+            int chunkItems = 0;
+            for (Batch batch : input.nonnullBatch().values()) {
+                Assert.assertEquals(chunkItems, batch.getBatchOrder().intValue());
+                chunkItems += countItems(batch);
+            }
+            Assert.assertTrue(chunkItems <= 4);
+            totalItems += chunkItems;
+        }
+        Assert.assertEquals(39, totalItems);
+        Assert.assertEquals(39, counters.getTotalCount());
+
+        Assert.assertTrue(rpcResult.isDone());
+        Assert.assertTrue(rpcResult.get().isSuccessful());
+
+        Assert.assertEquals(6, counters.getFlowCrudCounts().getAdded());
+        Assert.assertEquals(3, counters.getFlowCrudCounts().getUpdated());
+        Assert.assertEquals(6, counters.getFlowCrudCounts().getRemoved());
+
+        Assert.assertEquals(6, counters.getGroupCrudCounts().getAdded());
+        Assert.assertEquals(3, counters.getGroupCrudCounts().getUpdated());
+        Assert.assertEquals(6, counters.getGroupCrudCounts().getRemoved());
+
+        Assert.assertEquals(3, counters.getMeterCrudCounts().getAdded());
+        Assert.assertEquals(3, counters.getMeterCrudCounts().getUpdated());
+        Assert.assertEquals(3, counters.getMeterCrudCounts().getRemoved());
+    }
+
+    @Test
+    public void testExecuteSyncStrategyEmpty() throws Exception {
+        final SynchronizationDiffInput diffInput = new SynchronizationDiffInput(NODE_IDENT,
+                List.of(), new ItemSyncBox<>(), Map.of(), Map.of(), new ItemSyncBox<>(), List.of());
+
+        final ListenableFuture<RpcResult<Void>> rpcResult = syncPlanPushStrategy.executeSyncStrategy(
+                RpcResultBuilder.<Void>success().buildFuture(), diffInput, new SyncCrudCounters());
+
+        Mockito.verifyNoInteractions(processFlatBatch);
+        Assert.assertTrue(rpcResult.get().isSuccessful());
+    }
+
     @Test
     public void testAssembleRemoveFlows() {
         final int lastOrder = SyncPlanPushStrategyFlatBatchImpl.assembleRemoveFlows(batchBag, 0, flowsToRemove);
@@ -303,4 +364,28 @@ public class SyncPlanPushStrategyFlatBatchImplTest {
             idx++;
         }
     }
+
+    private static int countItems(final Batch batch) {
+        final var batchChoice = batch.getBatchChoice();
+        if (batchChoice instanceof FlatBatchAddFlowCase addFlows) {
+            return addFlows.nonnullFlatBatchAddFlow().size();
+        } else if (batchChoice instanceof FlatBatchUpdateFlowCase updateFlows) {
+            return updateFlows.nonnullFlatBatchUpdateFlow().size();
+        } else if (batchChoice instanceof FlatBatchRemoveFlowCase removeFlows) {
+            return removeFlows.nonnullFlatBatchRemoveFlow().size();
+        } else if (batchChoice instanceof FlatBatchAddGroupCase addGroups) {
+            return addGroups.nonnullFlatBatchAddGroup().size();
+        } else if (batchChoice instanceof FlatBatchUpdateGroupCase updateGroups) {
+            return updateGroups.nonnullFlatBatchUpdateGroup().size();
+        } else if (batchChoice instanceof FlatBatchRemoveGroupCase removeGroups) {
+            return removeGroups.nonnullFlatBatchRemoveGroup().size();
+        } else if (batchChoice instanceof FlatBatchAddMeterCase addMeters) {
+            return addMeters.nonnullFlatBatchAddMeter().size();
+        } else if (batchChoice instanceof FlatBatchUpdateMeterCase updateMeters) {
+            return updateMeters.nonnullFlatBatchUpdateMeter().size();
+        } else if (batchChoice instanceof FlatBatchRemoveMeterCase removeMeters) {
+            return removeMeters.nonnullFlatBatchRemoveMeter().size();
+        }
+        throw new IllegalArgumentException("Unexpected batch choice " + batchChoice);
+    }
 }
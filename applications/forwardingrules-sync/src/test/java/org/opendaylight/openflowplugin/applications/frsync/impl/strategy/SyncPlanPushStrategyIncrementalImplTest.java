@@ -9,6 +9,7 @@ package org.opendaylight.openflowplugin.applications.frsync.impl.strategy;
 
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -217,7 +218,7 @@ public class SyncPlanPushStrategyIncrementalImplTest {
                 ArgumentMatchers.any(), ArgumentMatchers.any());
 
         syncPlanPushStrategy = new SyncPlanPushStrategyIncrementalImpl(flowCommitter, meterCommitter, groupCommitter,
-            sendBarrier);
+            sendBarrier, MoreExecutors.directExecutor());
 
         counters = new SyncCrudCounters();
     }
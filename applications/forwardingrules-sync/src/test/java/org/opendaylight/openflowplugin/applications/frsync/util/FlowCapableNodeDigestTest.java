@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frsync.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.mockito.Mockito.doReturn;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.InstructionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.GoToTableCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.go.to.table._case.GoToTableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.groups.GroupBuilder;
+import org.opendaylight.yangtools.yang.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link FlowCapableNodeDigest}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class FlowCapableNodeDigestTest {
+    private static final Uint8 TABLE_1 = Uint8.ONE;
+    private static final Uint8 TABLE_2 = Uint8.TWO;
+
+    @Mock
+    private DataObjectModification<FlowCapableNode> nodeModification;
+    @Mock
+    private DataObjectModification<Table> tableModification;
+    @Mock
+    private DataObjectModification<Flow> flowModification;
+
+    @Test
+    public void testOf() {
+        final FlowCapableNodeDigest digest = FlowCapableNodeDigest.of(node(
+            table(TABLE_1, flow("f1", TABLE_1, 2), flow("f2", TABLE_1, 3)),
+            table(TABLE_2, flow("f3", TABLE_2, 4))));
+
+        assertEquals(digest, FlowCapableNodeDigest.of(node(
+            table(TABLE_2, flow("f3", TABLE_2, 4)),
+            table(TABLE_1, flow("f2", TABLE_1, 3), flow("f1", TABLE_1, 2)))));
+        assertEquals(Set.of(), digest.differingTables(digest));
+
+        final FlowCapableNodeDigest changed = FlowCapableNodeDigest.of(node(
+            table(TABLE_1, flow("f1", TABLE_1, 2), flow("f2", TABLE_1, 4)),
+            table(TABLE_2, flow("f3", TABLE_2, 4))));
+        assertNotEquals(digest, changed);
+        assertEquals(Set.of(TABLE_1), digest.differingTables(changed));
+    }
+
+    @Test
+    public void testEmptyTables() {
+        final FlowCapableNodeDigest digest = FlowCapableNodeDigest.of(node(table(TABLE_1), table(TABLE_2)));
+        assertEquals(FlowCapableNodeDigest.EMPTY, digest);
+        assertEquals(FlowCapableNodeDigest.EMPTY, FlowCapableNodeDigest.of(null));
+
+        final FlowCapableNodeDigest other = FlowCapableNodeDigest.of(node(table(TABLE_2, flow("f3", TABLE_2, 4))));
+        assertEquals(Set.of(TABLE_2), digest.differingTables(other));
+        assertEquals(Set.of(TABLE_2), other.differingTables(digest));
+    }
+
+    @Test
+    public void testGroups() {
+        final FlowCapableNode node = new FlowCapableNodeBuilder()
+            .setGroup(BindingMap.of(new GroupBuilder().setGroupId(new GroupId(Uint32.ONE)).build()))
+            .build();
+        final FlowCapableNode otherNode = new FlowCapableNodeBuilder()
+            .setGroup(BindingMap.of(new GroupBuilder().setGroupId(new GroupId(Uint32.TWO)).build()))
+            .build();
+
+        assertEquals(FlowCapableNodeDigest.of(node).tables(), FlowCapableNodeDigest.of(otherNode).tables());
+        assertNotEquals(FlowCapableNodeDigest.of(node).groups(), FlowCapableNodeDigest.of(otherNode).groups());
+    }
+
+    @Test
+    public void testUpdate() {
+        final Flow flowBefore = flow("f2", TABLE_1, 3);
+        final Flow flowAfter = flow("f2", TABLE_1, 5);
+        final Table tableBefore = table(TABLE_1, flow("f1", TABLE_1, 2), flowBefore);
+        final Table tableAfter = table(TABLE_1, flow("f1", TABLE_1, 2), flowAfter);
+        final Table otherTable = table(TABLE_2, flow("f3", TABLE_2, 4));
+        final FlowCapableNode nodeAfter = node(tableAfter, otherTable);
+
+        doReturn(nodeAfter).when(nodeModification).dataAfter();
+        doReturn(ModificationType.SUBTREE_MODIFIED).when(nodeModification).modificationType();
+        doReturn(List.of(tableModification)).when(nodeModification).modifiedChildren();
+        doReturn(Table.class).when(tableModification).dataType();
+        doReturn(tableBefore).when(tableModification).dataBefore();
+        doReturn(tableAfter).when(tableModification).dataAfter();
+        doReturn(ModificationType.SUBTREE_MODIFIED).when(tableModification).modificationType();
+        doReturn(List.of(flowModification)).when(tableModification).modifiedChildren();
+        doReturn(Flow.class).when(flowModification).dataType();
+        doReturn(flowBefore).when(flowModification).dataBefore();
+        doReturn(flowAfter).when(flowModification).dataAfter();
+
+        final FlowCapableNodeDigest updated = FlowCapableNodeDigest.update(
+            FlowCapableNodeDigest.of(node(tableBefore, otherTable)), nodeModification);
+        assertEquals(FlowCapableNodeDigest.of(nodeAfter), updated);
+    }
+
+    private static FlowCapableNode node(final Table... tables) {
+        return new FlowCapableNodeBuilder().setTable(BindingMap.of(List.of(tables))).build();
+    }
+
+    private static Table table(final Uint8 id, final Flow... flows) {
+        return new TableBuilder().setId(id).setFlow(BindingMap.of(List.of(flows))).build();
+    }
+
+    private static Flow flow(final String id, final Uint8 tableId, final int gotoTable) {
+        return new FlowBuilder()
+            .setId(new FlowId(id))
+            .setTableId(tableId)
+            .setPriority(Uint16.TEN)
+            .setInstructions(new InstructionsBuilder()
+                .setInstruction(BindingMap.of(new InstructionBuilder()
+                    .setOrder(0)
+                    .setInstruction(new GoToTableCaseBuilder()
+                        .setGoToTable(new GoToTableBuilder().setTableId(Uint8.valueOf(gotoTable)).build())
+                        .build())
+                    .build()))
+                .build())
+            .build();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.frsync.util;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Assert;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yangtools.yang.binding.util.BindingMap;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link TableFlowDiffs}.
+ */
+public class TableFlowDiffsTest {
+    private final List<Table> tablesConfigured = List.of(
+        table(Uint8.ZERO, flow(Uint8.ZERO, "f1")),
+        table(Uint8.ONE, flow(Uint8.ONE, "f2")),
+        table(Uint8.TWO));
+    private final Map<Uint8, Table> tablesOperational = Map.of(Uint8.ONE, table(Uint8.ONE, flow(Uint8.ONE, "f2")));
+
+    @Test
+    public void testResolveTableFlowDiffs() {
+        final TableFlowDiffs diffs = new TableFlowDiffs(tablesOperational, tablesConfigured, true);
+        Assert.assertFalse(diffs.isEmpty());
+        Assert.assertEquals(1, diffs.size());
+
+        final ItemSyncBox<Flow> flowSyncBox = diffs.get(new TableKey(Uint8.ZERO));
+        Assert.assertEquals(1, flowSyncBox.getItemsToPush().size());
+        Assert.assertEquals(new FlowId("f1"), flowSyncBox.getItemsToPush().iterator().next().getId());
+        Assert.assertTrue(flowSyncBox.getItemsToUpdate().isEmpty());
+        Assert.assertNull(diffs.get(new TableKey(Uint8.ONE)));
+    }
+
+    @Test
+    public void testResolveTableFlowDiffsInSync() {
+        final TableFlowDiffs diffs = new TableFlowDiffs(tablesOperational, List.copyOf(tablesOperational.values()),
+            true);
+        Assert.assertTrue(diffs.isEmpty());
+        Assert.assertEquals(0, diffs.size());
+    }
+
+    private static Table table(final Uint8 tableId, final Flow... flows) {
+        return new TableBuilder()
+            .setId(tableId)
+            .setFlow(BindingMap.of(flows))
+            .build();
+    }
+
+    private static Flow flow(final Uint8 tableId, final String flowId) {
+        return new FlowBuilder()
+            .setId(new FlowId(flowId))
+            .setTableId(tableId)
+            .setPriority(Uint16.valueOf(42))
+            .build();
+    }
+}
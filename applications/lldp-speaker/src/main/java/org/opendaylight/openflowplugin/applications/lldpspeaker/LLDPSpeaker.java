@@ -13,6 +13,8 @@ import static org.opendaylight.infrautils.utils.concurrent.LoggingFutures.addErr
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executors;
@@ -20,7 +22,7 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.mdsal.binding.api.RpcService;
 import org.opendaylight.openflowplugin.applications.deviceownershipservice.DeviceOwnershipService;
@@ -61,7 +63,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Objects of this class send LLDP frames over all flow-capable ports that can be discovered through inventory.
+ * Objects of this class send LLDP frames over all flow-capable ports that can be discovered through inventory. Frames
+ * are built once per port and kept grouped by node. Each flood period is split into {@link #FLOOD_SLOTS} ticks and
+ * each node is flooded on one of them, so that the frames of many nodes are spread over the whole period. Nodes are
+ * kept in a separate map for each slot, hence a tick visits only the nodes flooded on it. Ownership of a node is
+ * checked once per flood and the frames of all its ports are then sent back to back.
  */
 public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(LLDPSpeaker.class);
@@ -71,9 +77,21 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
         .build();
 
     private static final long LLDP_FLOOD_PERIOD = 5;
+    @VisibleForTesting
+    static final int FLOOD_SLOTS = 10;
 
-    private final ConcurrentMap<InstanceIdentifier<NodeConnector>, TransmitPacketInput> nodeConnectorMap =
-        new ConcurrentHashMap<>();
+    /**
+     * Frames to send through ports of a single node.
+     */
+    private record NodePorts(ConcurrentMap<InstanceIdentifier<NodeConnector>, TransmitPacketInput> packets) {
+        NodePorts() {
+            this(new ConcurrentHashMap<>());
+        }
+    }
+
+    // Nodes flooded on each slot
+    private final List<ConcurrentMap<NodeId, NodePorts>> slotNodes =
+        Stream.<ConcurrentMap<NodeId, NodePorts>>generate(ConcurrentHashMap::new).limit(FLOOD_SLOTS).toList();
     private final ScheduledExecutorService scheduledExecutorService;
     private final DeviceOwnershipService deviceOwnershipService;
     private final MacAddress addressDestination;
@@ -82,6 +100,8 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
 
     private long currentFloodPeriod = LLDP_FLOOD_PERIOD;
     private ScheduledFuture<?> scheduledSpeakerTask;
+    // Accessed only by the flood task
+    private int nextSlot;
 
     private volatile OperStatus operationalStatus = OperStatus.RUN;
 
@@ -100,8 +120,7 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
         this.addressDestination = addressDestination;
         transmitPacket = rpcService.getRpc(TransmitPacket.class);
 
-        scheduledSpeakerTask = scheduledExecutorService.scheduleAtFixedRate(this, LLDP_FLOOD_PERIOD, LLDP_FLOOD_PERIOD,
-            TimeUnit.SECONDS);
+        scheduledSpeakerTask = scheduleFlood(LLDP_FLOOD_PERIOD);
         registration = rpcProviderService.registerRpcImplementations(
             (GetLldpFloodInterval) this::getLldpFloodInterval,
             (GetOperationalStatus) this::getOperationalStatus,
@@ -118,7 +137,7 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
         registration.close();
         scheduledSpeakerTask.cancel(true);
         scheduledExecutorService.shutdown();
-        nodeConnectorMap.clear();
+        clearNodes();
         LOG.info("LLDPSpeaker stopped sending LLDP frames.");
     }
 
@@ -139,10 +158,18 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
         LOG.info("LLDP speaker operational status set to {}", newStatus);
         operationalStatus = newStatus;
         if (newStatus.equals(OperStatus.STANDBY)) {
-            nodeConnectorMap.clear();
+            clearNodes();
         }
     }
 
+    private void clearNodes() {
+        slotNodes.forEach(Map::clear);
+    }
+
+    private ConcurrentMap<NodeId, NodePorts> nodeMap(final NodeId nodeId) {
+        return slotNodes.get(Math.floorMod(nodeId.hashCode(), FLOOD_SLOTS));
+    }
+
     private ListenableFuture<RpcResult<GetOperationalStatusOutput>> getOperationalStatus(
             final GetOperationalStatusInput input) {
         return RpcResultBuilder.<GetOperationalStatusOutput>success()
@@ -157,34 +184,56 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
         final long time = input.requireInterval();
         currentFloodPeriod = time;
         scheduledSpeakerTask.cancel(false);
-        scheduledSpeakerTask = scheduledExecutorService.scheduleAtFixedRate(this, time, time, TimeUnit.SECONDS);
+        scheduledSpeakerTask = scheduleFlood(time);
         LOG.info("LLDPSpeaker restarted, it will send LLDP frames each {} seconds", time);
         return RpcResultBuilder.<SetLldpFloodIntervalOutput>success().buildFuture();
     }
 
+    private ScheduledFuture<?> scheduleFlood(final long period) {
+        final long tick = Math.max(1, TimeUnit.SECONDS.toMillis(period) / FLOOD_SLOTS);
+        return scheduledExecutorService.scheduleAtFixedRate(this::floodNextSlot, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    private void floodNextSlot() {
+        floodSlot(nextSlot);
+        nextSlot = (nextSlot + 1) % FLOOD_SLOTS;
+    }
+
     /**
      * Send LLDPDU frames to all known openflow switch ports.
      */
     @Override
     public void run() {
-        if (OperStatus.RUN.equals(operationalStatus)) {
-            LOG.debug("Sending LLDP frames to total {} ports", getOwnedPorts());
-            nodeConnectorMap.keySet().forEach(ncIID -> {
-                final var nodeConnectorId = InstanceIdentifier.keyOf(ncIID).getId();
-                final var nodeId = ncIID.firstKeyOf(Node.class).getId();
-                if (deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
-                    LOG.debug("Node is owned by this controller, sending LLDP packet through port {}",
-                            nodeConnectorId.getValue());
-                    addErrorLogging(transmitPacket.invoke(nodeConnectorMap.get(ncIID)), LOG,
-                            "transmitPacket() failed");
-                } else {
-                    LOG.debug("Node {} is not owned by this controller, so skip sending LLDP packet on port {}",
-                            nodeId.getValue(), nodeConnectorId.getValue());
-                }
-            });
+        for (int slot = 0; slot < FLOOD_SLOTS; slot++) {
+            floodSlot(slot);
         }
     }
 
+    private void floodSlot(final int slot) {
+        if (!OperStatus.RUN.equals(operationalStatus)) {
+            return;
+        }
+
+        int sentPorts = 0;
+        for (final var entry : slotNodes.get(slot).entrySet()) {
+            final var ports = entry.getValue();
+            final var nodeId = entry.getKey();
+            if (!deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
+                LOG.debug("Node {} is not owned by this controller, so skip sending LLDP packets on its {} ports",
+                    nodeId.getValue(), ports.packets().size());
+                continue;
+            }
+
+            LOG.debug("Node {} is owned by this controller, sending LLDP packets through {} ports", nodeId.getValue(),
+                ports.packets().size());
+            for (final var packet : ports.packets().values()) {
+                addErrorLogging(transmitPacket.invoke(packet), LOG, "transmitPacket() failed");
+                sentPorts++;
+            }
+        }
+        LOG.trace("Sent LLDP frames to {} ports in flood slot {}", sentPorts, slot);
+    }
+
     @Override
     public void nodeConnectorAdded(final InstanceIdentifier<NodeConnector> nodeConnectorInstanceId,
             final FlowCapableNodeConnector flowConnector) {
@@ -193,14 +242,15 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
         // nodeConnectorAdded can be called even if we already sending LLDP
         // frames to
         // port, so first we check if we actually need to perform any action
-        if (nodeConnectorMap.containsKey(nodeConnectorInstanceId)) {
-            LOG.debug("Port {} already in LLDPSpeaker.nodeConnectorMap, no need for additional processing",
+        InstanceIdentifier<Node> nodeInstanceId = nodeConnectorInstanceId.firstIdentifierOf(Node.class);
+        NodeId nodeId = InstanceIdentifier.keyOf(nodeInstanceId).getId();
+        final var knownPorts = nodeMap(nodeId).get(nodeId);
+        if (knownPorts != null && knownPorts.packets().containsKey(nodeConnectorInstanceId)) {
+            LOG.debug("Port {} already in LLDPSpeaker.nodeMap, no need for additional processing",
                     nodeConnectorId.getValue());
             return;
         }
         // Prepare to build LLDP payload
-        InstanceIdentifier<Node> nodeInstanceId = nodeConnectorInstanceId.firstIdentifierOf(Node.class);
-        NodeId nodeId = InstanceIdentifier.keyOf(nodeInstanceId).getId();
         if (!deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
             LOG.debug("Node {} is not owned by this controller, so skip sending LLDP packet on port {}",
                     nodeId.getValue(), nodeConnectorId.getValue());
@@ -229,9 +279,14 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
             return;
         }
 
-        // Save packet to node connector id -> packet map to transmit it periodically on the configured interval.
-        nodeConnectorMap.put(nodeConnectorInstanceId, packet);
-        LOG.debug("Port {} added to LLDPSpeaker.nodeConnectorMap", nodeConnectorId.getValue());
+        // Save packet to node connector id -> packet map of the node to transmit it periodically on the configured
+        // interval.
+        nodeMap(nodeId).compute(nodeId, (key, ports) -> {
+            final var ret = ports != null ? ports : new NodePorts();
+            ret.packets().put(nodeConnectorInstanceId, packet);
+            return ret;
+        });
+        LOG.debug("Port {} added to LLDPSpeaker.nodeMap", nodeConnectorId.getValue());
 
         // Transmit packet for first time immediately
         addErrorLogging(transmitPacket.invoke(packet), LOG, "transmitPacket");
@@ -239,19 +294,12 @@ public final class LLDPSpeaker implements NodeConnectorEventsObserver, Runnable,
 
     @Override
     public void nodeConnectorRemoved(final InstanceIdentifier<NodeConnector> nodeConnectorInstanceId) {
-        nodeConnectorMap.remove(requireNonNull(nodeConnectorInstanceId));
+        final NodeId nodeId = requireNonNull(nodeConnectorInstanceId).firstKeyOf(Node.class).getId();
+        nodeMap(nodeId).computeIfPresent(nodeId, (key, ports) -> {
+            ports.packets().remove(nodeConnectorInstanceId);
+            return ports.packets().isEmpty() ? null : ports;
+        });
         NodeConnectorId nodeConnectorId = InstanceIdentifier.keyOf(nodeConnectorInstanceId).getId();
         LOG.trace("Port removed from node-connector map : {}", nodeConnectorId.getValue());
     }
-
-    private int getOwnedPorts() {
-        AtomicInteger ownedPorts = new AtomicInteger();
-        nodeConnectorMap.keySet().forEach(ncIID -> {
-            NodeId nodeId = ncIID.firstKeyOf(Node.class).getId();
-            if (deviceOwnershipService.isEntityOwned(nodeId.getValue())) {
-                ownedPorts.incrementAndGet();
-            }
-        });
-        return ownedPorts.get();
-    }
 }
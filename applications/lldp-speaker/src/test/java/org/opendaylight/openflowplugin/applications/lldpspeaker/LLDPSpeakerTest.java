@@ -10,6 +10,7 @@ package org.opendaylight.openflowplugin.applications.lldpspeaker;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -24,6 +25,7 @@ import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
@@ -183,4 +185,23 @@ public class LLDPSpeakerTest {
         // Verify that nothing happened for local port
         verify(transmitPacket, never()).invoke(any(TransmitPacketInput.class));
     }
+
+    /**
+     * Test that the flood period is split into slots and every port is flooded once per period.
+     */
+    @Test
+    public void testFloodSlots() {
+        final ArgumentCaptor<Runnable> floodTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduledExecutorService).scheduleAtFixedRate(floodTask.capture(), eq(500L), eq(500L),
+            eq(TimeUnit.MILLISECONDS));
+
+        lldpSpeaker.nodeConnectorAdded(ID, FLOW_CAPABLE_NODE_CONNECTOR);
+        for (int i = 0; i < LLDPSpeaker.FLOOD_SLOTS; i++) {
+            floodTask.getValue().run();
+        }
+
+        // Once when added and once during the flood period
+        verify(transmitPacket, times(2)).invoke(packetInput);
+        verifyNoMoreInteractions(transmitPacket);
+    }
 }
@@ -50,6 +50,7 @@ public final class GetReconciliationStateCommand implements Action {
     }
 
     private static String getHeaderOutput() {
-        return String.format("%-17s %-25s %-25s", "DatapathId", "Reconciliation Status", "Reconciliation Time");
+        return String.format("%-17s %-25s %-25s %s", "DatapathId", "Reconciliation Status", "Reconciliation Time",
+            "Reconciliation Rate");
     }
 }
\ No newline at end of file
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.topology.lldp;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.lock.qual.Holding;
+
+/**
+ * Timing wheel of keys which expire a fixed timeout after they were last refreshed. Each slot of the wheel holds the
+ * keys expiring within one tick in a doubly linked list, so a refresh moves a key to another slot in constant time and
+ * expiring keys visits only the slots which passed, the current one and the keys in them. Since every key expires
+ * within one timeout, a single wheel covering the timeout is sufficient. Times are {@link System#nanoTime()} values.
+ *
+ * @param <K> key type
+ */
+final class ExpiryWheel<K> {
+    private static final class Entry<K> {
+        final K key;
+        long expiresAt;
+        Entry<K> prev;
+        Entry<K> next;
+
+        Entry(final K key) {
+            this.key = key;
+            prev = this;
+            next = this;
+        }
+
+        void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+
+        void linkBefore(final Entry<K> head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+    }
+
+    @GuardedBy("this")
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    @GuardedBy("this")
+    private final Entry<K>[] slots;
+    private final long tickNanos;
+    private final long timeoutNanos;
+
+    @GuardedBy("this")
+    private long expiredTick;
+
+    @SuppressWarnings("unchecked")
+    ExpiryWheel(final long tickNanos, final long timeoutNanos, final long now) {
+        checkArgument(tickNanos > 0, "Invalid tick %s", tickNanos);
+        checkArgument(timeoutNanos >= 0, "Invalid timeout %s", timeoutNanos);
+        this.tickNanos = tickNanos;
+        this.timeoutNanos = timeoutNanos;
+
+        // Keys refreshed now expire in the current tick plus up to timeout / tick ticks
+        slots = new Entry[(int) (timeoutNanos / tickNanos) + 2];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Entry<>(null);
+        }
+        expiredTick = tick(now) - 1;
+    }
+
+    /**
+     * Add a key or refresh its expiry time.
+     *
+     * @param key key
+     * @param now current time
+     */
+    synchronized void refresh(final K key, final long now) {
+        final Entry<K> entry = entries.computeIfAbsent(requireNonNull(key), Entry::new);
+        entry.unlink();
+        entry.expiresAt = now + timeoutNanos;
+        entry.linkBefore(slot(tick(entry.expiresAt)));
+    }
+
+    synchronized boolean contains(final K key) {
+        return entries.containsKey(key);
+    }
+
+    synchronized void remove(final K key) {
+        final Entry<K> entry = entries.remove(key);
+        if (entry != null) {
+            entry.unlink();
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    synchronized void clear() {
+        entries.values().forEach(Entry::unlink);
+        entries.clear();
+    }
+
+    /**
+     * Remove keys which expired since the last invocation.
+     *
+     * @param now current time
+     * @return expired keys
+     */
+    synchronized List<K> expire(final long now) {
+        final long currentTick = tick(now);
+        final List<K> ret = new ArrayList<>();
+        // After a long pause all slots have passed, but each of them needs to be visited only once. The current slot
+        // is visited as well, keys in it which expire later in this tick are left for the next invocation.
+        for (long tick = Math.max(expiredTick + 1, currentTick - slots.length + 1); tick <= currentTick; tick++) {
+            expireSlot(slot(tick), now, ret);
+        }
+        expiredTick = Math.max(expiredTick, currentTick - 1);
+        return ret;
+    }
+
+    @Holding("this")
+    private void expireSlot(final Entry<K> head, final long now, final List<K> expired) {
+        Entry<K> entry = head.next;
+        while (entry != head) {
+            final Entry<K> next = entry.next;
+            // Entries of a later turn of the wheel stay in the slot
+            if (entry.expiresAt - now < 0) {
+                entry.unlink();
+                entries.remove(entry.key);
+                expired.add(entry.key);
+            }
+            entry = next;
+        }
+    }
+
+    private long tick(final long time) {
+        return Math.floorDiv(time, tickNanos);
+    }
+
+    @Holding("this")
+    private Entry<K> slot(final long tick) {
+        return slots[(int) Math.floorMod(tick, (long) slots.length)];
+    }
+}
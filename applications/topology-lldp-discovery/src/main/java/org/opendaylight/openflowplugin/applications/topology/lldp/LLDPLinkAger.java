@@ -8,13 +8,10 @@
 package org.opendaylight.openflowplugin.applications.topology.lldp;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.util.Date;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.Timer;
 import java.util.TimerTask;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.PreDestroy;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -54,8 +51,7 @@ public final class LLDPLinkAger implements ConfigurationListener, DataTreeChange
             .child(Topology.class, new TopologyKey(new TopologyId(TOPOLOGY_ID))).child(Link.class);
 
     private final long linkExpirationTime;
-    // FIXME: use Instant instead of Date
-    private final ConcurrentMap<LinkDiscovered, Date> linkToDate = new ConcurrentHashMap<>();
+    private final ExpiryWheel<LinkDiscovered> linkToDate;
     private final Timer timer = new Timer();
     private final NotificationPublishService notificationService;
     private final AutoCloseable configurationServiceRegistration;
@@ -73,6 +69,9 @@ public final class LLDPLinkAger implements ConfigurationListener, DataTreeChange
                         final EntityOwnershipService entityOwnershipService,
                         final DataBroker dataBroker) {
         linkExpirationTime = topologyLldpDiscoveryConfig.getTopologyLldpExpirationInterval().getValue().toJava();
+        final long lldpInterval = topologyLldpDiscoveryConfig.getTopologyLldpInterval().getValue().toJava();
+        linkToDate = new ExpiryWheel<>(TimeUnit.MILLISECONDS.toNanos(lldpInterval),
+            TimeUnit.MILLISECONDS.toNanos(linkExpirationTime), System.nanoTime());
         this.notificationService = notificationService;
         configurationServiceRegistration = configurationService.registerListener(this);
         eos = entityOwnershipService;
@@ -84,14 +83,11 @@ public final class LLDPLinkAger implements ConfigurationListener, DataTreeChange
             LOG.error("DataTreeChangeListeners registration failed:", e);
             throw new IllegalStateException("LLDPLinkAger startup failed!", e);
         }
-        timer.schedule(new LLDPAgingTask(), 0,
-            topologyLldpDiscoveryConfig.getTopologyLldpInterval().getValue().toJava());
+        timer.schedule(new LLDPAgingTask(), 0, lldpInterval);
     }
 
     public void put(final LinkDiscovered link) {
-        Date expires = new Date();
-        expires.setTime(expires.getTime() + linkExpirationTime);
-        linkToDate.put(link, expires);
+        linkToDate.refresh(link, System.nanoTime());
     }
 
     @Override
@@ -148,7 +144,7 @@ public final class LLDPLinkAger implements ConfigurationListener, DataTreeChange
     }
 
     protected boolean isLinkPresent(final LinkDiscovered linkDiscovered) {
-        return linkToDate.containsKey(linkDiscovered);
+        return linkToDate.contains(linkDiscovered);
     }
 
     private void processLinkDeleted(final DataObjectModification<Link> rootNode) {
@@ -161,30 +157,27 @@ public final class LLDPLinkAger implements ConfigurationListener, DataTreeChange
     private final class LLDPAgingTask extends TimerTask {
         @Override
         public void run() {
-            for (Entry<LinkDiscovered, Date> entry : linkToDate.entrySet()) {
-                LinkDiscovered link = entry.getKey();
-                Date expires = entry.getValue();
-                Date now = new Date();
-                if (now.after(expires)) {
-                    if (notificationService != null) {
-                        LinkRemovedBuilder lrb = new LinkRemovedBuilder(link);
-                        NodeKey nodeKey = link.getDestination().getValue().firstKeyOf(Node.class);
-                        LOG.info("No update received for link {} from last {} milliseconds. Removing link from cache.",
-                                link, linkExpirationTime);
-                        linkToDate.remove(link);
-                        if (nodeKey != null && LLDPDiscoveryUtils.isEntityOwned(eos, nodeKey.getId().getValue())) {
-                            LOG.info("Publish Link Remove event for the link {}", link);
-                            final LinkRemoved lr = lrb.build();
-                            try {
-                                notificationService.putNotification(lr);
-                            } catch (InterruptedException e) {
-                                LOG.warn("Interrupted while publishing notification {}", lr, e);
-                            }
-                        } else {
-                            LOG.trace("Skip publishing Link Remove event for the link {} because link destination "
-                                    + "node is not owned by the controller", link);
-                        }
+            final List<LinkDiscovered> expired = linkToDate.expire(System.nanoTime());
+            if (expired.isEmpty() || notificationService == null) {
+                return;
+            }
+
+            LOG.info("No update received for {} links from last {} milliseconds. Removing links from cache.",
+                expired.size(), linkExpirationTime);
+            for (LinkDiscovered link : expired) {
+                LOG.debug("Removed link {} from cache", link);
+                NodeKey nodeKey = link.getDestination().getValue().firstKeyOf(Node.class);
+                if (nodeKey != null && LLDPDiscoveryUtils.isEntityOwned(eos, nodeKey.getId().getValue())) {
+                    LOG.info("Publish Link Remove event for the link {}", link);
+                    final LinkRemoved lr = new LinkRemovedBuilder(link).build();
+                    try {
+                        notificationService.putNotification(lr);
+                    } catch (InterruptedException e) {
+                        LOG.warn("Interrupted while publishing notification {}", lr, e);
                     }
+                } else {
+                    LOG.trace("Skip publishing Link Remove event for the link {} because link destination "
+                            + "node is not owned by the controller", link);
                 }
             }
         }
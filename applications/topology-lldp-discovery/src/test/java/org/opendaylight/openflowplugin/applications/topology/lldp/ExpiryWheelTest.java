@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.applications.topology.lldp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+/**
+ * Test for {@link ExpiryWheel}.
+ */
+public class ExpiryWheelTest {
+    private static final long TICK = 5;
+    private static final long TIMEOUT = 12;
+
+    private final ExpiryWheel<String> wheel = new ExpiryWheel<>(TICK, TIMEOUT, 0);
+
+    @Test
+    public void testExpire() {
+        wheel.refresh("a", 0);
+        wheel.refresh("b", 2);
+        assertTrue(wheel.contains("a"));
+
+        // "a" expires at 12, "b" at 14, both in tick 2
+        assertEquals(List.of(), wheel.expire(11));
+        assertEquals(List.of("a"), wheel.expire(13));
+        assertEquals(List.of("b"), wheel.expire(15));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void testRefresh() {
+        wheel.refresh("a", 0);
+        wheel.refresh("a", 9);
+        assertEquals(List.of(), wheel.expire(15));
+        assertTrue(wheel.contains("a"));
+        assertEquals(List.of("a"), wheel.expire(25));
+        assertFalse(wheel.contains("a"));
+    }
+
+    @Test
+    public void testRemove() {
+        wheel.refresh("a", 0);
+        wheel.remove("a");
+        assertFalse(wheel.contains("a"));
+        assertEquals(List.of(), wheel.expire(100));
+    }
+
+    /**
+     * Keys of a later turn of the wheel are not expired when the expiry falls behind.
+     */
+    @Test
+    public void testLateExpire() {
+        wheel.refresh("a", 0);
+        wheel.refresh("b", 30);
+        assertEquals(List.of("a"), wheel.expire(40));
+        assertEquals(List.of(), wheel.expire(41));
+        assertEquals(List.of("b"), wheel.expire(43));
+    }
+
+    @Test
+    public void testClear() {
+        IntStream.range(0, 100).forEach(i -> wheel.refresh("k" + i, i));
+        wheel.clear();
+        assertTrue(wheel.isEmpty());
+        assertEquals(List.of(), wheel.expire(1000));
+
+        wheel.refresh("a", 1000);
+        assertEquals(List.of("a"), wheel.expire(1020));
+    }
+}
@@ -118,6 +118,17 @@ public interface ConnectionAdapter {
 
         void onPacketIn(PacketInMessage packetIn);
 
+        /**
+         * Invoked for PACKET_IN messages when lazy decoding is enabled via
+         * {@link ConnectionConfiguration#isLazyPacketInEnabled()}. The default implementation decodes the message
+         * fully and passes it to {@link #onPacketIn(PacketInMessage)}.
+         *
+         * @param packetIn received message, released once this method returns
+         */
+        default void onLazyPacketIn(final LazyPacketIn packetIn) {
+            onPacketIn(packetIn.toPacketInMessage());
+        }
+
         void onFlowRemoved(FlowRemovedMessage flowRemoved);
 
         void onPortStatus(PortStatusMessage portStatus);
@@ -86,4 +86,31 @@ public interface ConnectionConfiguration {
      * @return Configurable queue size
      */
     int getChannelOutboundQueueSize();
+
+    /**
+     * Checks if PACKET_IN messages should be delivered as {@link LazyPacketIn}s.
+     *
+     * @return true if lazy PACKET_IN decoding is enabled
+     */
+    default boolean isLazyPacketInEnabled() {
+        return false;
+    }
+
+    /**
+     * Checks if messages received in a single read should be decoded in one pass and delivered as a batch.
+     *
+     * @return true if batched decoding is enabled
+     */
+    default boolean isBatchedDecodingEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the policy for flushing messages written to the switch.
+     *
+     * @return flush policy
+     */
+    default FlushPolicy getFlushPolicy() {
+        return FlushPolicy.IMMEDIATE;
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Policy governing when messages written to a switch connection are flushed to the socket. Unless the policy is
+ * {@link #IMMEDIATE}, written messages are held back until either {@code maxMessages} messages or {@code maxBytes}
+ * bytes are pending, or until {@code maxDelayMicros} microseconds have passed since the first of them was written.
+ * Message and byte limits only apply to coalesced writes, hence they require a non-zero {@code maxDelayMicros}.
+ *
+ * @param maxMessages maximum number of pending messages, 0 if unlimited
+ * @param maxBytes maximum number of pending bytes, 0 if unlimited
+ * @param maxDelayMicros maximum time a message may stay pending, in microseconds, 0 to flush immediately
+ */
+public record FlushPolicy(int maxMessages, int maxBytes, long maxDelayMicros) {
+    /**
+     * Policy flushing every write immediately.
+     */
+    public static final FlushPolicy IMMEDIATE = new FlushPolicy(0, 0, 0);
+
+    public FlushPolicy {
+        checkArgument(maxMessages >= 0, "Invalid maximum message count %s", maxMessages);
+        checkArgument(maxBytes >= 0, "Invalid maximum byte count %s", maxBytes);
+        checkArgument(maxDelayMicros >= 0, "Invalid maximum delay %s", maxDelayMicros);
+        checkArgument(maxDelayMicros > 0 || maxMessages == 0 && maxBytes == 0,
+            "Maximum message count %s and byte count %s require a non-zero maximum delay", maxMessages, maxBytes);
+    }
+
+    /**
+     * Checks if this policy flushes every write immediately.
+     *
+     * @return true if writes are not coalesced
+     */
+    public boolean isImmediate() {
+        return maxDelayMicros == 0;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.api.connection;
+
+import com.google.common.annotations.Beta;
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCounted;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * A PACKET_IN message backed by a retained slice of the frame it was received in. Fixed header fields are read
+ * directly from the frame, the match and the payload are decoded only when asked for.
+ *
+ * <p>
+ * Instances are only valid until released. The library releases them once
+ * {@link ConnectionAdapter.MessageListener#onLazyPacketIn(LazyPacketIn)} returns, hence listeners which need to hold
+ * on to an instance need to {@link #retain()} it and release it when they are done.
+ */
+@Beta
+public interface LazyPacketIn extends ReferenceCounted {
+    /**
+     * Returns the OpenFlow version of this message.
+     *
+     * @return OpenFlow version
+     */
+    @NonNull Uint8 getVersion();
+
+    /**
+     * Returns the transaction id of this message.
+     *
+     * @return transaction id
+     */
+    @NonNull Uint32 getXid();
+
+    /**
+     * Returns the id of the buffer holding the packet on the switch.
+     *
+     * @return buffer id
+     */
+    @NonNull Uint32 getBufferId();
+
+    /**
+     * Returns the full length of the packet, which may be more than the length of {@link #getPayload()}.
+     *
+     * @return total length of the packet
+     */
+    @NonNull Uint16 getTotalLen();
+
+    /**
+     * Returns the reason this packet has been sent to the controller.
+     *
+     * @return reason, or {@code null} if the switch sent an unknown value
+     */
+    @Nullable PacketInReason getReason();
+
+    /**
+     * Returns the id of the table the packet was looked up in. Not present in OpenFlow 1.0.
+     *
+     * @return table id, or {@code null}
+     */
+    @Nullable Uint8 getTableId();
+
+    /**
+     * Returns the cookie of the flow entry which sent the packet to the controller. Not present in OpenFlow 1.0.
+     *
+     * @return cookie, or {@code null}
+     */
+    @Nullable Uint64 getCookie();
+
+    /**
+     * Returns the ethertype of the packet, looking past a single 802.1Q/802.1ad tag.
+     *
+     * @return ethertype, or {@code -1} if the payload is too short to contain one
+     */
+    int getEthertype();
+
+    /**
+     * Returns the packet payload. The returned buffer is not retained and shares its content with this message.
+     *
+     * @return payload view
+     */
+    @NonNull ByteBuf getPayload();
+
+    /**
+     * Returns this message fully decoded into a {@link PacketInMessage}, including the match and a copy of the
+     * payload. The result is computed at most once.
+     *
+     * @return decoded message
+     */
+    @NonNull PacketInMessage toPacketInMessage();
+
+    @Override
+    LazyPacketIn retain();
+
+    @Override
+    LazyPacketIn retain(int increment);
+
+    @Override
+    LazyPacketIn touch();
+
+    @Override
+    LazyPacketIn touch(Object hint);
+}
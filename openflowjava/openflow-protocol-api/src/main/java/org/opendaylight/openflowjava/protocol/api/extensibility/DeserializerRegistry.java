@@ -7,7 +7,11 @@
  */
 package org.opendaylight.openflowjava.protocol.api.extensibility;
 
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.yangtools.yang.common.Uint8;
 
 /**
  * Registry for deserializers.
@@ -31,6 +35,65 @@ public interface DeserializerRegistry {
     <T extends OFGeneralDeserializer>
             T getDeserializer(MessageCodeKey key);
 
+    /**
+     * Gets the deserializer for a message. This is equivalent to {@link #getDeserializer(MessageCodeKey)} with a
+     * {@link MessageCodeKey}, but allows implementations to serve the lookup without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version wire protocol version
+     * @param type message type
+     * @param clazz class of the message
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getMessageDeserializer(final Uint8 version, final int type,
+            final Class<?> clazz) {
+        return getDeserializer(new MessageCodeKey(version, type, clazz));
+    }
+
+    /**
+     * Gets the deserializer for a non-experimenter match entry. This is equivalent to
+     * {@link #getDeserializer(MessageCodeKey)} with a {@link MatchEntryDeserializerKey}, but allows implementations
+     * to serve the lookup without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version wire protocol version
+     * @param oxmClass oxm_class (see specification)
+     * @param oxmField oxm_field (see specification)
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getMatchEntryDeserializer(final Uint8 version, final int oxmClass,
+            final int oxmField) {
+        return getDeserializer(new MatchEntryDeserializerKey(version, oxmClass, oxmField));
+    }
+
+    /**
+     * Gets the deserializer for a non-experimenter action. This is equivalent to
+     * {@link #getDeserializer(MessageCodeKey)} with an {@link ActionDeserializerKey}, but allows implementations
+     * to serve the lookup without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version wire protocol version
+     * @param type action type
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getActionDeserializer(final Uint8 version, final int type) {
+        return getDeserializer(new ActionDeserializerKey(version, type, null));
+    }
+
+    /**
+     * Gets the deserializer for a non-experimenter instruction. This is equivalent to
+     * {@link #getDeserializer(MessageCodeKey)} with an {@link InstructionDeserializerKey}, but allows
+     * implementations to serve the lookup without allocating a key.
+     *
+     * @param <T> type of particular deserializer
+     * @param version wire protocol version
+     * @param type instruction type
+     * @return deserializer found
+     */
+    default <T extends OFGeneralDeserializer> T getInstructionDeserializer(final Uint8 version, final int type) {
+        return getDeserializer(new InstructionDeserializerKey(version, type, null));
+    }
+
     /**
      * Registers a deserializer.
      * Throws IllegalStateException when there is
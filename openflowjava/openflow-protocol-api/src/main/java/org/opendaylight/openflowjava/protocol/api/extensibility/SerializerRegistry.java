@@ -8,6 +8,7 @@
 package org.opendaylight.openflowjava.protocol.api.extensibility;
 
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
+import org.opendaylight.yangtools.yang.common.Uint8;
 
 /**
  * Stores and handles serializers. <br>
@@ -31,6 +32,21 @@ public interface SerializerRegistry {
      */
     <K, S extends OFGeneralSerializer> S getSerializer(MessageTypeKey<K> msgTypeKey);
 
+    /**
+     * Gets the serializer for the given version and type. This is equivalent to
+     * {@link #getSerializer(MessageTypeKey)} with a plain {@link MessageTypeKey}, but allows implementations to serve
+     * the lookup without allocating a key.
+     *
+     * @param <K> input key type
+     * @param <S> type of resulting serializer
+     * @param version protocol version
+     * @param type class of serialized object
+     * @return serializer found
+     */
+    default <K, S extends OFGeneralSerializer> S getSerializer(final Uint8 version, final Class<? extends K> type) {
+        return getSerializer(new MessageTypeKey<>(version, type));
+    }
+
     /**
      * Registers a serializer.
      *
@@ -33,6 +33,10 @@ public class InstructionDeserializerKey extends MessageCodeKey {
         this.experimenterId = experimenterId;
     }
 
+    public Long getExperimenterId() {
+        return experimenterId;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -35,6 +35,14 @@ public final class MatchEntryDeserializerKey extends MessageCodeKey
         this.oxmField = oxmField;
     }
 
+    public int getOxmField() {
+        return oxmField;
+    }
+
+    public Uint32 getExperimenterId() {
+        return experimenterId;
+    }
+
     /**
      * Sets the experimenter id.
      *
@@ -35,6 +35,10 @@ public class MessageCodeKey {
         this.clazz = clazz;
     }
 
+    public Uint8 getMsgVersion() {
+        return this.msgVersion;
+    }
+
     public int getMsgType() {
         return this.msgType;
     }
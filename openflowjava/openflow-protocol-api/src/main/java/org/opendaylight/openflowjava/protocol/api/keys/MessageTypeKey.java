@@ -35,6 +35,14 @@ public class MessageTypeKey<E> {
         this.msgVersion = requireNonNull(msgVersion);
     }
 
+    public Uint8 getMsgVersion() {
+        return msgVersion;
+    }
+
+    public Class<? extends E> getMsgType() {
+        return msgType;
+    }
+
     @Override
     public String toString() {
         return "msgVersion: " + msgVersion + " objectType: " + msgType.getName();
@@ -31,6 +31,14 @@ public class TypeToClassKey {
         this.type = type;
     }
 
+    public Uint8 getVersion() {
+        return version;
+    }
+
+    public int getType() {
+        return type;
+    }
+
     @Override
     public int hashCode() {
         final int prime = 31;
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import java.util.function.Supplier;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Message shapes exercised by the codec benchmarks. Multipart replies carry a realistic number of entries per
+ * segment, so that per-entry codec costs (match, instructions, actions) dominate over the header.
+ */
+public enum BenchmarkMessage {
+    OF10_FLOW_MOD(EncodeConstants.OF_VERSION_1_0, OpenflowFrames::of10FlowMod),
+    OF13_FLOW_MOD(EncodeConstants.OF_VERSION_1_3, OpenflowFrames::of13FlowMod),
+    OF10_PACKET_IN(EncodeConstants.OF_VERSION_1_0, OpenflowFrames::of10PacketIn),
+    OF13_PACKET_IN(EncodeConstants.OF_VERSION_1_3, OpenflowFrames::of13PacketIn),
+    OF10_MULTIPART_FLOW_STATS(EncodeConstants.OF_VERSION_1_0, () -> OpenflowFrames.of10FlowStats(64)),
+    OF13_MULTIPART_FLOW_STATS(EncodeConstants.OF_VERSION_1_3, () -> OpenflowFrames.of13FlowStats(64)),
+    OF10_MULTIPART_PORT_STATS(EncodeConstants.OF_VERSION_1_0, () -> OpenflowFrames.of10PortStats(48)),
+    OF13_MULTIPART_PORT_STATS(EncodeConstants.OF_VERSION_1_3, () -> OpenflowFrames.of13PortStats(48)),
+    OF13_MULTIPART_GROUP_STATS(EncodeConstants.OF_VERSION_1_3, () -> OpenflowFrames.of13GroupStats(64, 4));
+
+    private final Uint8 version;
+    private final Supplier<byte[]> frameSupplier;
+
+    BenchmarkMessage(final Uint8 version, final Supplier<byte[]> frameSupplier) {
+        this.version = version;
+        this.frameSupplier = frameSupplier;
+    }
+
+    public Uint8 getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns a freshly-assembled wire frame, including the OpenFlow header.
+     *
+     * @return wire frame
+     */
+    public byte[] frame() {
+        return frameSupplier.get();
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded {@code benchmarks.jar}. Behaves like JMH's own {@code Main}, except the GC profiler is
+ * always enabled, so that allocation rate ({@code gc.alloc.rate.norm}) is reported next to throughput.
+ *
+ * <p>
+ * Usage: {@code java -jar target/benchmarks.jar [JMH options] [benchmark regexp]}, for example
+ * {@code java -jar target/benchmarks.jar Deserialization -p message=OF13_PACKET_IN}.
+ */
+public final class CodecBenchmarkRunner {
+    private CodecBenchmarkRunner() {
+        // Hidden on purpose
+    }
+
+    public static void main(final String[] args) throws CommandLineOptionException, RunnerException {
+        final CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        final OptionsBuilder builder = new OptionsBuilder();
+        if (cmdOptions.getIncludes().isEmpty()) {
+            builder.include(CodecBenchmarkRunner.class.getPackageName() + ".*Benchmark");
+        }
+        new Runner(builder.parent(cmdOptions).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link DeserializationFactory#deserialize(ByteBuf, Uint8)}, i.e. what {@code OFDecoder} does for each
+ * inbound frame once its version has been detected.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeserializationBenchmark {
+    // JMH injects parameters into public fields
+    @Param
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public BenchmarkMessage message;
+
+    private DeserializationFactory factory;
+    private ByteBuf frame;
+    private Uint8 version;
+    private int length;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+        factory = new DeserializationFactory(registry);
+
+        // Frames arrive in pooled direct buffers, mirror that
+        final byte[] bytes = message.frame();
+        frame = PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length);
+        frame.writeBytes(bytes);
+        version = message.getVersion();
+        length = bytes.length;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        frame.release();
+    }
+
+    @Benchmark
+    public DataObject deserialize(final ByteCounters counters) {
+        // OFVersionDetector consumes the version byte before handing the frame over
+        frame.readerIndex(Byte.BYTES);
+        counters.bytes += length;
+        return factory.deserialize(frame, version);
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+
+/**
+ * Hand-assembled OpenFlow wire frames used as benchmark input. Each frame is a complete message including the
+ * OpenFlow header, shaped after what a typical L3 forwarding pipeline sends and receives.
+ */
+final class OpenflowFrames {
+    private static final int XID = 0x01020304;
+    private static final int OFPMP_FLOW = 1;
+    private static final int OFPMP_PORT_STATS = 4;
+    private static final int OFPMP_GROUP = 6;
+    private static final int OXM_OPENFLOW_BASIC = 0x8000;
+    private static final int ETH_TYPE_IPV4 = 0x0800;
+    private static final int IP_PROTO_TCP = 6;
+
+    private OpenflowFrames() {
+        // Hidden on purpose
+    }
+
+    static byte[] of10FlowMod() {
+        final ByteBuf out = header(EncodeConstants.OF10_VERSION_ID, 14);
+        writeOf10Match(out);
+        out.writeLong(0x0102030405060708L);     // cookie
+        out.writeShort(0);                      // command: OFPFC_ADD
+        out.writeShort(60);                     // idle timeout
+        out.writeShort(0);                      // hard timeout
+        out.writeShort(0x8000);                 // priority
+        out.writeInt(0xFFFFFFFF);               // buffer id
+        out.writeShort(0xFFFF);                 // out port
+        out.writeShort(1);                      // flags: OFPFF_SEND_FLOW_REM
+        writeOf10Actions(out);
+        return finish(out);
+    }
+
+    static byte[] of13FlowMod() {
+        final ByteBuf out = header(EncodeConstants.OF13_VERSION_ID, 14);
+        out.writeLong(0x0102030405060708L);     // cookie
+        out.writeLong(0);                       // cookie mask
+        out.writeByte(0);                       // table id
+        out.writeByte(0);                       // command: OFPFC_ADD
+        out.writeShort(60);                     // idle timeout
+        out.writeShort(0);                      // hard timeout
+        out.writeShort(0x8000);                 // priority
+        out.writeInt(0xFFFFFFFF);               // buffer id
+        out.writeInt(0xFFFFFFFF);               // out port
+        out.writeInt(0xFFFFFFFF);               // out group
+        out.writeShort(1);                      // flags: OFPFF_SEND_FLOW_REM
+        out.writeZero(2);
+        writeOf13Match(out);
+        writeOf13Instructions(out);
+        return finish(out);
+    }
+
+    static byte[] of10PacketIn() {
+        final ByteBuf out = header(EncodeConstants.OF10_VERSION_ID, 10);
+        final byte[] payload = ethernetPayload();
+        out.writeInt(0xFFFFFFFF);               // buffer id
+        out.writeShort(payload.length);         // total length
+        out.writeShort(1);                      // in port
+        out.writeByte(0);                       // reason: OFPR_NO_MATCH
+        out.writeZero(1);
+        out.writeBytes(payload);
+        return finish(out);
+    }
+
+    static byte[] of13PacketIn() {
+        final ByteBuf out = header(EncodeConstants.OF13_VERSION_ID, 10);
+        final byte[] payload = ethernetPayload();
+        out.writeInt(0xFFFFFFFF);               // buffer id
+        out.writeShort(payload.length);         // total length
+        out.writeByte(0);                       // reason: OFPR_NO_MATCH
+        out.writeByte(0);                       // table id
+        out.writeLong(0x0102030405060708L);     // cookie
+        writeOf13Match(out);
+        out.writeZero(2);
+        out.writeBytes(payload);
+        return finish(out);
+    }
+
+    static byte[] of10FlowStats(final int count) {
+        final ByteBuf out = header(EncodeConstants.OF10_VERSION_ID, 17);
+        out.writeShort(OFPMP_FLOW);
+        out.writeShort(0);                      // flags
+        for (int i = 0; i < count; ++i) {
+            final int start = out.writerIndex();
+            out.writeShort(0);                  // length, filled in below
+            out.writeByte(0);                   // table id
+            out.writeZero(1);
+            writeOf10Match(out);
+            writeFlowStatsCounters(out, i);
+            writeOf10Actions(out);
+            out.setShort(start, out.writerIndex() - start);
+        }
+        return finish(out);
+    }
+
+    static byte[] of13FlowStats(final int count) {
+        final ByteBuf out = of13MultipartHeader(OFPMP_FLOW);
+        for (int i = 0; i < count; ++i) {
+            final int start = out.writerIndex();
+            out.writeShort(0);                  // length, filled in below
+            out.writeByte(0);                   // table id
+            out.writeZero(1);
+            out.writeInt(i);                    // duration sec
+            out.writeInt(0);                    // duration nsec
+            out.writeShort(0x8000);             // priority
+            out.writeShort(60);                 // idle timeout
+            out.writeShort(0);                  // hard timeout
+            out.writeShort(1);                  // flags
+            out.writeZero(4);
+            out.writeLong(i);                   // cookie
+            out.writeLong(1000L * i);           // packet count
+            out.writeLong(64000L * i);          // byte count
+            writeOf13Match(out);
+            writeOf13Instructions(out);
+            out.setShort(start, out.writerIndex() - start);
+        }
+        return finish(out);
+    }
+
+    static byte[] of10PortStats(final int count) {
+        final ByteBuf out = header(EncodeConstants.OF10_VERSION_ID, 17);
+        out.writeShort(OFPMP_PORT_STATS);
+        out.writeShort(0);                      // flags
+        for (int i = 0; i < count; ++i) {
+            out.writeShort(i + 1);              // port number
+            out.writeZero(6);
+            writePortCounters(out, i);
+        }
+        return finish(out);
+    }
+
+    static byte[] of13PortStats(final int count) {
+        final ByteBuf out = of13MultipartHeader(OFPMP_PORT_STATS);
+        for (int i = 0; i < count; ++i) {
+            out.writeInt(i + 1);                // port number
+            out.writeZero(4);
+            writePortCounters(out, i);
+            out.writeInt(i);                    // duration sec
+            out.writeInt(0);                    // duration nsec
+        }
+        return finish(out);
+    }
+
+    static byte[] of13GroupStats(final int count, final int buckets) {
+        final ByteBuf out = of13MultipartHeader(OFPMP_GROUP);
+        for (int i = 0; i < count; ++i) {
+            out.writeShort(40 + buckets * 16);  // length
+            out.writeZero(2);
+            out.writeInt(i + 1);                // group id
+            out.writeInt(1);                    // reference count
+            out.writeZero(4);
+            out.writeLong(1000L * i);           // packet count
+            out.writeLong(64000L * i);          // byte count
+            out.writeInt(i);                    // duration sec
+            out.writeInt(0);                    // duration nsec
+            for (int j = 0; j < buckets; ++j) {
+                out.writeLong(100L * i);        // bucket packet count
+                out.writeLong(6400L * i);       // bucket byte count
+            }
+        }
+        return finish(out);
+    }
+
+    private static ByteBuf header(final int version, final int type) {
+        final ByteBuf out = Unpooled.buffer();
+        out.writeByte(version);
+        out.writeByte(type);
+        out.writeShort(0);                      // length, filled in by finish()
+        out.writeInt(XID);
+        return out;
+    }
+
+    private static ByteBuf of13MultipartHeader(final int multipartType) {
+        final ByteBuf out = header(EncodeConstants.OF13_VERSION_ID, 19);
+        out.writeShort(multipartType);
+        out.writeShort(0);                      // flags
+        out.writeZero(4);
+        return out;
+    }
+
+    private static byte[] finish(final ByteBuf out) {
+        out.setShort(2, out.writerIndex());
+        final byte[] bytes = new byte[out.readableBytes()];
+        out.readBytes(bytes);
+        out.release();
+        return bytes;
+    }
+
+    private static void writeOf10Match(final ByteBuf out) {
+        out.writeInt(0x0030204E);               // wildcards: all but in_port, dl_type, nw_proto, nw_dst, tp_dst
+        out.writeShort(1);                      // in port
+        out.writeZero(6);                       // dl src
+        out.writeZero(6);                       // dl dst
+        out.writeShort(0);                      // dl vlan
+        out.writeByte(0);                       // dl vlan pcp
+        out.writeZero(1);
+        out.writeShort(ETH_TYPE_IPV4);          // dl type
+        out.writeByte(0);                       // nw tos
+        out.writeByte(IP_PROTO_TCP);            // nw proto
+        out.writeZero(2);
+        out.writeInt(0x0A000001);               // nw src
+        out.writeInt(0x0A000002);               // nw dst
+        out.writeShort(0);                      // tp src
+        out.writeShort(80);                     // tp dst
+    }
+
+    private static void writeOf10Actions(final ByteBuf out) {
+        // OFPAT_SET_DL_DST
+        out.writeShort(5);
+        out.writeShort(16);
+        out.writeBytes(new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04, 0x05 });
+        out.writeZero(6);
+        // OFPAT_OUTPUT
+        out.writeShort(0);
+        out.writeShort(8);
+        out.writeShort(2);                      // port
+        out.writeShort(0xFFFF);                 // max length
+    }
+
+    private static void writeOf13Match(final ByteBuf out) {
+        final int start = out.writerIndex();
+        out.writeShort(1);                      // OFPMT_OXM
+        out.writeShort(0);                      // length, filled in below
+        writeOxmHeader(out, 0, Integer.BYTES);  // in_port
+        out.writeInt(1);
+        writeOxmHeader(out, 5, Short.BYTES);    // eth_type
+        out.writeShort(ETH_TYPE_IPV4);
+        writeOxmHeader(out, 10, Byte.BYTES);    // ip_proto
+        out.writeByte(IP_PROTO_TCP);
+        writeOxmHeader(out, 11, Integer.BYTES); // ipv4_src
+        out.writeInt(0x0A000001);
+        writeOxmHeader(out, 12, Integer.BYTES); // ipv4_dst
+        out.writeInt(0x0A000002);
+        writeOxmHeader(out, 14, Short.BYTES);   // tcp_dst
+        out.writeShort(80);
+        final int length = out.writerIndex() - start;
+        out.setShort(start + Short.BYTES, length);
+        out.writeZero(paddingFor(length));
+    }
+
+    private static void writeOf13Instructions(final ByteBuf out) {
+        // OFPIT_APPLY_ACTIONS
+        final int start = out.writerIndex();
+        out.writeShort(4);
+        out.writeShort(0);                      // length, filled in below
+        out.writeZero(4);
+        // OFPAT_SET_FIELD(eth_dst)
+        out.writeShort(25);
+        out.writeShort(16);
+        writeOxmHeader(out, 3, 6);
+        out.writeBytes(new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04, 0x05 });
+        out.writeZero(2);
+        // OFPAT_DEC_NW_TTL
+        out.writeShort(24);
+        out.writeShort(8);
+        out.writeZero(4);
+        // OFPAT_OUTPUT
+        out.writeShort(0);
+        out.writeShort(16);
+        out.writeInt(2);                        // port
+        out.writeShort(0xFFFF);                 // max length
+        out.writeZero(6);
+        out.setShort(start + Short.BYTES, out.writerIndex() - start);
+        // OFPIT_GOTO_TABLE
+        out.writeShort(1);
+        out.writeShort(8);
+        out.writeByte(1);                       // table id
+        out.writeZero(3);
+    }
+
+    private static void writeOxmHeader(final ByteBuf out, final int field, final int length) {
+        out.writeShort(OXM_OPENFLOW_BASIC);
+        out.writeByte(field << 1);
+        out.writeByte(length);
+    }
+
+    private static void writeFlowStatsCounters(final ByteBuf out, final int seed) {
+        out.writeInt(seed);                     // duration sec
+        out.writeInt(0);                        // duration nsec
+        out.writeShort(0x8000);                 // priority
+        out.writeShort(60);                     // idle timeout
+        out.writeShort(0);                      // hard timeout
+        out.writeZero(6);
+        out.writeLong(seed);                    // cookie
+        out.writeLong(1000L * seed);            // packet count
+        out.writeLong(64000L * seed);           // byte count
+    }
+
+    private static void writePortCounters(final ByteBuf out, final int seed) {
+        // rx/tx packets, rx/tx bytes, rx/tx dropped, rx/tx errors, frame, overrun, crc, collisions
+        for (int i = 0; i < 12; ++i) {
+            out.writeLong((long) seed * (i + 1));
+        }
+    }
+
+    private static byte[] ethernetPayload() {
+        // A 128-byte IPv4/TCP frame, which is what a typical L2/L3 punt looks like
+        final ByteBuf out = Unpooled.buffer(128);
+        out.writeBytes(new byte[] { 0x00, 0x01, 0x02, 0x03, 0x04, 0x05 });
+        out.writeBytes(new byte[] { 0x00, 0x0A, 0x0B, 0x0C, 0x0D, 0x0E });
+        out.writeShort(ETH_TYPE_IPV4);
+        while (out.isWritable()) {
+            out.writeByte(out.writerIndex());
+        }
+        final byte[] bytes = new byte[out.readableBytes()];
+        out.readBytes(bytes);
+        out.release();
+        return bytes;
+    }
+
+    private static int paddingFor(final int length) {
+        final int remainder = length % EncodeConstants.PADDING;
+        return remainder == 0 ? 0 : EncodeConstants.PADDING - remainder;
+    }
+}
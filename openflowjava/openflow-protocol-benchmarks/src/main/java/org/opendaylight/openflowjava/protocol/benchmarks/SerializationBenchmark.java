@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.benchmarks;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializerRegistryImpl;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFactory;
+import org.opendaylight.openflowjava.protocol.impl.serialization.SerializerRegistryImpl;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link SerializationFactory#messageToBuffer(Uint8, ByteBuf, DataObject)}, i.e. what {@code OFEncoder}
+ * does for each outbound message. Input DTOs are obtained by decoding the same frames
+ * {@link DeserializationBenchmark} uses, so both directions are measured on identical content.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+    // JMH injects parameters into public fields
+    @Param
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public BenchmarkMessage message;
+
+    private SerializationFactory factory;
+    private DataObject dataObject;
+    private ByteBuf out;
+    private Uint8 version;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final DeserializerRegistryImpl deserializerRegistry = new DeserializerRegistryImpl();
+        deserializerRegistry.init();
+        final byte[] bytes = message.frame();
+        final ByteBuf frame = Unpooled.wrappedBuffer(bytes, Byte.BYTES, bytes.length - Byte.BYTES);
+        version = message.getVersion();
+        dataObject = new DeserializationFactory(deserializerRegistry).deserialize(frame, version);
+
+        final SerializerRegistryImpl serializerRegistry = new SerializerRegistryImpl();
+        serializerRegistry.init();
+        factory = new SerializationFactory(serializerRegistry);
+
+        // OFEncoder writes into pooled direct buffers, mirror that
+        out = PooledByteBufAllocator.DEFAULT.directBuffer(bytes.length * 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        out.release();
+    }
+
+    @Benchmark
+    public ByteBuf serialize(final ByteCounters counters) {
+        out.clear();
+        factory.messageToBuffer(version, out, dataObject);
+        counters.bytes += out.readableBytes();
+        return out;
+    }
+}
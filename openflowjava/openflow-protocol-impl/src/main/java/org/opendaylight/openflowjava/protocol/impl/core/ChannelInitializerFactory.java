@@ -8,6 +8,7 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -27,6 +28,9 @@ public class ChannelInitializerFactory {
     private SwitchConnectionHandler switchConnectionHandler;
     private boolean useBarrier;
     private int channelOutboundQueueSize;
+    private boolean lazyPacketIn;
+    private boolean batchedDecoding;
+    private FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
 
     /**
      * Creates a TCP publishing channel initializer.
@@ -42,6 +46,9 @@ public class ChannelInitializerFactory {
         initializer.setSwitchConnectionHandler(switchConnectionHandler);
         initializer.setUseBarrier(useBarrier);
         initializer.setChannelOutboundQueueSize(channelOutboundQueueSize);
+        initializer.setLazyPacketIn(lazyPacketIn);
+        initializer.setBatchedDecoding(batchedDecoding);
+        initializer.setFlushPolicy(flushPolicy);
         return initializer;
     }
 
@@ -119,4 +126,31 @@ public class ChannelInitializerFactory {
     public void setChannelOutboundQueueSize(final int channelOutboundQueueSize) {
         this.channelOutboundQueueSize = channelOutboundQueueSize;
     }
+
+    /**
+     * Sets whether or not to deliver PACKET_IN messages lazily decoded.
+     *
+     * @param lazyPacketIn true to enable lazy PACKET_IN decoding
+     */
+    public void setLazyPacketIn(final boolean lazyPacketIn) {
+        this.lazyPacketIn = lazyPacketIn;
+    }
+
+    /**
+     * Sets whether or not to decode and deliver incoming messages in per-read batches.
+     *
+     * @param batchedDecoding true to enable batched decoding
+     */
+    public void setBatchedDecoding(final boolean batchedDecoding) {
+        this.batchedDecoding = batchedDecoding;
+    }
+
+    /**
+     * Sets the policy for flushing messages written to switches.
+     *
+     * @param flushPolicy the flush policy
+     */
+    public void setFlushPolicy(final FlushPolicy flushPolicy) {
+        this.flushPolicy = flushPolicy;
+    }
 }
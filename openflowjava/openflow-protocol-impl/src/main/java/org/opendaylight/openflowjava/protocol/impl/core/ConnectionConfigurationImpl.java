@@ -12,6 +12,7 @@ import static java.util.Objects.requireNonNull;
 import java.net.InetAddress;
 import java.util.List;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionConfiguration;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
 import org.opendaylight.openflowjava.protocol.api.connection.ThreadConfiguration;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.IetfInetUtil;
@@ -152,4 +153,29 @@ final class ConnectionConfigurationImpl implements ConnectionConfiguration {
     public boolean isGroupAddModEnabled() {
         return config.getGroupAddModEnabled();
     }
+
+    @Override
+    public boolean isLazyPacketInEnabled() {
+        return Boolean.TRUE.equals(config.getLazyPacketIn());
+    }
+
+    @Override
+    public boolean isBatchedDecodingEnabled() {
+        return Boolean.TRUE.equals(config.getBatchedDecoding());
+    }
+
+    @Override
+    public FlushPolicy getFlushPolicy() {
+        final var policy = config.getFlushPolicy();
+        if (policy == null) {
+            return FlushPolicy.IMMEDIATE;
+        }
+        final var maxMessages = policy.getMaxMessages();
+        final var maxBytes = policy.getMaxBytes();
+        final var maxDelay = policy.getMaxDelay();
+        return new FlushPolicy(
+            maxMessages != null ? (int) Math.min(maxMessages.toJava(), Integer.MAX_VALUE) : 0,
+            maxBytes != null ? (int) Math.min(maxBytes.toJava(), Integer.MAX_VALUE) : 0,
+            maxDelay != null ? maxDelay.toJava() : 0);
+    }
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import static java.util.Objects.requireNonNull;
 
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionAdapterImpl;
 import org.opendaylight.openflowjava.protocol.impl.core.connection.MessageConsumer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.system.rev130927.DisconnectEventBuilder;
@@ -41,7 +42,13 @@ public class DelegatingInboundHandler extends ChannelInboundHandlerAdapter {
     @Override
     public void channelRead(final ChannelHandlerContext ctx, final Object msg) {
         LOG.trace("ChannelRead Message : {}", msg);
-        consumer.consume((DataObject) msg);
+        if (msg instanceof OFMessageBatch batch) {
+            consumer.consumeBatch(batch.messages());
+        } else if (msg instanceof LazyPacketIn packetIn) {
+            consumer.consumePacketIn(packetIn);
+        } else {
+            consumer.consume((DataObject) msg);
+        }
     }
 
     @Override
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.MoreObjects;
+import io.netty.buffer.ByteBuf;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * {@link LazyPacketIn} backed by the frame handed over by {@link OFVersionDetector}, i.e. starting with the type
+ * byte. All offsets below are relative to that.
+ */
+final class LazyPacketInMessage implements LazyPacketIn {
+    private static final int XID_OFFSET = 3;
+    private static final int BUFFER_ID_OFFSET = 7;
+    private static final int TOTAL_LEN_OFFSET = 11;
+    // OF1.0: in_port, reason, 1 byte of padding
+    private static final int OF10_REASON_OFFSET = 15;
+    private static final int OF10_DATA_OFFSET = 17;
+    // OF1.3: reason, table_id, cookie, match, 2 bytes of padding
+    private static final int OF13_REASON_OFFSET = 13;
+    private static final int OF13_TABLE_ID_OFFSET = 14;
+    private static final int OF13_COOKIE_OFFSET = 15;
+    private static final int OF13_MATCH_OFFSET = 23;
+    private static final int OF13_MATCH_HEADER_LENGTH = 4;
+    private static final int OF13_PADDING_AFTER_MATCH = 2;
+
+    private static final int ETHERTYPE_OFFSET = 12;
+    private static final int TAGGED_ETHERTYPE_OFFSET = 16;
+    private static final int ETHERTYPE_VLAN = 0x8100;
+    private static final int ETHERTYPE_QINQ = 0x88a8;
+
+    private final DeserializationFactory deserializationFactory;
+    private final Uint8 version;
+    private final ByteBuf frame;
+    private final int dataOffset;
+
+    private PacketInMessage packetIn;
+
+    private LazyPacketInMessage(final DeserializationFactory deserializationFactory, final Uint8 version,
+            final ByteBuf frame, final int dataOffset) {
+        this.deserializationFactory = requireNonNull(deserializationFactory);
+        this.version = requireNonNull(version);
+        this.frame = requireNonNull(frame);
+        this.dataOffset = dataOffset;
+    }
+
+    /**
+     * Creates a lazy PACKET_IN on top of a retained slice of the specified frame.
+     *
+     * @param deserializationFactory factory to use for full decoding
+     * @param version OpenFlow version of the frame
+     * @param messageBuffer frame, starting at the type byte
+     * @return a new message, or {@code null} if the frame needs to be decoded the usual way
+     */
+    static @Nullable LazyPacketInMessage of(final DeserializationFactory deserializationFactory,
+            final Uint8 version, final ByteBuf messageBuffer) {
+        final int base = messageBuffer.readerIndex();
+        final int length = messageBuffer.readableBytes();
+        final int dataOffset;
+        if (EncodeConstants.OF_VERSION_1_0.equals(version)) {
+            dataOffset = OF10_DATA_OFFSET;
+        } else if (EncodeConstants.OF_VERSION_1_3.equals(version)) {
+            if (length < OF13_MATCH_OFFSET + OF13_MATCH_HEADER_LENGTH) {
+                return null;
+            }
+            // ofp_match length does not include the padding to a multiple of 8 bytes
+            final int matchLength = messageBuffer.getUnsignedShort(base + OF13_MATCH_OFFSET + Short.BYTES);
+            final int paddedLength = (matchLength + EncodeConstants.PADDING - 1) / EncodeConstants.PADDING
+                * EncodeConstants.PADDING;
+            dataOffset = OF13_MATCH_OFFSET + paddedLength + OF13_PADDING_AFTER_MATCH;
+        } else {
+            return null;
+        }
+
+        if (length < dataOffset) {
+            return null;
+        }
+        return new LazyPacketInMessage(deserializationFactory, version, messageBuffer.retainedSlice(), dataOffset);
+    }
+
+    @Override
+    public Uint8 getVersion() {
+        return version;
+    }
+
+    @Override
+    public Uint32 getXid() {
+        return Uint32.fromIntBits(frame.getInt(XID_OFFSET));
+    }
+
+    @Override
+    public Uint32 getBufferId() {
+        return Uint32.fromIntBits(frame.getInt(BUFFER_ID_OFFSET));
+    }
+
+    @Override
+    public Uint16 getTotalLen() {
+        return Uint16.valueOf(frame.getUnsignedShort(TOTAL_LEN_OFFSET));
+    }
+
+    @Override
+    public PacketInReason getReason() {
+        return PacketInReason.forValue(frame.getUnsignedByte(isOF10() ? OF10_REASON_OFFSET : OF13_REASON_OFFSET));
+    }
+
+    @Override
+    public Uint8 getTableId() {
+        return isOF10() ? null : Uint8.valueOf(frame.getUnsignedByte(OF13_TABLE_ID_OFFSET));
+    }
+
+    @Override
+    public Uint64 getCookie() {
+        return isOF10() ? null : Uint64.fromLongBits(frame.getLong(OF13_COOKIE_OFFSET));
+    }
+
+    @Override
+    public int getEthertype() {
+        final int payloadLength = frame.writerIndex() - dataOffset;
+        if (payloadLength < ETHERTYPE_OFFSET + Short.BYTES) {
+            return -1;
+        }
+        final int ethertype = frame.getUnsignedShort(dataOffset + ETHERTYPE_OFFSET);
+        if (ethertype != ETHERTYPE_VLAN && ethertype != ETHERTYPE_QINQ) {
+            return ethertype;
+        }
+        return payloadLength < TAGGED_ETHERTYPE_OFFSET + Short.BYTES ? -1
+            : frame.getUnsignedShort(dataOffset + TAGGED_ETHERTYPE_OFFSET);
+    }
+
+    @Override
+    public ByteBuf getPayload() {
+        return frame.slice(dataOffset, frame.writerIndex() - dataOffset);
+    }
+
+    @Override
+    public PacketInMessage toPacketInMessage() {
+        if (packetIn == null) {
+            packetIn = (PacketInMessage) deserializationFactory.deserialize(frame.duplicate(), version);
+        }
+        return packetIn;
+    }
+
+    @Override
+    public int refCnt() {
+        return frame.refCnt();
+    }
+
+    @Override
+    public LazyPacketInMessage retain() {
+        frame.retain();
+        return this;
+    }
+
+    @Override
+    public LazyPacketInMessage retain(final int increment) {
+        frame.retain(increment);
+        return this;
+    }
+
+    @Override
+    public LazyPacketInMessage touch() {
+        frame.touch();
+        return this;
+    }
+
+    @Override
+    public LazyPacketInMessage touch(final Object hint) {
+        frame.touch(hint);
+        return this;
+    }
+
+    @Override
+    public boolean release() {
+        return frame.release();
+    }
+
+    @Override
+    public boolean release(final int decrement) {
+        return frame.release(decrement);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+            .add("version", version)
+            .add("refCnt", frame.refCnt())
+            .add("payloadLength", frame.writerIndex() - dataOffset)
+            .toString();
+    }
+
+    private boolean isOF10() {
+        return EncodeConstants.OF_VERSION_1_0.equals(version);
+    }
+}
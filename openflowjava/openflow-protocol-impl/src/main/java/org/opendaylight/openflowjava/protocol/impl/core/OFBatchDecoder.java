@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.ReferenceCountUtil;
+import java.util.ArrayList;
+import java.util.List;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Combines {@link OFFrameDecoder}, {@link OFVersionDetector} and {@link OFDecoder} into a single handler. All messages
+ * decoded from a single read cycle are passed down the pipeline as one {@link OFMessageBatch} when the read completes.
+ */
+public class OFBatchDecoder extends OFFrameDecoder {
+    private static final Logger LOG = LoggerFactory.getLogger(OFBatchDecoder.class);
+
+    private final OFVersionDetector versionDetector = new OFVersionDetector();
+    private final OFDecoder decoder = new OFDecoder();
+    private final List<Object> frames = new ArrayList<>();
+    private final List<Object> wrappers = new ArrayList<>(1);
+
+    private List<Object> batch = new ArrayList<>();
+
+    /**
+     * Constructor of class.
+     * @param connectionFacade ConnectionFacade that will be notified
+     *                         with ConnectionReadyNotification after TLS has been successfully set up.
+     * @param tlsPresent true is TLS is required, false otherwise
+     * @param deserializationFactory factory used to decode messages
+     * @param lazyPacketIn true if PACKET_INs should be decoded lazily
+     */
+    public OFBatchDecoder(final ConnectionFacade connectionFacade, final boolean tlsPresent,
+            final DeserializationFactory deserializationFactory, final boolean lazyPacketIn) {
+        super(connectionFacade, tlsPresent);
+        LOG.trace("Creating OFBatchDecoder");
+        decoder.setDeserializationFactory(deserializationFactory);
+        decoder.setLazyPacketIn(lazyPacketIn);
+    }
+
+    /**
+     * Returns the version detector used by this decoder.
+     *
+     * @return version detector
+     */
+    public OFVersionDetector getVersionDetector() {
+        return versionDetector;
+    }
+
+    @Override
+    protected void decode(final ChannelHandlerContext chc, final ByteBuf bb, final List<Object> list) {
+        super.decode(chc, bb, frames);
+        if (frames.isEmpty()) {
+            return;
+        }
+
+        for (var frame : frames) {
+            final var buf = (ByteBuf) frame;
+            if (buf.readableBytes() < LENGTH_OF_HEADER) {
+                // The length field of the header is corrupted. The version detector would release an empty frame on
+                // its own, hence such frames are never passed to it.
+                LOG.warn("Dropping frame of {} bytes, shorter than the OpenFlow header", buf.readableBytes());
+                buf.release();
+                continue;
+            }
+            try {
+                versionDetector.decode(chc, buf, wrappers);
+            } finally {
+                buf.release();
+            }
+            for (var wrapper : wrappers) {
+                decoder.decode(chc, (VersionMessageWrapper) wrapper, batch);
+            }
+            wrappers.clear();
+        }
+        frames.clear();
+    }
+
+    @Override
+    protected void decodeLast(final ChannelHandlerContext chc, final ByteBuf bb, final List<Object> list)
+            throws Exception {
+        super.decodeLast(chc, bb, list);
+        // The channel is going down, deliver whatever we have before channelInactive()
+        fireBatch(chc);
+    }
+
+    @Override
+    public void channelReadComplete(final ChannelHandlerContext ctx) throws Exception {
+        fireBatch(ctx);
+        super.channelReadComplete(ctx);
+    }
+
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext ctx) {
+        batch.forEach(ReferenceCountUtil::release);
+        batch.clear();
+    }
+
+    private void fireBatch(final ChannelHandlerContext ctx) {
+        if (!batch.isEmpty()) {
+            final var messages = batch;
+            batch = new ArrayList<>(messages.size());
+            LOG.trace("Delivering batch of {} messages", messages.size());
+            ctx.fireChannelRead(new OFMessageBatch(messages));
+        }
+    }
+}
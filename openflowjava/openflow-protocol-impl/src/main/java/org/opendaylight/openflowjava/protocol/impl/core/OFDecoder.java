@@ -11,6 +11,7 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToMessageDecoder;
 import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
@@ -31,6 +32,7 @@ public class OFDecoder extends MessageToMessageDecoder<VersionMessageWrapper> {
 
     // TODO: make this final?
     private DeserializationFactory deserializationFactory;
+    private boolean lazyPacketIn;
 
     public OFDecoder() {
         LOG.trace("Creating OFDecoder");
@@ -47,6 +49,11 @@ public class OFDecoder extends MessageToMessageDecoder<VersionMessageWrapper> {
         }
 
         try {
+            if (lazyPacketIn && decodeLazyPacketIn(msg, out)) {
+                statisticsCounter.incrementCounter(CounterEventTypes.US_DECODE_SUCCESS);
+                return;
+            }
+
             final DataObject dataObject = deserializationFactory.deserialize(msg.getMessageBuffer(),
                     msg.getVersion());
             if (dataObject == null) {
@@ -64,8 +71,26 @@ public class OFDecoder extends MessageToMessageDecoder<VersionMessageWrapper> {
         }
     }
 
+    private boolean decodeLazyPacketIn(final VersionMessageWrapper msg, final List<Object> out) {
+        final var buffer = msg.getMessageBuffer();
+        if (buffer.getUnsignedByte(buffer.readerIndex()) != EncodeConstants.OF_PACKETIN_MESSAGE_TYPE_VALUE) {
+            return false;
+        }
+        // The message holds its own reference to the frame, hence the release in decode() does not affect it
+        final var packetIn = LazyPacketInMessage.of(deserializationFactory, msg.getVersion(), buffer);
+        if (packetIn == null) {
+            return false;
+        }
+        out.add(packetIn);
+        return true;
+    }
+
     public void setDeserializationFactory(DeserializationFactory deserializationFactory) {
         this.deserializationFactory = deserializationFactory;
     }
 
+    public void setLazyPacketIn(final boolean lazyPacketIn) {
+        this.lazyPacketIn = lazyPacketIn;
+    }
+
 }
@@ -17,16 +17,18 @@ import org.opendaylight.openflowjava.protocol.impl.serialization.SerializationFa
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Transforms OpenFlow Protocol messages to POJOs.
+ * Transforms OpenFlow Protocol messages to POJOs. Accepts both {@link MessageListenerWrapper}s and bare
+ * {@link OfHeader}s, the latter being used on the hot path where there is no per-message listener to notify.
  *
  * @author michal.polkorab
  * @author timotej.kubas
  */
-public class OFEncoder extends MessageToByteEncoder<MessageListenerWrapper> {
+public class OFEncoder extends MessageToByteEncoder<Object> {
 
     private static final Logger LOG = LoggerFactory.getLogger(OFEncoder.class);
     private SerializationFactory serializationFactory;
@@ -37,20 +39,31 @@ public class OFEncoder extends MessageToByteEncoder<MessageListenerWrapper> {
         LOG.trace("Creating OFEncoder");
     }
 
+    @Override
+    public boolean acceptOutboundMessage(final Object msg) {
+        return msg instanceof MessageListenerWrapper || msg instanceof OfHeader;
+    }
+
     @Override
     @SuppressWarnings("checkstyle:IllegalCatch")
-    protected void encode(final ChannelHandlerContext ctx, final MessageListenerWrapper wrapper, final ByteBuf out)
+    protected void encode(final ChannelHandlerContext ctx, final Object msg, final ByteBuf out)
             throws Exception {
         LOG.trace("Encoding");
+        final var wrapper = msg instanceof MessageListenerWrapper listenerWrapper ? listenerWrapper : null;
+        final var message = wrapper != null ? wrapper.getMsg() : (OfHeader) msg;
         try {
-            serializationFactory.messageToBuffer(wrapper.getMsg().getVersion(), out, wrapper.getMsg());
-            if (wrapper.getMsg() instanceof FlowModInput) {
+            serializationFactory.messageToBuffer(message.getVersion(), out, message);
+            if (message instanceof FlowModInput) {
                 statisticsCounters.incrementCounter(CounterEventTypes.DS_FLOW_MODS_SENT);
             }
             statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_SUCCESS);
         } catch (RuntimeException e) {
-            LOG.warn("Message serialization failed ", e);
             statisticsCounters.incrementCounter(CounterEventTypes.DS_ENCODE_FAIL);
+            if (wrapper == null) {
+                // Without a wrapper there is no listener to notify, fail the write instead
+                throw e;
+            }
+            LOG.warn("Message serialization failed ", e);
             if (wrapper.getListener() != null) {
                 final Future<Void> newFailedFuture = ctx.newFailedFuture(e);
                 wrapper.getListener().operationComplete(newFailedFuture);
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * Messages decoded by {@link OFBatchDecoder} during a single read cycle, in the order they were received.
+ *
+ * @param messages decoded messages
+ */
+record OFMessageBatch(List<Object> messages) {
+    OFMessageBatch {
+        requireNonNull(messages);
+    }
+}
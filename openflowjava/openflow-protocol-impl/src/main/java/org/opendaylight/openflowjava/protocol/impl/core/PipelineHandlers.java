@@ -40,6 +40,11 @@ public enum PipelineHandlers {
      */
     OF_DECODER,
 
+    /**
+     * Decodes incoming messages into POJOs in one pass and delivers them in batches.
+     */
+    OF_BATCH_DECODER,
+
     /**
      * Transforms POJOs into OpenFlow Protocol byte messages.
      */
@@ -10,6 +10,7 @@ package org.opendaylight.openflowjava.protocol.impl.core;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelInitializer;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
 import org.opendaylight.openflowjava.protocol.api.connection.SwitchConnectionHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.TlsConfiguration;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
@@ -31,6 +32,9 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     private TlsConfiguration tlsConfiguration;
     private boolean useBarrier;
     private int channelOutboundQueueSize;
+    private boolean lazyPacketIn;
+    private boolean batchedDecoding;
+    private FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
 
     /**
      * Sets the SwitchConnectionHandler.
@@ -107,4 +111,28 @@ public abstract class ProtocolChannelInitializer<C extends Channel>
     public int getChannelOutboundQueueSize()  {
         return channelOutboundQueueSize;
     }
+
+    public void setLazyPacketIn(final boolean lazyPacketIn) {
+        this.lazyPacketIn = lazyPacketIn;
+    }
+
+    public boolean isLazyPacketIn() {
+        return lazyPacketIn;
+    }
+
+    public void setBatchedDecoding(final boolean batchedDecoding) {
+        this.batchedDecoding = batchedDecoding;
+    }
+
+    public boolean isBatchedDecoding() {
+        return batchedDecoding;
+    }
+
+    public void setFlushPolicy(final FlushPolicy flushPolicy) {
+        this.flushPolicy = flushPolicy;
+    }
+
+    public FlushPolicy getFlushPolicy() {
+        return flushPolicy;
+    }
 }
@@ -220,6 +220,9 @@ public class SwitchConnectionProviderImpl implements SwitchConnectionProvider, C
         factory.setDeserializationFactory(deserializationFactory);
         factory.setUseBarrier(connConfig.useBarrier());
         factory.setChannelOutboundQueueSize(connConfig.getChannelOutboundQueueSize());
+        factory.setLazyPacketIn(connConfig.isLazyPacketInEnabled());
+        factory.setBatchedDecoding(connConfig.isBatchedDecodingEnabled());
+        factory.setFlushPolicy(connConfig.getFlushPolicy());
         // Check if Epoll native transport is available.
         // TODO : Add option to disable Epoll.
         boolean isEpollEnabled = Epoll.isAvailable();
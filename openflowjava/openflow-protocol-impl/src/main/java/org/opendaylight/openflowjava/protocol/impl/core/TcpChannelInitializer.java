@@ -73,6 +73,7 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
         ConnectionFacade connectionFacade = null;
         connectionFacade = connectionAdapterFactory.createConnectionFacade(ch, null, useBarrier(),
                 getChannelOutboundQueueSize());
+        connectionFacade.setFlushPolicy(getFlushPolicy());
         try {
             LOG.debug("Calling OF plugin: {}", getSwitchConnectionHandler());
             getSwitchConnectionHandler().onSwitchConnected(connectionFacade);
@@ -100,12 +101,18 @@ public class TcpChannelInitializer extends ProtocolChannelInitializer<SocketChan
                 handshakeFuture.addListener(future -> finalConnectionFacade.fireConnectionReadyNotification());
                 ch.pipeline().addLast(PipelineHandlers.SSL_HANDLER.name(), ssl);
             }
-            ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
-                    new OFFrameDecoder(connectionFacade, tlsConfig != null));
-            ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(), new OFVersionDetector());
-            final OFDecoder ofDecoder = new OFDecoder();
-            ofDecoder.setDeserializationFactory(getDeserializationFactory());
-            ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
+            if (isBatchedDecoding()) {
+                ch.pipeline().addLast(PipelineHandlers.OF_BATCH_DECODER.name(), new OFBatchDecoder(connectionFacade,
+                    tlsConfig != null, getDeserializationFactory(), isLazyPacketIn()));
+            } else {
+                ch.pipeline().addLast(PipelineHandlers.OF_FRAME_DECODER.name(),
+                        new OFFrameDecoder(connectionFacade, tlsConfig != null));
+                ch.pipeline().addLast(PipelineHandlers.OF_VERSION_DETECTOR.name(), new OFVersionDetector());
+                final OFDecoder ofDecoder = new OFDecoder();
+                ofDecoder.setDeserializationFactory(getDeserializationFactory());
+                ofDecoder.setLazyPacketIn(isLazyPacketIn());
+                ch.pipeline().addLast(PipelineHandlers.OF_DECODER.name(), ofDecoder);
+            }
             final OFEncoder ofEncoder = new OFEncoder();
             ofEncoder.setSerializationFactory(getSerializationFactory());
             ch.pipeline().addLast(PipelineHandlers.OF_ENCODER.name(), ofEncoder);
@@ -11,6 +11,7 @@ package org.opendaylight.openflowjava.protocol.impl.core.connection;
 import com.google.common.util.concurrent.ListenableFuture;
 import io.netty.channel.Channel;
 import java.net.InetSocketAddress;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.statistics.CounterEventTypes;
 import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowModInput;
@@ -68,6 +69,12 @@ abstract class AbstractConnectionAdapterStatistics extends AbstractConnectionAda
         consumeDeviceMessage(message);
     }
 
+    @Override
+    public void consumePacketIn(final LazyPacketIn packetIn) {
+        statisticsCounters.incrementCounter(CounterEventTypes.US_MESSAGE_PASS);
+        consumeDevicePacketIn(packetIn);
+    }
+
     /**
      * Method is equivalent to {@link MessageConsumer#consume(DataObject)} to prevent missing method
      * in every children of {@link AbstractConnectionAdapterStatistics} class, because we overriding
@@ -76,4 +83,12 @@ abstract class AbstractConnectionAdapterStatistics extends AbstractConnectionAda
      * @param message from device to processing
      */
     protected abstract void consumeDeviceMessage(DataObject message);
+
+    /**
+     * Method is equivalent to {@link MessageConsumer#consumePacketIn(LazyPacketIn)}, for the same reason as
+     * {@link #consumeDeviceMessage(DataObject)}.
+     *
+     * @param packetIn from device to processing, to be released by the implementation
+     */
+    protected abstract void consumeDevicePacketIn(LazyPacketIn packetIn);
 }
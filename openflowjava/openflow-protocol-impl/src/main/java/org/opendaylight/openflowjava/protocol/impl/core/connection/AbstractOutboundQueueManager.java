@@ -11,8 +11,12 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.EncoderException;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 import java.math.BigInteger;
@@ -20,7 +24,10 @@ import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.jdt.annotation.NonNull;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoRequestMessage;
@@ -73,6 +80,7 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     protected final InetSocketAddress address;
     protected final O currentQueue;
     private final T handler;
+    private final FlushPolicy flushPolicy;
 
     // Accessed concurrently
     private volatile PipelineState state = PipelineState.IDLE;
@@ -80,16 +88,22 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
     // Updated from netty only
     private boolean alreadyReading;
     protected boolean shuttingDown;
+    private boolean delayedFlushScheduled;
+    private int pendingMessages;
 
     // Passed to executor to request triggering of flush
     protected final Runnable flushRunnable = this::flush;
 
+    // Passed to executor to flush coalesced writes once the flush policy's delay expires
+    private final Runnable delayedFlushRunnable = this::delayedFlush;
+
     @SuppressFBWarnings(value = "MC_OVERRIDABLE_METHOD_CALL_IN_CONSTRUCTOR",
         justification = "Circular dependency on outbound queue")
     AbstractOutboundQueueManager(final ConnectionAdapterImpl parent, final InetSocketAddress address, final T handler) {
         this.parent = requireNonNull(parent);
         this.handler = requireNonNull(handler);
         this.address = address;
+        flushPolicy = parent.getFlushPolicy();
         /* Note: don't wish to use reflection here */
         currentQueue = initializeStackedOutboudnqueue();
         LOG.debug("Queue manager instantiated with queue {}", currentQueue);
@@ -246,7 +260,8 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         LOG.debug("echo request received: {} for the DPN {}", message.getXid(), datapathId);
         final EchoReplyInput reply = new EchoReplyInputBuilder().setData(message.getData())
                 .setVersion(message.getVersion()).setXid(message.getXid()).build();
-        parent.getChannel().writeAndFlush(makeMessageListenerWrapper(reply));
+        final Object wrapper = makeMessageListenerWrapper(reply);
+        logEncoderFailure(wrapper, parent.getChannel().writeAndFlush(wrapper));
     }
 
     /**
@@ -256,18 +271,19 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
      */
     void writeMessage(final OfHeader message, final long now) {
         final Object wrapper = makeMessageListenerWrapper(message);
-        parent.getChannel().write(wrapper);
+        logEncoderFailure(wrapper, parent.getChannel().write(wrapper));
     }
 
     /**
      * Wraps outgoing message and includes listener attached to this message
      * which is send to OFEncoder for serialization. Correct wrapper is
-     * selected by communication pipeline.
+     * selected by communication pipeline. TCP messages are passed unwrapped,
+     * their serialization failures fail the write instead, see {@link #logEncoderFailure(Object, ChannelFuture)}.
      */
     protected Object makeMessageListenerWrapper(@NonNull final OfHeader msg) {
         checkArgument(msg != null);
         if (address == null) {
-            return new MessageListenerWrapper(msg, LOG_ENCODER_LISTENER);
+            return msg;
         }
         return new UdpMessageListenerWrapper(msg, LOG_ENCODER_LISTENER, address);
     }
@@ -279,6 +295,19 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         }
     };
 
+    /* Same as LOG_ENCODER_LISTENER for unwrapped messages, shared so that no listener is allocated per write */
+    private static final ChannelFutureListener LOG_ENCODER_FAILURE_LISTENER = future -> {
+        if (future.cause() instanceof EncoderException) {
+            LOG.warn("Message encoding fail !", future.cause());
+        }
+    };
+
+    private static void logEncoderFailure(final Object written, final ChannelFuture future) {
+        if (written instanceof OfHeader) {
+            future.addListener(LOG_ENCODER_FAILURE_LISTENER);
+        }
+    }
+
     /**
      * Perform a single flush operation. We keep it here so we do not generate
      * syntetic accessors for private fields. Otherwise it could be moved into {@link #flushRunnable}.
@@ -316,8 +345,12 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
 
         final int entries = currentQueue.writeEntries(parent.getChannel(), start);
         if (entries > 0) {
-            LOG.trace("Flushing channel {}", parent.getChannel());
-            parent.getChannel().flush();
+            pendingMessages += entries;
+            if (needsChannelFlush()) {
+                flushChannel();
+            } else {
+                scheduleDelayedFlush();
+            }
         }
 
         if (LOG.isDebugEnabled()) {
@@ -329,6 +362,55 @@ abstract class AbstractOutboundQueueManager<T extends OutboundQueueHandler, O ex
         state = PipelineState.IDLE;
     }
 
+    /**
+     * Determines whether messages written to the channel need to be flushed now, or can be left pending
+     * as allowed by the flush policy.
+     */
+    private boolean needsChannelFlush() {
+        if (shuttingDown || flushPolicy.isImmediate()) {
+            return true;
+        }
+
+        // Pending writes count against the write watermarks, we need to flush to become writable again
+        final Channel channel = parent.getChannel();
+        if (!channel.isWritable()) {
+            return true;
+        }
+        if (flushPolicy.maxMessages() > 0 && pendingMessages >= flushPolicy.maxMessages()) {
+            return true;
+        }
+        if (flushPolicy.maxBytes() > 0) {
+            final var buffer = channel.unsafe().outboundBuffer();
+            return buffer == null || buffer.totalPendingWriteBytes() >= flushPolicy.maxBytes();
+        }
+        return false;
+    }
+
+    private void flushChannel() {
+        LOG.trace("Flushing {} messages to channel {}", pendingMessages, parent.getChannel());
+        parent.getChannel().flush();
+        pendingMessages = 0;
+        StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_CHANNEL_FLUSH);
+    }
+
+    private void scheduleDelayedFlush() {
+        StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_FLUSH_DEFERRED);
+        if (!delayedFlushScheduled) {
+            LOG.trace("Deferring flush of channel {} by {}us", parent.getChannel(), flushPolicy.maxDelayMicros());
+            delayedFlushScheduled = true;
+            parent.getChannel().eventLoop().schedule(delayedFlushRunnable, flushPolicy.maxDelayMicros(),
+                TimeUnit.MICROSECONDS);
+        }
+    }
+
+    private void delayedFlush() {
+        delayedFlushScheduled = false;
+        if (pendingMessages > 0) {
+            StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_FLUSH_DELAYED);
+            flushChannel();
+        }
+    }
+
     private void rescheduleFlush() {
         /*
          * We are almost ready to terminate. This is a bit tricky, because
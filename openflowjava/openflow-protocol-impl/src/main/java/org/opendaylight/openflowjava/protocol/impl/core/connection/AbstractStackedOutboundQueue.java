@@ -46,6 +46,10 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
     @GuardedBy("unflushedSegments")
     protected Integer shutdownOffset;
 
+    // Size of newly-allocated segments, adjusted as segments are flushed
+    @GuardedBy("unflushedSegments")
+    private int segmentSize = StackedSegment.MIN_SEGMENT_SIZE;
+
     // Accessed from Netty only
     protected int flushOffset;
 
@@ -53,7 +57,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
     AbstractStackedOutboundQueue(final AbstractOutboundQueueManager<?, ?> manager) {
         this.manager = requireNonNull(manager);
-        firstSegment = StackedSegment.create(0L);
+        firstSegment = StackedSegment.create(0L, segmentSize);
         uncompletedSegments.add(firstSegment);
         unflushedSegments.add(firstSegment);
     }
@@ -65,18 +69,38 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
     @Holding("unflushedSegments")
     protected void ensureSegment(final StackedSegment first, final int offset) {
-        final int segmentOffset = offset / StackedSegment.SEGMENT_SIZE;
-        LOG.debug("Queue {} slow offset {} maps to {} segments {}", this, offset, segmentOffset,
-                unflushedSegments.size());
+        final long xid = first.getBaseXid() + offset;
+        LOG.debug("Queue {} slow offset {} maps to XID {} segments {}", this, offset, xid, unflushedSegments.size());
 
-        for (int i = unflushedSegments.size(); i <= segmentOffset; ++i) {
-            final StackedSegment newSegment = StackedSegment.create(first.getBaseXid()
-                    + StackedSegment.SEGMENT_SIZE * (long)i);
+        long endXid = unflushedSegments.isEmpty() ? first.getBaseXid()
+                : unflushedSegments.get(unflushedSegments.size() - 1).getEndXid();
+        while (xid >= endXid) {
+            final StackedSegment newSegment = StackedSegment.create(endXid, segmentSize);
             LOG.debug("Adding segment {}", newSegment);
             unflushedSegments.add(newSegment);
+            endXid = newSegment.getEndXid();
         }
 
-        allocatedXid = unflushedSegments.get(unflushedSegments.size() - 1).getEndXid();
+        allocatedXid = endXid;
+    }
+
+    /**
+     * Adjusts the size of subsequently-allocated segments to the number of requests currently outstanding on this
+     * queue. The size grows immediately, but shrinks by at most half on each invocation, so that a short lull does not
+     * cause a burst to run through a series of small segments.
+     *
+     * @param flushed segment which has just been completely flushed
+     */
+    @Holding("unflushedSegments")
+    protected void adjustSegmentSize(final StackedSegment flushed) {
+        final long oldestXid = uncompletedSegments.isEmpty() ? flushed.getBaseXid()
+                : uncompletedSegments.get(0).getBaseXid();
+        final int target = StackedSegment.segmentSizeFor(lastXid - oldestXid + 1);
+        final int newSize = Math.max(target, segmentSize / 2);
+        if (newSize != segmentSize) {
+            LOG.debug("Queue {} changing segment size from {} to {}", this, segmentSize, newSize);
+            segmentSize = newSize;
+        }
     }
 
     /*
@@ -87,7 +111,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         final long xid = LAST_XID_OFFSET_UPDATER.incrementAndGet(this);
         final StackedSegment fastSegment = firstSegment;
 
-        if (xid >= fastSegment.getBaseXid() + StackedSegment.SEGMENT_SIZE) {
+        if (xid >= fastSegment.getEndXid()) {
             if (xid >= allocatedXid) {
                 // Multiple segments, this a slow path
                 LOG.debug("Queue {} falling back to slow reservation for XID {}", this, xid);
@@ -153,7 +177,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                 entry.complete(null);
             }
 
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
+            if (flushOffset >= segment.size()) {
                 /*
                  * Slow path: purge the current segment unless it's the last one.
                  * If it is, we leave it for replacement when a new reservation
@@ -164,6 +188,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                  */
                 synchronized (unflushedSegments) {
                     LOG.debug("Flush offset {} unflushed segments {}", flushOffset, unflushedSegments.size());
+                    adjustSegmentSize(segment);
 
                     // We may have raced ahead of reservation code and need to allocate a segment
                     ensureSegment(segment, flushOffset);
@@ -181,7 +206,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
 
                     // Update the shutdown offset
                     if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
+                        shutdownOffset -= oldSegment.size();
                     }
 
                     // Allow reservations back on the fast path by publishing the new first segment
@@ -269,8 +294,8 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
             // Increment the offset by the segment size, preventing fast path allocations,
             // since we are holding the slow path lock, any reservations will see the queue
             // in shutdown and fail accordingly.
-            final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, StackedSegment.SEGMENT_SIZE);
-            shutdownOffset = (int) (xid - firstSegment.getBaseXid() - StackedSegment.SEGMENT_SIZE);
+            final long xid = LAST_XID_OFFSET_UPDATER.addAndGet(this, StackedSegment.MAX_SEGMENT_SIZE);
+            shutdownOffset = (int) (xid - firstSegment.getBaseXid() - StackedSegment.MAX_SEGMENT_SIZE);
 
             // Fails all uncompleted entries, because they will never be completed due to disconnected channel.
             return lockedFailSegments(uncompletedSegments.iterator());
@@ -310,7 +335,7 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         verify(calcOffset <= Integer.MAX_VALUE);
         final int fastOffset = (int) calcOffset;
 
-        if (fastOffset >= StackedSegment.SEGMENT_SIZE) {
+        if (fastOffset >= fastSegment.size()) {
             LOG.debug("Queue {} falling back to slow commit of XID {} at offset {}", this, xid, fastOffset);
 
             final StackedSegment segment;
@@ -322,10 +347,10 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
                 slowOffset = (int) slowCalcOffset;
 
                 LOG.debug("Queue {} recalculated offset of XID {} to {}", this, xid, slowOffset);
-                segment = unflushedSegments.get(slowOffset / StackedSegment.SEGMENT_SIZE);
+                segment = lockedFindSegment(xid);
             }
 
-            final int segOffset = slowOffset % StackedSegment.SEGMENT_SIZE;
+            final int segOffset = (int) (xid - segment.getBaseXid());
             LOG.debug("Queue {} slow commit of XID {} completed at offset {} (segment {} offset {})", this,
                     xid, slowOffset, segment, segOffset);
             return segment.getEntry(segOffset);
@@ -333,6 +358,17 @@ abstract class AbstractStackedOutboundQueue implements OutboundQueue {
         return fastSegment.getEntry(fastOffset);
     }
 
+    @Holding("unflushedSegments")
+    private StackedSegment lockedFindSegment(final long xid) {
+        // Segments may differ in size, but there are only a few of them
+        for (StackedSegment segment : unflushedSegments) {
+            if (xid < segment.getEndXid()) {
+                return segment;
+            }
+        }
+        throw new IndexOutOfBoundsException("XID " + xid + " is not backed by any segment");
+    }
+
     /**
      * Fails not completed entries in segments and frees completed segments.
      *
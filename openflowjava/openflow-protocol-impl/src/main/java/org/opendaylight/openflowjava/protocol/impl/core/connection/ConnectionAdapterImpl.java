@@ -9,6 +9,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import static java.util.Objects.requireNonNull;
+
 import com.google.common.base.Preconditions;
 import io.netty.channel.Channel;
 import java.math.BigInteger;
@@ -27,9 +29,12 @@ import javax.naming.ldap.LdapName;
 import javax.naming.ldap.Rdn;
 import javax.security.auth.x500.X500Principal;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandlerRegistration;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
+import org.opendaylight.openflowjava.protocol.impl.core.OFBatchDecoder;
 import org.opendaylight.openflowjava.protocol.impl.core.OFVersionDetector;
 import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
@@ -73,6 +78,7 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
     private BigInteger datapathId;
     private ExecutorService executorService;
     private final boolean useBarrier;
+    private FlushPolicy flushPolicy = FlushPolicy.IMMEDIATE;
     private X509Certificate switchCertificate;
 
     /**
@@ -184,6 +190,19 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         }
     }
 
+    @Override
+    public void consumeDevicePacketIn(final LazyPacketIn packetIn) {
+        LOG.debug("ConsumeIntern lazy PacketIn for dpn {} on {}", datapathId, channel);
+        LOG.trace("ConsumeIntern msg {}", packetIn);
+        try {
+            if (!disconnectOccured) {
+                messageListener.onLazyPacketIn(packetIn);
+            }
+        } finally {
+            packetIn.release();
+        }
+    }
+
     private static RpcResponseKey createRpcResponseKey(final OfHeader message) {
         return new RpcResponseKey(message.getXid().toJava(), message.implementedInterface().getName());
     }
@@ -206,7 +225,14 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
 
     @Override
     public void fireConnectionReadyNotification() {
-        versionDetector = (OFVersionDetector) channel.pipeline().get(PipelineHandlers.OF_VERSION_DETECTOR.name());
+        final var pipeline = channel.pipeline();
+        versionDetector = (OFVersionDetector) pipeline.get(PipelineHandlers.OF_VERSION_DETECTOR.name());
+        if (versionDetector == null) {
+            final var batchDecoder = (OFBatchDecoder) pipeline.get(PipelineHandlers.OF_BATCH_DECODER.name());
+            if (batchDecoder != null) {
+                versionDetector = batchDecoder.getVersionDetector();
+            }
+        }
         Preconditions.checkState(versionDetector != null);
         executorService.execute(() -> connectionReadyListener.onConnectionReady());
     }
@@ -250,6 +276,15 @@ public class ConnectionAdapterImpl extends AbstractConnectionAdapterStatistics i
         };
     }
 
+    @Override
+    public void setFlushPolicy(final FlushPolicy flushPolicy) {
+        this.flushPolicy = requireNonNull(flushPolicy);
+    }
+
+    FlushPolicy getFlushPolicy() {
+        return flushPolicy;
+    }
+
     Channel getChannel() {
         return channel;
     }
@@ -10,6 +10,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
 
 /**
  * Unifying super interface for a connection.
@@ -17,6 +18,11 @@ import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
  * @author michal.polkorab
  */
 public interface ConnectionFacade extends MessageConsumer, ConnectionAdapter {
-
- // empty unifying superinterface
+    /**
+     * Sets the policy for flushing messages written by the outbound queue manager. Needs to be set before an
+     * {@link org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler} is registered.
+     *
+     * @param flushPolicy the flush policy
+     */
+    void setFlushPolicy(FlushPolicy flushPolicy);
 }
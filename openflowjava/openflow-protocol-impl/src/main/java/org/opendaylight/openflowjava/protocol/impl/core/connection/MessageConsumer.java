@@ -9,6 +9,9 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import io.netty.util.ReferenceCountUtil;
+import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 
 /**
@@ -25,4 +28,41 @@ public interface MessageConsumer {
      */
     void consume(DataObject message);
 
+    /**
+     * Invoked to consume a lazily-decoded PACKET_IN. Implementations are responsible for releasing the message.
+     * The default implementation decodes it fully and passes it to {@link #consume(DataObject)}.
+     *
+     * @param packetIn to process
+     */
+    default void consumePacketIn(final LazyPacketIn packetIn) {
+        try {
+            consume(packetIn.toPacketInMessage());
+        } finally {
+            packetIn.release();
+        }
+    }
+
+    /**
+     * Invoked to consume messages decoded during a single read cycle, in the order they were received. Any
+     * {@link LazyPacketIn}s not consumed due to a failure are released.
+     *
+     * @param messages to process
+     */
+    default void consumeBatch(final List<Object> messages) {
+        int consumed = 0;
+        try {
+            for (var message : messages) {
+                consumed++;
+                if (message instanceof LazyPacketIn packetIn) {
+                    consumePacketIn(packetIn);
+                } else {
+                    consume((DataObject) message);
+                }
+            }
+        } finally {
+            for (int i = consumed; i < messages.size(); ++i) {
+                ReferenceCountUtil.release(messages.get(i));
+            }
+        }
+    }
 }
@@ -73,7 +73,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
                 entry.complete(null);
             }
 
-            if (flushOffset >= StackedSegment.SEGMENT_SIZE) {
+            if (flushOffset >= segment.size()) {
                 /*
                  * Slow path: purge the current segment unless it's the last one.
                  * If it is, we leave it for replacement when a new reservation
@@ -83,6 +83,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
                  */
                 synchronized (unflushedSegments) {
                     LOG.debug("Flush offset {} unflushed segments {}", flushOffset, unflushedSegments.size());
+                    adjustSegmentSize(segment);
 
                     // We may have raced ahead of reservation code and need to allocate a segment
                     ensureSegment(segment, flushOffset);
@@ -99,7 +100,7 @@ public class StackedOutboundQueueNoBarrier extends AbstractStackedOutboundQueue
 
                     // Update the shutdown offset
                     if (shutdownOffset != null) {
-                        shutdownOffset -= StackedSegment.SEGMENT_SIZE;
+                        shutdownOffset -= oldSegment.size();
                     }
 
                     // Allow reservations back on the fast path by publishing the new first segment
@@ -7,14 +7,11 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.core.connection;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
-import com.google.common.base.FinalizableReferenceQueue;
-import com.google.common.base.FinalizableSoftReference;
 import com.google.common.base.MoreObjects;
-import java.lang.ref.Reference;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import org.opendaylight.openflowjava.protocol.api.connection.DeviceRequestFailedException;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueException;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.Error;
@@ -23,26 +20,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 final class StackedSegment {
-    private static final class QueueRef extends FinalizableSoftReference<OutboundQueueEntry[]> {
-        QueueRef(final FinalizableReferenceQueue queue, final OutboundQueueEntry[] referent) {
-            super(referent, queue);
-        }
+    /**
+     * Smallest segment size, used by idle queues.
+     */
+    static final int MIN_SEGMENT_SIZE = 256;
 
-        @Override
-        public void finalizeReferent() {
-            CACHE.remove(this);
-        }
-    }
+    /**
+     * Largest segment size, used by queues with many outstanding requests.
+     */
+    static final int MAX_SEGMENT_SIZE = 4096;
 
     /**
-     * Size of each individual segment.
+     * Number of distinct segment sizes, each being a power of two between {@link #MIN_SEGMENT_SIZE} and
+     * {@link #MAX_SEGMENT_SIZE}.
      */
-    static final int SEGMENT_SIZE = 4096;
+    static final int SIZE_CLASSES = Integer.numberOfTrailingZeros(MAX_SEGMENT_SIZE)
+            - Integer.numberOfTrailingZeros(MIN_SEGMENT_SIZE) + 1;
 
     private static final Logger LOG = LoggerFactory.getLogger(StackedSegment.class);
-    private static final FinalizableReferenceQueue REF_QUEUE = new FinalizableReferenceQueue();
-    private static final ConcurrentLinkedDeque<QueueRef> CACHE = new ConcurrentLinkedDeque<>();
 
+    private final StackedSegmentPool pool;
     private final OutboundQueueEntry[] entries;
     private final long baseXid;
     private final long endXid;
@@ -51,36 +48,51 @@ final class StackedSegment {
     private int lastBarrierOffset = -1;
     private int completeCount;
 
-    StackedSegment(final long baseXid, final OutboundQueueEntry[] entries) {
+    StackedSegment(final StackedSegmentPool pool, final long baseXid, final OutboundQueueEntry[] entries) {
+        this.pool = requireNonNull(pool);
         this.baseXid = baseXid;
-        this.endXid = baseXid + SEGMENT_SIZE;
+        this.endXid = baseXid + entries.length;
         this.entries = requireNonNull(entries);
     }
 
-    static StackedSegment create(final long baseXid) {
-        final StackedSegment ret;
-        for (;;) {
-            final Reference<OutboundQueueEntry[]> item = CACHE.pollLast();
-            if (item == null) {
-                break;
-            }
+    static StackedSegment create(final long baseXid, final int size) {
+        return create(StackedSegmentPool.INSTANCE, baseXid, size);
+    }
 
-            final OutboundQueueEntry[] cached = item.get();
-            if (cached != null) {
-                ret = new StackedSegment(baseXid, cached);
-                LOG.trace("Reusing array {} in segment {}", cached, ret);
-                return ret;
-            }
-        }
+    static StackedSegment create(final StackedSegmentPool pool, final long baseXid, final int size) {
+        final StackedSegment ret = new StackedSegment(pool, baseXid, pool.acquire(size));
+        LOG.trace("Created segment {}", ret);
+        return ret;
+    }
 
-        final OutboundQueueEntry[] entries = new OutboundQueueEntry[SEGMENT_SIZE];
-        for (int i = 0; i < SEGMENT_SIZE; ++i) {
-            entries[i] = new OutboundQueueEntry();
-        }
+    /**
+     * Returns the index of the size class of specified segment size.
+     *
+     * @param size segment size
+     * @return size class index
+     * @throws IllegalArgumentException if the size is not a valid segment size
+     */
+    static int sizeClass(final int size) {
+        checkArgument(size >= MIN_SEGMENT_SIZE && size <= MAX_SEGMENT_SIZE && Integer.bitCount(size) == 1,
+            "Invalid segment size %s", size);
+        return Integer.numberOfTrailingZeros(size) - Integer.numberOfTrailingZeros(MIN_SEGMENT_SIZE);
+    }
 
-        ret = new StackedSegment(baseXid, entries);
-        LOG.trace("Allocated new segment {}", ret);
-        return ret;
+    /**
+     * Returns the segment size suitable for a queue with specified number of outstanding requests, i.e. the
+     * smallest size class able to hold all of them.
+     *
+     * @param outstanding number of outstanding requests
+     * @return segment size
+     */
+    static int segmentSizeFor(final long outstanding) {
+        if (outstanding <= MIN_SEGMENT_SIZE) {
+            return MIN_SEGMENT_SIZE;
+        }
+        if (outstanding >= MAX_SEGMENT_SIZE) {
+            return MAX_SEGMENT_SIZE;
+        }
+        return Integer.highestOneBit((int) outstanding - 1) << 1;
     }
 
     @Override
@@ -97,6 +109,10 @@ final class StackedSegment {
         return endXid;
     }
 
+    int size() {
+        return entries.length;
+    }
+
     OutboundQueueEntry getEntry(final int offset) {
         return entries[offset];
     }
@@ -201,6 +217,6 @@ final class StackedSegment {
             e.reset();
         }
 
-        CACHE.offer(new QueueRef(REF_QUEUE, entries));
+        pool.release(entries);
     }
 }
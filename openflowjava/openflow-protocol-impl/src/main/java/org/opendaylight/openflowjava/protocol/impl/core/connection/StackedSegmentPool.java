@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.base.MoreObjects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.opendaylight.openflowjava.statistics.CounterEventTypes;
+import org.opendaylight.openflowjava.statistics.StatisticsCounters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of {@link OutboundQueueEntry} arrays backing {@link StackedSegment}s. Arrays are kept per size class
+ * and the total number of pooled entries is capped, so idle memory held by outbound queues does not depend on GC
+ * pressure. Arrays returned to a full pool are simply dropped.
+ */
+final class StackedSegmentPool {
+    private static final Logger LOG = LoggerFactory.getLogger(StackedSegmentPool.class);
+
+    /**
+     * Default cap on the number of entries held by the pool, i.e. 64 segments of the maximum size.
+     */
+    static final int DEFAULT_MAX_POOLED_ENTRIES = 64 * StackedSegment.MAX_SEGMENT_SIZE;
+
+    static final StackedSegmentPool INSTANCE = new StackedSegmentPool(DEFAULT_MAX_POOLED_ENTRIES);
+
+    private final Queue<OutboundQueueEntry[]>[] classes;
+    private final AtomicInteger pooledEntries = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder discards = new LongAdder();
+    private final int maxPooledEntries;
+
+    @SuppressWarnings("unchecked")
+    StackedSegmentPool(final int maxPooledEntries) {
+        checkArgument(maxPooledEntries >= 0, "Invalid pool capacity %s", maxPooledEntries);
+        this.maxPooledEntries = maxPooledEntries;
+        classes = new Queue[StackedSegment.SIZE_CLASSES];
+        for (int i = 0; i < classes.length; ++i) {
+            classes[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * Returns an array of the requested size, either from the pool or freshly allocated.
+     *
+     * @param size array size, must be one of the {@link StackedSegment} size classes
+     * @return array of reset entries
+     */
+    OutboundQueueEntry[] acquire(final int size) {
+        final OutboundQueueEntry[] pooled = classes[StackedSegment.sizeClass(size)].poll();
+        if (pooled != null) {
+            pooledEntries.addAndGet(-size);
+            hits.increment();
+            StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_SEGMENT_POOL_HIT);
+            LOG.trace("Reusing array {} of size {}", pooled, size);
+            return pooled;
+        }
+
+        misses.increment();
+        StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_SEGMENT_POOL_MISS);
+        final OutboundQueueEntry[] entries = new OutboundQueueEntry[size];
+        for (int i = 0; i < size; ++i) {
+            entries[i] = new OutboundQueueEntry();
+        }
+        return entries;
+    }
+
+    /**
+     * Returns an array to the pool. Entries are expected to have been reset.
+     *
+     * @param entries array to return
+     */
+    void release(final OutboundQueueEntry[] entries) {
+        final int size = entries.length;
+        final int updated = pooledEntries.addAndGet(size);
+        if (updated > maxPooledEntries) {
+            pooledEntries.addAndGet(-size);
+            discards.increment();
+            StatisticsCounters.getInstance().incrementCounter(CounterEventTypes.DS_SEGMENT_POOL_DISCARD);
+            LOG.trace("Pool full, dropping array of size {}", size);
+            return;
+        }
+        classes[StackedSegment.sizeClass(size)].offer(entries);
+    }
+
+    int getPooledEntries() {
+        return pooledEntries.get();
+    }
+
+    int getMaxPooledEntries() {
+        return maxPooledEntries;
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getDiscards() {
+        return discards.sum();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this).add("pooledEntries", pooledEntries.get())
+                .add("maxPooledEntries", maxPooledEntries).add("hits", hits.sum()).add("misses", misses.sum())
+                .add("discards", discards.sum()).toString();
+    }
+}
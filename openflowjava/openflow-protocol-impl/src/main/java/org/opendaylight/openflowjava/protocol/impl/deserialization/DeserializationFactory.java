@@ -7,12 +7,12 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.deserialization;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.buffer.ByteBuf;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
 import org.opendaylight.openflowjava.protocol.api.keys.TypeToClassKey;
 import org.opendaylight.yangtools.yang.binding.DataObject;
 import org.opendaylight.yangtools.yang.common.Uint8;
@@ -25,8 +25,16 @@ import org.opendaylight.yangtools.yang.common.Uint8;
  * @author giuseppex.petralia@intel.com
  */
 public class DeserializationFactory {
+    // OF1.0 (0x01) through OF1.5 (0x06)
+    private static final int VERSION_SLOTS = 8;
+    private static final int TYPE_SLOTS = 256;
+
     private final Map<TypeToClassKey, Class<?>> messageClassMap = new ConcurrentHashMap<>();
     private final DeserializerRegistry registry;
+    // Snapshot of messageClassMap indexed by version and type, rebuilt on every mapping change
+    @SuppressFBWarnings(value = "VO_VOLATILE_REFERENCE_TO_ARRAY",
+        justification = "The array is never modified once published, only the reference is replaced")
+    private volatile Class<?>[] messageClassTable;
 
     public DeserializationFactory(final DeserializerRegistry registry) {
         this.registry = registry;
@@ -35,6 +43,7 @@ public class DeserializationFactory {
 
         // Register type to class map for additional deserializers
         TypeToClassMapInitializer.initializeAdditionalTypeToClassMap(messageClassMap);
+        refreshMessageClassTable();
     }
 
     /**
@@ -46,13 +55,30 @@ public class DeserializationFactory {
      * @return correct POJO as DataObject
      */
     public DataObject deserialize(final ByteBuf rawMessage, final Uint8 version) {
-        DataObject dataObject = null;
         int type = rawMessage.readUnsignedByte();
-        Class<?> clazz = messageClassMap.get(new TypeToClassKey(version, type));
+        Class<?> clazz = lookupMessageClass(version, type);
         rawMessage.skipBytes(Short.BYTES);
-        OFDeserializer<DataObject> deserializer = registry.getDeserializer(new MessageCodeKey(version, type, clazz));
-        dataObject = deserializer.deserialize(rawMessage);
-        return dataObject;
+        OFDeserializer<DataObject> deserializer = registry.getMessageDeserializer(version, type, clazz);
+        return deserializer.deserialize(rawMessage);
+    }
+
+    private Class<?> lookupMessageClass(final Uint8 version, final int type) {
+        final int versionValue = version.toJava();
+        return versionValue < VERSION_SLOTS ? messageClassTable[versionValue * TYPE_SLOTS + type]
+            : messageClassMap.get(new TypeToClassKey(version, type));
+    }
+
+    private void refreshMessageClassTable() {
+        final Class<?>[] table = new Class<?>[VERSION_SLOTS * TYPE_SLOTS];
+        for (var entry : messageClassMap.entrySet()) {
+            final var key = entry.getKey();
+            final int versionValue = key.getVersion().toJava();
+            final int type = key.getType();
+            if (versionValue < VERSION_SLOTS && type >= 0 && type < TYPE_SLOTS) {
+                table[versionValue * TYPE_SLOTS + type] = entry.getValue();
+            }
+        }
+        messageClassTable = table;
     }
 
     /**
@@ -61,8 +87,9 @@ public class DeserializationFactory {
      * @param key type to class key
      * @param clazz return class
      */
-    public void registerMapping(final TypeToClassKey key, final Class<?> clazz) {
+    public synchronized void registerMapping(final TypeToClassKey key, final Class<?> clazz) {
         messageClassMap.put(key, clazz);
+        refreshMessageClassTable();
     }
 
     /**
@@ -71,11 +98,15 @@ public class DeserializationFactory {
      * @param key type to class key
      * @return true if mapping was successfully removed
      */
-    public boolean unregisterMapping(final TypeToClassKey key) {
+    public synchronized boolean unregisterMapping(final TypeToClassKey key) {
         if (key == null) {
             throw new IllegalArgumentException("TypeToClassKey is null");
         }
 
-        return messageClassMap.remove(key) != null;
+        if (messageClassMap.remove(key) == null) {
+            return false;
+        }
+        refreshMessageClassTable();
+        return true;
     }
 }
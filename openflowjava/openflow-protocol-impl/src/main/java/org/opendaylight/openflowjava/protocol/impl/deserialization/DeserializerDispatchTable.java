@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.deserialization;
+
+import java.util.Arrays;
+import java.util.Map;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
+
+/**
+ * Immutable, primitive-indexed snapshot of the hot part of {@link DeserializerRegistryImpl}. It covers messages,
+ * non-experimenter match entries, actions and instructions, i.e. the lookups performed for every received message
+ * and for every item within it. Everything else, including experimenter lookups, is served by the registry's map.
+ */
+final class DeserializerDispatchTable {
+    private record MessageSlot(Class<?> clazz, OFGeneralDeserializer deserializer) {
+        // Nothing else
+    }
+
+    // OF1.0 (0x01) through OF1.5 (0x06)
+    private static final int VERSION_SLOTS = 8;
+    private static final int TYPE_SLOTS = 256;
+    // oxm_field is 7 bits wide
+    private static final int OXM_FIELD_SLOTS = 128;
+    private static final int[] OXM_CLASSES = {
+        OxmMatchConstants.NXM_0_CLASS,
+        OxmMatchConstants.NXM_1_CLASS,
+        OxmMatchConstants.OPENFLOW_BASIC_CLASS,
+    };
+    private static final MessageSlot[] NO_MESSAGE_SLOTS = new MessageSlot[0];
+
+    private final MessageSlot[][] messages = new MessageSlot[VERSION_SLOTS * TYPE_SLOTS][];
+    private final OFGeneralDeserializer[] matchEntries =
+        new OFGeneralDeserializer[VERSION_SLOTS * OXM_CLASSES.length * OXM_FIELD_SLOTS];
+    private final OFGeneralDeserializer[] actions = new OFGeneralDeserializer[VERSION_SLOTS * TYPE_SLOTS];
+    private final OFGeneralDeserializer[] instructions = new OFGeneralDeserializer[VERSION_SLOTS * TYPE_SLOTS];
+
+    DeserializerDispatchTable(final Map<MessageCodeKey, OFGeneralDeserializer> registry) {
+        Arrays.fill(messages, NO_MESSAGE_SLOTS);
+
+        for (var entry : registry.entrySet()) {
+            final var key = entry.getKey();
+            final var deserializer = entry.getValue();
+            final int version = key.getMsgVersion().toJava();
+            final int type = key.getMsgType();
+            if (version >= VERSION_SLOTS) {
+                continue;
+            }
+
+            // Subclasses of the keys below carry additional distinguishers, hence the exact class checks
+            final var keyClass = key.getClass();
+            if (keyClass == MessageCodeKey.class) {
+                if (type < TYPE_SLOTS) {
+                    final int index = version * TYPE_SLOTS + type;
+                    final var slots = Arrays.copyOf(messages[index], messages[index].length + 1);
+                    slots[slots.length - 1] = new MessageSlot(key.getClazz(), deserializer);
+                    messages[index] = slots;
+                }
+            } else if (keyClass == MatchEntryDeserializerKey.class) {
+                final var matchKey = (MatchEntryDeserializerKey) key;
+                if (matchKey.getExperimenterId() == null) {
+                    final int index = matchEntryIndex(version, type, matchKey.getOxmField());
+                    if (index >= 0) {
+                        matchEntries[index] = deserializer;
+                    }
+                }
+            } else if (keyClass == ActionDeserializerKey.class) {
+                if (((ActionDeserializerKey) key).getExperimenterId() == null && type < TYPE_SLOTS) {
+                    actions[version * TYPE_SLOTS + type] = deserializer;
+                }
+            } else if (keyClass == InstructionDeserializerKey.class) {
+                if (((InstructionDeserializerKey) key).getExperimenterId() == null && type < TYPE_SLOTS) {
+                    instructions[version * TYPE_SLOTS + type] = deserializer;
+                }
+            }
+        }
+    }
+
+    @Nullable OFGeneralDeserializer message(final int version, final int type, final Class<?> clazz) {
+        if (version < VERSION_SLOTS && type < TYPE_SLOTS) {
+            for (var slot : messages[version * TYPE_SLOTS + type]) {
+                if (slot.clazz == clazz) {
+                    return slot.deserializer;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Nullable OFGeneralDeserializer matchEntry(final int version, final int oxmClass, final int oxmField) {
+        if (version < VERSION_SLOTS) {
+            final int index = matchEntryIndex(version, oxmClass, oxmField);
+            if (index >= 0) {
+                return matchEntries[index];
+            }
+        }
+        return null;
+    }
+
+    @Nullable OFGeneralDeserializer action(final int version, final int type) {
+        return version < VERSION_SLOTS && type < TYPE_SLOTS ? actions[version * TYPE_SLOTS + type] : null;
+    }
+
+    @Nullable OFGeneralDeserializer instruction(final int version, final int type) {
+        return version < VERSION_SLOTS && type < TYPE_SLOTS ? instructions[version * TYPE_SLOTS + type] : null;
+    }
+
+    private static int matchEntryIndex(final int version, final int oxmClass, final int oxmField) {
+        if (oxmField < OXM_FIELD_SLOTS) {
+            for (int i = 0; i < OXM_CLASSES.length; ++i) {
+                if (OXM_CLASSES[i] == oxmClass) {
+                    return (version * OXM_CLASSES.length + i) * OXM_FIELD_SLOTS + oxmField;
+                }
+            }
+        }
+        return -1;
+    }
+}
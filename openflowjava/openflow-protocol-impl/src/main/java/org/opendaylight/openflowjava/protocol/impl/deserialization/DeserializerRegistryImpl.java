@@ -19,6 +19,7 @@ import org.opendaylight.openflowjava.protocol.impl.util.MatchDeserializer;
 import org.opendaylight.openflowjava.protocol.impl.util.OF10MatchDeserializer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
+import org.opendaylight.yangtools.yang.common.Uint8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,12 +32,16 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(DeserializerRegistryImpl.class);
     private Map<MessageCodeKey, OFGeneralDeserializer> registry;
+    // Hot-path view of the registry, frozen at the end of init() and rebuilt on each subsequent (extension)
+    // registration change. Null while init() is running.
+    private volatile DeserializerDispatchTable dispatchTable;
 
     /**
      * Decoder table provisioning.
      */
     @Override
     public void init() {
+        dispatchTable = null;
         registry = new HashMap<>();
 
         // register message deserializers
@@ -59,6 +64,8 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         ActionDeserializerInitializer.registerDeserializers(this);
         // register instruction deserializers
         InstructionDeserializerInitializer.registerDeserializers(this);
+
+        dispatchTable = new DeserializerDispatchTable(registry);
     }
 
     @Override
@@ -72,6 +79,60 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         return (T) deserializer;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getMessageDeserializer(final Uint8 version, final int type,
+            final Class<?> clazz) {
+        final var table = dispatchTable;
+        if (table != null) {
+            final var deserializer = table.message(version.toJava(), type, clazz);
+            if (deserializer != null) {
+                return (T) deserializer;
+            }
+        }
+        return DeserializerRegistry.super.getMessageDeserializer(version, type, clazz);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getMatchEntryDeserializer(final Uint8 version, final int oxmClass,
+            final int oxmField) {
+        final var table = dispatchTable;
+        if (table != null) {
+            final var deserializer = table.matchEntry(version.toJava(), oxmClass, oxmField);
+            if (deserializer != null) {
+                return (T) deserializer;
+            }
+        }
+        return DeserializerRegistry.super.getMatchEntryDeserializer(version, oxmClass, oxmField);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getActionDeserializer(final Uint8 version, final int type) {
+        final var table = dispatchTable;
+        if (table != null) {
+            final var deserializer = table.action(version.toJava(), type);
+            if (deserializer != null) {
+                return (T) deserializer;
+            }
+        }
+        return DeserializerRegistry.super.getActionDeserializer(version, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends OFGeneralDeserializer> T getInstructionDeserializer(final Uint8 version, final int type) {
+        final var table = dispatchTable;
+        if (table != null) {
+            final var deserializer = table.instruction(version.toJava(), type);
+            if (deserializer != null) {
+                return (T) deserializer;
+            }
+        }
+        return DeserializerRegistry.super.getInstructionDeserializer(version, type);
+    }
+
     @Override
     public void registerDeserializer(final MessageCodeKey key, final OFGeneralDeserializer deserializer) {
         if (key == null || deserializer == null) {
@@ -85,6 +146,7 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         if (deserializer instanceof DeserializerRegistryInjector) {
             ((DeserializerRegistryInjector) deserializer).injectDeserializerRegistry(this);
         }
+        refreshDispatchTable();
     }
 
     @Override
@@ -96,7 +158,15 @@ public class DeserializerRegistryImpl implements DeserializerRegistry {
         if (deserializer == null) {
             return false;
         }
+        refreshDispatchTable();
         return true;
     }
 
+    private void refreshDispatchTable() {
+        // Registrations performed by init() are picked up once it completes
+        if (dispatchTable != null) {
+            dispatchTable = new DeserializerDispatchTable(registry);
+        }
+    }
+
 }
@@ -43,14 +43,17 @@ public class OF13SetFieldActionDeserializer extends AbstractActionCaseDeserializ
         int oxmClass = input.getUnsignedShort(input.readerIndex());
         // get oxm_field & hasMask byte and extract the field value
         int oxmField = input.getUnsignedByte(input.readerIndex() + Short.BYTES) >>> 1;
-        MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(EncodeConstants.OF_VERSION_1_3,
-                oxmClass, oxmField);
+        final OFDeserializer<MatchEntry> matchDeserializer;
         if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+            MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(EncodeConstants.OF_VERSION_1_3,
+                    oxmClass, oxmField);
             long expId = input.getUnsignedInt(input.readerIndex() + Short.BYTES + 2 * Byte.BYTES);
             key.setExperimenterId(Uint32.valueOf(expId));
+            matchDeserializer = requireNonNull(registry).getDeserializer(key);
+        } else {
+            matchDeserializer = requireNonNull(registry).getMatchEntryDeserializer(EncodeConstants.OF_VERSION_1_3,
+                oxmClass, oxmField);
         }
-
-        final OFDeserializer<MatchEntry> matchDeserializer = requireNonNull(registry).getDeserializer(key);
         final var entry = matchDeserializer.deserialize(input);
 
         int paddingRemainder = (input.readerIndex() - startIndex) % EncodeConstants.PADDING;
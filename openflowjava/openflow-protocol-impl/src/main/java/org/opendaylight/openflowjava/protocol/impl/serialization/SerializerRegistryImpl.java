@@ -7,7 +7,9 @@
  */
 package org.opendaylight.openflowjava.protocol.impl.serialization;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
@@ -18,6 +20,7 @@ import org.opendaylight.openflowjava.protocol.impl.util.OF10MatchSerializer;
 import org.opendaylight.openflowjava.protocol.impl.util.OF13MatchSerializer;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
+import org.opendaylight.yangtools.yang.common.Uint8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,12 +37,17 @@ import org.slf4j.LoggerFactory;
 public class SerializerRegistryImpl implements SerializerRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(SerializerRegistryImpl.class);
+    // OF1.0 (0x01) through OF1.5 (0x06)
+    private static final int VERSION_SLOTS = 8;
 
     private Map<MessageTypeKey<?>, OFGeneralSerializer> registry;
+    // Per-version snapshot of plain MessageTypeKey entries, built once init() has finished
+    private volatile List<Map<Class<?>, OFGeneralSerializer>> typeTable;
     private boolean isGroupAddModEnabled = false;
 
     @Override
     public void init() {
+        typeTable = null;
         registry = new HashMap<>();
         // Openflow message type serializers
         MessageFactoryInitializer.registerMessageSerializers(this);
@@ -59,6 +67,8 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         ActionsInitializer.registerActionSerializers(this);
         // instruction serializers
         InstructionsInitializer.registerInstructionSerializers(this);
+
+        typeTable = buildTypeTable();
     }
 
     @Override
@@ -89,6 +99,20 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         return (S) serializer;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, S extends OFGeneralSerializer> S getSerializer(final Uint8 version, final Class<? extends K> type) {
+        final var table = typeTable;
+        final int versionValue = version.toJava();
+        if (table != null && versionValue < VERSION_SLOTS) {
+            final var serializer = table.get(versionValue).get(type);
+            if (serializer != null) {
+                return (S) serializer;
+            }
+        }
+        return SerializerRegistry.super.getSerializer(version, type);
+    }
+
     @Override
     public <K> void registerSerializer(final MessageTypeKey<K> msgTypeKey, final OFGeneralSerializer serializer) {
         if (msgTypeKey == null || serializer == null) {
@@ -102,6 +126,7 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         if (serializer instanceof SerializerRegistryInjector) {
             ((SerializerRegistryInjector) serializer).injectSerializerRegistry(this);
         }
+        refreshTypeTable();
     }
 
     @Override
@@ -113,6 +138,30 @@ public class SerializerRegistryImpl implements SerializerRegistry {
         if (serializer == null) {
             return false;
         }
+        refreshTypeTable();
         return true;
     }
+
+    private void refreshTypeTable() {
+        // Registrations done by init() are picked up at its end
+        if (typeTable != null) {
+            typeTable = buildTypeTable();
+        }
+    }
+
+    private List<Map<Class<?>, OFGeneralSerializer>> buildTypeTable() {
+        final var table = new ArrayList<Map<Class<?>, OFGeneralSerializer>>(VERSION_SLOTS);
+        for (int i = 0; i < VERSION_SLOTS; ++i) {
+            table.add(new HashMap<>());
+        }
+        for (var entry : registry.entrySet()) {
+            final var key = entry.getKey();
+            final int version = key.getMsgVersion().toJava();
+            // Subclasses carry additional distinguishers, hence the exact class check
+            if (key.getClass() == MessageTypeKey.class && version < VERSION_SLOTS && key.getMsgType() != null) {
+                table.get(version).put(key.getMsgType(), entry.getValue());
+            }
+        }
+        return table.stream().map(Map::copyOf).toList();
+    }
 }
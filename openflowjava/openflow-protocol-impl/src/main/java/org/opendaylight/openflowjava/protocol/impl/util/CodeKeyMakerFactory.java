@@ -9,6 +9,8 @@
 package org.opendaylight.openflowjava.protocol.impl.util;
 
 import io.netty.buffer.ByteBuf;
+import org.opendaylight.openflowjava.protocol.api.extensibility.DeserializerRegistry;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
 import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterActionDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.ExperimenterInstructionDeserializerKey;
@@ -46,6 +48,17 @@ public final class CodeKeyMakerFactory {
                 key.setExperimenterId(null);
                 return key;
             }
+
+            @Override
+            public <T extends OFGeneralDeserializer> T lookup(final ByteBuf input,
+                    final DeserializerRegistry registry) {
+                int oxmClass = input.getUnsignedShort(input.readerIndex());
+                if (oxmClass == EncodeConstants.EXPERIMENTER_VALUE) {
+                    return registry.getDeserializer(make(input));
+                }
+                int oxmField = input.getUnsignedByte(input.readerIndex() + Short.BYTES) >>> 1;
+                return registry.getMatchEntryDeserializer(getVersion(), oxmClass, oxmField);
+            }
         };
     }
 
@@ -61,6 +74,14 @@ public final class CodeKeyMakerFactory {
                 ActionDeserializerKey actionDeserializerKey = new ActionDeserializerKey(getVersion(), type, null);
                 return actionDeserializerKey;
             }
+
+            @Override
+            public <T extends OFGeneralDeserializer> T lookup(final ByteBuf input,
+                    final DeserializerRegistry registry) {
+                int type = input.getUnsignedShort(input.readerIndex());
+                return type == EncodeConstants.EXPERIMENTER_VALUE ? registry.getDeserializer(make(input))
+                    : registry.getActionDeserializer(getVersion(), type);
+            }
         };
     }
 
@@ -75,6 +96,14 @@ public final class CodeKeyMakerFactory {
                 }
                 return new InstructionDeserializerKey(getVersion(), type, null);
             }
+
+            @Override
+            public <T extends OFGeneralDeserializer> T lookup(final ByteBuf input,
+                    final DeserializerRegistry registry) {
+                int type = input.getUnsignedShort(input.readerIndex());
+                return type == EncodeConstants.EXPERIMENTER_VALUE ? registry.getDeserializer(make(input))
+                    : registry.getInstructionDeserializer(getVersion(), type);
+            }
         };
     }
 }
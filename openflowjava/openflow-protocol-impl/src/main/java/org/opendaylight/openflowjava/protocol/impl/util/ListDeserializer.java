@@ -47,7 +47,7 @@ public final class ListDeserializer {
             items = new ArrayList<>();
             int startIndex = input.readerIndex();
             while (input.readerIndex() - startIndex < length) {
-                OFDeserializer<E> deserializer = registry.getDeserializer(keyMaker.make(input));
+                OFDeserializer<E> deserializer = keyMaker.lookup(input, registry);
                 E item = deserializer.deserialize(input);
                 items.add(item);
             }
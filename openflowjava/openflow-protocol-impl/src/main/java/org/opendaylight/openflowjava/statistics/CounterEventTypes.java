@@ -62,5 +62,35 @@ public enum CounterEventTypes {
     /**
      * pass message to consumer (end of upstream).
      */
-    US_MESSAGE_PASS;
+    US_MESSAGE_PASS,
+
+    /**
+     * outbound queue segment taken from the segment pool.
+     */
+    DS_SEGMENT_POOL_HIT,
+
+    /**
+     * outbound queue segment allocated because the segment pool had none.
+     */
+    DS_SEGMENT_POOL_MISS,
+
+    /**
+     * outbound queue segment dropped because the segment pool was full.
+     */
+    DS_SEGMENT_POOL_DISCARD,
+
+    /**
+     * flush of messages written to a switch channel.
+     */
+    DS_CHANNEL_FLUSH,
+
+    /**
+     * write to a switch channel left unflushed as allowed by the flush policy.
+     */
+    DS_FLUSH_DEFERRED,
+
+    /**
+     * flush of a switch channel triggered by the flush policy's maximum delay.
+     */
+    DS_FLUSH_DELAYED;
 }
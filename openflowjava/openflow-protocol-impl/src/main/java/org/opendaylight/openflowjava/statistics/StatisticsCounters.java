@@ -46,7 +46,9 @@ public final class StatisticsCounters implements StatisticsHandler {
         CounterEventTypes.DS_FLOW_MODS_ENTERED, CounterEventTypes.DS_FLOW_MODS_SENT,
         CounterEventTypes.US_DROPPED_PACKET_IN, CounterEventTypes.US_DECODE_FAIL,
         CounterEventTypes.US_DECODE_SUCCESS, CounterEventTypes.US_MESSAGE_PASS,
-        CounterEventTypes.US_RECEIVED_IN_OFJAVA };
+        CounterEventTypes.US_RECEIVED_IN_OFJAVA, CounterEventTypes.DS_SEGMENT_POOL_HIT,
+        CounterEventTypes.DS_SEGMENT_POOL_MISS, CounterEventTypes.DS_SEGMENT_POOL_DISCARD,
+        CounterEventTypes.DS_CHANNEL_FLUSH, CounterEventTypes.DS_FLUSH_DEFERRED, CounterEventTypes.DS_FLUSH_DELAYED };
 
     /**
      * Get instance of statistics counters, first created object does not start counting and log reporting.
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.impl.core.connection.ConnectionFacade;
+import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
+import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Testing class of {@link OFBatchDecoder}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class OFBatchDecoderTest {
+    @Mock
+    private ConnectionFacade connectionFacade;
+    @Mock
+    private DeserializationFactory deserializationFactory;
+    @Mock
+    private DataObject first;
+    @Mock
+    private DataObject second;
+
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setUp() {
+        channel = new EmbeddedChannel(new OFBatchDecoder(connectionFacade, false, deserializationFactory, false));
+    }
+
+    /**
+     * All frames from a single read are delivered as one batch, a trailing partial frame waits for the next read.
+     */
+    @Test
+    public void testDecodeBatch() {
+        when(deserializationFactory.deserialize(any(ByteBuf.class), any(Uint8.class))).thenReturn(first, second);
+        final ByteBuf frames = ByteBufUtils.hexStringToByteBuf(
+            "04 00 00 08 00 00 00 01 04 00 00 08 00 00 00 02 04 00 00 08 00");
+
+        channel.writeInbound(frames);
+
+        final OFMessageBatch batch = channel.readInbound();
+        assertEquals(List.of(first, second), batch.messages());
+        assertNull(channel.readInbound());
+
+        channel.writeInbound(ByteBufUtils.hexStringToByteBuf("00 00 03"));
+
+        final OFMessageBatch next = channel.readInbound();
+        assertEquals(List.of(second), next.messages());
+        channel.finishAndReleaseAll();
+    }
+
+    /**
+     * Unsupported versions are dropped by the embedded version detector.
+     */
+    @Test
+    public void testDecodeUnsupportedVersion() {
+        channel.writeInbound(ByteBufUtils.hexStringToByteBuf("02 05 00 08 00 00 00 01"));
+
+        assertNull(channel.readInbound());
+        channel.finishAndReleaseAll();
+    }
+
+    /**
+     * Frames shorter than the header are dropped and released exactly once.
+     */
+    @Test
+    public void testDecodeTruncatedFrame() {
+        when(deserializationFactory.deserialize(any(ByteBuf.class), any(Uint8.class))).thenReturn(first);
+        final ByteBuf frames = ByteBufUtils.hexStringToByteBuf("04 00 00 04 04 00 00 08 00 00 00 01");
+
+        channel.writeInbound(frames);
+
+        final OFMessageBatch batch = channel.readInbound();
+        assertEquals(List.of(first), batch.messages());
+        verify(deserializationFactory).deserialize(any(ByteBuf.class), any(Uint8.class));
+        assertEquals(0, frames.refCnt());
+        channel.finishAndReleaseAll();
+    }
+
+    /**
+     * An empty frame is released exactly once, leaving the cumulated input intact.
+     */
+    @Test
+    public void testDecodeEmptyFrame() {
+        final ByteBuf frames = ByteBufUtils.hexStringToByteBuf("04 00 00 00 00 00 00 01");
+
+        channel.writeInbound(frames);
+
+        assertNull(channel.readInbound());
+        assertEquals(1, frames.refCnt());
+        channel.finishAndReleaseAll();
+    }
+}
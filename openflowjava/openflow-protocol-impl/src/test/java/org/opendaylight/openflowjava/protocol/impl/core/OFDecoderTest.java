@@ -9,6 +9,7 @@
 package org.opendaylight.openflowjava.protocol.impl.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -21,9 +22,16 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.protocol.impl.deserialization.DeserializationFactory;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yangtools.yang.binding.DataObject;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
 import org.opendaylight.yangtools.yang.common.Uint8;
 
 /**
@@ -37,6 +45,7 @@ public class OFDecoderTest {
     @Mock ChannelHandlerContext mockChHndlrCtx ;
     @Mock DeserializationFactory mockDeserializationFactory ;
     @Mock DataObject mockDataObject ;
+    @Mock PacketInMessage mockPacketIn;
 
     OFDecoder ofDecoder ;
     private ByteBuf writeObj;
@@ -88,4 +97,47 @@ public class OFDecoderTest {
         assertEquals(0, outList.size());
         assertEquals(0, writeObj.refCnt());
     }
+
+    @Test
+    public void testDecodeLazyPacketIn() {
+        ofDecoder.setLazyPacketIn(true);
+        final ByteBuf frame = ByteBufUtils.hexStringToByteBuf("0a 00 30 00 00 00 01 00 00 01 00 00 0e 01 02 "
+            + "01 02 03 04 05 06 07 08 00 01 00 04 00 00 00 00 00 00 "
+            + "ff ff ff ff ff ff 00 01 02 03 04 05 08 06");
+        ofDecoder.decode(mockChHndlrCtx, new VersionMessageWrapper(EncodeConstants.OF_VERSION_1_3, frame), outList);
+
+        // Only the reference held by the message remains
+        assertEquals(1, outList.size());
+        assertEquals(1, frame.refCnt());
+        final LazyPacketIn packetIn = (LazyPacketIn) outList.get(0);
+        assertEquals(EncodeConstants.OF_VERSION_1_3, packetIn.getVersion());
+        assertEquals(Uint32.ONE, packetIn.getXid());
+        assertEquals(Uint32.valueOf(256), packetIn.getBufferId());
+        assertEquals(Uint16.valueOf(14), packetIn.getTotalLen());
+        assertEquals(PacketInReason.OFPRACTION, packetIn.getReason());
+        assertEquals(Uint8.TWO, packetIn.getTableId());
+        assertEquals(Uint64.valueOf(0x0102030405060708L), packetIn.getCookie());
+        assertEquals(0x0806, packetIn.getEthertype());
+        assertEquals(14, packetIn.getPayload().readableBytes());
+
+        when(mockDeserializationFactory.deserialize(any(ByteBuf.class), any(Uint8.class))).thenReturn(mockPacketIn);
+        assertSame(mockPacketIn, packetIn.toPacketInMessage());
+        assertSame(mockPacketIn, packetIn.toPacketInMessage());
+
+        packetIn.release();
+        assertEquals(0, frame.refCnt());
+    }
+
+    @Test
+    public void testDecodeLazyPacketInTruncated() {
+        ofDecoder.setLazyPacketIn(true);
+        final ByteBuf frame = ByteBufUtils.hexStringToByteBuf("0a 00 10 00 00 00 01 00 00 01 00 00 0e 01 02");
+        when(mockDeserializationFactory.deserialize(any(ByteBuf.class), any(Uint8.class))).thenReturn(mockDataObject);
+
+        ofDecoder.decode(mockChHndlrCtx, new VersionMessageWrapper(EncodeConstants.OF_VERSION_1_3, frame), outList);
+
+        // Falls back to the usual decoding
+        assertEquals(mockDataObject, outList.get(0));
+        assertEquals(0, frame.refCnt());
+    }
 }
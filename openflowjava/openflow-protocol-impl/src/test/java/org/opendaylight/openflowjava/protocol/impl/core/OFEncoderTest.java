@@ -8,6 +8,8 @@
 
 package org.opendaylight.openflowjava.protocol.impl.core;
 
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -88,6 +90,20 @@ public class OFEncoderTest {
         verify(mockOut, times(1)).clear();
     }
 
+    /**
+     * Test serialization failure of an unwrapped message fails the write.
+     */
+    @Test
+    public void testEncodeUnwrappedSerializationException() throws Exception {
+        when(mockMsg.getVersion()).thenReturn(Uint8.valueOf(EncodeConstants.OF13_VERSION_ID));
+        final IllegalArgumentException cause = new IllegalArgumentException();
+        doThrow(cause).when(mockSerializationFactory).messageToBuffer(any(Uint8.class), any(ByteBuf.class),
+                any(DataObject.class));
+
+        assertSame(cause, assertThrows(IllegalArgumentException.class,
+            () -> ofEncoder.encode(mockChHndlrCtx, mockMsg, mockOut)));
+    }
+
     /**
      * Test no action on empty bytebuf.
      */
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.FutureCallback;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.FlushPolicy;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
+import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueueHandler;
+import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
+import org.opendaylight.openflowjava.protocol.impl.core.PipelineHandlers;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoInputBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
+import org.opendaylight.yangtools.yang.common.Uint32;
+
+/**
+ * Test of flushing the stacked outbound queue to the channel as governed by its {@link FlushPolicy}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StackedOutboundQueueTest {
+    private static final long LONG_DELAY_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final long SHORT_DELAY_MICROS = TimeUnit.MILLISECONDS.toMicros(10);
+
+    @Mock
+    private OutboundQueueHandler handler;
+    @Mock
+    private FutureCallback<OfHeader> callback;
+
+    private EmbeddedChannel channel;
+    private OutboundQueue queue;
+
+    @After
+    public void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testImmediateFlush() {
+        register(FlushPolicy.IMMEDIATE);
+
+        commit(2);
+        assertEquals(2, channel.outboundMessages().size());
+    }
+
+    /**
+     * Writes are deferred until the message limit is reached.
+     */
+    @Test
+    public void testDeferredFlush() {
+        register(new FlushPolicy(3, 0, LONG_DELAY_MICROS));
+
+        commit(2);
+        assertEquals(0, channel.outboundMessages().size());
+
+        commit(1);
+        assertEquals(3, channel.outboundMessages().size());
+    }
+
+    /**
+     * Deferred writes are flushed once the maximum delay expires.
+     */
+    @Test
+    public void testTimerFlush() throws InterruptedException {
+        register(new FlushPolicy(0, 0, SHORT_DELAY_MICROS));
+
+        commit(1);
+        assertEquals(0, channel.outboundMessages().size());
+
+        Thread.sleep(TimeUnit.MICROSECONDS.toMillis(SHORT_DELAY_MICROS) * 2);
+        channel.runPendingTasks();
+        assertEquals(1, channel.outboundMessages().size());
+    }
+
+    /**
+     * Deferred writes are flushed as soon as they make the channel unwritable, regardless of the limits.
+     */
+    @Test
+    public void testUnwritableFlush() {
+        register(new FlushPolicy(100, 0, LONG_DELAY_MICROS));
+        // Every message is estimated to take 8 bytes, hence the third one makes the channel unwritable
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+
+        commit(2);
+        assertEquals(0, channel.outboundMessages().size());
+
+        commit(1);
+        assertEquals(3, channel.outboundMessages().size());
+    }
+
+    @Test
+    public void testLimitsWithoutDelay() {
+        assertThrows(IllegalArgumentException.class, () -> new FlushPolicy(10, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new FlushPolicy(0, 1024, 0));
+    }
+
+    private void register(final FlushPolicy flushPolicy) {
+        channel = new EmbeddedChannel();
+        channel.pipeline().addLast(PipelineHandlers.DELEGATING_INBOUND_HANDLER.name(),
+            new ChannelInboundHandlerAdapter());
+
+        final ConnectionAdapterImpl adapter = new ConnectionAdapterImpl(channel, null, false, 128);
+        adapter.setFlushPolicy(flushPolicy);
+        adapter.registerOutboundQueueHandler(handler, 128, TimeUnit.SECONDS.toNanos(1));
+
+        final ArgumentCaptor<OutboundQueue> captor = ArgumentCaptor.forClass(OutboundQueue.class);
+        verify(handler).onConnectionQueueChanged(captor.capture());
+        queue = captor.getValue();
+    }
+
+    private void commit(final int count) {
+        for (int i = 0; i < count; ++i) {
+            final Uint32 xid = queue.reserveEntry();
+            queue.commitEntry(xid, new EchoInputBuilder().setVersion(EncodeConstants.OF_VERSION_1_3).setXid(xid)
+                .build(), callback);
+        }
+        channel.runPendingTasks();
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowjava.protocol.impl.core.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link StackedSegmentPool} and {@link StackedSegment} sizing.
+ */
+public class StackedSegmentPoolTest {
+
+    @Test
+    public void testSegmentSizeFor() {
+        assertEquals(StackedSegment.MIN_SEGMENT_SIZE, StackedSegment.segmentSizeFor(0));
+        assertEquals(StackedSegment.MIN_SEGMENT_SIZE, StackedSegment.segmentSizeFor(256));
+        assertEquals(512, StackedSegment.segmentSizeFor(257));
+        assertEquals(2048, StackedSegment.segmentSizeFor(2048));
+        assertEquals(StackedSegment.MAX_SEGMENT_SIZE, StackedSegment.segmentSizeFor(3000));
+        assertEquals(StackedSegment.MAX_SEGMENT_SIZE, StackedSegment.segmentSizeFor(100000));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSize() {
+        StackedSegment.sizeClass(300);
+    }
+
+    /**
+     * Recycled segments are reused for the same size class only.
+     */
+    @Test
+    public void testReuse() {
+        final StackedSegmentPool pool = new StackedSegmentPool(StackedSegment.MAX_SEGMENT_SIZE);
+        final StackedSegment first = StackedSegment.create(pool, 0, 256);
+        final OutboundQueueEntry entry = first.getEntry(0);
+        assertEquals(256, first.getEndXid());
+        first.recycle();
+        assertEquals(256, pool.getPooledEntries());
+
+        final StackedSegment other = StackedSegment.create(pool, 0, 512);
+        assertNotSame(entry, other.getEntry(0));
+        final StackedSegment second = StackedSegment.create(pool, 256, 256);
+        assertSame(entry, second.getEntry(0));
+        assertEquals(0, pool.getPooledEntries());
+        assertEquals(1, pool.getHits());
+        assertEquals(2, pool.getMisses());
+    }
+
+    /**
+     * Segments returned to a full pool are dropped.
+     */
+    @Test
+    public void testCapacity() {
+        final StackedSegmentPool pool = new StackedSegmentPool(StackedSegment.MAX_SEGMENT_SIZE);
+        final StackedSegment first = StackedSegment.create(pool, 0, StackedSegment.MAX_SEGMENT_SIZE);
+        final StackedSegment second = StackedSegment.create(pool, StackedSegment.MAX_SEGMENT_SIZE, 256);
+        first.recycle();
+        second.recycle();
+
+        assertEquals(StackedSegment.MAX_SEGMENT_SIZE, pool.getPooledEntries());
+        assertEquals(1, pool.getDiscards());
+    }
+}
@@ -13,10 +13,18 @@ import static org.opendaylight.openflowjava.protocol.api.util.EncodeConstants.OF
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFDeserializer;
+import org.opendaylight.openflowjava.protocol.api.extensibility.OFGeneralDeserializer;
+import org.opendaylight.openflowjava.protocol.api.keys.ActionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.InstructionDeserializerKey;
+import org.opendaylight.openflowjava.protocol.api.keys.MatchEntryDeserializerKey;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageCodeKey;
+import org.opendaylight.openflowjava.protocol.api.util.OxmMatchConstants;
 import org.opendaylight.openflowjava.protocol.impl.util.MatchDeserializer;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.entries.grouping.MatchEntry;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.grouping.Match;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.oxm.rev150225.match.v10.grouping.MatchV10;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.PacketInMessage;
 import org.opendaylight.yangtools.yang.common.Uint8;
 
 /**
@@ -85,4 +93,51 @@ public class DeserializerRegistryImplTest {
         registry.getDeserializer(new MessageCodeKey(Uint8.MAX_VALUE, EMPTY_VALUE, MatchV10.class));
         Assert.fail();
     }
+
+    /**
+     * Test - fast-path lookups resolve the same deserializers as key-based lookups.
+     */
+    @Test
+    public void testDispatchTableLookups() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+
+        Assert.assertSame(registry.getDeserializer(new MessageCodeKey(OF_VERSION_1_3, 10, PacketInMessage.class)),
+            registry.getMessageDeserializer(OF_VERSION_1_3, 10, PacketInMessage.class));
+        Assert.assertSame(registry.getDeserializer(new MessageCodeKey(OF_VERSION_1_3, EMPTY_VALUE, Match.class)),
+            registry.getMessageDeserializer(OF_VERSION_1_3, EMPTY_VALUE, Match.class));
+        Assert.assertSame(registry.getDeserializer(new MatchEntryDeserializerKey(OF_VERSION_1_3,
+                OxmMatchConstants.OPENFLOW_BASIC_CLASS, OxmMatchConstants.IN_PORT)),
+            registry.getMatchEntryDeserializer(OF_VERSION_1_3, OxmMatchConstants.OPENFLOW_BASIC_CLASS,
+                OxmMatchConstants.IN_PORT));
+        Assert.assertSame(registry.getDeserializer(new ActionDeserializerKey(OF_VERSION_1_0, 0, null)),
+            registry.getActionDeserializer(OF_VERSION_1_0, 0));
+        Assert.assertSame(registry.getDeserializer(new InstructionDeserializerKey(OF_VERSION_1_3, 1, null)),
+            registry.getInstructionDeserializer(OF_VERSION_1_3, 1));
+    }
+
+    /**
+     * Test - fast-path lookups track registrations performed after init.
+     */
+    @Test
+    public void testDispatchTableRefresh() {
+        DeserializerRegistryImpl registry = new DeserializerRegistryImpl();
+        registry.init();
+
+        final MatchEntryDeserializerKey key = new MatchEntryDeserializerKey(OF_VERSION_1_3,
+            OxmMatchConstants.NXM_1_CLASS, 33);
+        final OFDeserializer<MatchEntry> deserializer = input -> null;
+        registry.registerDeserializer(key, deserializer);
+        Assert.assertSame(deserializer, registry.getMatchEntryDeserializer(OF_VERSION_1_3,
+            OxmMatchConstants.NXM_1_CLASS, 33));
+
+        Assert.assertTrue(registry.unregisterDeserializer(key));
+        try {
+            registry.<OFGeneralDeserializer>getMatchEntryDeserializer(OF_VERSION_1_3, OxmMatchConstants.NXM_1_CLASS,
+                33);
+            Assert.fail("Deserializer should have been unregistered");
+        } catch (IllegalStateException e) {
+            // Expected
+        }
+    }
 }
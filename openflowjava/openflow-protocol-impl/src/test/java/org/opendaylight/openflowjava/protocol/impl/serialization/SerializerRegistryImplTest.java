@@ -59,4 +59,22 @@ public class SerializerRegistryImplTest {
         Assert.assertFalse("Wrong - unregister serializer",
                 serReg.unregisterSerializer(new MessageTypeKey<>(OF_VERSION_1_0, Match.class)));
     }
+
+    /**
+     * Test - type lookups follow registrations made after init.
+     */
+    @Test
+    public void testTypeLookup() {
+        SerializerRegistryImpl serReg = new SerializerRegistryImpl();
+        serReg.init();
+        Assert.assertSame(serReg.getSerializer(new MessageTypeKey<>(OF_VERSION_1_3, Match.class)),
+                serReg.getSerializer(OF_VERSION_1_3, Match.class));
+
+        final OF13MatchSerializer serializer = new OF13MatchSerializer();
+        serReg.registerSerializer(new MessageTypeKey<>(OF_VERSION_1_3, Match.class), serializer);
+        Assert.assertSame(serializer, serReg.getSerializer(OF_VERSION_1_3, Match.class));
+
+        serReg.unregisterSerializer(new MessageTypeKey<>(OF_VERSION_1_3, Match.class));
+        Assert.assertThrows(IllegalStateException.class, () -> serReg.getSerializer(OF_VERSION_1_3, Match.class));
+    }
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.openflowplugin.api.openflow;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
@@ -23,6 +24,8 @@ public class ReconciliationState {
 
     private ReconciliationStatus status;
     private LocalDateTime time;
+    private long messages;
+    private @Nullable Duration duration;
 
     public ReconciliationState(@Nullable ReconciliationStatus status, LocalDateTime time) {
         this.status = status;
@@ -38,9 +41,27 @@ public class ReconciliationState {
         this.time = timing;
     }
 
+    /**
+     * Record the number of messages sent to the device and the time the reconciliation took.
+     *
+     * @param messageCount number of flow, group and control messages sent
+     * @param took duration of the reconciliation
+     */
+    public void setStatistics(long messageCount, Duration took) {
+        this.messages = messageCount;
+        this.duration = took;
+    }
+
     @Override
     public String toString() {
-        return String.format("%-25s %-25s", this.status, this.time);
+        final String state = String.format("%-25s %-25s", this.status, this.time);
+        final Duration took = this.duration;
+        if (took == null) {
+            return state;
+        }
+        final long nanos = Math.max(took.toNanos(), 1);
+        return String.format("%s %d messages in %d ms (%d msg/s)", state, messages, took.toMillis(),
+            messages * 1_000_000_000L / nanos);
     }
 }
 
@@ -123,7 +123,59 @@ public enum ConfigurationProperty {
     /**
      * Delay for Device removal from Operational DataStore.
      */
-    DEVICE_DATASTORE_REMOVAL_DELAY;
+    DEVICE_DATASTORE_REMOVAL_DELAY,
+    /**
+     * Incremental flow registry fill property type.
+     */
+    INCREMENTAL_FLOW_REGISTRY_FILL,
+    /**
+     * Packet in rate limit property type.
+     */
+    PACKET_IN_RATE_LIMIT,
+    /**
+     * Flow statistics minimum delta property type.
+     */
+    FLOW_STATISTICS_MIN_DELTA,
+    /**
+     * Statistics polling concurrency property type.
+     */
+    STATISTICS_POLLING_CONCURRENCY,
+    /**
+     * Adaptive statistics polling property type.
+     */
+    ADAPTIVE_STATISTICS_POLLING,
+    /**
+     * Transaction batch size property type.
+     */
+    TRANSACTION_BATCH_SIZE,
+    /**
+     * Transaction batch delay property type.
+     */
+    TRANSACTION_BATCH_DELAY,
+    /**
+     * Transaction maximum outstanding commits property type.
+     */
+    TRANSACTION_MAX_OUTSTANDING_COMMITS,
+    /**
+     * Handshake concurrency property type.
+     */
+    HANDSHAKE_CONCURRENCY,
+    /**
+     * Context creation concurrency property type.
+     */
+    CONTEXT_CREATION_CONCURRENCY,
+    /**
+     * Mastership concurrency property type.
+     */
+    MASTERSHIP_CONCURRENCY,
+    /**
+     * Feature discovery concurrency property type.
+     */
+    FEATURE_DISCOVERY_CONCURRENCY,
+    /**
+     * Connection stage queue size property type.
+     */
+    CONNECTION_STAGE_QUEUE_SIZE;
 
     private static final Map<String, ConfigurationProperty> KEY_VALUE_MAP;
 
@@ -99,6 +99,12 @@ public interface DeviceContext extends
      */
     void updatePacketInRateLimit(long upperBound);
 
+    /**
+     * change packetIn admission rate.
+     * @param packetsPerSecond rate of packetIns admitted from this device, 0 if unlimited
+     */
+    void updatePacketInAdmissionRate(long packetsPerSecond);
+
     /**
      * Checks if device and controller supports single layer serialization.
      * @return true if single layer serialization is supported
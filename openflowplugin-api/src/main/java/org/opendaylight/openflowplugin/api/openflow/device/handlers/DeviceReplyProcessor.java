@@ -9,6 +9,7 @@
 package org.opendaylight.openflowplugin.api.openflow.device.handlers;
 
 import java.util.List;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowplugin.api.openflow.device.Xid;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.ExperimenterMessage;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FlowRemoved;
@@ -52,6 +53,14 @@ public interface DeviceReplyProcessor {
      */
     void processPacketInMessage(PacketInMessage packetInMessage);
 
+    /**
+     * Method process async packet in from device, which has not been fully decoded yet.
+     * @param packetIn packet in message, valid only until this method returns
+     */
+    default void processLazyPacketInMessage(final LazyPacketIn packetIn) {
+        processPacketInMessage(packetIn.toPacketInMessage());
+    }
+
     /**
      * Processing of experimenter symmetric message from device.
      * @param notification notification
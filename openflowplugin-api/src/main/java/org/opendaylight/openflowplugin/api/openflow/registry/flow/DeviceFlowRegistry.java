@@ -36,6 +36,43 @@ public interface DeviceFlowRegistry extends CommonDeviceRegistry<FlowRegistryKey
 
     void clearFlowRegistry();
 
+    /**
+     * Start tracking which flows are stored in this registry, either through {@link #store(Object)} or
+     * {@link #storeDescriptor(FlowRegistryKey, FlowDescriptor)}. This is used to find flows which were not reported
+     * by the device during a single flow statistics reply.
+     */
+    void startStoreTracking();
+
+    /**
+     * Stop tracking started by {@link #startStoreTracking()}. If the device reported all of its flows, flows which
+     * have not been stored since tracking started are removed from this registry, so that they are reported only once.
+     *
+     * @param complete true if the device reported all of its flows while tracking
+     * @return descriptors of registered flows which have not been stored since tracking started, together with
+     *         descriptors removed from this registry since tracking was last finished, empty if tracking was not
+     *         started or the device did not report all of its flows
+     */
+    @NonNull List<FlowDescriptor> finishStoreTracking(boolean complete);
+
+    /**
+     * Check whether statistics of a flow have not changed enough, since they were last written to the operational
+     * data store, to be written again. If they have, they are remembered as written until {@link #clearStatistics()}.
+     *
+     * @param flowDescriptor flow descriptor of the flow
+     * @param packetCount reported packet count
+     * @param byteCount reported byte count
+     * @param durationSeconds reported duration, in seconds
+     * @return true if writing the statistics can be skipped
+     */
+    boolean isStatisticsUnchanged(@NonNull FlowDescriptor flowDescriptor, long packetCount, long byteCount,
+        long durationSeconds);
+
+    /**
+     * Forget statistics remembered by {@link #isStatisticsUnchanged(FlowDescriptor, long, long, long)}, for example
+     * because flows were removed from the operational data store or the transactions writing them failed.
+     */
+    void clearStatistics();
+
     @Beta
     void appendHistoryFlow(@NonNull FlowId id, Uint8 tableId, @NonNull FlowGroupStatus status);
 }
@@ -34,6 +34,22 @@ public interface MessageSpy extends Runnable {
          * packetIn from switch reached processing limit and got dropped.
          */
         FROM_SWITCH_PACKET_IN_LIMIT_REACHED_AND_DROPPED,
+        /**
+         * packetIn from switch admitted by rate limiting.
+         */
+        FROM_SWITCH_PACKET_IN_ADMITTED,
+        /**
+         * priority (LLDP, ARP) packetIn from switch admitted by rate limiting.
+         */
+        FROM_SWITCH_PACKET_IN_PRIORITY_ADMITTED,
+        /**
+         * packetIn from switch exceeded device rate and got dropped.
+         */
+        FROM_SWITCH_PACKET_IN_DEVICE_RATE_DROPPED,
+        /**
+         * packetIn from switch exceeded its table-id/reason rate and got dropped.
+         */
+        FROM_SWITCH_PACKET_IN_TABLE_RATE_DROPPED,
         /**
          * message from switch to MD-SAL  - notification service rejected notification.
          */
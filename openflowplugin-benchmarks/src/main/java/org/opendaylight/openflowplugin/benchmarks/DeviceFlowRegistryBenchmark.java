@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKey;
+import org.opendaylight.openflowplugin.impl.registry.flow.DeviceFlowRegistryImpl;
+import org.opendaylight.openflowplugin.impl.registry.flow.FlowDescriptorFactory;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.FlowCookie;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.MatchBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.model.match.types.rev131026.match.MetadataBuilder;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link DeviceFlowRegistryImpl} lookups and updates on a registry holding a large number of flows, spread
+ * across a few tables. Run with {@code -t} to measure contention, for example
+ * {@code java -jar target/benchmarks.jar DeviceFlowRegistry -t 8}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DeviceFlowRegistryBenchmark {
+    /**
+     * Per-thread position in the key space.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        @Setup(Level.Trial)
+        public void setup(final DeviceFlowRegistryBenchmark benchmark) {
+            // Spread threads over the key space
+            next = (int) (Thread.currentThread().getId() * 7919 % benchmark.entries);
+        }
+
+        int next(final int entries) {
+            final int ret = next;
+            next = ret + 1 == entries ? 0 : ret + 1;
+            return ret;
+        }
+    }
+
+    // JMH injects parameters into public fields
+    @Param("1000000")
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public int entries;
+
+    @Param("4")
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    public int tables;
+
+    private DeviceFlowRegistryImpl registry;
+    private Flow[] flows;
+    private FlowRegistryKey[] keys;
+    private FlowDescriptor[] descriptors;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // The registry only touches the broker in fill(), which we do not benchmark
+        final DataBroker dataBroker = (DataBroker) Proxy.newProxyInstance(DataBroker.class.getClassLoader(),
+            new Class<?>[] { DataBroker.class }, (proxy, method, args) -> {
+                throw new UnsupportedOperationException(method.toString());
+            });
+        registry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+            InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1"))),
+            info -> { });
+
+        flows = new Flow[entries];
+        keys = new FlowRegistryKey[entries];
+        descriptors = new FlowDescriptor[entries];
+        for (int i = 0; i < entries; ++i) {
+            final Uint8 tableId = Uint8.valueOf(i % tables);
+            final FlowId flowId = new FlowId("flow-" + i);
+            flows[i] = new FlowBuilder()
+                .setId(flowId)
+                .setTableId(tableId)
+                .setPriority(Uint16.valueOf(i % 0xFFFF))
+                .setCookie(new FlowCookie(Uint64.valueOf(i)))
+                .setMatch(new MatchBuilder()
+                    .setMetadata(new MetadataBuilder().setMetadata(Uint64.valueOf(i)).build())
+                    .build())
+                .build();
+            keys[i] = registry.createKey(flows[i]);
+            descriptors[i] = FlowDescriptorFactory.create(tableId, flowId);
+            registry.storeDescriptor(keys[i], descriptors[i]);
+        }
+    }
+
+    @Benchmark
+    public FlowRegistryKey createKey(final Cursor cursor) {
+        return registry.createKey(flows[cursor.next(entries)]);
+    }
+
+    @Benchmark
+    public FlowDescriptor retrieve(final Cursor cursor) {
+        return registry.retrieveDescriptor(keys[cursor.next(entries)]);
+    }
+
+    @Benchmark
+    public FlowDescriptor retrieveFreshKey(final Cursor cursor) {
+        // What statistics gathering does: build a key from a flow reported by the switch and look it up
+        return registry.retrieveDescriptor(registry.createKey(flows[cursor.next(entries)]));
+    }
+
+    @Benchmark
+    public void removeAndStore(final Cursor cursor) {
+        // Keep the registry size constant
+        final int index = cursor.next(entries);
+        registry.addMark(keys[index]);
+        registry.storeDescriptor(keys[index], descriptors[index]);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.common.txchain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of non-negative values with power-of-two buckets. Bucket 0 counts zeroes, bucket {@code n} counts values
+ * in {@code [2^(n-1), 2^n)}.
+ */
+public final class CommitHistogram {
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Record a value. Negative values are recorded as zero.
+     *
+     * @param value recorded value
+     */
+    public void record(final long value) {
+        counts.incrementAndGet(value <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value));
+    }
+
+    /**
+     * Get the number of recorded values in a bucket.
+     *
+     * @param bucket bucket index
+     * @return number of recorded values
+     */
+    public long count(final int bucket) {
+        return counts.get(bucket);
+    }
+
+    /**
+     * Describe non-empty buckets.
+     *
+     * @param unit unit of recorded values, appended to bucket bounds
+     * @return one line per non-empty bucket
+     */
+    public List<String> describe(final String unit) {
+        final List<String> ret = new ArrayList<>();
+        for (int i = 0; i < BUCKETS; ++i) {
+            final long count = counts.get(i);
+            if (count != 0) {
+                ret.add(i == 0 ? String.format("0%s: %d", unit, count)
+                    : String.format("%d-%d%s: %d", 1L << i - 1, (1L << i - 1) * 2 - 1, unit, count));
+            }
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.common.txchain;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Group commit settings shared by {@link TransactionChainManager}s. A commit requested through
+ * {@link TransactionChainManager#submitTransaction()} is delayed until the transaction holds enough write operations
+ * or the maximum delay expires, so that writes requested in quick succession are committed together. Each chain has
+ * a bounded number of commits in flight, further commits wait for one of them to complete.
+ */
+public final class GroupCommit implements GroupCommitMXBean {
+    private final CommitHistogram batchSizes = new CommitHistogram();
+    private final CommitHistogram commitLatencies = new CommitHistogram();
+    private final ScheduledExecutorService timer;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final int maxOutstandingCommits;
+
+    /**
+     * Create new settings.
+     *
+     * @param timer executor running delayed commits
+     * @param maxBatchSize number of write operations at which a requested commit is issued right away
+     * @param maxDelay maximum delay of a requested commit
+     * @param unit unit of {@code maxDelay}
+     * @param maxOutstandingCommits maximum number of commits in flight per chain
+     */
+    public GroupCommit(@NonNull final ScheduledExecutorService timer, final int maxBatchSize, final long maxDelay,
+            @NonNull final TimeUnit unit, final int maxOutstandingCommits) {
+        checkArgument(maxBatchSize > 0, "Invalid batch size %s", maxBatchSize);
+        checkArgument(maxDelay >= 0, "Invalid delay %s", maxDelay);
+        checkArgument(maxOutstandingCommits > 0, "Invalid number of outstanding commits %s", maxOutstandingCommits);
+        this.timer = requireNonNull(timer);
+        this.maxBatchSize = maxBatchSize;
+        maxDelayNanos = unit.toNanos(maxDelay);
+        this.maxOutstandingCommits = maxOutstandingCommits;
+    }
+
+    ScheduledExecutorService timer() {
+        return timer;
+    }
+
+    int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    long maxDelayNanos() {
+        return maxDelayNanos;
+    }
+
+    int maxOutstandingCommits() {
+        return maxOutstandingCommits;
+    }
+
+    void recordCommit(final int batchSize) {
+        batchSizes.record(batchSize);
+    }
+
+    void recordCommitLatency(final long nanos) {
+        commitLatencies.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    @Override
+    public List<String> getBatchSizes() {
+        return batchSizes.describe("");
+    }
+
+    @Override
+    public List<String> getCommitLatencies() {
+        return commitLatencies.describe("us");
+    }
+}
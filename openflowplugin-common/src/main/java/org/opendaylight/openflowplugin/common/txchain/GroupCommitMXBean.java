@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.common.txchain;
+
+import java.util.List;
+import javax.management.MXBean;
+
+/**
+ * Exposes histograms of transactions committed by {@link TransactionChainManager}s sharing a {@link GroupCommit}.
+ */
+@MXBean
+public interface GroupCommitMXBean {
+    /**
+     * Get the histogram of the number of write operations in a committed transaction.
+     *
+     * @return one line per non-empty bucket
+     */
+    List<String> getBatchSizes();
+
+    /**
+     * Get the histogram of the time from committing a transaction until the commit completes.
+     *
+     * @return one line per non-empty bucket
+     */
+    List<String> getCommitLatencies();
+}
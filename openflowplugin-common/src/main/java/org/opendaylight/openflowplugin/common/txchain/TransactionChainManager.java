@@ -16,13 +16,20 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.checkerframework.checker.lock.qual.Holding;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadWriteTransaction;
 import org.opendaylight.mdsal.binding.api.TransactionChain;
@@ -43,32 +50,111 @@ import org.slf4j.LoggerFactory;
  * package-protected methods for writeToTransaction
  * method (wrapped {@link WriteTransaction#put(LogicalDatastoreType, InstanceIdentifier, DataObject)})
  * and submitTransaction method (wrapped {@link WriteTransaction#commit()}).
+ *
+ * <p>
+ * Write, merge and delete operations and asynchronous commit requests are staged in a lock-free queue and applied
+ * to the transaction in the order they were staged by whichever thread holds the transaction lock, so callers never
+ * wait for the lock, which may be held for a long time by a synchronous commit. Reads, synchronous commits and life
+ * cycle changes take the lock and apply the staged operations first. A staged operation failing when applied does not
+ * prevent the others from being applied, its exception is thrown to the next caller staging an operation, reading or
+ * committing synchronously, which is the caller that staged it unless another thread was holding the lock.
+ *
+ * <p>
+ * When constructed with a {@link GroupCommit}, commits requested by submitTransaction are delayed and coalesced, see
+ * {@link GroupCommit} for details.
  */
 public class TransactionChainManager implements AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(TransactionChainManager.class);
     private static final String CANNOT_WRITE_INTO_TRANSACTION = "Cannot write into transaction.";
+    private static final FutureCallback<CommitInfo> COMMIT_LOGGER = new FutureCallback<>() {
+        @Override
+        public void onSuccess(final CommitInfo result) {
+            //NOOP
+        }
+
+        @Override
+        public void onFailure(final Throwable throwable) {
+            if (throwable instanceof InterruptedException || throwable instanceof ExecutionException) {
+                LOG.error("Transaction commit failed. ", throwable);
+            } else if (throwable instanceof CancellationException) {
+                LOG.warn("Submit task was canceled");
+                LOG.trace("Submit exception: ", throwable);
+            } else {
+                LOG.error("Exception during transaction submitting. ", throwable);
+            }
+        }
+    };
+
+    /**
+     * Staged request to commit the write transaction.
+     */
+    private static final StagedOperation SUBMIT = tx -> { };
 
     private final ReadWriteLock readWriteTransactionLock = new ReentrantReadWriteLock();
-    private final Object txLock = new Object();
+    private final ReentrantLock txLock = new ReentrantLock();
+    private final Queue<StagedOperation> stagedOperations = new ConcurrentLinkedQueue<>();
+    // Failure of a staged operation, not reported to any caller yet
+    private final AtomicReference<RuntimeException> stagedFailure = new AtomicReference<>();
     private final DataBroker dataBroker;
     private final String nodeId;
+    private final @Nullable GroupCommit groupCommit;
+    private final @Nullable Runnable chainFailureListener;
 
     @GuardedBy("txLock")
     private ReadWriteTransaction writeTx;
     @GuardedBy("txLock")
     private TransactionChain transactionChain;
-    @GuardedBy("txLock")
-    private boolean submitIsEnabled;
+    // Written with txLock held, read without it when staging a commit request
+    private volatile boolean submitIsEnabled;
+    // Written with txLock held, read without it when staging an operation
+    private volatile boolean acceptingWrites;
     @GuardedBy("txLock")
     private FluentFuture<? extends CommitInfo> lastSubmittedFuture = CommitInfo.emptyFluentFuture();
     @GuardedBy("txLock")
     private TransactionChainManagerStatus transactionChainManagerStatus = TransactionChainManagerStatus.SLEEPING;
+    @GuardedBy("txLock")
+    private int writeTxOperations;
+    @GuardedBy("txLock")
+    private boolean commitRequested;
+    @GuardedBy("txLock")
+    private boolean commitOverdue;
+    @GuardedBy("txLock")
+    private int outstandingCommits;
+    @GuardedBy("txLock")
+    private long commitGeneration;
+    // Commit generation when group commit was last reset, commits issued up to it are no longer accounted for
+    @GuardedBy("txLock")
+    private long resetGeneration;
+    @GuardedBy("txLock")
+    private ScheduledFuture<?> delayedCommit;
 
     private volatile boolean initCommit;
 
     public TransactionChainManager(final DataBroker dataBroker, final String nodeId) {
+        this(dataBroker, nodeId, null);
+    }
+
+    public TransactionChainManager(final DataBroker dataBroker, final String nodeId,
+                                   final @Nullable GroupCommit groupCommit) {
+        this(dataBroker, nodeId, groupCommit, null);
+    }
+
+    /**
+     * Create a transaction chain manager.
+     *
+     * @param dataBroker data broker
+     * @param nodeId node identifier, used for logging
+     * @param groupCommit group commit settings, null to commit on every request
+     * @param chainFailureListener invoked, without any lock held, once the transaction chain failed and was
+     *                             recreated, meaning that operations written since the last successful commit were lost
+     */
+    public TransactionChainManager(final DataBroker dataBroker, final String nodeId,
+                                   final @Nullable GroupCommit groupCommit,
+                                   final @Nullable Runnable chainFailureListener) {
         this.dataBroker = requireNonNull(dataBroker);
         this.nodeId = requireNonNull(nodeId);
+        this.groupCommit = groupCommit;
+        this.chainFailureListener = chainFailureListener;
     }
 
     @Holding("txLock")
@@ -90,6 +176,13 @@ public class TransactionChainManager implements AutoCloseable {
                 onTransactionChainFailed(next, cause);
             }
         });
+        updateAcceptingWrites();
+    }
+
+    @Holding("txLock")
+    private void updateAcceptingWrites() {
+        acceptingWrites = TransactionChainManagerStatus.WORKING == transactionChainManagerStatus
+            && transactionChain != null;
     }
 
     public boolean initialSubmitWriteTransaction() {
@@ -104,7 +197,8 @@ public class TransactionChainManager implements AutoCloseable {
      */
     public void activateTransactionManager() {
         LOG.debug("activateTransactionManager for node {} transaction submit is set to {}", nodeId, submitIsEnabled);
-        synchronized (txLock) {
+        txLock.lock();
+        try {
             if (TransactionChainManagerStatus.SLEEPING == transactionChainManagerStatus) {
                 Preconditions.checkState(transactionChain == null, "TxChainFactory survive last close.");
                 Preconditions.checkState(writeTx == null, "We have some unexpected WriteTransaction.");
@@ -113,6 +207,8 @@ public class TransactionChainManager implements AutoCloseable {
                 initCommit = true;
                 createTxChain();
             }
+        } finally {
+            unlockTx();
         }
     }
 
@@ -125,39 +221,57 @@ public class TransactionChainManager implements AutoCloseable {
     public FluentFuture<?> deactivateTransactionManager() {
         LOG.debug("deactivateTransactionManager for node {}", nodeId);
         final FluentFuture<? extends CommitInfo> future;
-        synchronized (txLock) {
+        txLock.lock();
+        try {
             if (TransactionChainManagerStatus.WORKING == transactionChainManagerStatus) {
+                // Operations staged so far are committed or cancelled together with the transaction
+                applyStagedOperations();
                 transactionChainManagerStatus = TransactionChainManagerStatus.SLEEPING;
+                updateAcceptingWrites();
                 future = txChainShuttingDown();
                 Preconditions.checkState(writeTx == null, "We have some unexpected WriteTransaction.");
                 future.addCallback(new FutureCallback<CommitInfo>() {
                     @Override
                     public void onSuccess(final CommitInfo result) {
-                        closeTransactionChain();
+                        closeTransactionChainLocked();
                     }
 
                     @Override
                     public void onFailure(final Throwable throwable) {
-                        closeTransactionChain();
+                        closeTransactionChainLocked();
                     }
                 }, MoreExecutors.directExecutor());
             } else {
                 // ignoring redundant deactivate invocation
                 future = CommitInfo.emptyFluentFuture();
             }
+        } finally {
+            unlockTx();
         }
         return future;
     }
 
+    private void closeTransactionChainLocked() {
+        txLock.lock();
+        try {
+            closeTransactionChain();
+        } finally {
+            unlockTx();
+        }
+    }
+
+    @Holding("txLock")
     private void closeTransactionChain() {
         if (writeTx != null) {
             writeTx.cancel();
             writeTx = null;
         }
+        resetGroupCommit();
         if (transactionChain != null) {
             transactionChain.close();
             transactionChain = null;
         }
+        updateAcceptingWrites();
     }
 
     @GuardedBy("txLock")
@@ -166,9 +280,24 @@ public class TransactionChainManager implements AutoCloseable {
     }
 
     @GuardedBy("txLock")
-    @SuppressWarnings("checkstyle:IllegalCatch")
     public boolean submitTransaction(final boolean doSync) {
-        synchronized (txLock) {
+        if (initCommit || doSync) {
+            return submitTransactionSync(doSync);
+        }
+        if (!submitIsEnabled) {
+            LOG.trace("transaction not committed - submit block issued");
+            return false;
+        }
+        stage(SUBMIT);
+        return true;
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private boolean submitTransactionSync(final boolean doSync) {
+        txLock.lock();
+        try {
+            applyStagedOperations();
+            rethrowStagedFailure();
             if (!submitIsEnabled) {
                 LOG.trace("transaction not committed - submit block issued");
                 return false;
@@ -180,99 +309,195 @@ public class TransactionChainManager implements AutoCloseable {
             Preconditions.checkState(TransactionChainManagerStatus.WORKING == transactionChainManagerStatus,
                     "we have here Uncompleted Transaction for node {} and we are not MASTER",
                     nodeId);
-            final FluentFuture<? extends CommitInfo> submitFuture = writeTx.commit();
-            lastSubmittedFuture = submitFuture;
-            writeTx = null;
 
-            if (initCommit || doSync) {
-                try {
-                    SimpleTaskRetryLooper looper = new SimpleTaskRetryLooper(500, 6);
-                    looper.loopUntilNoException(() -> submitFuture.get(5L, TimeUnit.SECONDS));
-                } catch (Exception ex) {
-                    LOG.error("Exception during INITIAL({}) || doSync({}) transaction submitting for device {}",
-                            initCommit, doSync, nodeId, ex);
-                    return false;
-                }
-                initCommit = false;
-                return true;
+            final FluentFuture<? extends CommitInfo> submitFuture = commitWriteTx();
+            try {
+                SimpleTaskRetryLooper looper = new SimpleTaskRetryLooper(500, 6);
+                looper.loopUntilNoException(() -> submitFuture.get(5L, TimeUnit.SECONDS));
+            } catch (Exception ex) {
+                LOG.error("Exception during INITIAL({}) || doSync({}) transaction submitting for device {}",
+                        initCommit, doSync, nodeId, ex);
+                return false;
             }
+            initCommit = false;
+            return true;
+        } finally {
+            unlockTx();
+        }
+    }
 
-            submitFuture.addCallback(new FutureCallback<CommitInfo>() {
-                @Override
-                public void onSuccess(final CommitInfo result) {
-                    //NOOP
-                }
+    /**
+     * Commit the write transaction on a staged request, unless submit is blocked or there is nothing to commit.
+     */
+    @Holding("txLock")
+    private void submitStaged() {
+        if (!submitIsEnabled) {
+            LOG.trace("transaction not committed - submit block issued");
+            return;
+        }
+        if (writeTx == null) {
+            LOG.trace("nothing to commit");
+            return;
+        }
+        if (TransactionChainManagerStatus.WORKING != transactionChainManagerStatus) {
+            LOG.warn("Uncompleted transaction for node {} not committed, we are not MASTER", nodeId);
+            return;
+        }
+        if (groupCommit != null) {
+            commitRequested = true;
+            commitIfReady();
+            return;
+        }
+        commitWriteTx().addCallback(COMMIT_LOGGER, MoreExecutors.directExecutor());
+    }
 
-                @Override
-                public void onFailure(final Throwable throwable) {
-                    if (throwable instanceof InterruptedException || throwable instanceof ExecutionException) {
-                        LOG.error("Transaction commit failed. ", throwable);
-                    } else if (throwable instanceof CancellationException) {
-                        LOG.warn("Submit task was canceled");
-                        LOG.trace("Submit exception: ", throwable);
-                    } else {
-                        LOG.error("Exception during transaction submitting. ", throwable);
-                    }
-                }
+    @Holding("txLock")
+    private FluentFuture<? extends CommitInfo> commitWriteTx() {
+        final FluentFuture<? extends CommitInfo> submitFuture = writeTx.commit();
+        lastSubmittedFuture = submitFuture;
+        writeTx = null;
+
+        if (groupCommit != null) {
+            groupCommit.recordCommit(writeTxOperations);
+            cancelDelayedCommit();
+            commitRequested = false;
+            commitOverdue = false;
+            commitGeneration++;
+            outstandingCommits++;
+
+            final var completed = new CommitCompleted(commitGeneration);
+            final long started = System.nanoTime();
+            submitFuture.addListener(() -> {
+                groupCommit.recordCommitLatency(System.nanoTime() - started);
+                stage(completed);
             }, MoreExecutors.directExecutor());
         }
-        return true;
+        writeTxOperations = 0;
+        return submitFuture;
     }
 
-    public <T extends DataObject> void addDeleteOperationToTxChain(final LogicalDatastoreType store,
-                                                                    final InstanceIdentifier<T> path) {
-        synchronized (txLock) {
-            ensureTransaction();
-            if (writeTx == null) {
-                LOG.debug("WriteTx is null for node {}. Delete {} was not realized.", nodeId, path);
-                throw new TransactionChainClosedException(CANNOT_WRITE_INTO_TRANSACTION);
+    /**
+     * Commit the current transaction if a commit was requested and it holds enough write operations, otherwise make
+     * sure it is committed once the maximum delay expires. In both cases the number of commits in flight is bounded.
+     */
+    @Holding("txLock")
+    private void commitIfReady() {
+        if (!commitRequested || writeTx == null || !submitIsEnabled) {
+            return;
+        }
+        if (outstandingCommits >= groupCommit.maxOutstandingCommits()) {
+            // Committed once a commit in flight completes
+            return;
+        }
+        if (commitOverdue || writeTxOperations >= groupCommit.maxBatchSize() || groupCommit.maxDelayNanos() == 0) {
+            commitWriteTx().addCallback(COMMIT_LOGGER, MoreExecutors.directExecutor());
+        } else if (delayedCommit == null) {
+            try {
+                final long generation = commitGeneration;
+                delayedCommit = groupCommit.timer().schedule(() -> delayedCommit(generation),
+                    groupCommit.maxDelayNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.debug("Group commit timer is shut down, committing transaction for node {} now", nodeId, e);
+                commitWriteTx().addCallback(COMMIT_LOGGER, MoreExecutors.directExecutor());
+            }
+        }
+    }
+
+    private void delayedCommit(final long generation) {
+        txLock.lock();
+        try {
+            if (generation != commitGeneration) {
+                // The transaction this commit was delayed for has already been committed or cancelled
+                return;
             }
+            delayedCommit = null;
+            commitOverdue = true;
+            // Include operations staged in the meantime
+            applyStagedOperations();
+            commitIfReady();
+        } finally {
+            unlockTx();
+        }
+    }
+
+    @Holding("txLock")
+    private void onCommitCompleted(final CommitCompleted completed) {
+        if (accountCommitCompleted(completed)) {
+            // A commit may have been held back by the limit of commits in flight
+            commitIfReady();
+        }
+    }
 
-            writeTx.delete(store, path);
+    @Holding("txLock")
+    private boolean accountCommitCompleted(final CommitCompleted completed) {
+        if (completed.generation() <= resetGeneration) {
+            // Issued before group commit was reset, it no longer counts as in flight
+            return false;
         }
+        outstandingCommits--;
+        return true;
+    }
+
+    @Holding("txLock")
+    private void cancelDelayedCommit() {
+        if (delayedCommit != null) {
+            delayedCommit.cancel(false);
+            delayedCommit = null;
+        }
+    }
+
+    @Holding("txLock")
+    private void resetGroupCommit() {
+        cancelDelayedCommit();
+        commitRequested = false;
+        commitOverdue = false;
+        commitGeneration++;
+        resetGeneration = commitGeneration;
+        outstandingCommits = 0;
+        writeTxOperations = 0;
+    }
+
+    public <T extends DataObject> void addDeleteOperationToTxChain(final LogicalDatastoreType store,
+                                                                    final InstanceIdentifier<T> path) {
+        checkAcceptingWrites("Delete", path);
+        stage(tx -> tx.delete(store, path));
     }
 
     public <T extends DataObject> void writeToTransaction(final LogicalDatastoreType store,
                                                           final InstanceIdentifier<T> path,
                                                           final T data,
                                                           final boolean createParents) {
-        synchronized (txLock) {
-            ensureTransaction();
-            if (writeTx == null) {
-                LOG.debug("WriteTx is null for node {}. Write data for {} was not realized.", nodeId, path);
-                throw new TransactionChainClosedException(CANNOT_WRITE_INTO_TRANSACTION);
-            }
-
+        checkAcceptingWrites("Write data for", path);
+        stage(tx -> {
             if (createParents) {
-                writeTx.mergeParentStructurePut(store, path, data);
+                tx.mergeParentStructurePut(store, path, data);
             } else {
-                writeTx.put(store, path, data);
+                tx.put(store, path, data);
             }
-        }
+        });
     }
 
     public <T extends DataObject> void mergeToTransaction(final LogicalDatastoreType store,
                                                           final InstanceIdentifier<T> path,
                                                           final T data,
                                                           final boolean createParents) {
-        synchronized (txLock) {
-            ensureTransaction();
-            if (writeTx == null) {
-                LOG.debug("WriteTx is null for node {}. Merge data for {} was not realized.", nodeId, path);
-                throw new TransactionChainClosedException(CANNOT_WRITE_INTO_TRANSACTION);
-            }
-
+        checkAcceptingWrites("Merge data for", path);
+        stage(tx -> {
             if (createParents) {
-                writeTx.mergeParentStructureMerge(store, path, data);
+                tx.mergeParentStructureMerge(store, path, data);
             } else {
-                writeTx.merge(store, path, data);
+                tx.merge(store, path, data);
             }
-        }
+        });
     }
 
     public <T extends DataObject> ListenableFuture<Optional<T>>
         readFromTransaction(final LogicalDatastoreType store, final InstanceIdentifier<T> path) {
-        synchronized (txLock) {
+        txLock.lock();
+        try {
+            // Read operations staged before this read
+            applyStagedOperations();
+            rethrowStagedFailure();
             ensureTransaction();
             if (writeTx == null) {
                 LOG.debug("WriteTx is null for node {}. Read data for {} was not realized.", nodeId, path);
@@ -280,19 +505,138 @@ public class TransactionChainManager implements AutoCloseable {
             }
 
             return writeTx.read(store, path);
+        } finally {
+            unlockTx();
+        }
+    }
+
+    private void checkAcceptingWrites(final String operation, final InstanceIdentifier<?> path) {
+        if (!acceptingWrites) {
+            LOG.debug("WriteTx is null for node {}. {} {} was not realized.", nodeId, operation, path);
+            throw new TransactionChainClosedException(CANNOT_WRITE_INTO_TRANSACTION);
+        }
+    }
+
+    private void stage(final StagedOperation operation) {
+        stagedOperations.add(operation);
+        drainStagedOperations();
+        rethrowStagedFailure();
+    }
+
+    private void rethrowStagedFailure() {
+        final var failure = stagedFailure.getAndSet(null);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Apply staged operations unless another thread holds the transaction lock, in which case that thread applies
+     * them when releasing it.
+     */
+    private void drainStagedOperations() {
+        if (txLock.isHeldByCurrentThread()) {
+            // Applied when the outermost hold is released
+            return;
+        }
+        while (!stagedOperations.isEmpty() && txLock.tryLock()) {
+            try {
+                applyStagedOperations();
+            } finally {
+                txLock.unlock();
+            }
         }
     }
 
+    /**
+     * Release the transaction lock, applying operations staged while it was held, including ones staged while
+     * releasing it.
+     */
+    @Holding("txLock")
+    private void unlockTx() {
+        try {
+            if (txLock.getHoldCount() == 1) {
+                applyStagedOperations();
+            }
+        } finally {
+            txLock.unlock();
+        }
+        drainStagedOperations();
+    }
+
+    @Holding("txLock")
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void applyStagedOperations() {
+        for (var operation = stagedOperations.poll(); operation != null; operation = stagedOperations.poll()) {
+            try {
+                applyStagedOperation(operation);
+            } catch (RuntimeException e) {
+                LOG.debug("Staged operation failed for node {}", nodeId, e);
+                final var previous = stagedFailure.compareAndExchange(null, e);
+                if (previous != null) {
+                    previous.addSuppressed(e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drop staged writes and commit requests, still accounting for the commits in flight which completed.
+     */
+    @Holding("txLock")
+    private void discardStagedOperations() {
+        int discarded = 0;
+        for (var operation = stagedOperations.poll(); operation != null; operation = stagedOperations.poll()) {
+            if (operation instanceof CommitCompleted completed) {
+                accountCommitCompleted(completed);
+            } else {
+                discarded++;
+            }
+        }
+        if (discarded != 0) {
+            LOG.debug("Discarded {} staged operations for node {}", discarded, nodeId);
+        }
+    }
+
+    @Holding("txLock")
+    private void applyStagedOperation(final StagedOperation operation) {
+        if (operation == SUBMIT) {
+            submitStaged();
+            return;
+        }
+        if (operation instanceof CommitCompleted completed) {
+            onCommitCompleted(completed);
+            return;
+        }
+
+        ensureTransaction();
+        if (writeTx == null) {
+            LOG.debug("WriteTx is null for node {}. Staged operation was not realized.", nodeId);
+            return;
+        }
+        operation.apply(writeTx);
+        writeTxOperations++;
+    }
+
     @VisibleForTesting
     void onTransactionChainFailed(final TransactionChain chain, final Throwable cause) {
-        synchronized (txLock) {
-            if (TransactionChainManagerStatus.WORKING == transactionChainManagerStatus
-                    && chain.equals(transactionChain)) {
+        final boolean recreated;
+        txLock.lock();
+        try {
+            recreated = TransactionChainManagerStatus.WORKING == transactionChainManagerStatus
+                    && chain.equals(transactionChain);
+            if (recreated) {
                 LOG.warn("Transaction chain failed, recreating chain due to ", cause);
                 closeTransactionChain();
                 createTxChain();
                 writeTx = null;
             }
+        } finally {
+            unlockTx();
+        }
+
+        if (recreated && chainFailureListener != null) {
+            chainFailureListener.run();
         }
     }
 
@@ -305,9 +649,12 @@ public class TransactionChainManager implements AutoCloseable {
     }
 
     private void enableSubmit() {
-        synchronized (txLock) {
+        txLock.lock();
+        try {
             /* !!!IMPORTANT: never set true without transactionChain */
             submitIsEnabled = transactionChain != null;
+        } finally {
+            unlockTx();
         }
     }
 
@@ -315,9 +662,15 @@ public class TransactionChainManager implements AutoCloseable {
         if (LOG.isDebugEnabled()) {
             LOG.debug("TxManager is going SHUTTING_DOWN for node {}", nodeId);
         }
-        synchronized (txLock) {
+        txLock.lock();
+        try {
+            // Operations staged so far are committed together with the transaction
+            applyStagedOperations();
             transactionChainManagerStatus = TransactionChainManagerStatus.SHUTTING_DOWN;
+            updateAcceptingWrites();
             return txChainShuttingDown();
+        } finally {
+            unlockTx();
         }
     }
 
@@ -325,6 +678,7 @@ public class TransactionChainManager implements AutoCloseable {
     private FluentFuture<? extends CommitInfo> txChainShuttingDown() {
         boolean wasSubmitEnabled = submitIsEnabled;
         submitIsEnabled = false;
+        resetGroupCommit();
         FluentFuture<? extends CommitInfo> future;
 
         if (!wasSubmitEnabled || transactionChain == null) {
@@ -355,8 +709,33 @@ public class TransactionChainManager implements AutoCloseable {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Setting transactionChainManagerStatus to SHUTTING_DOWN for {}", nodeId);
         }
-        synchronized (txLock) {
+        txLock.lock();
+        try {
+            discardStagedOperations();
             closeTransactionChain();
+        } finally {
+            unlockTx();
+        }
+    }
+
+    /**
+     * An operation applied to the write transaction when it is drained from the staging queue.
+     */
+    @FunctionalInterface
+    private interface StagedOperation {
+        void apply(ReadWriteTransaction tx);
+    }
+
+    /**
+     * Staged notification that a commit in flight completed. Staged rather than applied directly, so that the thread
+     * completing the commit never waits for the transaction lock.
+     *
+     * @param generation commit generation of the completed commit
+     */
+    private record CommitCompleted(long generation) implements StagedOperation {
+        @Override
+        public void apply(final ReadWriteTransaction tx) {
+            // Handled by the transaction chain manager
         }
     }
 
@@ -7,17 +7,32 @@
  */
 package org.opendaylight.openflowplugin.common.txchain;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.FluentFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.List;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.mdsal.binding.api.DataBroker;
@@ -48,6 +63,10 @@ public class TransactionChainManagerTest {
 
     @Mock
     private KeyedInstanceIdentifier<Node, NodeKey> nodeKeyIdent;
+    @Mock
+    private ScheduledExecutorService timer;
+    @Mock
+    private ScheduledFuture<?> delayedCommit;
 
     private TransactionChainManager txChainManager;
     private InstanceIdentifier<Node> path;
@@ -76,6 +95,22 @@ public class TransactionChainManagerTest {
         verify(writeTx).put(LogicalDatastoreType.CONFIGURATION, path, data);
     }
 
+    /**
+     * A failing staged write is reported to the caller and does not affect later writes.
+     */
+    @Test
+    public void testWriteToTransactionFailed() {
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        final IllegalStateException failure = new IllegalStateException("mock");
+        doThrow(failure).when(writeTx).put(LogicalDatastoreType.CONFIGURATION, path, data);
+
+        assertSame(failure, assertThrows(IllegalStateException.class,
+            () -> txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false)));
+
+        txChainManager.mergeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        verify(writeTx).merge(LogicalDatastoreType.CONFIGURATION, path, data);
+    }
+
     /**
      * Tests transaction submit {@link TransactionChainManager#submitTransaction()}.
      */
@@ -140,6 +175,19 @@ public class TransactionChainManagerTest {
         verify(dataBroker, times(2)).createTransactionChain();
     }
 
+    @Test
+    public void testOnTransactionChainFailedListener() {
+        final Runnable listener = mock(Runnable.class);
+        txChainManager = new TransactionChainManager(dataBroker, nodeId.getValue(), null, listener);
+        txChainManager.activateTransactionManager();
+
+        txChainManager.onTransactionChainFailed(mock(TransactionChain.class), mock(Throwable.class));
+        verify(listener, never()).run();
+
+        txChainManager.onTransactionChainFailed(txChain, mock(Throwable.class));
+        verify(listener).run();
+    }
+
     @Test
     public void testAddDeleteOperationTotTxChain() {
         txChainManager.addDeleteOperationToTxChain(LogicalDatastoreType.CONFIGURATION, path);
@@ -181,6 +229,166 @@ public class TransactionChainManagerTest {
         verify(writeTx).commit();
     }
 
+    /**
+     * Operations are staged without waiting for a synchronous commit in progress and applied once it completes.
+     */
+    @Test
+    public void testStagedDuringSyncSubmit() throws InterruptedException {
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        txChainManager.initialSubmitWriteTransaction();
+        final SettableFuture<CommitInfo> commitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(commitFuture)).when(writeTx).commit();
+
+        txChainManager.writeToTransaction(LogicalDatastoreType.CONFIGURATION, path, data, false);
+        final Thread syncSubmit = new Thread(() -> txChainManager.submitTransaction(true));
+        syncSubmit.start();
+        verify(writeTx, timeout(5000)).commit();
+
+        txChainManager.addDeleteOperationToTxChain(LogicalDatastoreType.CONFIGURATION, path);
+        verify(writeTx, never()).delete(LogicalDatastoreType.CONFIGURATION, path);
+
+        commitFuture.set(CommitInfo.empty());
+        syncSubmit.join();
+        verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, path);
+    }
+
+    /**
+     * Requested commits are delayed until the transaction holds enough writes.
+     */
+    @Test
+    public void testGroupCommitBatchSize() {
+        doReturn(delayedCommit).when(timer).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        final GroupCommit groupCommit = new GroupCommit(timer, 2, 1, TimeUnit.MILLISECONDS, 1);
+        final TransactionChainManager manager = initialSubmitGroupCommitManager(groupCommit);
+
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(1)).commit();
+        verify(timer).schedule(any(Runnable.class), eq(TimeUnit.MILLISECONDS.toNanos(1)), eq(TimeUnit.NANOSECONDS));
+
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(2)).commit();
+        verify(delayedCommit).cancel(false);
+        assertEquals(List.of("1-1: 1", "2-3: 1"), groupCommit.getBatchSizes());
+    }
+
+    /**
+     * Requested commits are issued once the maximum delay expires.
+     */
+    @Test
+    public void testGroupCommitDelay() {
+        doReturn(delayedCommit).when(timer).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        final TransactionChainManager manager = initialSubmitGroupCommitManager(
+            new GroupCommit(timer, 100, 1, TimeUnit.MILLISECONDS, 1));
+
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        manager.mergeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(1)).commit();
+
+        final ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(timer).schedule(task.capture(), anyLong(), any(TimeUnit.class));
+        task.getValue().run();
+        verify(writeTx, times(2)).commit();
+    }
+
+    /**
+     * Commits over the limit of commits in flight wait for a commit in flight to complete.
+     */
+    @Test
+    public void testGroupCommitOutstanding() {
+        final TransactionChainManager manager = initialSubmitGroupCommitManager(
+            new GroupCommit(timer, 1, 1, TimeUnit.MILLISECONDS, 1));
+        final SettableFuture<CommitInfo> commitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(commitFuture)).when(writeTx).commit();
+
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(2)).commit();
+
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(2)).commit();
+
+        commitFuture.set(CommitInfo.empty());
+        verify(writeTx, times(3)).commit();
+    }
+
+    /**
+     * Commits in flight on a failed transaction chain do not hold back commits on the recreated one.
+     */
+    @Test
+    public void testGroupCommitOutstandingAfterChainFailure() {
+        final TransactionChainManager manager = initialSubmitGroupCommitManager(
+            new GroupCommit(timer, 1, 1, TimeUnit.MILLISECONDS, 1));
+        final SettableFuture<CommitInfo> lostCommitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(lostCommitFuture)).when(writeTx).commit();
+
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(2)).commit();
+
+        manager.onTransactionChainFailed(txChain, mock(Throwable.class));
+        final SettableFuture<CommitInfo> commitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(commitFuture)).when(writeTx).commit();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(3)).commit();
+
+        // The commit on the failed chain completing does not free the place of the commit in flight
+        lostCommitFuture.set(CommitInfo.empty());
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(3)).commit();
+
+        commitFuture.set(CommitInfo.empty());
+        verify(writeTx, times(4)).commit();
+    }
+
+    /**
+     * Completing a commit never waits for the transaction lock, even when a synchronous commit holds it.
+     */
+    @Test(timeout = 10000)
+    public void testGroupCommitCompletedDuringSyncSubmit() throws InterruptedException {
+        final TransactionChainManager manager = initialSubmitGroupCommitManager(
+            new GroupCommit(timer, 1, 1, TimeUnit.MILLISECONDS, 2));
+        final SettableFuture<CommitInfo> asyncCommitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(asyncCommitFuture)).when(writeTx).commit();
+
+        final Node data = new NodeBuilder().setId(nodeId).build();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        manager.submitTransaction();
+        verify(writeTx, times(2)).commit();
+
+        final SettableFuture<CommitInfo> syncCommitFuture = SettableFuture.create();
+        doReturn(FluentFuture.from(syncCommitFuture)).when(writeTx).commit();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, data, false);
+        final Thread syncSubmit = new Thread(() -> manager.submitTransaction(true));
+        syncSubmit.start();
+        verify(writeTx, timeout(5000).times(3)).commit();
+
+        asyncCommitFuture.set(CommitInfo.empty());
+        syncCommitFuture.set(CommitInfo.empty());
+        syncSubmit.join();
+    }
+
+    private TransactionChainManager initialSubmitGroupCommitManager(final GroupCommit groupCommit) {
+        final TransactionChainManager manager = new TransactionChainManager(dataBroker, nodeId.getValue(),
+            groupCommit);
+        manager.activateTransactionManager();
+        manager.writeToTransaction(LogicalDatastoreType.OPERATIONAL, path, new NodeBuilder().setId(nodeId).build(),
+            false);
+        manager.initialSubmitWriteTransaction();
+        verify(writeTx).commit();
+        return manager;
+    }
+
     @Test
     public void testClose() {
         txChainManager.shuttingDown();
@@ -51,6 +51,7 @@ import org.opendaylight.openflowplugin.extension.api.OpenFlowPluginExtensionRegi
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterManager;
 import org.opendaylight.openflowplugin.impl.configuration.OpenFlowProviderConfigImpl;
 import org.opendaylight.openflowplugin.impl.connection.ConnectionManagerImpl;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline;
 import org.opendaylight.openflowplugin.impl.device.DeviceManagerImpl;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProvider;
 import org.opendaylight.openflowplugin.impl.device.initialization.DeviceInitializerProviderFactory;
@@ -105,6 +106,7 @@ public final class OpenFlowPluginProviderImpl
     private final StatisticsManager statisticsManager;
     private final RoleManager roleManager;
     private final ExecutorService executorService;
+    private final DeviceConnectionPipeline deviceConnectionPipeline;
     private final ContextChainHolderImpl contextChainHolder;
     private final DiagStatusProvider diagStatusProvider;
 
@@ -145,6 +147,7 @@ public final class OpenFlowPluginProviderImpl
                 config.getThreadPoolMaxThreads().getValue().toJava(),
                 config.getThreadPoolTimeout().toJava(),
                 TimeUnit.SECONDS, new SynchronousQueue<>(), POOL_NAME);
+        deviceConnectionPipeline = new DeviceConnectionPipeline(config, dataBroker);
 
         final var devMgr = new DeviceManagerImpl(
                 config,
@@ -173,10 +176,10 @@ public final class OpenFlowPluginProviderImpl
                 convertorManager,
                 executorService);
 
-        roleManager = new RoleManagerImpl(hashedWheelTimer, config, executorService);
+        roleManager = new RoleManagerImpl(hashedWheelTimer, config, deviceConnectionPipeline);
 
         contextChainHolder = new ContextChainHolderImpl(
-                executorService,
+                deviceConnectionPipeline,
                 singletonServiceProvider,
                 entityOwnershipService,
                 mastershipChangeServiceManager,
@@ -187,7 +190,8 @@ public final class OpenFlowPluginProviderImpl
         contextChainHolder.addManager(rpcManager);
         contextChainHolder.addManager(roleManager);
 
-        connectionManager = new ConnectionManagerImpl(config, executorService, ppdb, notificationPublishService);
+        connectionManager = new ConnectionManagerImpl(config, executorService, deviceConnectionPipeline, ppdb,
+                notificationPublishService);
         connectionManager.setDeviceConnectedHandler(contextChainHolder);
         connectionManager.setDeviceDisconnectedHandler(contextChainHolder);
 
@@ -330,6 +334,7 @@ public final class OpenFlowPluginProviderImpl
         gracefulShutdown(rpcManager);
         gracefulShutdown(statisticsManager);
         gracefulShutdown(roleManager);
+        gracefulShutdown(deviceConnectionPipeline);
         gracefulShutdown(executorService);
         gracefulShutdown(hashedWheelTimer);
         diagStatusProvider.reportStatus(ServiceState.UNREGISTERED);
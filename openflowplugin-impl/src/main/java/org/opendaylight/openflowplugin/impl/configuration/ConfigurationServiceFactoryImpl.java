@@ -89,6 +89,32 @@ public class ConfigurationServiceFactoryImpl implements ConfigurationServiceFact
                             providerConfig.getDeviceConnectionHoldTimeInSeconds().toString())
                     .put(ConfigurationProperty.DEVICE_DATASTORE_REMOVAL_DELAY.toString(),
                             providerConfig.getDeviceDatastoreRemovalDelay().getValue().toString())
+                    .put(ConfigurationProperty.INCREMENTAL_FLOW_REGISTRY_FILL.toString(),
+                            providerConfig.getIncrementalFlowRegistryFill().toString())
+                    .put(ConfigurationProperty.PACKET_IN_RATE_LIMIT.toString(),
+                            providerConfig.getPacketInRateLimit().toString())
+                    .put(ConfigurationProperty.FLOW_STATISTICS_MIN_DELTA.toString(),
+                            providerConfig.getFlowStatisticsMinDelta().toString())
+                    .put(ConfigurationProperty.STATISTICS_POLLING_CONCURRENCY.toString(),
+                            providerConfig.getStatisticsPollingConcurrency().toString())
+                    .put(ConfigurationProperty.ADAPTIVE_STATISTICS_POLLING.toString(),
+                            providerConfig.getAdaptiveStatisticsPolling().toString())
+                    .put(ConfigurationProperty.TRANSACTION_BATCH_SIZE.toString(),
+                            providerConfig.getTransactionBatchSize().toString())
+                    .put(ConfigurationProperty.TRANSACTION_BATCH_DELAY.toString(),
+                            providerConfig.getTransactionBatchDelay().toString())
+                    .put(ConfigurationProperty.TRANSACTION_MAX_OUTSTANDING_COMMITS.toString(),
+                            providerConfig.getTransactionMaxOutstandingCommits().getValue().toString())
+                    .put(ConfigurationProperty.HANDSHAKE_CONCURRENCY.toString(),
+                            providerConfig.getHandshakeConcurrency().toString())
+                    .put(ConfigurationProperty.CONTEXT_CREATION_CONCURRENCY.toString(),
+                            providerConfig.getContextCreationConcurrency().toString())
+                    .put(ConfigurationProperty.MASTERSHIP_CONCURRENCY.toString(),
+                            providerConfig.getMastershipConcurrency().toString())
+                    .put(ConfigurationProperty.FEATURE_DISCOVERY_CONCURRENCY.toString(),
+                            providerConfig.getFeatureDiscoveryConcurrency().toString())
+                    .put(ConfigurationProperty.CONNECTION_STAGE_QUEUE_SIZE.toString(),
+                            providerConfig.getConnectionStageQueueSize().toString())
                     .build());
         }
 
@@ -165,4 +165,70 @@ public class OpenFlowProviderConfigImpl extends AbstractAugmentable<OpenflowProv
         return new NonZeroUint32Type(service.<Uint32>getProperty(
             ConfigurationProperty.DEVICE_DATASTORE_REMOVAL_DELAY.toString(), Uint32::valueOf));
     }
+
+    @Override
+    public Boolean getIncrementalFlowRegistryFill() {
+        return service.getProperty(ConfigurationProperty.INCREMENTAL_FLOW_REGISTRY_FILL.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Uint32 getPacketInRateLimit() {
+        return service.getProperty(ConfigurationProperty.PACKET_IN_RATE_LIMIT.toString(), Uint32::valueOf);
+    }
+
+    @Override
+    public Uint32 getFlowStatisticsMinDelta() {
+        return service.getProperty(ConfigurationProperty.FLOW_STATISTICS_MIN_DELTA.toString(), Uint32::valueOf);
+    }
+
+    @Override
+    public Uint16 getStatisticsPollingConcurrency() {
+        return service.getProperty(ConfigurationProperty.STATISTICS_POLLING_CONCURRENCY.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Boolean getAdaptiveStatisticsPolling() {
+        return service.getProperty(ConfigurationProperty.ADAPTIVE_STATISTICS_POLLING.toString(), Boolean::valueOf);
+    }
+
+    @Override
+    public Uint16 getTransactionBatchSize() {
+        return service.getProperty(ConfigurationProperty.TRANSACTION_BATCH_SIZE.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint32 getTransactionBatchDelay() {
+        return service.getProperty(ConfigurationProperty.TRANSACTION_BATCH_DELAY.toString(), Uint32::valueOf);
+    }
+
+    @Override
+    public NonZeroUint16Type getTransactionMaxOutstandingCommits() {
+        return new NonZeroUint16Type(service.<Uint16>getProperty(
+            ConfigurationProperty.TRANSACTION_MAX_OUTSTANDING_COMMITS.toString(), Uint16::valueOf));
+    }
+
+    @Override
+    public Uint16 getHandshakeConcurrency() {
+        return service.getProperty(ConfigurationProperty.HANDSHAKE_CONCURRENCY.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint16 getContextCreationConcurrency() {
+        return service.getProperty(ConfigurationProperty.CONTEXT_CREATION_CONCURRENCY.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint16 getMastershipConcurrency() {
+        return service.getProperty(ConfigurationProperty.MASTERSHIP_CONCURRENCY.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint16 getFeatureDiscoveryConcurrency() {
+        return service.getProperty(ConfigurationProperty.FEATURE_DISCOVERY_CONCURRENCY.toString(), Uint16::valueOf);
+    }
+
+    @Override
+    public Uint16 getConnectionStageQueueSize() {
+        return service.getProperty(ConfigurationProperty.CONNECTION_STAGE_QUEUE_SIZE.toString(), Uint16::valueOf);
+    }
 }
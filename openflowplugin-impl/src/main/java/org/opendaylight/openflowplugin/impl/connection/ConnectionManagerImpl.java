@@ -34,7 +34,6 @@ import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionManager;
 import org.opendaylight.openflowplugin.api.openflow.connection.DeviceConnectionStatusProvider;
-import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceConnectedHandler;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceDisconnectedHandler;
 import org.opendaylight.openflowplugin.api.openflow.md.core.HandshakeListener;
@@ -67,6 +66,7 @@ public class ConnectionManagerImpl implements ConnectionManager {
     private DeviceConnectedHandler deviceConnectedHandler;
     private final OpenflowProviderConfig config;
     private final ExecutorService executorService;
+    private final DeviceConnectionPipeline pipeline;
     private final DeviceConnectionRateLimiter deviceConnectionRateLimiter;
     private final DataBroker dataBroker;
     private final int deviceConnectionHoldTime;
@@ -75,10 +75,11 @@ public class ConnectionManagerImpl implements ConnectionManager {
     private final NotificationPublishService notificationPublishService;
 
     public ConnectionManagerImpl(final OpenflowProviderConfig config, final ExecutorService executorService,
-                                 final DataBroker dataBroker,
+                                 final DeviceConnectionPipeline pipeline, final DataBroker dataBroker,
                                  @NonNull final NotificationPublishService notificationPublishService) {
         this.config = config;
         this.executorService = executorService;
+        this.pipeline = requireNonNull(pipeline);
         deviceConnectionRateLimiter = new DeviceConnectionRateLimiter(config);
         this.dataBroker = dataBroker;
         deviceConnectionHoldTime = config.getDeviceConnectionHoldTimeInSeconds().toJava();
@@ -96,17 +97,18 @@ public class ConnectionManagerImpl implements ConnectionManager {
                 deviceConnectionStatusProvider);
         connectionContext.setDeviceDisconnectedHandler(deviceDisconnectedHandler);
 
-        HandshakeListener handshakeListener = new HandshakeListenerImpl(connectionContext, deviceConnectedHandler);
+        HandshakeListener handshakeListener = new HandshakeListenerImpl(connectionContext, deviceConnectedHandler,
+                pipeline);
         final HandshakeManager handshakeManager = createHandshakeManager(connectionAdapter, handshakeListener);
 
         LOG.trace("prepare handshake context");
-        HandshakeContext handshakeContext = new HandshakeContextImpl(executorService, handshakeManager);
+        HandshakeContextImpl handshakeContext = new HandshakeContextImpl(executorService, handshakeManager, false);
         handshakeListener.setHandshakeContext(handshakeContext);
         connectionContext.setHandshakeContext(handshakeContext);
 
         LOG.trace("prepare connection listeners");
         final ConnectionReadyListener connectionReadyListener = new ConnectionReadyListenerImpl(
-                connectionContext, handshakeContext);
+                connectionContext, handshakeContext, pipeline);
         connectionAdapter.setConnectionReadyListener(connectionReadyListener);
 
         connectionAdapter.setMessageListener(
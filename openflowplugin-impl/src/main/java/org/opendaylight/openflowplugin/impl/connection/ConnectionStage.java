@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * One stage of the {@link DeviceConnectionPipeline}. Runs the tasks of the stage on its own executor, capping the
+ * number of tasks running at the same time. A task holds its capacity until the future it returns completes. Tasks
+ * over the cap wait in a bounded queue, where tasks of preferred devices take precedence over the others.
+ *
+ * <p>
+ * When the queue is full, a task of a preferred device displaces the most recently queued task of any other device,
+ * any other task is rejected. Rejected tasks are not run, their rejection handler is invoked instead.
+ */
+final class ConnectionStage {
+    private static final Logger LOG = LoggerFactory.getLogger(ConnectionStage.class);
+
+    /**
+     * A task waiting for capacity.
+     */
+    private record Task(Supplier<? extends ListenableFuture<?>> task, Runnable onReject, long queuedNanos) {
+        void reject() {
+            onReject.run();
+        }
+    }
+
+    @GuardedBy("this")
+    private final ArrayDeque<Task> preferredQueue = new ArrayDeque<>();
+    @GuardedBy("this")
+    private final ArrayDeque<Task> regularQueue = new ArrayDeque<>();
+    private final String name;
+    private final Executor executor;
+    private final int maxRunning;
+    private final int maxQueued;
+
+    @GuardedBy("this")
+    private int running;
+    @GuardedBy("this")
+    private boolean closed;
+    @GuardedBy("this")
+    private long submitted;
+    @GuardedBy("this")
+    private long rejected;
+    @GuardedBy("this")
+    private long started;
+    @GuardedBy("this")
+    private long completed;
+    @GuardedBy("this")
+    private long totalQueueNanos;
+    @GuardedBy("this")
+    private long maxQueueNanos;
+    @GuardedBy("this")
+    private long totalServiceNanos;
+
+    /**
+     * Create a new stage.
+     *
+     * @param name name of the stage
+     * @param executor executor running the tasks
+     * @param maxRunning maximum number of tasks running at the same time, 0 if unlimited
+     * @param maxQueued maximum number of tasks waiting for capacity, 0 if unlimited
+     */
+    ConnectionStage(@NonNull final String name, @NonNull final Executor executor, final int maxRunning,
+            final int maxQueued) {
+        checkArgument(maxRunning >= 0, "Invalid maximum of running tasks %s", maxRunning);
+        checkArgument(maxQueued >= 0, "Invalid maximum of queued tasks %s", maxQueued);
+        this.name = requireNonNull(name);
+        this.executor = requireNonNull(executor);
+        this.maxRunning = maxRunning;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Run a task once there is capacity for it.
+     *
+     * @param task supplier of the task, the capacity is held until the returned future completes
+     * @param preferred true if the task takes precedence over the tasks of other devices
+     * @param onReject invoked instead of the task if the task is rejected
+     */
+    void submit(@NonNull final Supplier<? extends ListenableFuture<?>> task, final boolean preferred,
+            @NonNull final Runnable onReject) {
+        final Task newTask = new Task(requireNonNull(task), requireNonNull(onReject), System.nanoTime());
+
+        final Task toReject;
+        synchronized (this) {
+            submitted++;
+            if (closed) {
+                toReject = newTask;
+            } else if (maxRunning == 0 || running < maxRunning) {
+                running++;
+                toReject = null;
+            } else if (maxQueued == 0 || preferredQueue.size() + regularQueue.size() < maxQueued) {
+                (preferred ? preferredQueue : regularQueue).add(newTask);
+                LOG.debug("{} task queued, {} preferred and {} other tasks waiting", name, preferredQueue.size(),
+                    regularQueue.size());
+                return;
+            } else if (preferred && !regularQueue.isEmpty()) {
+                preferredQueue.add(newTask);
+                toReject = regularQueue.pollLast();
+            } else {
+                toReject = newTask;
+            }
+
+            if (toReject != null) {
+                rejected++;
+            }
+        }
+
+        if (toReject == null) {
+            dispatch(newTask);
+        } else {
+            LOG.debug("{} task rejected, stage is closed or its queue is full", name);
+            toReject.reject();
+        }
+    }
+
+    private void dispatch(final Task task) {
+        try {
+            executor.execute(() -> run(task));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("{} executor is shutting down, rejecting task", name, e);
+            synchronized (this) {
+                rejected++;
+            }
+            release(System.nanoTime(), false);
+            task.reject();
+        }
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void run(final Task task) {
+        final long startNanos = System.nanoTime();
+        final long queueNanos = startNanos - task.queuedNanos();
+        synchronized (this) {
+            started++;
+            totalQueueNanos += queueNanos;
+            maxQueueNanos = Math.max(maxQueueNanos, queueNanos);
+        }
+
+        final ListenableFuture<?> future;
+        try {
+            future = task.task().get();
+        } catch (RuntimeException e) {
+            LOG.warn("{} task failed", name, e);
+            release(startNanos, true);
+            return;
+        }
+        future.addListener(() -> release(startNanos, true), MoreExecutors.directExecutor());
+    }
+
+    private void release(final long startNanos, final boolean ran) {
+        final Task next;
+        synchronized (this) {
+            if (ran) {
+                completed++;
+                totalServiceNanos += System.nanoTime() - startNanos;
+            }
+            next = preferredQueue.isEmpty() ? regularQueue.poll() : preferredQueue.poll();
+            if (next == null) {
+                running--;
+                return;
+            }
+        }
+
+        // Capacity is handed over to the next task
+        dispatch(next);
+    }
+
+    /**
+     * Describe the state of this stage.
+     *
+     * @return one line of statistics
+     */
+    synchronized String getStatistics() {
+        return ("%s: running=%d/%s queued=%d/%s (%d preferred) submitted=%d rejected=%d completed=%d"
+            + " avgQueueMillis=%d maxQueueMillis=%d avgServiceMillis=%d").formatted(name, running, limit(maxRunning),
+                preferredQueue.size() + regularQueue.size(), limit(maxQueued), preferredQueue.size(), submitted,
+                rejected, completed, averageMillis(totalQueueNanos, started), averageMillis(maxQueueNanos, 1),
+                averageMillis(totalServiceNanos, completed));
+    }
+
+    private static String limit(final int limit) {
+        return limit == 0 ? "unlimited" : String.valueOf(limit);
+    }
+
+    private static long averageMillis(final long totalNanos, final long count) {
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+    }
+
+    /**
+     * Close this stage, rejecting all queued tasks and any tasks submitted later. Running tasks are not affected.
+     */
+    void close() {
+        final List<Task> queued = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            queued.addAll(preferredQueue);
+            queued.addAll(regularQueue);
+            rejected += queued.size();
+            preferredQueue.clear();
+            regularQueue.clear();
+        }
+
+        queued.forEach(Task::reject);
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.mdsal.binding.api.DataBroker;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.api.OFConstants;
+import org.opendaylight.openflowplugin.impl.util.ThreadPoolLoggingExecutor;
+import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow.provider.config.rev160510.OpenflowProviderConfig;
+import org.opendaylight.yangtools.concepts.Registration;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint64;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stages a device goes through when connecting, each with its own executor, concurrency limit and bounded queue, so
+ * that a burst of connecting devices, e.g. after a controller restart, progresses through the stages at a steady
+ * pace instead of the stages competing for a single thread pool and timing out.
+ *
+ * <p>
+ * Devices known from previous connections or from the config inventory are preferred in every stage, so that
+ * reconnecting devices converge first. Their handshakes are recognized by the remote address, as the datapath ID is not
+ * known until the handshake completes. Only the creation and deletion of nodes in the config inventory is looked at,
+ * the operational inventory is not listened to, as it changes with every statistics update of every device.
+ */
+public final class DeviceConnectionPipeline implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(DeviceConnectionPipeline.class);
+    private static final String POOL_NAME = "ofppool";
+    private static final ObjectName MXBEAN_OBJECT_NAME;
+
+    static {
+        try {
+            MXBEAN_OBJECT_NAME = new ObjectName("%s:type=%s".formatted(
+                    DeviceConnectionPipelineMXBean.class.getPackage().getName(),
+                    DeviceConnectionPipelineMXBean.class.getSimpleName()));
+        } catch (MalformedObjectNameException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /**
+     * Stages of a device connection, in the order a device goes through them.
+     */
+    public enum Stage {
+        /**
+         * OpenFlow handshake, from the connection being ready until the features reply is received.
+         */
+        HANDSHAKE,
+        /**
+         * Creation of the device contexts and their registration to the cluster singleton service.
+         */
+        CONTEXT_CREATION,
+        /**
+         * Role change and cluster singleton service callbacks.
+         */
+        MASTERSHIP,
+        /**
+         * Initialization of a mastered device, gathering its description, ports, table features, meter and group
+         * features.
+         */
+        FEATURE_DISCOVERY
+    }
+
+    private final Map<Stage, ConnectionStage> stages = new EnumMap<>(Stage.class);
+    private final List<ExecutorService> executors = new ArrayList<>();
+    private final List<Registration> registrations = new ArrayList<>();
+    private final Set<Uint64> knownDatapathIds = ConcurrentHashMap.newKeySet();
+    private final Set<InetAddress> knownAddresses = ConcurrentHashMap.newKeySet();
+    private boolean runUnreg;
+
+    /**
+     * Create the pipeline of a running plugin. Every stage gets its own thread pool, known devices are learned from
+     * the config inventory and from their connections.
+     *
+     * @param config plugin configuration
+     * @param dataBroker data broker
+     */
+    public DeviceConnectionPipeline(@NonNull final OpenflowProviderConfig config,
+            @NonNull final DataBroker dataBroker) {
+        final int maxThreads = config.getThreadPoolMaxThreads().getValue().toJava();
+        final int maxQueued = config.getConnectionStageQueueSize().toJava();
+        for (Stage stage : Stage.values()) {
+            final int maxRunning = maxRunning(config, stage);
+            final int threads = maxRunning == 0 ? maxThreads : Math.min(maxRunning, maxThreads);
+            final ThreadPoolLoggingExecutor executor = new ThreadPoolLoggingExecutor(threads, threads,
+                config.getThreadPoolTimeout().toJava(), TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                POOL_NAME + "-" + stage.name().toLowerCase(Locale.ROOT).replace('_', '-'));
+            executor.allowCoreThreadTimeOut(true);
+            executors.add(executor);
+            stages.put(stage, new ConnectionStage(stage.name(), executor, maxRunning, maxQueued));
+        }
+
+        registrations.add(dataBroker.registerTreeChangeListener(DataTreeIdentifier.of(
+            LogicalDatastoreType.CONFIGURATION, InstanceIdentifier.create(Nodes.class).child(Node.class)),
+            this::onNodesChanged));
+
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                .registerMBean((DeviceConnectionPipelineMXBean) this::getStageStatistics, MXBEAN_OBJECT_NAME);
+            runUnreg = true;
+        } catch (NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            LOG.warn("Error registering MBean {}", MXBEAN_OBJECT_NAME, e);
+        }
+    }
+
+    /**
+     * Create a pipeline running all stages on a single executor, without any limits.
+     *
+     * @param executor executor running the tasks of all stages
+     */
+    public DeviceConnectionPipeline(@NonNull final Executor executor) {
+        this(executor, 0, 0);
+    }
+
+    @VisibleForTesting
+    DeviceConnectionPipeline(final Executor executor, final int maxRunning, final int maxQueued) {
+        requireNonNull(executor);
+        for (Stage stage : Stage.values()) {
+            stages.put(stage, new ConnectionStage(stage.name(), executor, maxRunning, maxQueued));
+        }
+    }
+
+    private static int maxRunning(final OpenflowProviderConfig config, final Stage stage) {
+        switch (stage) {
+            case HANDSHAKE:
+                return config.getHandshakeConcurrency().toJava();
+            case CONTEXT_CREATION:
+                return config.getContextCreationConcurrency().toJava();
+            case MASTERSHIP:
+                return config.getMastershipConcurrency().toJava();
+            case FEATURE_DISCOVERY:
+                return config.getFeatureDiscoveryConcurrency().toJava();
+            default:
+                throw new IllegalArgumentException("Unhandled stage " + stage);
+        }
+    }
+
+    /**
+     * Run the handshake of a device once the handshake stage has capacity for it. The capacity is held until the
+     * returned future completes.
+     *
+     * @param remoteAddress remote address of the device
+     * @param task supplier of the handshake
+     * @param onReject invoked instead of the handshake if the stage rejects it
+     */
+    public void submitHandshake(@Nullable final InetSocketAddress remoteAddress,
+            @NonNull final Supplier<? extends ListenableFuture<?>> task, @NonNull final Runnable onReject) {
+        final boolean known = remoteAddress != null && remoteAddress.getAddress() != null
+            && knownAddresses.contains(remoteAddress.getAddress());
+        stages.get(Stage.HANDSHAKE).submit(task, known, onReject);
+    }
+
+    /**
+     * Run a task of a device once the stage has capacity for it. The capacity is held until the returned future
+     * completes.
+     *
+     * @param stage stage of the task
+     * @param datapathId datapath ID of the device
+     * @param task supplier of the task
+     * @param onReject invoked instead of the task if the stage rejects it
+     */
+    public void submit(@NonNull final Stage stage, @Nullable final Uint64 datapathId,
+            @NonNull final Supplier<? extends ListenableFuture<?>> task, @NonNull final Runnable onReject) {
+        stages.get(stage).submit(task, isKnown(datapathId), onReject);
+    }
+
+    /**
+     * Run a task of a device once the stage has capacity for it. The capacity is held while the task runs.
+     *
+     * @param stage stage of the task
+     * @param datapathId datapath ID of the device
+     * @param task the task
+     * @param onReject invoked instead of the task if the stage rejects it
+     */
+    public void execute(@NonNull final Stage stage, @Nullable final Uint64 datapathId, @NonNull final Runnable task,
+            @NonNull final Runnable onReject) {
+        requireNonNull(task);
+        submit(stage, datapathId, () -> {
+            task.run();
+            return Futures.immediateVoidFuture();
+        }, onReject);
+    }
+
+    /**
+     * Return an executor running the tasks of a device in a stage. Tasks rejected by the stage are run by the thread
+     * submitting them, so that callbacks are never lost.
+     *
+     * @param stage stage of the tasks
+     * @param datapathId datapath ID of the device
+     * @return executor of the stage
+     */
+    public Executor executor(@NonNull final Stage stage, @Nullable final Uint64 datapathId) {
+        requireNonNull(stage);
+        return command -> execute(stage, datapathId, command, command);
+    }
+
+    /**
+     * Record a device completed its handshake, so that it is preferred when it connects again.
+     *
+     * @param datapathId datapath ID of the device
+     * @param remoteAddress remote address of the device
+     */
+    public void deviceConnected(@NonNull final Uint64 datapathId, @Nullable final InetSocketAddress remoteAddress) {
+        knownDatapathIds.add(datapathId);
+        if (remoteAddress != null && remoteAddress.getAddress() != null) {
+            knownAddresses.add(remoteAddress.getAddress());
+        }
+    }
+
+    @VisibleForTesting
+    boolean isKnown(@Nullable final Uint64 datapathId) {
+        return datapathId != null && knownDatapathIds.contains(datapathId);
+    }
+
+    @VisibleForTesting
+    List<String> getStageStatistics() {
+        return stages.values().stream().map(ConnectionStage::getStatistics).collect(Collectors.toList());
+    }
+
+    @VisibleForTesting
+    void onNodesChanged(final List<DataTreeModification<Node>> changes) {
+        for (DataTreeModification<Node> change : changes) {
+            final DataObjectModification<Node> mod = change.getRootNode();
+            switch (mod.modificationType()) {
+                case WRITE:
+                    if (mod.dataBefore() == null) {
+                        nodeChanged(change, true);
+                    }
+                    break;
+                case DELETE:
+                    nodeChanged(change, false);
+                    break;
+                default:
+                    // Changes within a node, e.g. its flows, do not matter
+                    break;
+            }
+        }
+    }
+
+    private void nodeChanged(final DataTreeModification<Node> change, final boolean created) {
+        final NodeId nodeId = change.getRootPath().path().firstKeyOf(Node.class).getId();
+        if (nodeId.getValue().startsWith(OFConstants.OF_URI_PREFIX)) {
+            final Uint64 datapathId;
+            try {
+                datapathId = InventoryDataServiceUtil.dataPathIdFromNodeId(nodeId);
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Ignoring node {} with invalid datapath ID", nodeId.getValue(), e);
+                return;
+            }
+            if (created) {
+                knownDatapathIds.add(datapathId);
+            } else {
+                knownDatapathIds.remove(datapathId);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        registrations.forEach(Registration::close);
+        registrations.clear();
+        stages.values().forEach(ConnectionStage::close);
+        executors.forEach(ExecutorService::shutdownNow);
+
+        if (runUnreg) {
+            runUnreg = false;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(MXBEAN_OBJECT_NAME);
+            } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+                LOG.warn("Error unregistering MBean {}", MXBEAN_OBJECT_NAME, e);
+            }
+        }
+    }
+}
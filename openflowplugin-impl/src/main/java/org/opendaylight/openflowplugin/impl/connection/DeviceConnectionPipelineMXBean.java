@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import java.util.List;
+import javax.management.MXBean;
+
+/**
+ * Exposes the state of the stages devices go through when connecting.
+ */
+@MXBean
+public interface DeviceConnectionPipelineMXBean {
+    /**
+     * Get the number of running and queued tasks of each stage, with the number of tasks rejected so far and the
+     * time tasks spent waiting in the queue and running.
+     *
+     * @return one line per stage
+     */
+    List<String> getStageStatistics();
+}
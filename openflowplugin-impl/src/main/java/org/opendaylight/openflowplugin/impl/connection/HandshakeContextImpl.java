@@ -7,14 +7,24 @@
  */
 package org.opendaylight.openflowplugin.impl.connection;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import org.checkerframework.checker.lock.qual.GuardedBy;
 import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
 import org.opendaylight.openflowplugin.api.openflow.md.core.HandshakeManager;
 
 public class HandshakeContextImpl implements HandshakeContext {
+    private final SettableFuture<Void> closeFuture = SettableFuture.create();
     private ExecutorService handshakePool;
     private HandshakeManager handshakeManager;
 
+    // Handshake steps received before the handshake was admitted, null once admitted
+    @GuardedBy("this")
+    private List<Runnable> deferredSteps;
+
     /**
      * Constructor.
      *
@@ -26,6 +36,19 @@ public class HandshakeContextImpl implements HandshakeContext {
         this.handshakeManager = handshakeManager;
     }
 
+    /**
+     * Constructor of a handshake waiting to be admitted by the handshake stage of a {@link DeviceConnectionPipeline}.
+     * Handshake steps run before the handshake is admitted are deferred until {@link #admit()}.
+     *
+     * @param handshakePool - pool
+     * @param handshakeManager - manager
+     * @param admitted - false if the handshake waits to be admitted
+     */
+    public HandshakeContextImpl(ExecutorService handshakePool, HandshakeManager handshakeManager, boolean admitted) {
+        this(handshakePool, handshakeManager);
+        deferredSteps = admitted ? null : new ArrayList<>();
+    }
+
     @Override
     public HandshakeManager getHandshakeManager() {
         return handshakeManager;
@@ -36,7 +59,46 @@ public class HandshakeContextImpl implements HandshakeContext {
         return handshakePool;
     }
 
+    /**
+     * Run a handshake step, or defer it until the handshake is admitted.
+     *
+     * @param step handshake step
+     */
+    public void executeStep(Runnable step) {
+        synchronized (this) {
+            if (deferredSteps != null) {
+                deferredSteps.add(step);
+                return;
+            }
+        }
+        step.run();
+    }
+
+    /**
+     * Admit the handshake, running the steps deferred so far. Callers must hold the lock of the connection context,
+     * so that no other step runs until the deferred ones are done.
+     *
+     * @return future completing once this context is closed
+     */
+    public ListenableFuture<Void> admit() {
+        final List<Runnable> steps;
+        synchronized (this) {
+            steps = deferredSteps;
+            deferredSteps = null;
+        }
+        if (steps != null) {
+            steps.forEach(Runnable::run);
+        }
+        return closeFuture;
+    }
+
     @Override
     public void close() {
+        synchronized (this) {
+            if (deferredSteps != null) {
+                deferredSteps.clear();
+            }
+        }
+        closeFuture.set(null);
     }
 }
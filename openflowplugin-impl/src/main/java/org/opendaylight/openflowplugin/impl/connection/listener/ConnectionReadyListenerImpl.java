@@ -7,71 +7,83 @@
  */
 package org.opendaylight.openflowplugin.impl.connection.listener;
 
-import java.util.concurrent.Future;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import java.net.InetSocketAddress;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionReadyListener;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
-import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline;
+import org.opendaylight.openflowplugin.impl.connection.HandshakeContextImpl;
 import org.opendaylight.openflowplugin.impl.connection.HandshakeStepWrapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Oneshot listener - once connection is ready, initiate handshake (if not already started by device).
+ * Oneshot listener - once connection is ready, queue the handshake in the handshake stage of the device connection
+ * pipeline. Once admitted, initiate the handshake and process the hello messages received from the device meanwhile.
  */
 public class ConnectionReadyListenerImpl implements ConnectionReadyListener {
 
     private static final Logger LOG = LoggerFactory.getLogger(ConnectionReadyListenerImpl.class);
 
     private final ConnectionContext connectionContext;
-    private final HandshakeContext handshakeContext;
+    private final HandshakeContextImpl handshakeContext;
+    private final DeviceConnectionPipeline pipeline;
 
     /**
      * Constructor.
      *
      * @param connectionContext - connection context
      * @param handshakeContext - handshake context
+     * @param pipeline - device connection pipeline
      */
-    public ConnectionReadyListenerImpl(ConnectionContext connectionContext, HandshakeContext handshakeContext) {
+    public ConnectionReadyListenerImpl(ConnectionContext connectionContext, HandshakeContextImpl handshakeContext,
+            DeviceConnectionPipeline pipeline) {
         this.connectionContext = connectionContext;
         this.handshakeContext = handshakeContext;
+        this.pipeline = pipeline;
     }
 
     @Override
-    @SuppressWarnings("checkstyle:IllegalCatch")
     public void onConnectionReady() {
+        final InetSocketAddress remoteAddress = connectionContext.getConnectionAdapter().getRemoteAddress();
         if (LOG.isDebugEnabled()) {
-            LOG.debug("device is connected and ready-to-use (pipeline prepared): {}",
-                    connectionContext.getConnectionAdapter().getRemoteAddress());
+            LOG.debug("device is connected and ready-to-use (pipeline prepared): {}", remoteAddress);
         }
 
-        if (connectionContext.getConnectionState() == null) {
-            synchronized (connectionContext) {
-                if (connectionContext.getConnectionState() == null) {
-                    connectionContext.changeStateToHandshaking();
-                    HandshakeStepWrapper handshakeStepWrapper = new HandshakeStepWrapper(
-                            null, handshakeContext.getHandshakeManager(), connectionContext.getConnectionAdapter());
-                    final Future<?> handshakeResult = handshakeContext.getHandshakePool().submit(handshakeStepWrapper);
+        synchronized (connectionContext) {
+            if (connectionContext.getConnectionState() == null) {
+                connectionContext.changeStateToHandshaking();
+            } else {
+                LOG.debug("already touched by hello message from device {}", remoteAddress);
+            }
+        }
 
-                    try {
-                        // As we run not in netty thread,
-                        // need to remain in sync lock until initial handshake step processed.
-                        handshakeResult.get();
-                    } catch (Exception e) {
-                        LOG.error("failed to process onConnectionReady event on device {}",
-                                connectionContext.getConnectionAdapter().getRemoteAddress(),
-                                e);
-                        connectionContext.closeConnection(false);
-                        handshakeContext.close();
-                    }
-                } else {
-                    LOG.debug("already touched by hello message from device {} after second check",
-                            connectionContext.getConnectionAdapter().getRemoteAddress());
+        pipeline.submitHandshake(remoteAddress, this::startHandshake, () -> {
+            LOG.warn("Handshake queue is full, disconnecting device {}", remoteAddress);
+            connectionContext.closeConnection(false);
+            handshakeContext.close();
+        });
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private ListenableFuture<Void> startHandshake() {
+        // Remain in sync lock until the initial handshake step and the deferred hello messages are processed
+        synchronized (connectionContext) {
+            try {
+                if (ConnectionContext.CONNECTION_STATE.HANDSHAKING.equals(connectionContext.getConnectionState())) {
+                    new HandshakeStepWrapper(null, handshakeContext.getHandshakeManager(),
+                        connectionContext.getConnectionAdapter()).run();
                 }
+                return handshakeContext.admit();
+            } catch (RuntimeException e) {
+                LOG.error("failed to process onConnectionReady event on device {}",
+                        connectionContext.getConnectionAdapter().getRemoteAddress(),
+                        e);
+                connectionContext.closeConnection(false);
+                handshakeContext.close();
+                return Futures.immediateVoidFuture();
             }
-        } else {
-            LOG.debug("already touched by hello message from device {} after first check",
-                    connectionContext.getConnectionAdapter().getRemoteAddress());
         }
     }
-
 }
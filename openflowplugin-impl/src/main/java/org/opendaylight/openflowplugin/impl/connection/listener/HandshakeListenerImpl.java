@@ -16,6 +16,7 @@ import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionStatus;
 import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceConnectedHandler;
 import org.opendaylight.openflowplugin.api.openflow.md.core.HandshakeListener;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.SessionStatistics;
 import org.opendaylight.openflowplugin.openflow.md.util.InventoryDataServiceUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierInput;
@@ -24,6 +25,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.GetFeaturesOutput;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.Uint32;
+import org.opendaylight.yangtools.yang.common.Uint64;
 import org.opendaylight.yangtools.yang.common.Uint8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +36,7 @@ public class HandshakeListenerImpl implements HandshakeListener {
 
     private final ConnectionContext connectionContext;
     private final DeviceConnectedHandler deviceConnectedHandler;
+    private final DeviceConnectionPipeline pipeline;
 
     private HandshakeContext handshakeContext = null;
 
@@ -42,11 +45,14 @@ public class HandshakeListenerImpl implements HandshakeListener {
      *
      * @param connectionContext - connection context
      * @param deviceConnectedHandler - device connected handler
+     * @param pipeline - device connection pipeline
      */
     public HandshakeListenerImpl(final ConnectionContext connectionContext,
-                                 final DeviceConnectedHandler deviceConnectedHandler) {
+                                 final DeviceConnectedHandler deviceConnectedHandler,
+                                 final DeviceConnectionPipeline pipeline) {
         this.connectionContext = connectionContext;
         this.deviceConnectedHandler = deviceConnectedHandler;
+        this.pipeline = pipeline;
     }
 
     @Override
@@ -69,16 +75,29 @@ public class HandshakeListenerImpl implements HandshakeListener {
     private FutureCallback<RpcResult<BarrierOutput>> addBarrierCallback() {
         return new FutureCallback<>() {
             @Override
-            @SuppressWarnings("checkstyle:IllegalCatch")
             public void onSuccess(final RpcResult<BarrierOutput> result) {
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("succeeded by getting sweep barrier after post-handshake for device {}",
                             connectionContext.getDeviceInfo());
                 }
+                final Uint64 datapathId = connectionContext.getFeatures().getDatapathId();
+                pipeline.execute(DeviceConnectionPipeline.Stage.CONTEXT_CREATION, datapathId,
+                    () -> deviceConnected(datapathId), () -> {
+                        LOG.warn("Context creation queue is full, disconnecting device {}",
+                            connectionContext.getDeviceInfo());
+                        connectionContext.closeConnection(false);
+                    });
+            }
+
+            @SuppressWarnings("checkstyle:IllegalCatch")
+            private void deviceConnected(final Uint64 datapathId) {
                 try {
                     ConnectionStatus connectionStatusResult = deviceConnectedHandler.deviceConnected(connectionContext);
                     if (connectionStatusResult != ConnectionStatus.MAY_CONTINUE) {
                         connectionContext.closeConnection(false);
+                    } else {
+                        pipeline.deviceConnected(datapathId,
+                            connectionContext.getConnectionAdapter().getRemoteAddress());
                     }
                     SessionStatistics.countEvent(connectionContext.getDeviceInfo().toString(),
                             SessionStatistics.ConnectionStatus.CONNECTION_CREATED);
@@ -14,6 +14,7 @@ import java.util.Objects;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter.MessageListener;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
 import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
+import org.opendaylight.openflowplugin.impl.connection.HandshakeContextImpl;
 import org.opendaylight.openflowplugin.impl.connection.HandshakeStepWrapper;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyOutput;
@@ -97,8 +98,13 @@ public class OpenflowProtocolListenerInitialImpl implements MessageListener {
                 if (checkState(ConnectionContext.CONNECTION_STATE.HANDSHAKING)) {
                     final var handshakeStepWrapper = new HandshakeStepWrapper(hello,
                         handshakeContext.getHandshakeManager(), connectionContext.getConnectionAdapter());
-                    // use up netty thread
-                    handshakeStepWrapper.run();
+                    if (handshakeContext instanceof HandshakeContextImpl context) {
+                        // use up netty thread, unless the handshake waits to be admitted
+                        context.executeStep(handshakeStepWrapper);
+                    } else {
+                        // use up netty thread
+                        handshakeStepWrapper.run();
+                    }
                 } else {
                     LOG.debug("already out of handshake phase but still received hello message from device {}",
                             connectionContext.getConnectionAdapter().getRemoteAddress());
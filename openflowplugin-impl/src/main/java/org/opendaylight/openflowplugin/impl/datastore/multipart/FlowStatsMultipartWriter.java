@@ -10,6 +10,8 @@ package org.opendaylight.openflowplugin.impl.datastore.multipart;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
 import org.opendaylight.openflowplugin.impl.registry.flow.FlowRegistryKeyFactory;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter32;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Counter64;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
@@ -52,7 +54,9 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
                 flowRegistry.store(flowRegistryKey);
 
                 final var flowDescriptor = flowRegistry.retrieveDescriptor(flowRegistryKey);
-                if (flowDescriptor != null) {
+                if (flowDescriptor != null && !flowRegistry.isStatisticsUnchanged(flowDescriptor,
+                        counterValue(stat.getPacketCount()), counterValue(stat.getByteCount()),
+                        stat.getDuration() == null ? 0 : counterValue(stat.getDuration().getSecond()))) {
                     final FlowKey key = new FlowKey(flowDescriptor.getFlowId());
 
                     writeToTransaction(
@@ -69,4 +73,11 @@ public class FlowStatsMultipartWriter extends AbstractMultipartWriter<FlowAndSta
             });
     }
 
+    private static long counterValue(final Counter64 counter) {
+        return counter == null ? 0 : counter.getValue().longValue();
+    }
+
+    private static long counterValue(final Counter32 counter) {
+        return counter == null ? 0 : counter.getValue().toJava();
+    }
 }
@@ -16,7 +16,6 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.netty.util.HashedWheelTimer;
 import java.util.Collection;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
@@ -25,12 +24,14 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.mdsal.singleton.api.ServiceGroupIdentifier;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.FlowGroupInfoHistory;
@@ -54,6 +55,7 @@ import org.opendaylight.openflowplugin.api.openflow.registry.flow.DeviceFlowRegi
 import org.opendaylight.openflowplugin.api.openflow.registry.group.DeviceGroupRegistry;
 import org.opendaylight.openflowplugin.api.openflow.registry.meter.DeviceMeterRegistry;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.common.txchain.GroupCommit;
 import org.opendaylight.openflowplugin.common.txchain.TransactionChainManager;
 import org.opendaylight.openflowplugin.extension.api.ConvertorMessageFromOFJava;
 import org.opendaylight.openflowplugin.extension.api.ExtensionConverterProviderKeeper;
@@ -144,6 +146,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private final ConvertorExecutor convertorExecutor;
     private final DeviceInitializerProvider deviceInitializerProvider;
     private final PacketInRateLimiter packetInLimiter;
+    private final PacketInAdmission packetInAdmission;
     private final DeviceInfo deviceInfo;
     private final ConnectionContext primaryConnectionContext;
     private final boolean skipTableFeatures;
@@ -164,6 +167,9 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     private FlowGroupInfoHistoryImpl history;
     private final NotificationManager<String, Runnable> queuedNotificationManager;
     private final boolean isStatisticsPollingOn;
+    private final boolean incrementalFlowRegistryFill;
+    private final long flowStatisticsMinDelta;
+    private final @Nullable GroupCommit groupCommit;
 
     DeviceContextImpl(@NonNull final ConnectionContext primaryConnectionContext,
                       @NonNull final DataBroker dataBroker,
@@ -178,7 +184,10 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                       final boolean switchFeaturesMandatory,
                       final ContextChainHolder contextChainHolder,
                       final NotificationManager<String, Runnable> queuedNotificationManager,
-                      final boolean isStatisticsPollingOn) {
+                      final boolean isStatisticsPollingOn,
+                      final boolean incrementalFlowRegistryFill,
+                      final long flowStatisticsMinDelta,
+                      final @Nullable GroupCommit groupCommit) {
         this.primaryConnectionContext = primaryConnectionContext;
         deviceInfo = primaryConnectionContext.getDeviceInfo();
         this.hashedWheelTimer = hashedWheelTimer;
@@ -189,10 +198,14 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         this.dataBroker = dataBroker;
         this.messageSpy = messageSpy;
         this.isStatisticsPollingOn = isStatisticsPollingOn;
+        this.incrementalFlowRegistryFill = incrementalFlowRegistryFill;
+        this.flowStatisticsMinDelta = flowStatisticsMinDelta;
+        this.groupCommit = groupCommit;
         this.contextChainHolder = contextChainHolder;
 
         packetInLimiter = new PacketInRateLimiter(primaryConnectionContext.getConnectionAdapter(),
                 /*initial*/ LOW_WATERMARK, /*initial*/HIGH_WATERMARK, this.messageSpy, REJECTED_DRAIN_FACTOR);
+        packetInAdmission = new PacketInAdmission(this.messageSpy);
 
         this.translatorLibrary = translatorLibrary;
         portStatusTranslator = translatorLibrary.lookupTranslator(
@@ -377,11 +390,13 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                         .addAugmentation(new FlowCapableNodeConnectorStatisticsDataBuilder().build())
                         .addAugmentation(flowCapableNodeConnector)
                         .build());
-                syncSubmitTransaction();
                 if (PortReason.OFPPRDELETE.equals(portStatusMessage.getReason())) {
-                    addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, iiToNodeConnector);
+                    // The last state of the port has to be committed on its own before the port is removed
                     syncSubmitTransaction();
+                    addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, iiToNodeConnector);
                 }
+                // Commits of port status storms are coalesced when group commit is enabled
+                submitTransaction();
             } catch (final Exception e) {
                 LOG.warn("Error processing port status message for port {} on device {}",
                         portStatusMessage.getPortNo(), datapathId, e);
@@ -395,12 +410,39 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
     public void processPacketInMessage(final PacketInMessage packetInMessage) {
         if (isMasterOfDevice()) {
             final PacketReceived packetReceived = packetInTranslator.translate(packetInMessage, getDeviceInfo(), null);
-            handlePacketInMessage(packetReceived, packetInMessage.implementedInterface(), packetReceived.getMatch());
+            handlePacketInMessage(packetReceived, packetInMessage.implementedInterface(), packetReceived.getMatch(),
+                false);
         } else {
             LOG.debug("Controller is not owner of the device {}, skipping packet_in message", deviceInfo.getLOGValue());
         }
     }
 
+    @Override
+    public void processLazyPacketInMessage(final LazyPacketIn packetIn) {
+        if (!isMasterOfDevice()) {
+            LOG.debug("Controller is not owner of the device {}, skipping packet_in message", deviceInfo.getLOGValue());
+            return;
+        }
+
+        // Admission only needs the fields read in place, hence dropped packets are never decoded nor translated
+        if (!packetInAdmission.admit(packetIn, PacketInMessage.class)) {
+            messageSpy.spyMessage(PacketInMessage.class, MessageSpy.StatisticsGroup.FROM_SWITCH);
+            packetInNotAdmitted(PacketInMessage.class);
+            return;
+        }
+
+        final PacketInMessage packetInMessage = packetIn.toPacketInMessage();
+        final PacketReceived packetReceived = packetInTranslator.translate(packetInMessage, getDeviceInfo(), null);
+        handlePacketInMessage(packetReceived, packetInMessage.implementedInterface(), packetReceived.getMatch(), true);
+    }
+
+    // The admission counts the reason of the drop, the drop itself is counted here for decoded and lazy packets alike
+    private void packetInNotAdmitted(final Class<?> implementedInterface) {
+        LOG.debug("Packet not admitted");
+        messageSpy.spyMessage(implementedInterface,
+            MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_LIMIT_REACHED_AND_DROPPED);
+    }
+
     private Boolean isMasterOfDevice() {
         final ContextChain contextChain = contextChainHolder.getContextChain(deviceInfo);
         boolean result = false;
@@ -412,7 +454,8 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
     private void handlePacketInMessage(final PacketIn packetIn,
                                        final Class<?> implementedInterface,
-                                       final Match match) {
+                                       final Match match,
+                                       final boolean admitted) {
         messageSpy.spyMessage(implementedInterface, MessageSpy.StatisticsGroup.FROM_SWITCH);
         final ConnectionAdapter connectionAdapter = getPrimaryConnectionContext().getConnectionAdapter();
 
@@ -441,6 +484,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
         messageSpy.spyMessage(implementedInterface, MessageSpy.StatisticsGroup.FROM_SWITCH_TRANSLATE_OUT_SUCCESS);
 
+        if (!admitted && !packetInAdmission.admit(packetIn, implementedInterface)) {
+            packetInNotAdmitted(implementedInterface);
+            return;
+        }
+
         if (!packetInLimiter.acquirePermit()) {
             LOG.debug("Packet limited");
             // TODO: save packet into emergency slot if possible
@@ -527,7 +575,7 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                     .PacketInMessage packetInMessage = (org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service
                 .rev130709.PacketInMessage) message;
 
-            handlePacketInMessage(packetInMessage, implementedInterface, packetInMessage.getMatch());
+            handlePacketInMessage(packetInMessage, implementedInterface, packetInMessage.getMatch(), false);
             return true;
         }
 
@@ -566,6 +614,11 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
                 (int) (HIGH_WATERMARK_FACTOR * upperBound));
     }
 
+    @Override
+    public void updatePacketInAdmissionRate(final long packetsPerSecond) {
+        packetInAdmission.updateRate(packetsPerSecond);
+    }
+
     @Override
     public void setExtensionConverterProvider(final ExtensionConverterProvider extensionConverterProvider) {
         this.extensionConverterProvider = extensionConverterProvider;
@@ -711,10 +764,13 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
         if (!initialized.get()) {
             LOG.debug("Transaction chain manager for node {} created", deviceInfo);
             final NodeId nodeId = deviceInfo.getNodeId();
-            transactionChainManager = new TransactionChainManager(dataBroker, nodeId.getValue());
+            // Statistics remembered as written may have been lost together with the failed transactions
+            transactionChainManager = new TransactionChainManager(dataBroker, nodeId.getValue(), groupCommit,
+                () -> deviceFlowRegistry.clearStatistics());
             history = new FlowGroupInfoHistoryImpl(FLOWGROUP_CACHE_SIZE);
             deviceFlowRegistry = new DeviceFlowRegistryImpl(deviceInfo.getVersion(), dataBroker,
-                    deviceInfo.getNodeInstanceIdentifier(), history);
+                    deviceInfo.getNodeInstanceIdentifier(), history, incrementalFlowRegistryFill,
+                    flowStatisticsMinDelta);
             deviceGroupRegistry = new DeviceGroupRegistryImpl(history);
             deviceMeterRegistry = new DeviceMeterRegistryImpl();
         }
@@ -761,25 +817,9 @@ public class DeviceContextImpl implements DeviceContext, ExtensionConverterProvi
 
         @Override
         public void onSuccess(final List<Optional<FlowCapableNode>> result) {
-            if (LOG.isDebugEnabled()) {
-                // Count all flows we read from datastore for debugging purposes.
-                // This number do not always represent how many flows were actually added
-                // to DeviceFlowRegistry, because of possible duplicates.
-                long flowCount = 0;
-                if (result != null) {
-                    for (Optional<FlowCapableNode> optNode : result) {
-                        if (optNode.isPresent()) {
-                            flowCount += optNode.orElseThrow().nonnullTable().values().stream()
-                                    .filter(Objects::nonNull)
-                                    .flatMap(table -> table.nonnullFlow().values().stream())
-                                    .filter(Objects::nonNull)
-                                    .count();
-                        }
-                    }
-                }
-
-                LOG.debug("Finished filling flow registry with {} flows for node: {}", flowCount, deviceInfo);
-            }
+            // Counts of flows read from the datastore are reported by the registry itself
+            LOG.debug("Finished filling flow registry with {} flows for node: {}", getDeviceFlowRegistry().size(),
+                deviceInfo);
         }
 
         @Override
@@ -8,7 +8,9 @@
 package org.opendaylight.openflowplugin.impl.device;
 
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.util.HashedWheelTimer;
+import java.lang.management.ManagementFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -16,8 +18,16 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.NotificationPublishService;
@@ -34,6 +44,8 @@ import org.opendaylight.openflowplugin.api.openflow.device.DeviceManager;
 import org.opendaylight.openflowplugin.api.openflow.device.TranslatorLibrary;
 import org.opendaylight.openflowplugin.api.openflow.lifecycle.ContextChainHolder;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.common.txchain.GroupCommit;
+import org.opendaylight.openflowplugin.common.txchain.GroupCommitMXBean;
 import org.opendaylight.openflowplugin.extension.api.ExtensionConverterProviderKeeper;
 import org.opendaylight.openflowplugin.extension.api.core.extension.ExtensionConverterProvider;
 import org.opendaylight.openflowplugin.impl.connection.OutboundQueueProviderImpl;
@@ -56,6 +68,17 @@ import org.slf4j.LoggerFactory;
 public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProviderKeeper {
     private static final Logger LOG = LoggerFactory.getLogger(DeviceManagerImpl.class);
     private static final int SPY_RATE = 10;
+    private static final long MIN_PACKET_IN_RATE = 100;
+    private static final ObjectName GROUP_COMMIT_OBJECT_NAME;
+
+    static {
+        try {
+            GROUP_COMMIT_OBJECT_NAME = new ObjectName("%s:type=%s".formatted(
+                    GroupCommitMXBean.class.getPackage().getName(), GroupCommitMXBean.class.getSimpleName()));
+        } catch (MalformedObjectNameException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     private final OpenflowProviderConfig config;
     private final DataBroker dataBroker;
@@ -73,6 +96,9 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
     private ScheduledThreadPoolExecutor spyPool;
     private ContextChainHolder contextChainHolder;
     private final QueuedNotificationManager<String, Runnable> queuedNotificationManager;
+    private final ScheduledExecutorService groupCommitTimer;
+    private final GroupCommit groupCommit;
+    private boolean groupCommitRegistered;
 
     public DeviceManagerImpl(@NonNull final OpenflowProviderConfig config,
                              @NonNull final DataBroker dataBroker,
@@ -94,6 +120,30 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
         this.queuedNotificationManager =  QueuedNotificationManager.create(executorService, (key, entries) -> {
             entries.forEach(Runnable::run);
         }, 2048, "port-status-queue");
+
+        final int transactionBatchSize = config.getTransactionBatchSize().toJava();
+        if (transactionBatchSize > 0) {
+            groupCommitTimer = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("transaction-group-commit-%d")
+                .build());
+            groupCommit = new GroupCommit(groupCommitTimer, transactionBatchSize,
+                config.getTransactionBatchDelay().toJava(), TimeUnit.MICROSECONDS,
+                config.getTransactionMaxOutstandingCommits().getValue().toJava());
+            registerGroupCommit();
+        } else {
+            groupCommitTimer = null;
+            groupCommit = null;
+        }
+    }
+
+    private void registerGroupCommit() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(groupCommit, GROUP_COMMIT_OBJECT_NAME);
+            groupCommitRegistered = true;
+        } catch (NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            LOG.warn("Error registering MBean {}", GROUP_COMMIT_OBJECT_NAME, e);
+        }
     }
 
     @Override
@@ -114,6 +164,17 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
             spyPool.shutdownNow();
             spyPool = null;
         }
+        if (groupCommitTimer != null) {
+            groupCommitTimer.shutdown();
+        }
+        if (groupCommitRegistered) {
+            groupCommitRegistered = false;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(GROUP_COMMIT_OBJECT_NAME);
+            } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+                LOG.warn("Error unregistering MBean {}", GROUP_COMMIT_OBJECT_NAME, e);
+            }
+        }
     }
 
     @Override
@@ -175,7 +236,10 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 config.getSwitchFeaturesMandatory(),
                 contextChainHolder,
                 queuedNotificationManager,
-                config.getIsStatisticsPollingOn());
+                config.getIsStatisticsPollingOn(),
+                config.getIncrementalFlowRegistryFill(),
+                config.getFlowStatisticsMinDelta().toJava(),
+                groupCommit);
         ((ExtensionConverterProviderKeeper) deviceContext).setExtensionConverterProvider(extensionConverterProvider);
         deviceContext.setNotificationPublishService(notificationPublishService);
 
@@ -202,8 +266,20 @@ public class DeviceManagerImpl implements DeviceManager, ExtensionConverterProvi
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("fresh notification limit = {}", freshNotificationLimit);
                 }
+
+                // Share the packetIn rate evenly, 0 disables rate limiting altogether
+                final long packetInRateLimit = config.getPacketInRateLimit().toJava();
+                long freshPacketInRate = packetInRateLimit / deviceContextsSize;
+                if (packetInRateLimit > 0 && freshPacketInRate < MIN_PACKET_IN_RATE) {
+                    freshPacketInRate = MIN_PACKET_IN_RATE;
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("fresh packetIn rate = {}", freshPacketInRate);
+                }
+
                 for (final DeviceContext deviceContext : deviceContexts.values()) {
                     deviceContext.updatePacketInRateLimit(freshNotificationLimit);
+                    deviceContext.updatePacketInAdmissionRate(freshPacketInRate);
                 }
             }
         }
@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.openflowplugin.impl.util.PacketInUtil;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketIn;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableId;
+import org.opendaylight.yangtools.yang.common.Uint8;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Rate based admission of packetIns received from a single device. Packets are admitted from a device-wide
+ * {@link TokenBucket}, whose rate is this device's fair share of the global limit. LLDP and ARP packets additionally
+ * have a reserved share of that rate, so topology discovery keeps working during punt floods, while any single
+ * table-id/reason combination may only use a fraction of it. Every decision is counted in {@link MessageSpy}.
+ */
+final class PacketInAdmission {
+    private static final Logger LOG = LoggerFactory.getLogger(PacketInAdmission.class);
+
+    /**
+     * Share of the device rate reserved for LLDP and ARP packets.
+     */
+    static final double PRIORITY_SHARE = 0.25;
+    /**
+     * Share of the device rate available to a single table-id/reason combination.
+     */
+    static final double TABLE_REASON_SHARE = 0.5;
+
+    private static final int ETHERTYPE_OFFSET = 12;
+    private static final int ETHERTYPE_ARP = 0x0806;
+    private static final int ETHERTYPE_LLDP = 0x88CC;
+    private static final int ETHERTYPE_VLAN = 0x8100;
+    private static final int ETHERTYPE_QINQ = 0x88A8;
+    private static final int ETHERTYPE_QINQ_LEGACY = 0x9100;
+    private static final int VLAN_TAG_LENGTH = 4;
+
+    /**
+     * Key of a table-id/reason bucket, either component may be null.
+     */
+    private record BucketKey(Uint8 tableId, PacketInReason reason) {
+    }
+
+    private final ConcurrentHashMap<BucketKey, TokenBucket> tableReasonBuckets = new ConcurrentHashMap<>();
+    private final MessageSpy messageSpy;
+    private final Ticker ticker;
+    private final TokenBucket deviceBucket;
+    private final TokenBucket priorityBucket;
+
+    private volatile long rate;
+
+    PacketInAdmission(final MessageSpy messageSpy) {
+        this(messageSpy, Ticker.systemTicker());
+    }
+
+    @VisibleForTesting
+    PacketInAdmission(final MessageSpy messageSpy, final Ticker ticker) {
+        this.messageSpy = requireNonNull(messageSpy);
+        this.ticker = requireNonNull(ticker);
+        deviceBucket = new TokenBucket(ticker, 0, 1);
+        priorityBucket = new TokenBucket(ticker, 0, 1);
+    }
+
+    /**
+     * Changes the rate of admitted packetIns.
+     *
+     * @param packetsPerSecond rate of admitted packetIns, 0 if unlimited
+     */
+    void updateRate(final long packetsPerSecond) {
+        checkArgument(packetsPerSecond >= 0, "Invalid rate %s", packetsPerSecond);
+        if (packetsPerSecond > 0) {
+            if (rate == 0) {
+                // Start with full buckets when enabling rate limiting
+                tableReasonBuckets.clear();
+                deviceBucket.reset(packetsPerSecond, burstFor(packetsPerSecond));
+                priorityBucket.reset(packetsPerSecond * PRIORITY_SHARE, burstFor(packetsPerSecond * PRIORITY_SHARE));
+            } else {
+                setRate(deviceBucket, packetsPerSecond);
+                setRate(priorityBucket, packetsPerSecond * PRIORITY_SHARE);
+                tableReasonBuckets.values().forEach(bucket -> setRate(bucket, packetsPerSecond * TABLE_REASON_SHARE));
+            }
+        }
+        rate = packetsPerSecond;
+        LOG.debug("PacketIn admission rate set to {}/s", packetsPerSecond);
+    }
+
+    /**
+     * Decides whether a packetIn should be processed.
+     *
+     * @param packetIn received packet
+     * @param implementedInterface message type, used for accounting
+     * @return true if the packet was admitted
+     */
+    boolean admit(final PacketIn packetIn, final Class<?> implementedInterface) {
+        final TableId tableId = packetIn.getTableId();
+        return admit(isPriority(packetIn.getPayload()), tableId == null ? null : tableId.getValue(),
+            packetIn.getPacketInReason(), implementedInterface);
+    }
+
+    /**
+     * Decides whether a lazily decoded packetIn should be processed. Only the fields read in place from the frame are
+     * looked at, hence dropped packets are never fully decoded.
+     *
+     * @param packetIn received packet
+     * @param implementedInterface message type, used for accounting
+     * @return true if the packet was admitted
+     */
+    boolean admit(final LazyPacketIn packetIn, final Class<?> implementedInterface) {
+        final var reason = packetIn.getReason();
+        return admit(isPriority(packetIn.getPayload()), packetIn.getTableId(),
+            reason == null ? null : PacketInUtil.getMdSalPacketInReason(reason), implementedInterface);
+    }
+
+    private boolean admit(final boolean priority, final Uint8 tableId, final PacketInReason reason,
+            final Class<?> implementedInterface) {
+        final long currentRate = rate;
+
+        if (priority) {
+            if (currentRate == 0 || priorityBucket.tryAcquire() || deviceBucket.tryAcquire()) {
+                messageSpy.spyMessage(implementedInterface,
+                    MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_PRIORITY_ADMITTED);
+                return true;
+            }
+        } else if (currentRate == 0) {
+            messageSpy.spyMessage(implementedInterface, MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_ADMITTED);
+            return true;
+        } else if (!tableReasonBucket(tableId, reason, currentRate).tryAcquire()) {
+            messageSpy.spyMessage(implementedInterface,
+                MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_TABLE_RATE_DROPPED);
+            return false;
+        } else if (deviceBucket.tryAcquire()) {
+            messageSpy.spyMessage(implementedInterface, MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_ADMITTED);
+            return true;
+        }
+
+        messageSpy.spyMessage(implementedInterface,
+            MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_DEVICE_RATE_DROPPED);
+        return false;
+    }
+
+    private TokenBucket tableReasonBucket(final Uint8 tableId, final PacketInReason reason, final long currentRate) {
+        return tableReasonBuckets.computeIfAbsent(new BucketKey(tableId, reason), key -> {
+            final double bucketRate = currentRate * TABLE_REASON_SHARE;
+            return new TokenBucket(ticker, bucketRate, burstFor(bucketRate));
+        });
+    }
+
+    private static void setRate(final TokenBucket bucket, final double ratePerSecond) {
+        bucket.setRate(ratePerSecond, burstFor(ratePerSecond));
+    }
+
+    // Allow bursts of up to one second worth of packets
+    private static double burstFor(final double ratePerSecond) {
+        return Math.max(1, ratePerSecond);
+    }
+
+    @VisibleForTesting
+    static boolean isPriority(final byte[] payload) {
+        return payload != null && isPriority(Unpooled.wrappedBuffer(payload));
+    }
+
+    @VisibleForTesting
+    static boolean isPriority(final ByteBuf payload) {
+        int offset = payload.readerIndex() + ETHERTYPE_OFFSET;
+        while (offset + 1 < payload.writerIndex()) {
+            switch (payload.getUnsignedShort(offset)) {
+                case ETHERTYPE_LLDP:
+                case ETHERTYPE_ARP:
+                    return true;
+                case ETHERTYPE_VLAN:
+                case ETHERTYPE_QINQ:
+                case ETHERTYPE_QINQ_LEGACY:
+                    offset += VLAN_TAG_LENGTH;
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return false;
+    }
+}
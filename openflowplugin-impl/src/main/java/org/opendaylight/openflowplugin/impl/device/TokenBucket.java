@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Ticker;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.lock.qual.Holding;
+
+/**
+ * Token bucket. Tokens are replenished continuously at a fixed rate, up to a burst size, and each admitted event
+ * consumes a single token. Acquiring never waits for tokens, but all methods synchronize on the bucket, so it must not
+ * be shared by threads contending on a hot path.
+ */
+final class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Ticker ticker;
+
+    @GuardedBy("this")
+    private double tokensPerNano;
+    @GuardedBy("this")
+    private double burst;
+    @GuardedBy("this")
+    private double tokens;
+    @GuardedBy("this")
+    private long lastRefill;
+
+    TokenBucket(final Ticker ticker, final double ratePerSecond, final double burst) {
+        this.ticker = requireNonNull(ticker);
+        lastRefill = ticker.read();
+        setRate(ratePerSecond, burst);
+        tokens = this.burst;
+    }
+
+    /**
+     * Attempts to consume a single token.
+     *
+     * @return true if a token was available
+     */
+    synchronized boolean tryAcquire() {
+        refill();
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    /**
+     * Changes the rate and burst size. Tokens accumulated so far are kept, up to the new burst size.
+     *
+     * @param ratePerSecond tokens replenished per second
+     * @param newBurst maximum number of tokens, must be at least 1
+     */
+    synchronized void setRate(final double ratePerSecond, final double newBurst) {
+        checkArgument(ratePerSecond >= 0, "Invalid rate %s", ratePerSecond);
+        checkArgument(newBurst >= 1, "Invalid burst %s", newBurst);
+        refill();
+        tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        burst = newBurst;
+        tokens = Math.min(tokens, newBurst);
+    }
+
+    /**
+     * Changes the rate and burst size, and fills the bucket.
+     *
+     * @param ratePerSecond tokens replenished per second
+     * @param newBurst maximum number of tokens, must be at least 1
+     */
+    synchronized void reset(final double ratePerSecond, final double newBurst) {
+        setRate(ratePerSecond, newBurst);
+        tokens = newBurst;
+    }
+
+    @Holding("this")
+    private void refill() {
+        final long now = ticker.read();
+        final long elapsed = now - lastRefill;
+        if (elapsed > 0) {
+            tokens = Math.min(burst, tokens + elapsed * tokensPerNano);
+            lastRefill = now;
+        }
+    }
+}
@@ -11,6 +11,7 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.MoreExecutors;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.protocol.api.extensibility.AlienMessageListener;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceReplyProcessor;
 import org.opendaylight.openflowplugin.api.openflow.device.listener.OpenflowMessageListenerFacade;
@@ -106,6 +107,11 @@ public class OpenflowProtocolListenerFullImpl implements AlienMessageListener, O
         deviceReplyProcessor.processPacketInMessage(notification);
     }
 
+    @Override
+    public void onLazyPacketIn(final LazyPacketIn packetIn) {
+        deviceReplyProcessor.processLazyPacketInMessage(packetIn);
+    }
+
     @Override
     public void onPortStatus(final PortStatusMessage notification) {
         deviceReplyProcessor.processPortStatusMessage(notification);
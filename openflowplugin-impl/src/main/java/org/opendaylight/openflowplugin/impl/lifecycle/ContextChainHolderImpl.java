@@ -21,7 +21,6 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
@@ -51,6 +50,7 @@ import org.opendaylight.openflowplugin.api.openflow.rpc.RpcContext;
 import org.opendaylight.openflowplugin.api.openflow.rpc.RpcManager;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsContext;
 import org.opendaylight.openflowplugin.api.openflow.statistics.StatisticsManager;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline;
 import org.opendaylight.openflowplugin.impl.util.DeviceStateUtil;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
@@ -78,7 +78,7 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
     private final ConcurrentMap<DeviceInfo, ? super ConnectionContext> connectingDevices = new ConcurrentHashMap<>();
     private final Registration eosListenerRegistration;
     private final ClusterSingletonServiceProvider singletonServiceProvider;
-    private final Executor executor;
+    private final DeviceConnectionPipeline pipeline;
     private final OwnershipChangeListener ownershipChangeListener;
     private final ThreadFactory threadFactory = new ThreadFactoryBuilder().setDaemon(true)
             .setNameFormat("node-cleaner-%d").setUncaughtExceptionHandler((thread, throwable) -> {
@@ -93,13 +93,13 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
     private StatisticsManager statisticsManager;
     private RoleManager roleManager;
 
-    public ContextChainHolderImpl(final Executor executor,
+    public ContextChainHolderImpl(final DeviceConnectionPipeline pipeline,
                                   final ClusterSingletonServiceProvider singletonServiceProvider,
                                   final EntityOwnershipService entityOwnershipService,
                                   final OwnershipChangeListener ownershipChangeListener,
                                   final OpenflowProviderConfig config) {
         this.singletonServiceProvider = singletonServiceProvider;
-        this.executor = executor;
+        this.pipeline = pipeline;
         this.ownershipChangeListener = ownershipChangeListener;
         this.ownershipChangeListener.setMasterChecker(this);
         this.entityOwnershipService = entityOwnershipService;
@@ -145,7 +145,8 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
         roleContext.registerMastershipWatcher(this);
         LOG.debug("Role" + CONTEXT_CREATED_FOR_CONNECTION, deviceInfo);
 
-        final ContextChain contextChain = new ContextChainImpl(this, connectionContext, executor);
+        final ContextChain contextChain = new ContextChainImpl(this, connectionContext,
+                pipeline.executor(DeviceConnectionPipeline.Stage.MASTERSHIP, deviceInfo.getDatapathId()));
         contextChain.registerDeviceRemovedHandler(deviceManager);
         contextChain.registerDeviceRemovedHandler(rpcManager);
         contextChain.registerDeviceRemovedHandler(statisticsManager);
@@ -401,11 +402,17 @@ public final class ContextChainHolderImpl implements ContextChainHolder, MasterC
                 if (ResultState.DONOTHING == result) {
                     OF_EVENT_LOG.debug("Device {} connection is enabled by reconciliation framework", deviceInfo);
                     LOG.info("Device {} connection is enabled by reconciliation framework.", deviceInfo);
-                    if (mastershipState == ContextChainMastershipState.MASTER_ON_DEVICE) {
-                        ownershipChangeListener.becomeMaster(deviceInfo);
-                        contextChain.initializeDevice();
-                    }
-                    contextChain.continueInitializationAfterReconciliation();
+                    pipeline.execute(DeviceConnectionPipeline.Stage.FEATURE_DISCOVERY, deviceInfo.getDatapathId(),
+                        () -> {
+                            if (mastershipState == ContextChainMastershipState.MASTER_ON_DEVICE) {
+                                ownershipChangeListener.becomeMaster(deviceInfo);
+                                contextChain.initializeDevice();
+                            }
+                            contextChain.continueInitializationAfterReconciliation();
+                        }, () -> {
+                            LOG.warn("Feature discovery queue is full, disconnecting device {}", deviceInfo);
+                            destroyContextChain(deviceInfo);
+                        });
                 } else {
                     OF_EVENT_LOG.debug("Reconciliation framework failure for device {}", deviceInfo);
                     LOG.warn("Reconciliation framework failure for device {} with resultState {}", deviceInfo, result);
@@ -11,6 +11,7 @@ package org.opendaylight.openflowplugin.impl.protocol.serialization.instructions
 import static java.util.Objects.requireNonNull;
 
 import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
@@ -43,9 +44,18 @@ public abstract class AbstractActionInstructionSerializer<T extends Instruction>
             final int lengthIndex = outBuffer.writerIndex();
             outBuffer.writeShort(EncodeConstants.EMPTY_LENGTH);
             outBuffer.writeZero(InstructionConstants.PADDING_IN_ACTIONS_INSTRUCTION);
-            actions.nonnullAction().values().stream()
-                .sorted(OrderComparator.build())
-                .forEach(a -> ActionUtil.writeAction(a.getAction(), version, registry, outBuffer));
+            final var values = actions.nonnullAction().values();
+            if (values.size() < 2) {
+                for (var action : values) {
+                    ActionUtil.writeAction(action.getAction(), version, registry, outBuffer);
+                }
+            } else {
+                final var sorted = new ArrayList<>(values);
+                sorted.sort(OrderComparator.build());
+                for (var action : sorted) {
+                    ActionUtil.writeAction(action.getAction(), version, registry, outBuffer);
+                }
+            }
             outBuffer.setShort(lengthIndex, outBuffer.writerIndex() - startIndex);
         } else {
             outBuffer.writeShort(getLength());
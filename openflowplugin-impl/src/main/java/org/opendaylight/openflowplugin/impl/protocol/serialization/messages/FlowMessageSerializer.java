@@ -12,19 +12,19 @@ import static java.util.Objects.requireNonNullElse;
 
 import io.netty.buffer.ByteBuf;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
 import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistryInjector;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowjava.util.ByteBufUtils;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.impl.protocol.serialization.util.InstructionUtil;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.common.OrderComparator;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.Ordered;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.VlanCfi;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.PushVlanActionCaseBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.SetTpDstActionCase;
@@ -158,8 +158,8 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
      * @param outBuffer output buffer
      */
     private void writeMatch(final FlowMessage message, final ByteBuf outBuffer) {
-        requireNonNull(registry).<Match, OFSerializer<Match>>getSerializer(
-                new MessageTypeKey<>(message.getVersion(), Match.class)).serialize(message.getMatch(), outBuffer);
+        requireNonNull(registry).<Match, OFSerializer<Match>>getSerializer(message.getVersion(), Match.class)
+            .serialize(message.getMatch(), outBuffer);
     }
 
     /**
@@ -175,22 +175,30 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
             return;
         }
 
-        // Extract all instructions ...
-        Stream<Instruction> flowInstructions = instructions.nonnullInstruction().values().stream()
-            .filter(Objects::nonNull)
-            .sorted(OrderComparator.build())
-            .map(org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Instruction::getInstruction)
-            .filter(Objects::nonNull);
-
-        // ... updated them if needed ...
+        // Walk all instructions in order, update them if needed and serialize them
         final Uint8 protocol = extractProtocol(message);
-        if (protocol != null) {
-            flowInstructions = flowInstructions.map(insn -> updateInstruction(insn, protocol));
+        for (var insn : sortByOrder(instructions.nonnullInstruction().values())) {
+            final var instruction = insn.getInstruction();
+            if (instruction != null) {
+                InstructionUtil.writeInstruction(protocol == null ? instruction
+                    : updateInstruction(instruction, protocol), EncodeConstants.OF_VERSION_1_3, registry, outBuffer);
+            }
         }
+    }
 
-        // ... and serialize them
-        flowInstructions.forEach(i -> InstructionUtil.writeInstruction(i, EncodeConstants.OF_VERSION_1_3, registry,
-            outBuffer));
+    /**
+     * Sort items by their order, avoiding a copy when there is nothing to sort.
+     *
+     * @param values ordered items
+     * @return items in their order
+     */
+    private static <T extends Ordered> Collection<T> sortByOrder(final Collection<T> values) {
+        if (values.size() < 2) {
+            return values;
+        }
+        final var sorted = new ArrayList<>(values);
+        sorted.sort(OrderComparator.build());
+        return sorted;
     }
 
     // Try to get IP protocol from IP match
@@ -215,7 +223,7 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
     private static Instruction updateInstruction(final Instruction instruction, final Uint8 protocol) {
         if (instruction instanceof ApplyActionsCase applyActionsCase) {
             final var actions = applyActionsCase.getApplyActions();
-            if (actions != null) {
+            if (actions != null && containsSetTpAction(actions.nonnullAction().values())) {
                 return new ApplyActionsCaseBuilder()
                     .setApplyActions(new ApplyActionsBuilder()
                         .setAction(actions.nonnullAction().values().stream()
@@ -229,6 +237,16 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
         return instruction;
     }
 
+    private static boolean containsSetTpAction(final Collection<Action> actions) {
+        for (var action : actions) {
+            final var actionCase = action.getAction();
+            if (actionCase instanceof SetTpSrcActionCase || actionCase instanceof SetTpDstActionCase) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * If action is set-tp-src or set-tp-dst, inject IP protocol into it, otherwise return original action.
      *
@@ -370,14 +388,21 @@ public class FlowMessageSerializer extends AbstractMessageSerializer<FlowMessage
      */
     private static boolean isSetVlanIdActionCasePresent(final Flow flow) {
         final var instructions = flow.getInstructions();
-        return instructions != null && instructions.nonnullInstruction().values().stream()
-            .map(org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Instruction::getInstruction)
-            .filter(ApplyActionsCase.class::isInstance)
-            .map(i -> ((ApplyActionsCase) i).getApplyActions())
-            .filter(Objects::nonNull)
-            .flatMap(actionList -> actionList.nonnullAction().values().stream())
-            .map(Action::getAction)
-            .anyMatch(SetVlanIdActionCase.class::isInstance);
+        if (instructions != null) {
+            for (var insn : instructions.nonnullInstruction().values()) {
+                if (insn.getInstruction() instanceof ApplyActionsCase applyActionsCase) {
+                    final var applyActions = applyActionsCase.getApplyActions();
+                    if (applyActions != null) {
+                        for (var action : applyActions.nonnullAction().values()) {
+                            if (action.getAction() instanceof SetVlanIdActionCase) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return false;
     }
 
     @Override
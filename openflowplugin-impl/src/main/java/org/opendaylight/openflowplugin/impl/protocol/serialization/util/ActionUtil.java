@@ -8,11 +8,10 @@
 package org.opendaylight.openflowplugin.impl.protocol.serialization.util;
 
 import io.netty.buffer.ByteBuf;
-import java.util.Optional;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowjava.protocol.impl.util.TypeKeyMakerFactory;
 import org.opendaylight.openflowplugin.extension.api.ConverterExtensionKey;
 import org.opendaylight.openflowplugin.extension.api.ConvertorActionToOFJava;
@@ -49,28 +48,17 @@ public final class ActionUtil {
     public static void writeAction(final Action action, final Uint8 version, final SerializerRegistry registry,
             final ByteBuf outBuffer) {
         try {
-            Optional.ofNullable(OFSessionUtil.getExtensionConvertorProvider())
-                    .flatMap(provider ->
-                            (action instanceof GeneralExtensionGrouping
-                                    ? convertExtensionGrouping(provider, (GeneralExtensionGrouping)action, version)
-                                    : convertGenericAction(provider, action, version))
-                                    .map(ofjAction -> {
-                                        final OFSerializer<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common
-                                                .action.rev150203.actions.grouping.Action> serializer = registry
-                                                .getSerializer(TypeKeyMakerFactory.createActionKeyMaker(version)
-                                                        .make(ofjAction));
-
-                                        serializer.serialize(ofjAction, outBuffer);
-                                        return action;
-                                    })
-                    ).orElseGet(() -> {
-                        final OFSerializer<Action> serializer = registry.getSerializer(
-                                new MessageTypeKey<>(
-                                        version, (Class<? extends Action>) action.implementedInterface()));
-
-                        serializer.serialize(action, outBuffer);
-                        return action;
-                    });
+            final var ofjAction = convertAction(action, version);
+            if (ofjAction != null) {
+                final OFSerializer<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203
+                        .actions.grouping.Action> serializer = registry.getSerializer(
+                            TypeKeyMakerFactory.createActionKeyMaker(version).make(ofjAction));
+                serializer.serialize(ofjAction, outBuffer);
+            } else {
+                final OFSerializer<Action> serializer = registry.getSerializer(version,
+                    (Class<? extends Action>) action.implementedInterface());
+                serializer.serialize(action, outBuffer);
+            }
         } catch (final IllegalStateException | ClassCastException e) {
             LOG.warn("Serializer for action {} for version {} not found.", action.implementedInterface(), version);
         }
@@ -89,35 +77,40 @@ public final class ActionUtil {
     public static void writeActionHeader(final Action action, final Uint8 version, final SerializerRegistry registry,
             final ByteBuf outBuffer) {
         try {
-            Optional.ofNullable(OFSessionUtil.getExtensionConvertorProvider())
-                    .flatMap(provider ->
-                            (action instanceof GeneralExtensionGrouping
-                                    ? convertExtensionGrouping(provider, (GeneralExtensionGrouping)action, version)
-                                    : convertGenericAction(provider, action, version))
-                                    .map(ofjAction -> {
-                                        final HeaderSerializer<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow
-                                                .common
-                                                .action.rev150203.actions.grouping.Action> serializer = registry
-                                                .getSerializer(TypeKeyMakerFactory.createActionKeyMaker(version)
-                                                        .make(ofjAction));
-
-                                        serializer.serializeHeader(ofjAction, outBuffer);
-                                        return action;
-                                    })
-                    ).orElseGet(() -> {
-                        final HeaderSerializer<Action> serializer = registry.getSerializer(
-                                new MessageTypeKey<>(
-                                        version, (Class<? extends Action>) action.implementedInterface()));
-
-                        serializer.serializeHeader(action, outBuffer);
-                        return action;
-                    });
+            final var ofjAction = convertAction(action, version);
+            if (ofjAction != null) {
+                final HeaderSerializer<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203
+                        .actions.grouping.Action> serializer = registry.getSerializer(
+                            TypeKeyMakerFactory.createActionKeyMaker(version).make(ofjAction));
+                serializer.serializeHeader(ofjAction, outBuffer);
+            } else {
+                final HeaderSerializer<Action> serializer = registry.getSerializer(version,
+                    (Class<? extends Action>) action.implementedInterface());
+                serializer.serializeHeader(action, outBuffer);
+            }
         } catch (final IllegalStateException | ClassCastException e) {
             LOG.warn("Header Serializer for action {} for version {} not found.", action.implementedInterface(),
                     version);
         }
     }
 
+    /**
+     * Try to convert OpenFlowPlugin action to OpenFlowJava action using extension converters.
+     *
+     * @param action  OpenFlowPlugin action
+     * @param version OpenFlow version
+     * @return OpenFlowJava action, or null if there is no converter for the action
+     */
+    private static org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions.grouping
+            .@Nullable Action convertAction(final Action action, final Uint8 version) {
+        final var provider = OFSessionUtil.getExtensionConvertorProvider();
+        if (provider == null) {
+            return null;
+        }
+        return action instanceof GeneralExtensionGrouping grouping ? convertExtensionGrouping(provider, grouping,
+            version) : convertGenericAction(provider, action, version);
+    }
+
     /**
      * Try to convert action that implements
      * #{@link org.opendaylight.yang.gen.v1.urn
@@ -127,10 +120,10 @@ public final class ActionUtil {
      * @param provider extension converter provider
      * @param action   GeneralExtensionGrouping action
      * @param version  OpenFlow version
-     * @return optional OpenFlowJava action
+     * @return OpenFlowJava action, or null
      */
-    private static Optional<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions
-            .grouping.Action> convertExtensionGrouping(final ExtensionConverterProvider provider,
+    private static org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions
+            .grouping.@Nullable Action convertExtensionGrouping(final ExtensionConverterProvider provider,
                                                        final GeneralExtensionGrouping action,
                                                        final Uint8 version) {
         final ConverterExtensionKey<? extends ExtensionKey> key =
@@ -138,7 +131,7 @@ public final class ActionUtil {
 
         final ConvertorToOFJava<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions
                 .grouping.Action> converter = provider.getConverter(key);
-        return converter == null ? Optional.empty() : Optional.of(converter.convert(action.getExtension()));
+        return converter == null ? null : converter.convert(action.getExtension());
     }
 
     /**
@@ -147,11 +140,11 @@ public final class ActionUtil {
      * @param provider extension converter provider
      * @param action   OpenFlowPlugin action
      * @param version  OpenFlow version
-     * @return optional OpenFlowJava action
+     * @return OpenFlowJava action, or null
      */
     @SuppressWarnings("unchecked")
-    private static Optional<org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions
-            .grouping.Action> convertGenericAction(final ExtensionConverterProvider provider,
+    private static org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action.rev150203.actions
+            .grouping.@Nullable Action convertGenericAction(final ExtensionConverterProvider provider,
                                                    final Action action,
                                                    final Uint8 version) {
 
@@ -160,6 +153,6 @@ public final class ActionUtil {
 
         final ConvertorActionToOFJava<Action, org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.action
                 .rev150203.actions.grouping.Action> converter = provider.getConverter(key);
-        return converter == null ? Optional.empty() : Optional.of(converter.convert(action));
+        return converter == null ? null : converter.convert(action);
     }
 }
@@ -11,7 +11,6 @@ import io.netty.buffer.ByteBuf;
 import org.opendaylight.openflowjava.protocol.api.extensibility.HeaderSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.OFSerializer;
 import org.opendaylight.openflowjava.protocol.api.extensibility.SerializerRegistry;
-import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.Instruction;
 import org.opendaylight.yangtools.yang.common.Uint8;
 
@@ -36,8 +35,8 @@ public final class InstructionUtil {
                                         final Uint8 version,
                                         final SerializerRegistry registry,
                                         final ByteBuf outBuffer) {
-        registry.<Instruction, OFSerializer<Instruction>>getSerializer(
-            new MessageTypeKey<>(version, (Class<Instruction>) instruction.implementedInterface()))
+        registry.<Instruction, OFSerializer<Instruction>>getSerializer(version,
+            (Class<Instruction>) instruction.implementedInterface())
             .serialize(instruction, outBuffer);
     }
 
@@ -54,8 +53,8 @@ public final class InstructionUtil {
                                               final Uint8 version,
                                               final SerializerRegistry registry,
                                               final ByteBuf outBuffer) {
-        registry.<Instruction, HeaderSerializer<Instruction>>getSerializer(
-            new MessageTypeKey<>(version, (Class<Instruction>) instruction.implementedInterface()))
+        registry.<Instruction, HeaderSerializer<Instruction>>getSerializer(version,
+            (Class<Instruction>) instruction.implementedInterface())
             .serializeHeader(instruction, outBuffer);
     }
 }
@@ -7,27 +7,33 @@
  */
 package org.opendaylight.openflowplugin.impl.registry.flow;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
-import com.google.common.collect.Maps;
 import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.DataBroker;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -39,34 +45,111 @@ import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowRegistryKe
 import org.opendaylight.openflowplugin.impl.device.history.FlowGroupInfoHistoryAppender;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
-import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.opendaylight.yangtools.yang.common.Uint8;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Default {@link DeviceFlowRegistry}. Flows are kept in a concurrent map per table, so lookups do not take any locks
+ * and updates only contend with updates to the same table. A reverse index ensures each {@link FlowDescriptor} is
+ * bound to at most one key.
+ *
+ * <p>
+ * The registry is filled from the data store either by reading the whole {@link FlowCapableNode} at once, or, in
+ * incremental mode, one {@link Table} at a time, so that only a few tables are held in memory while filling.
+ *
+ * <p>
+ * When a minimum statistics delta is configured, the counters last written for each flow are kept alongside it, so
+ * that statistics of idle flows are not rewritten on every poll.
+ */
 public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
     private static final Logger LOG = LoggerFactory.getLogger(DeviceFlowRegistryImpl.class);
     private static final String ALIEN_SYSTEM_FLOW_ID = "#UF$TABLE*";
     private static final AtomicInteger UNACCOUNTED_FLOWS_COUNTER = new AtomicInteger(0);
+    private static final int TABLE_COUNT = Uint8.MAX_VALUE.toJava() + 1;
+    private static final long DURATION_BUCKET_SECONDS = TimeUnit.MINUTES.toSeconds(5);
+    // Number of tables read at the same time in incremental mode
+    private static final int FILL_CONCURRENT_READS = 16;
+
+    /**
+     * Flows in a single table. Instances also serve as the lock for updates to the table.
+     */
+    private static final class FlowTable {
+        final ConcurrentHashMap<FlowRegistryKey, FlowDescriptor> flows = new ConcurrentHashMap<>();
+        // Statistics last written to the data store, populated only if flowStatisticsMinDelta is set
+        final ConcurrentHashMap<FlowId, FlowCounters> statistics = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Flow statistics as last written to the data store.
+     */
+    private record FlowCounters(long packetCount, long byteCount, long durationBucket) {
+    }
+
+    /**
+     * Progress of a single {@link #fill()}.
+     */
+    private static final class FillProgress {
+        final LongAdder flows = new LongAdder();
+        final LongAdder tables = new LongAdder();
+        final long startNanos = System.nanoTime();
+    }
+
+    /**
+     * Outcome of a completed {@link #fill()}.
+     *
+     * @param flows number of flows read from the data store, including duplicates between data stores
+     * @param tables number of tables read from the data store
+     * @param duration time taken to read the data store and populate the registry
+     */
+    public record FillStatistics(long flows, long tables, Duration duration) {
+        public FillStatistics {
+            requireNonNull(duration);
+        }
+    }
 
     // FIXME: improve locking here
     private final List<ListenableFuture<List<Optional<FlowCapableNode>>>> lastFillFutures = new ArrayList<>();
-    private final BiMap<FlowRegistryKey, FlowDescriptor> flowRegistry = Maps.synchronizedBiMap(HashBiMap.create());
+    // Tables are allocated on first use
+    private final AtomicReferenceArray<FlowTable> tables = new AtomicReferenceArray<>(TABLE_COUNT);
+    private final ConcurrentHashMap<FlowDescriptor, FlowRegistryKey> owners = new ConcurrentHashMap<>();
+    // Descriptors removed since the last finishStoreTracking(), recorded only once tracking has been used
+    private final Set<FlowDescriptor> removedDescriptors = ConcurrentHashMap.newKeySet();
     private final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier;
     private final FlowGroupInfoHistoryAppender history;
     private final FlowRegistryKeyFactory keyFactory;
     private final DataBroker dataBroker;
+    private final boolean incrementalFill;
+    private final long statisticsMinDelta;
+
+    private volatile FillStatistics lastFillStatistics;
+    // Descriptors stored since startStoreTracking(), null when not tracking
+    private volatile Set<FlowDescriptor> storedDescriptors;
+    private volatile boolean storeTrackingUsed;
 
     public DeviceFlowRegistryImpl(final Uint8 version, final DataBroker dataBroker,
             final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier,
             final FlowGroupInfoHistoryAppender history) {
+        this(version, dataBroker, instanceIdentifier, history, false, 0);
+    }
+
+    public DeviceFlowRegistryImpl(final Uint8 version, final DataBroker dataBroker,
+            final KeyedInstanceIdentifier<Node, NodeKey> instanceIdentifier,
+            final FlowGroupInfoHistoryAppender history, final boolean incrementalFill,
+            final long statisticsMinDelta) {
+        checkArgument(statisticsMinDelta >= 0, "Invalid statistics delta %s", statisticsMinDelta);
         this.dataBroker = requireNonNull(dataBroker);
         this.instanceIdentifier = requireNonNull(instanceIdentifier);
         this.history = requireNonNull(history);
+        this.incrementalFill = incrementalFill;
+        this.statisticsMinDelta = statisticsMinDelta;
         keyFactory = FlowRegistryKeyFactory.ofVersion(version);
     }
 
@@ -76,37 +159,59 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return keyFactory.create(flow);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * In incremental mode the returned future completes with empty {@link Optional}s, as the {@link FlowCapableNode}
+     * is never read as a whole.
+     */
     @Override
     public ListenableFuture<List<Optional<FlowCapableNode>>> fill() {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Filling flow registry with flows for node: {}", instanceIdentifier.getKey().getId().getValue());
         }
 
-        // Prepare path for read transaction
-        // TODO: Read only Tables, and not entire FlowCapableNode (fix Yang model)
-        final InstanceIdentifier<FlowCapableNode> path = instanceIdentifier.augmentation(FlowCapableNode.class);
+        final FillProgress progress = new FillProgress();
 
         // First, try to fill registry with flows from DS/Configuration
-        final FluentFuture<Optional<FlowCapableNode>> configFuture =
-                fillFromDatastore(LogicalDatastoreType.CONFIGURATION, path);
+        final ListenableFuture<Optional<FlowCapableNode>> configFuture =
+                fillFromDatastore(LogicalDatastoreType.CONFIGURATION, progress);
 
         // Now, try to fill registry with flows from DS/Operational
         // in case of cluster fail over, when clients are not using DS/Configuration
         // for adding flows, but only RPCs
-        final FluentFuture<Optional<FlowCapableNode>> operationalFuture =
-                fillFromDatastore(LogicalDatastoreType.OPERATIONAL, path);
+        final ListenableFuture<Optional<FlowCapableNode>> operationalFuture =
+                fillFromDatastore(LogicalDatastoreType.OPERATIONAL, progress);
 
         // And at last, chain and return futures created above.
         // Also, cache this future, so call to DeviceFlowRegistry.close() will be able
         // to cancel this future immediately if it will be still in progress
         final ListenableFuture<List<Optional<FlowCapableNode>>> lastFillFuture =
                 Futures.allAsList(Arrays.asList(configFuture, operationalFuture));
+        Futures.addCallback(lastFillFuture, new FutureCallback<List<Optional<FlowCapableNode>>>() {
+            @Override
+            public void onSuccess(final List<Optional<FlowCapableNode>> result) {
+                fillFinished(progress);
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                // Already reported by fillFromDatastore()
+            }
+        }, MoreExecutors.directExecutor());
         lastFillFutures.add(lastFillFuture);
         return lastFillFuture;
     }
 
-    private FluentFuture<Optional<FlowCapableNode>> fillFromDatastore(final LogicalDatastoreType logicalDatastoreType,
-                              final InstanceIdentifier<FlowCapableNode> path) {
+    private ListenableFuture<Optional<FlowCapableNode>> fillFromDatastore(
+            final LogicalDatastoreType logicalDatastoreType, final FillProgress progress) {
+        // Prepare path for read transaction
+        final InstanceIdentifier<FlowCapableNode> path = instanceIdentifier.augmentation(FlowCapableNode.class);
+        if (incrementalFill) {
+            return fillTablesFromDatastore(logicalDatastoreType, path, progress);
+        }
+
         // Prepare read operation from datastore for path
         final FluentFuture<Optional<FlowCapableNode>> future;
         try (ReadTransaction transaction = dataBroker.newReadOnlyTransaction()) {
@@ -116,21 +221,9 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         future.addCallback(new FutureCallback<Optional<FlowCapableNode>>() {
             @Override
             public void onSuccess(final Optional<FlowCapableNode> result) {
-                result.ifPresent(flowCapableNode -> {
-                    flowCapableNode.nonnullTable().values().stream()
-                        .filter(Objects::nonNull)
-                        .flatMap(table -> table.nonnullFlow().values().stream())
-                        .filter(Objects::nonNull)
-                        .filter(flow -> flow.getId() != null)
-                        .forEach(flow -> {
-                            final var flowRegistryKey = createKey(flow);
-                            if (getExistingKey(flowRegistryKey) == null) {
-                                // Now, we will update the registry
-                                storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(),
-                                    flow.getId()));
-                            }
-                        });
-                });
+                result.ifPresent(flowCapableNode -> flowCapableNode.nonnullTable().values().stream()
+                    .filter(Objects::nonNull)
+                    .forEach(table -> fillFromTable(table, progress)));
             }
 
             @Override
@@ -142,17 +235,95 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return future;
     }
 
+    private ListenableFuture<Optional<FlowCapableNode>> fillTablesFromDatastore(
+            final LogicalDatastoreType logicalDatastoreType, final InstanceIdentifier<FlowCapableNode> path,
+            final FillProgress progress) {
+        // Tables are read from a single transaction by a few concurrent readers, each table is dropped as soon as its
+        // flows are in the registry
+        final ReadTransaction transaction = dataBroker.newReadOnlyTransaction();
+        final AtomicInteger nextTableId = new AtomicInteger();
+        final List<ListenableFuture<Void>> readers = new ArrayList<>(FILL_CONCURRENT_READS);
+        for (int i = 0; i < FILL_CONCURRENT_READS; ++i) {
+            readers.add(fillTableFromDatastore(transaction, logicalDatastoreType, path, nextTableId, progress));
+        }
+        final ListenableFuture<Optional<FlowCapableNode>> future = Futures.transform(Futures.allAsList(readers),
+            ignored -> Optional.empty(), MoreExecutors.directExecutor());
+
+        Futures.addCallback(future, new FutureCallback<Optional<FlowCapableNode>>() {
+            @Override
+            public void onSuccess(final Optional<FlowCapableNode> result) {
+                transaction.close();
+            }
+
+            @Override
+            public void onFailure(final Throwable throwable) {
+                LOG.debug("Failed to read tables of {} path {}", logicalDatastoreType, path, throwable);
+                transaction.close();
+            }
+        }, MoreExecutors.directExecutor());
+
+        return future;
+    }
+
+    private ListenableFuture<Void> fillTableFromDatastore(final ReadTransaction transaction,
+            final LogicalDatastoreType logicalDatastoreType, final InstanceIdentifier<FlowCapableNode> path,
+            final AtomicInteger nextTableId, final FillProgress progress) {
+        final int tableId = nextTableId.getAndIncrement();
+        if (tableId >= TABLE_COUNT) {
+            return Futures.immediateVoidFuture();
+        }
+
+        final InstanceIdentifier<Table> tablePath = path.child(Table.class, new TableKey(Uint8.valueOf(tableId)));
+        return Futures.transformAsync(transaction.read(logicalDatastoreType, tablePath), result -> {
+            result.ifPresent(table -> fillFromTable(table, progress));
+            return fillTableFromDatastore(transaction, logicalDatastoreType, path, nextTableId, progress);
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void fillFromTable(final Table table, final FillProgress progress) {
+        progress.tables.increment();
+        for (Flow flow : table.nonnullFlow().values()) {
+            if (flow != null && flow.getId() != null) {
+                progress.flows.increment();
+
+                final var flowRegistryKey = createKey(flow);
+                final FlowDescriptor existing = retrieveDescriptor(flowRegistryKey);
+                // Statistics gathering may have run ahead of us and assigned an alien ID to this flow, the ID from
+                // the data store takes precedence
+                if (existing == null || isAlien(existing)) {
+                    // Now, we will update the registry
+                    storeDescriptor(flowRegistryKey, FlowDescriptorFactory.create(flow.getTableId(), flow.getId()));
+                }
+            }
+        }
+    }
+
+    private void fillFinished(final FillProgress progress) {
+        final FillStatistics statistics = new FillStatistics(progress.flows.sum(), progress.tables.sum(),
+            Duration.ofNanos(System.nanoTime() - progress.startNanos));
+        lastFillStatistics = statistics;
+        LOG.debug("Filled flow registry of node {} with {} flows from {} tables in {} ms, registry holds {} flows",
+            instanceIdentifier.getKey().getId().getValue(), statistics.flows(), statistics.tables(),
+            statistics.duration().toMillis(), size());
+    }
+
+    /**
+     * Returns statistics of the last completed {@link #fill()}.
+     *
+     * @return fill statistics, or {@code null} if no fill has completed yet
+     */
+    public @Nullable FillStatistics getLastFillStatistics() {
+        return lastFillStatistics;
+    }
+
     @Override
     public FlowDescriptor retrieveDescriptor(@NonNull final FlowRegistryKey flowRegistryKey) {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Retrieving flow descriptor for flow registry : {}", flowRegistryKey.toString());
         }
 
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey != null) {
-            return flowRegistry.get(existingFlowRegistryKey);
-        }
-        return null;
+        final FlowTable table = tables.get(flowRegistryKey.getTableId());
+        return table == null ? null : table.flows.get(flowRegistryKey);
     }
 
     @Override
@@ -186,7 +357,10 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
 
     @Override
     public void store(final FlowRegistryKey flowRegistryKey) {
-        if (retrieveDescriptor(flowRegistryKey) == null) {
+        final FlowDescriptor existing = retrieveDescriptor(flowRegistryKey);
+        if (existing != null) {
+            trackStored(existing);
+        } else {
             LOG.debug("Flow descriptor for flow hash : {} not found, generating alien flow ID", flowRegistryKey);
 
             // We do not found flow in flow registry, that means it do not have any ID already assigned, so we need
@@ -212,14 +386,24 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
 
     @Override
     public void forEach(final Consumer<FlowRegistryKey> consumer) {
-        synchronized (flowRegistry) {
-            flowRegistry.keySet().forEach(consumer);
+        for (int i = 0; i < TABLE_COUNT; ++i) {
+            final FlowTable table = tables.get(i);
+            if (table != null) {
+                table.flows.keySet().forEach(consumer);
+            }
         }
     }
 
     @Override
     public int size() {
-        return flowRegistry.size();
+        long size = 0;
+        for (int i = 0; i < TABLE_COUNT; ++i) {
+            final FlowTable table = tables.get(i);
+            if (table != null) {
+                size += table.flows.mappingCount();
+            }
+        }
+        return (int) Math.min(size, Integer.MAX_VALUE);
     }
 
     @Override
@@ -229,7 +413,102 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
 
     @Override
     public void clearFlowRegistry() {
-        flowRegistry.clear();
+        for (int i = 0; i < TABLE_COUNT; ++i) {
+            final FlowTable table = tables.get(i);
+            if (table != null) {
+                synchronized (table) {
+                    table.flows.forEach((key, descriptor) -> {
+                        owners.remove(descriptor, key);
+                        trackRemoved(descriptor);
+                    });
+                    table.flows.clear();
+                    table.statistics.clear();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void startStoreTracking() {
+        storeTrackingUsed = true;
+        storedDescriptors = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public List<FlowDescriptor> finishStoreTracking(final boolean complete) {
+        final Set<FlowDescriptor> stored = storedDescriptors;
+        storedDescriptors = null;
+        if (stored == null || !complete) {
+            // Removed flows are kept until a complete reply allows them to be reported
+            return List.of();
+        }
+
+        final List<FlowDescriptor> unseen = new ArrayList<>();
+        for (int i = 0; i < TABLE_COUNT; ++i) {
+            final FlowTable table = tables.get(i);
+            if (table != null) {
+                // Flows stored concurrently are tracked under the same lock, hence they are never reported here
+                synchronized (table) {
+                    final Iterator<Map.Entry<FlowRegistryKey, FlowDescriptor>> it = table.flows.entrySet().iterator();
+                    while (it.hasNext()) {
+                        final Map.Entry<FlowRegistryKey, FlowDescriptor> entry = it.next();
+                        final FlowDescriptor descriptor = entry.getValue();
+                        if (!stored.contains(descriptor)) {
+                            // The device no longer has this flow, forget it without reporting it as removed again
+                            it.remove();
+                            owners.remove(descriptor, entry.getKey());
+                            table.statistics.remove(descriptor.getFlowId());
+                            unseen.add(descriptor);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Flows removed from the registry may still be present in the data store
+        final Iterator<FlowDescriptor> it = removedDescriptors.iterator();
+        while (it.hasNext()) {
+            final FlowDescriptor descriptor = it.next();
+            it.remove();
+            if (!stored.contains(descriptor)) {
+                unseen.add(descriptor);
+            }
+        }
+
+        LOG.debug("{} flows in registry for {} were not stored since tracking started, {} flows remain",
+            unseen.size(), instanceIdentifier.getKey().getId().getValue(), size());
+        return unseen;
+    }
+
+    @Override
+    public boolean isStatisticsUnchanged(final FlowDescriptor flowDescriptor, final long packetCount,
+            final long byteCount, final long durationSeconds) {
+        if (statisticsMinDelta == 0) {
+            return false;
+        }
+
+        final FlowTable table = ensureTable(flowDescriptor.getTableKey().getId().toJava());
+        final long durationBucket = durationSeconds / DURATION_BUCKET_SECONDS;
+        final FlowCounters written = table.statistics.get(flowDescriptor.getFlowId());
+        // Counters going backwards mean the flow was reinstalled or the counters wrapped
+        if (written != null && packetCount >= written.packetCount() && byteCount >= written.byteCount()
+                && packetCount - written.packetCount() < statisticsMinDelta
+                && durationBucket == written.durationBucket()) {
+            return true;
+        }
+
+        table.statistics.put(flowDescriptor.getFlowId(), new FlowCounters(packetCount, byteCount, durationBucket));
+        return false;
+    }
+
+    @Override
+    public void clearStatistics() {
+        for (int i = 0; i < TABLE_COUNT; ++i) {
+            final FlowTable table = tables.get(i);
+            if (table != null) {
+                table.statistics.clear();
+            }
+        }
     }
 
     @Override
@@ -244,7 +523,12 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
             iterator.remove();
         }
 
-        flowRegistry.clear();
+        clearFlowRegistry();
+        removedDescriptors.clear();
+    }
+
+    private static boolean isAlien(final FlowDescriptor flowDescriptor) {
+        return flowDescriptor.getFlowId().getValue().startsWith(ALIEN_SYSTEM_FLOW_ID);
     }
 
     @VisibleForTesting
@@ -254,49 +538,81 @@ public class DeviceFlowRegistryImpl implements DeviceFlowRegistry {
         return new FlowId(alienId);
     }
 
-    //Hashcode generation of the extension augmentation can differ for the same object received from the datastore and
-    // the one received after deserialization of switch message. OpenFlowplugin extensions are list, and the order in
-    // which it can receive the extensions back from switch can differ and that lead to a different hashcode. In that
-    // scenario, hashcode won't match and flowRegistry return the  related key. To overcome this issue, these methods
-    // make sure that key is stored only if it doesn't equals to any existing key.
+    // Mirrors HashBiMap.put(): binding a descriptor which is already bound to a different key is rejected with
+    // an IllegalArgumentException.
     private void addToFlowRegistry(final FlowRegistryKey flowRegistryKey, final FlowDescriptor flowDescriptor) {
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey == null) {
-            flowRegistry.put(flowRegistryKey, flowDescriptor);
-        } else {
-            flowRegistry.put(existingFlowRegistryKey, flowDescriptor);
+        final FlowTable table = ensureTable(flowRegistryKey.getTableId());
+        synchronized (table) {
+            final FlowRegistryKey owner = owners.putIfAbsent(flowDescriptor, flowRegistryKey);
+            if (owner != null && !owner.equals(flowRegistryKey)) {
+                throw new IllegalArgumentException("Descriptor " + flowDescriptor + " is already bound to " + owner);
+            }
+
+            final FlowDescriptor previous = table.flows.put(flowRegistryKey, flowDescriptor);
+            if (previous != null && !previous.equals(flowDescriptor)) {
+                owners.remove(previous, flowRegistryKey);
+                forgetStatistics(previous);
+                trackRemoved(previous);
+            }
+            removedDescriptors.remove(flowDescriptor);
+            trackStored(flowDescriptor);
         }
     }
 
-    private void removeFromFlowRegistry(final FlowRegistryKey flowRegistryKey) {
-        FlowRegistryKey existingFlowRegistryKey = getExistingKey(flowRegistryKey);
-        if (existingFlowRegistryKey != null) {
-            flowRegistry.remove(existingFlowRegistryKey);
-        } else {
-            flowRegistry.remove(flowRegistryKey);
+    private void forgetStatistics(final FlowDescriptor flowDescriptor) {
+        final FlowTable table = tables.get(flowDescriptor.getTableKey().getId().toJava());
+        if (table != null) {
+            table.statistics.remove(flowDescriptor.getFlowId());
         }
     }
 
-    private FlowRegistryKey getExistingKey(final FlowRegistryKey flowRegistryKey) {
-        if (flowRegistryKey.getMatch().augmentation(GeneralAugMatchNodesNodeTableFlow.class) == null) {
-            if (flowRegistry.containsKey(flowRegistryKey)) {
-                return flowRegistryKey;
-            }
-        } else {
-            synchronized (flowRegistry) {
-                for (Map.Entry<FlowRegistryKey, FlowDescriptor> keyValueSet : flowRegistry.entrySet()) {
-                    if (keyValueSet.getKey().equals(flowRegistryKey)) {
-                        return keyValueSet.getKey();
-                    }
+    private void trackRemoved(final FlowDescriptor flowDescriptor) {
+        if (storeTrackingUsed) {
+            removedDescriptors.add(flowDescriptor);
+        }
+    }
+
+    private void trackStored(final FlowDescriptor flowDescriptor) {
+        final Set<FlowDescriptor> stored = storedDescriptors;
+        if (stored != null) {
+            stored.add(flowDescriptor);
+        }
+    }
+
+    private void removeFromFlowRegistry(final FlowRegistryKey flowRegistryKey) {
+        final FlowTable table = tables.get(flowRegistryKey.getTableId());
+        if (table != null) {
+            synchronized (table) {
+                final FlowDescriptor previous = table.flows.remove(flowRegistryKey);
+                if (previous != null) {
+                    owners.remove(previous, flowRegistryKey);
+                    table.statistics.remove(previous.getFlowId());
+                    trackRemoved(previous);
                 }
             }
         }
-        return null;
+    }
+
+    private FlowTable ensureTable(final int tableId) {
+        final FlowTable existing = tables.get(tableId);
+        if (existing != null) {
+            return existing;
+        }
+        final FlowTable created = new FlowTable();
+        final FlowTable witness = tables.compareAndExchange(tableId, null, created);
+        return witness != null ? witness : created;
     }
 
     @VisibleForTesting
     Map<FlowRegistryKey, FlowDescriptor> getAllFlowDescriptors() {
-        return flowRegistry;
+        final Map<FlowRegistryKey, FlowDescriptor> ret = new HashMap<>();
+        for (int i = 0; i < TABLE_COUNT; ++i) {
+            final FlowTable table = tables.get(i);
+            if (table != null) {
+                ret.putAll(table.flows);
+            }
+        }
+        return ret;
     }
 
     private static final class FlowInfo extends FlowGroupInfo {
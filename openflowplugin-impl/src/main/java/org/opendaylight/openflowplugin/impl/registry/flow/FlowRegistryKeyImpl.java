@@ -17,20 +17,85 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.M
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflowplugin.extension.general.rev140714.GeneralAugMatchNodesNodeTableFlow;
 import org.opendaylight.yangtools.yang.common.Uint64;
 
+/**
+ * Default {@link FlowRegistryKey}. Carries a 64-bit fingerprint of its contents, which is used as its hash code and
+ * to quickly tell keys apart without comparing their matches.
+ */
 record FlowRegistryKeyImpl(
         short tableId,
         int priority,
         @NonNull Uint64 cookie,
-        @NonNull Match match) implements FlowRegistryKey {
+        @NonNull Match match,
+        long fingerprint) implements FlowRegistryKey {
 
     FlowRegistryKeyImpl {
         requireNonNull(cookie);
         requireNonNull(match);
     }
 
+    FlowRegistryKeyImpl(final short tableId, final int priority, final Uint64 cookie, final Match match) {
+        this(tableId, priority, cookie, match, fingerprint(tableId, priority, cookie, match));
+    }
+
+    /**
+     * Computes the fingerprint of a key. Extensions are hashed independently of their order, as switches may report
+     * them in a different order than they were programmed in.
+     */
+    private static long fingerprint(final short tableId, final int priority, final Uint64 cookie,
+            final Match match) {
+        long hash = mix((long) tableId << Integer.SIZE | (priority & 0xFFFFFFFFL));
+        hash = mix(hash ^ cookie.longValue());
+
+        final var aug = match.augmentation(GeneralAugMatchNodesNodeTableFlow.class);
+        if (aug == null) {
+            return mix(hash ^ match.hashCode());
+        }
+
+        hash = combine(hash, match.getEthernetMatch());
+        hash = combine(hash, match.getIcmpv4Match());
+        hash = combine(hash, match.getIcmpv6Match());
+        hash = combine(hash, match.getInPhyPort());
+        hash = combine(hash, match.getInPort());
+        hash = combine(hash, match.getIpMatch());
+        hash = combine(hash, match.getLayer3Match());
+        hash = combine(hash, match.getLayer4Match());
+        hash = combine(hash, match.getMetadata());
+        hash = combine(hash, match.getProtocolMatchFields());
+        hash = combine(hash, match.getTcpFlagsMatch());
+        hash = combine(hash, match.getTunnel());
+        hash = combine(hash, match.getVlanMatch());
+
+        long extensions = 0;
+        for (var extension : aug.nonnullExtensionList().values()) {
+            extensions += mix(extension.hashCode());
+        }
+        return mix(hash ^ extensions);
+    }
+
+    private static long combine(final long hash, final Object obj) {
+        return mix(hash * 31 + Objects.hashCode(obj));
+    }
+
+    // MurmurHash3 finalizer
+    private static long mix(final long value) {
+        long hash = value;
+        hash ^= hash >>> 33;
+        hash *= 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
     @Override
     public boolean equals(final Object obj) {
-        return this == obj || obj instanceof FlowRegistryKey that
+        if (this == obj) {
+            return true;
+        }
+        if (obj instanceof FlowRegistryKeyImpl other && fingerprint != other.fingerprint) {
+            return false;
+        }
+        return obj instanceof FlowRegistryKey that
             && priority == that.getPriority() && tableId == that.getTableId() && cookie.equals(that.getCookie())
             && equalMatch(that.getMatch());
     }
@@ -96,11 +161,7 @@ record FlowRegistryKeyImpl(
 
     @Override
     public int hashCode() {
-        int result = tableId;
-        result = 31 * result + priority;
-        result = 31 * result + cookie.hashCode();
-        result = 31 * result + match.hashCode();
-        return result;
+        return Long.hashCode(fingerprint);
     }
 
     @Override
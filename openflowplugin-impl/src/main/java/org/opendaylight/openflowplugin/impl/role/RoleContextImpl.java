@@ -16,7 +16,7 @@ import io.netty.util.TimerTask;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import org.eclipse.jdt.annotation.NonNull;
@@ -53,7 +53,7 @@ public class RoleContextImpl implements RoleContext {
     private final HashedWheelTimer timer;
     private final Timeout slaveTask;
     private final OpenflowProviderConfig config;
-    private final ExecutorService executorService;
+    private final Executor executor;
     private ContextChainMastershipWatcher contextChainMastershipWatcher;
     private SetRole setRoleRpc = null;
 
@@ -61,11 +61,11 @@ public class RoleContextImpl implements RoleContext {
                     @NonNull final HashedWheelTimer timer,
                     final long checkRoleMasterTimeout,
                     final OpenflowProviderConfig config,
-                    final ExecutorService executorService) {
+                    final Executor executor) {
         this.deviceInfo = deviceInfo;
         this.timer = timer;
         this.config = config;
-        this.executorService = executorService;
+        this.executor = executor;
         slaveTask = timer.newTimeout(timerTask -> makeDeviceSlave(), checkRoleMasterTimeout, TimeUnit.MILLISECONDS);
 
         LOG.info("Started timer for setting SLAVE role on device {} if no role will be set in {}s.", deviceInfo,
@@ -99,7 +99,7 @@ public class RoleContextImpl implements RoleContext {
     public void instantiateServiceInstance() {
         final ListenableFuture<RpcResult<SetRoleOutput>> future = sendRoleChangeToDevice(OfpRole.BECOMEMASTER);
         changeLastRoleFuture(future);
-        Futures.addCallback(future, new MasterRoleCallback(), executorService);
+        Futures.addCallback(future, new MasterRoleCallback(), executor);
     }
 
     @Override
@@ -141,7 +141,7 @@ public class RoleContextImpl implements RoleContext {
     private ListenableFuture<RpcResult<SetRoleOutput>> makeDeviceSlave() {
         final ListenableFuture<RpcResult<SetRoleOutput>> future = sendRoleChangeToDevice(OfpRole.BECOMESLAVE);
         changeLastRoleFuture(future);
-        Futures.addCallback(future, new SlaveRoleCallback(), executorService);
+        Futures.addCallback(future, new SlaveRoleCallback(), executor);
         return future;
     }
 
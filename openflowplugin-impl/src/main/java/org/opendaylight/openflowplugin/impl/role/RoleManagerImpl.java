@@ -11,13 +11,13 @@ package org.opendaylight.openflowplugin.impl.role;
 import io.netty.util.HashedWheelTimer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.openflowplugin.api.openflow.OFPContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.role.RoleContext;
 import org.opendaylight.openflowplugin.api.openflow.role.RoleManager;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline;
 import org.opendaylight.openflowplugin.impl.services.sal.SalRoleRpc;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.params.xml.ns.yang.openflow.provider.config.rev160510.OpenflowProviderConfig;
 
@@ -28,14 +28,14 @@ public class RoleManagerImpl implements RoleManager {
     private final ConcurrentMap<DeviceInfo, RoleContext> contexts = new ConcurrentHashMap<>();
     private final HashedWheelTimer timer;
     private final OpenflowProviderConfig config;
-    private final ExecutorService executorService;
+    private final DeviceConnectionPipeline pipeline;
 
     public RoleManagerImpl(final HashedWheelTimer timer,
                            final OpenflowProviderConfig config,
-                           final ExecutorService executorService) {
+                           final DeviceConnectionPipeline pipeline) {
         this.timer = timer;
         this.config = config;
-        this.executorService = executorService;
+        this.pipeline = pipeline;
     }
 
     @Override
@@ -43,7 +43,8 @@ public class RoleManagerImpl implements RoleManager {
         final DeviceInfo deviceInfo = deviceContext.getDeviceInfo();
         final RoleContextImpl roleContext = new RoleContextImpl(
                 deviceContext.getDeviceInfo(),
-                timer, CHECK_ROLE_MASTER_TIMEOUT, config, executorService);
+                timer, CHECK_ROLE_MASTER_TIMEOUT, config,
+                pipeline.executor(DeviceConnectionPipeline.Stage.MASTERSHIP, deviceInfo.getDatapathId()));
 
         roleContext.setRoleRpc(new SalRoleRpc(roleContext, deviceContext));
         contexts.put(deviceInfo, roleContext);
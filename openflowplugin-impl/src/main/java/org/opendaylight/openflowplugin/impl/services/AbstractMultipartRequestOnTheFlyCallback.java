@@ -11,11 +11,13 @@ import com.google.common.util.concurrent.Service;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.util.Collections;
 import java.util.List;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceInfo;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceRegistry;
 import org.opendaylight.openflowplugin.api.openflow.device.RequestContext;
 import org.opendaylight.openflowplugin.api.openflow.device.TxFacade;
+import org.opendaylight.openflowplugin.api.openflow.registry.flow.FlowDescriptor;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.EventIdentifier;
 import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
 import org.opendaylight.openflowplugin.impl.common.MultipartReplyTranslatorUtil;
@@ -24,6 +26,9 @@ import org.opendaylight.openflowplugin.impl.statistics.StatisticsGatheringUtils;
 import org.opendaylight.openflowplugin.impl.statistics.ofpspecific.EventsTimeCounter;
 import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorExecutor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.OfHeader;
 import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
@@ -115,6 +120,10 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
 
             if (!isReqMore(resultCast)) {
                 endCollecting(true);
+            } else if (MultipartType.OFPMPFLOW.equals(getMultipartType())) {
+                // Make the segment visible right away, so that pending writes do not pile up until the last one.
+                // Other types delete all known entries on the first segment, which must not be visible on its own.
+                txFacade.submitTransaction();
             }
         }
     }
@@ -140,11 +149,8 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
 
         switch (getMultipartType()) {
             case OFPMPFLOW:
-                StatisticsGatheringUtils.deleteAllKnownFlows(
-                        getTxFacade(),
-                        instanceIdentifier,
-                        deviceRegistry.getDeviceFlowRegistry());
-                deviceRegistry.getDeviceFlowRegistry().processMarks();
+                // Flows are written as they arrive, those which were not reported are removed in endCollecting()
+                deviceRegistry.getDeviceFlowRegistry().startStoreTracking();
                 break;
             case OFPMPMETERCONFIG:
                 StatisticsGatheringUtils.deleteAllKnownMeters(
@@ -179,6 +185,10 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
             setResult(RpcResultBuilder.success(Collections.<T>emptyList()).build());
         }
 
+        if (MultipartType.OFPMPFLOW.equals(getMultipartType())) {
+            deleteUnreportedFlows(setResult);
+        }
+
         txFacade.submitTransaction();
 
         switch (getMultipartType()) {
@@ -196,6 +206,29 @@ public abstract class AbstractMultipartRequestOnTheFlyCallback<T extends OfHeade
         }
     }
 
+    /**
+     * Removes flows which are known to the flow registry, but were not reported in the collected reply, from the
+     * flow registry and the operational data store. Nothing is removed if the reply was not complete.
+     * @param complete true if the whole reply was collected
+     */
+    private void deleteUnreportedFlows(final boolean complete) {
+        final List<FlowDescriptor> unreported = deviceRegistry.getDeviceFlowRegistry().finishStoreTracking(complete);
+        if (unreported.isEmpty() || !txFacade.isTransactionsEnabled()) {
+            return;
+        }
+
+        final InstanceIdentifier<FlowCapableNode> instanceIdentifier = deviceInfo
+                .getNodeInstanceIdentifier()
+                .augmentation(FlowCapableNode.class);
+
+        LOG.debug("Removing {} flows not reported by node {}", unreported.size(), deviceInfo);
+        for (final FlowDescriptor descriptor : unreported) {
+            txFacade.addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, instanceIdentifier
+                    .child(Table.class, descriptor.getTableKey())
+                    .child(Flow.class, new FlowKey(descriptor.getFlowId())));
+        }
+    }
+
     /**
      * Get multipart type.
      * @return multipart type
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.services.batch;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.eclipse.jdt.annotation.Nullable;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.GroupActionCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.flow.crud._case.aug.flat.batch.update.flow._case.FlatBatchUpdateFlow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.group.crud._case.aug.flat.batch.update.group._case.FlatBatchUpdateGroup;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.meter.crud._case.aug.flat.batch.update.meter._case.FlatBatchUpdateMeter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.ApplyActionsCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.MeterCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.WriteActionsCase;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.Instruction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.Group;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.Meter;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.service.batch.common.rev160322.BatchOrderGrouping;
+import org.opendaylight.yangtools.yang.common.Uint32;
+
+/**
+ * Tracks the groups and meters touched by the batch plan steps sent since the last barrier, in order to tell whether
+ * the next step depends on any of them. Unlike the step type based decision this looks at the actual IDs, so steps
+ * which do not refer to each other's groups and meters are sent back to back.
+ *
+ * <p>
+ * A step depends on the previous ones when:
+ * <ul>
+ *   <li>it adds or updates a flow forwarding to a group or metered by a meter added before</li>
+ *   <li>it adds or updates a group chaining to a group added before</li>
+ *   <li>it removes a group or meter which a removed or updated flow or group referred to before</li>
+ *   <li>it touches a group or meter touched before</li>
+ * </ul>
+ */
+public final class BatchStepDependencies {
+    // Groups and meters added to the device
+    private final Set<Uint32> addedGroups = new HashSet<>();
+    private final Set<Uint32> addedMeters = new HashSet<>();
+    // Groups and meters no longer referred to by removed or updated flows and groups
+    private final Set<Uint32> releasedGroups = new HashSet<>();
+    private final Set<Uint32> releasedMeters = new HashSet<>();
+    // Groups and meters added, updated or removed
+    private final Set<Uint32> touchedGroups = new HashSet<>();
+    private final Set<Uint32> touchedMeters = new HashSet<>();
+
+    /**
+     * Decide whether a step depends on the steps recorded so far.
+     *
+     * @param planStep batch plan step
+     * @return true if a barrier is needed before the step
+     */
+    public boolean dependsOnPrevious(final BatchPlanStep planStep) {
+        final List<BatchOrderGrouping> tasks = planStep.getTaskBag();
+        switch (planStep.getStepType()) {
+            case FLOW_ADD:
+                return tasks.stream().anyMatch(task -> refersToAdded((Flow) task));
+            case FLOW_UPDATE:
+                return tasks.stream().anyMatch(task -> refersToAdded(((FlatBatchUpdateFlow) task)
+                    .getUpdatedBatchedFlow()));
+            case GROUP_ADD:
+                return tasks.stream().anyMatch(task -> chainsToAdded((Group) task));
+            case GROUP_UPDATE:
+                return tasks.stream().anyMatch(task -> chainsToAdded(((FlatBatchUpdateGroup) task)
+                    .getUpdatedBatchedGroup()));
+            case GROUP_REMOVE:
+                return tasks.stream().map(task -> groupId((Group) task))
+                    .anyMatch(groupId -> releasedGroups.contains(groupId) || touchedGroups.contains(groupId));
+            case METER_ADD:
+                return tasks.stream().anyMatch(task -> touchedMeters.contains(meterId((Meter) task)));
+            case METER_UPDATE:
+                return tasks.stream().anyMatch(task -> touchedMeters.contains(meterId(((FlatBatchUpdateMeter) task)
+                    .getUpdatedBatchedMeter())));
+            case METER_REMOVE:
+                return tasks.stream().map(task -> meterId((Meter) task))
+                    .anyMatch(meterId -> releasedMeters.contains(meterId) || touchedMeters.contains(meterId));
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Record the groups and meters touched by a step.
+     *
+     * @param planStep batch plan step
+     */
+    public void record(final BatchPlanStep planStep) {
+        for (BatchOrderGrouping task : planStep.getTaskBag()) {
+            switch (planStep.getStepType()) {
+                case FLOW_REMOVE:
+                    release((Flow) task);
+                    break;
+                case FLOW_UPDATE:
+                    release(((FlatBatchUpdateFlow) task).getOriginalBatchedFlow());
+                    break;
+                case GROUP_ADD:
+                    addIfPresent(addedGroups, groupId((Group) task));
+                    addIfPresent(touchedGroups, groupId((Group) task));
+                    break;
+                case GROUP_UPDATE:
+                    releasedGroups.addAll(chainedGroups(((FlatBatchUpdateGroup) task).getOriginalBatchedGroup()));
+                    addIfPresent(touchedGroups, groupId(((FlatBatchUpdateGroup) task).getUpdatedBatchedGroup()));
+                    break;
+                case GROUP_REMOVE:
+                    releasedGroups.addAll(chainedGroups((Group) task));
+                    addIfPresent(touchedGroups, groupId((Group) task));
+                    break;
+                case METER_ADD:
+                    addIfPresent(addedMeters, meterId((Meter) task));
+                    addIfPresent(touchedMeters, meterId((Meter) task));
+                    break;
+                case METER_UPDATE:
+                    addIfPresent(touchedMeters, meterId(((FlatBatchUpdateMeter) task).getUpdatedBatchedMeter()));
+                    break;
+                case METER_REMOVE:
+                    addIfPresent(touchedMeters, meterId((Meter) task));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Forget all recorded steps, as a barrier was placed after them.
+     */
+    public void clear() {
+        addedGroups.clear();
+        addedMeters.clear();
+        releasedGroups.clear();
+        releasedMeters.clear();
+        touchedGroups.clear();
+        touchedMeters.clear();
+    }
+
+    private boolean refersToAdded(final @Nullable Flow flow) {
+        if (flow == null) {
+            return false;
+        }
+        final Set<Uint32> groups = new HashSet<>();
+        final Set<Uint32> meters = new HashSet<>();
+        collectReferences(flow, groups, meters);
+        return groups.stream().anyMatch(addedGroups::contains) || meters.stream().anyMatch(addedMeters::contains);
+    }
+
+    private boolean chainsToAdded(final @Nullable Group group) {
+        return group != null && (chainedGroups(group).stream().anyMatch(addedGroups::contains)
+            || touchedGroups.contains(groupId(group)));
+    }
+
+    private void release(final @Nullable Flow flow) {
+        if (flow != null) {
+            collectReferences(flow, releasedGroups, releasedMeters);
+        }
+    }
+
+    private static void collectReferences(final Flow flow, final Set<Uint32> groups, final Set<Uint32> meters) {
+        final var instructions = flow.getInstructions();
+        if (instructions == null) {
+            return;
+        }
+        for (Instruction instruction : instructions.nonnullInstruction().values()) {
+            final var choice = instruction.getInstruction();
+            if (choice instanceof ApplyActionsCase applyActions && applyActions.getApplyActions() != null) {
+                collectGroups(applyActions.getApplyActions().nonnullAction().values(), groups);
+            } else if (choice instanceof WriteActionsCase writeActions && writeActions.getWriteActions() != null) {
+                collectGroups(writeActions.getWriteActions().nonnullAction().values(), groups);
+            } else if (choice instanceof MeterCase meter && meter.getMeter() != null) {
+                addIfPresent(meters, meterId(meter.getMeter().getMeterId()));
+            }
+        }
+    }
+
+    private static Set<Uint32> chainedGroups(final @Nullable Group group) {
+        final Set<Uint32> chained = new HashSet<>();
+        if (group != null && group.getBuckets() != null) {
+            group.getBuckets().nonnullBucket().values()
+                .forEach(bucket -> collectGroups(bucket.nonnullAction().values(), chained));
+        }
+        return chained;
+    }
+
+    private static void collectGroups(final Collection<Action> actions, final Set<Uint32> groups) {
+        for (Action action : actions) {
+            if (action.getAction() instanceof GroupActionCase groupAction && groupAction.getGroupAction() != null) {
+                addIfPresent(groups, groupAction.getGroupAction().getGroupId());
+            }
+        }
+    }
+
+    private static @Nullable Uint32 groupId(final @Nullable Group group) {
+        if (group == null) {
+            return null;
+        }
+        final GroupId groupId = group.getGroupId();
+        return groupId != null ? groupId.getValue() : null;
+    }
+
+    private static @Nullable Uint32 meterId(final @Nullable Meter meter) {
+        return meter != null ? meterId(meter.getMeterId()) : null;
+    }
+
+    private static @Nullable Uint32 meterId(final @Nullable MeterId meterId) {
+        return meterId != null ? meterId.getValue() : null;
+    }
+
+    private static void addIfPresent(final Set<Uint32> ids, final @Nullable Uint32 id) {
+        if (id != null) {
+            ids.add(id);
+        }
+    }
+}
@@ -78,10 +78,16 @@ public final class ProcessFlatBatchImpl implements ProcessFlatBatch {
 
         // create plan
         final var batchPlan = FlatBatchUtil.assembleBatchPlan(batch);
-        // add barriers where needed
-        FlatBatchUtil.markBarriersWhereNeeded(batchPlan);
+        // add barriers where needed: exiting on first error needs the barriers between all step types which might
+        // conflict, as the steps after a barrier are skipped on failure, otherwise only actual dependencies matter
+        final boolean exitOnFirstError = input.getExitOnFirstError();
+        if (exitOnFirstError) {
+            FlatBatchUtil.markBarriersWhereNeeded(batchPlan);
+        } else {
+            FlatBatchUtil.markBarriersOnDependencies(batchPlan);
+        }
         // prepare chain elements
-        final var batchChainElements = prepareBatchChain(batchPlan, input.getNode(), input.getExitOnFirstError());
+        final var batchChainElements = prepareBatchChain(batchPlan, input.getNode(), exitOnFirstError);
         // execute plan with barriers and collect outputs chain correspondingly, collect results
         return executeBatchPlan(batchChainElements);
     }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+
+/**
+ * Decides which statistics types of a single device are gathered on a poll. A type whose reply did not change since
+ * it was last gathered is gathered on every second poll, then every fourth and so on, up to a maximum interval. A
+ * change of the reply brings the type back to every poll. Types which never report a reply digest, such as flow
+ * statistics processed on the fly, are gathered on every poll.
+ */
+final class AdaptivePollingPolicy {
+    private static final class TypeState {
+        private int interval = 1;
+        private int remaining;
+        private int digest;
+        private boolean hasDigest;
+        private long skipped;
+    }
+
+    @GuardedBy("this")
+    private final Map<MultipartType, TypeState> states = new EnumMap<>(MultipartType.class);
+    private final int maxInterval;
+
+    /**
+     * Create a new policy.
+     *
+     * @param maxInterval maximum interval, in polls, of a type whose reply does not change, 1 to gather every type on
+     *                    every poll
+     */
+    AdaptivePollingPolicy(final int maxInterval) {
+        checkArgument(maxInterval >= 1, "Invalid maximum interval %s", maxInterval);
+        this.maxInterval = maxInterval;
+    }
+
+    /**
+     * Check whether intervals are adapted at all. If they are not, every type is gathered on every poll and there is
+     * no need to compute reply digests.
+     *
+     * @return true if the maximum interval is greater than one poll
+     */
+    boolean isAdaptive() {
+        return maxInterval > 1;
+    }
+
+    /**
+     * Check whether a type should be gathered on the current poll. Must be invoked once per type and poll.
+     *
+     * @param type statistics type
+     * @return true if the type should be gathered
+     */
+    synchronized boolean isDue(final MultipartType type) {
+        final TypeState state = states.get(type);
+        if (state == null || state.remaining == 0) {
+            return true;
+        }
+        state.remaining--;
+        state.skipped++;
+        return false;
+    }
+
+    /**
+     * Record the digest of a gathered reply and adjust the interval of its type.
+     *
+     * @param type statistics type
+     * @param digest digest of the reply
+     */
+    synchronized void recordDigest(final MultipartType type, final int digest) {
+        final TypeState state = states.computeIfAbsent(type, key -> new TypeState());
+        if (state.hasDigest && state.digest == digest) {
+            state.interval = Math.min(state.interval * 2, maxInterval);
+        } else {
+            state.interval = 1;
+        }
+        state.digest = digest;
+        state.hasDigest = true;
+        state.remaining = state.interval - 1;
+    }
+
+    /**
+     * Describe the current interval and the number of skipped polls of each type.
+     *
+     * @param pollingInterval current polling interval in milliseconds
+     * @return one line per type with a recorded digest
+     */
+    synchronized List<String> describe(final long pollingInterval) {
+        final List<String> ret = new ArrayList<>(states.size());
+        states.forEach((type, state) -> ret.add(String.format("%s: every %d polls (%d ms), %d polls skipped",
+            type, state.interval, state.interval * pollingInterval, state.skipped)));
+        return ret;
+    }
+}
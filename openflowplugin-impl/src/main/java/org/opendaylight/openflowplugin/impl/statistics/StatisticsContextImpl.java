@@ -21,8 +21,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.TransactionChainClosedException;
 import org.opendaylight.mdsal.singleton.api.ServiceGroupIdentifier;
@@ -66,6 +69,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
     private final long statisticsPollingInterval;
     private final long maximumPollingDelay;
     private final boolean isUsingReconciliationFramework;
+    private final StatisticsPollingScheduler pollingScheduler;
+    private final AdaptivePollingPolicy pollingPolicy;
     private final AtomicBoolean schedulingEnabled = new AtomicBoolean(true);
     private final AtomicReference<ListenableFuture<Boolean>> lastDataGatheringRef = new AtomicReference<>();
     private final AtomicReference<StatisticsPollingService> statisticsPollingServiceRef = new AtomicReference<>();
@@ -79,6 +84,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
                           @NonNull final MultipartWriterProvider statisticsWriterProvider,
                           @NonNull final Executor executorService,
                           @NonNull final OpenflowProviderConfig config,
+                          @NonNull final StatisticsPollingScheduler pollingScheduler,
+                          @NonNull final AdaptivePollingPolicy pollingPolicy,
                           final boolean isStatisticsPollingOn,
                           final boolean isUsingReconciliationFramework) {
         this.deviceContext = deviceContext;
@@ -92,6 +99,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
         maximumPollingDelay = config.getMaximumTimerDelay().getValue().toJava();
         this.statisticsWriterProvider = statisticsWriterProvider;
         this.isUsingReconciliationFramework = isUsingReconciliationFramework;
+        this.pollingScheduler = requireNonNull(pollingScheduler);
+        this.pollingPolicy = requireNonNull(pollingPolicy);
 
         statisticsGatheringService = new StatisticsGatheringService<>(this, deviceContext);
         statisticsGatheringOnTheFlyService = new StatisticsGatheringOnTheFlyService<>(this, deviceContext,
@@ -186,7 +195,8 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
         }
 
         collectingStatType = ImmutableList.copyOf(statListForCollecting);
-        Futures.addCallback(gatherDynamicData(), new InitialSubmitCallback(), MoreExecutors.directExecutor());
+        Futures.addCallback(pollingScheduler.submitPriority(this::gatherDynamicData), new InitialSubmitCallback(),
+            MoreExecutors.directExecutor());
     }
 
     @Override
@@ -267,12 +277,21 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
             LOG.debug("Stats iterating to next type for node {} of type {}", deviceInfo, multipartType);
             final boolean onTheFly = MultipartType.OFPMPFLOW.equals(multipartType);
             final boolean supported = collectingStatType.contains(multipartType);
+            if (supported && !pollingPolicy.isDue(multipartType)) {
+                LOG.debug("Stats of type {} for node {} did not change recently, skipping", multipartType, deviceInfo);
+                return Futures.immediateFuture(result);
+            }
+
+            // Flow statistics are processed on the fly, there is no reply to compare, and without adaptive polling
+            // replies are not compared at all
+            final IntConsumer replyDigest = onTheFly || !pollingPolicy.isAdaptive() ? null
+                    : digest -> pollingPolicy.recordDigest(multipartType, digest);
 
             // TODO: Refactor twice sending deviceContext into gatheringStatistics
             return supported ? StatisticsGatheringUtils
                     .gatherStatistics(onTheFly ? statisticsGatheringOnTheFlyService : statisticsGatheringService,
                                       getDeviceInfo(), multipartType, deviceContext, deviceContext, convertorExecutor,
-                                      statisticsWriterProvider, executorService) : Futures
+                                      statisticsWriterProvider, executorService, replyDigest) : Futures
                     .immediateFuture(Boolean.FALSE);
         }, MoreExecutors.directExecutor());
     }
@@ -284,14 +303,15 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
 
         LOG.info("Starting statistics gathering for node {}", deviceInfo);
         final StatisticsPollingService statisticsPollingService =
-                new StatisticsPollingService(timeCounter,
+                new StatisticsPollingService(pollingScheduler,
+                                             timeCounter,
                                              statisticsPollingInterval,
                                              maximumPollingDelay,
                                              StatisticsContextImpl.this::gatherDynamicData);
 
         schedulingEnabled.set(true);
-        statisticsPollingService.startAsync();
         statisticsPollingServiceRef.set(statisticsPollingService);
+        statisticsPollingService.start();
     }
 
     private ListenableFuture<Void> stopGatheringData() {
@@ -302,6 +322,20 @@ class StatisticsContextImpl<T extends OfHeader> implements StatisticsContext, De
                 .orElseGet(() -> Futures.immediateFuture(null));
     }
 
+    /**
+     * Describe adaptive polling of statistics types of this device.
+     *
+     * @return one line per statistics type with its current polling interval and the number of skipped polls
+     */
+    List<String> describeAdaptivePolling() {
+        final StatisticsPollingService statisticsPollingService = statisticsPollingServiceRef.get();
+        final long pollingInterval = statisticsPollingService != null
+                ? TimeUnit.NANOSECONDS.toMillis(statisticsPollingService.delayNanos()) : statisticsPollingInterval;
+        return pollingPolicy.describe(pollingInterval).stream()
+                .map(line -> deviceInfo.getNodeId().getValue() + " " + line)
+                .collect(Collectors.toList());
+    }
+
     private void cancelLastDataGathering() {
         final ListenableFuture<Boolean> future = lastDataGatheringRef.getAndSet(null);
 
@@ -18,7 +18,9 @@ import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
+import org.eclipse.jdt.annotation.Nullable;
 import org.opendaylight.mdsal.binding.api.ReadTransaction;
 import org.opendaylight.mdsal.binding.api.TransactionChainClosedException;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
@@ -70,6 +72,20 @@ public final class StatisticsGatheringUtils {
             final MultipartType type, final TxFacade txFacade, final DeviceRegistry registry,
             final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
             final Executor executor) {
+        return gatherStatistics(statisticsGatheringService, deviceInfo, type, txFacade, registry, convertorExecutor,
+            statisticsWriterProvider, executor, null);
+    }
+
+    /**
+     * Gather statistics of a type and write them to the operational data store. The digest of the reply is reported
+     * once it is written successfully, unless there is no consumer for it. Replies processed on the fly are reported
+     * as empty.
+     */
+    static <T extends OfHeader> ListenableFuture<Boolean> gatherStatistics(
+            final StatisticsGatherer<T> statisticsGatheringService, final DeviceInfo deviceInfo,
+            final MultipartType type, final TxFacade txFacade, final DeviceRegistry registry,
+            final ConvertorExecutor convertorExecutor, final MultipartWriterProvider statisticsWriterProvider,
+            final Executor executor, final @Nullable IntConsumer replyDigest) {
         return Futures.transform(statisticsGatheringService.getStatisticsOfType(
             new EventIdentifier(QUEUE2_REQCTX + type.toString(), deviceInfo.getNodeId().toString()), type),
             rpcResult -> {
@@ -87,10 +103,17 @@ public final class StatisticsGatheringUtils {
                                 .filter(Optional::isPresent).map(Optional::orElseThrow)
                                 .collect(Collectors.toList());
 
-                        return processStatistics(type, allMultipartData, txFacade, registry, deviceInfo,
-                                        statisticsWriterProvider);
+                        final boolean processed = processStatistics(type, allMultipartData, txFacade, registry,
+                                        deviceInfo, statisticsWriterProvider);
+                        if (processed && replyDigest != null) {
+                            replyDigest.accept(allMultipartData.hashCode());
+                        }
+                        return processed;
                     } else {
                         LOG.debug("Stats reply was empty for node {} of type {}", deviceInfo.getNodeId(), type);
+                        if (replyDigest != null) {
+                            replyDigest.accept(List.of().hashCode());
+                        }
                     }
                 } else {
                     LOG.warn("Stats reply FAILED for node {} of type {}: {}", deviceInfo.getNodeId(), type,
@@ -190,6 +213,8 @@ public final class StatisticsGatheringUtils {
                             txFacade.writeToTransaction(LogicalDatastoreType.OPERATIONAL, iiToTable, table);
                         }
                     }
+                    // Flows are rewritten with the next reply
+                    deviceFlowRegistry.clearStatistics();
                     return null;
                 }, MoreExecutors.directExecutor()).get();
         } catch (InterruptedException | ExecutionException ex) {
@@ -9,10 +9,21 @@ package org.opendaylight.openflowplugin.impl.statistics;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.lang.management.ManagementFactory;
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
 import org.eclipse.jdt.annotation.NonNull;
 import org.opendaylight.mdsal.binding.api.RpcProviderService;
 import org.opendaylight.openflowplugin.api.openflow.device.DeviceContext;
@@ -40,6 +51,17 @@ import org.slf4j.LoggerFactory;
 
 public final class StatisticsManagerImpl implements StatisticsManager {
     private static final Logger LOG = LoggerFactory.getLogger(StatisticsManagerImpl.class);
+    private static final ObjectName MXBEAN_OBJECT_NAME;
+
+    static {
+        try {
+            MXBEAN_OBJECT_NAME = new ObjectName("%s:type=%s".formatted(
+                    StatisticsPollingMXBean.class.getPackage().getName(),
+                    StatisticsPollingMXBean.class.getSimpleName()));
+        } catch (MalformedObjectNameException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
 
     @VisibleForTesting
     final ConcurrentMap<DeviceInfo, StatisticsContext> contexts = new ConcurrentHashMap<>();
@@ -47,10 +69,12 @@ public final class StatisticsManagerImpl implements StatisticsManager {
     private final OpenflowProviderConfig config;
     private final ConvertorExecutor converterExecutor;
     private final Executor executor;
+    private final StatisticsPollingScheduler pollingScheduler;
     private final Semaphore workModeGuard = new Semaphore(1, true);
     private final Registration controlServiceRegistration;
     private final StatisticsWorkMode workMode = StatisticsWorkMode.COLLECTALL;
     private boolean isStatisticsFullyDisabled;
+    private boolean runUnreg;
 
     public StatisticsManagerImpl(@NonNull final OpenflowProviderConfig config,
                                  @NonNull final RpcProviderService rpcProviderRegistry,
@@ -59,9 +83,28 @@ public final class StatisticsManagerImpl implements StatisticsManager {
         this.config = config;
         this.executor = executor;
         converterExecutor = convertorExecutor;
+        pollingScheduler = new StatisticsPollingScheduler(Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("statistics-polling-%d").build()),
+            config.getStatisticsPollingConcurrency().toJava());
         controlServiceRegistration = rpcProviderRegistry.registerRpcImplementations(
             (GetStatisticsWorkMode) this::getStatisticsWorkMode,
             (ChangeStatisticsWorkMode) this::changeStatisticsWorkMode);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                .registerMBean((StatisticsPollingMXBean) this::getAdaptivePollingState, MXBEAN_OBJECT_NAME);
+            runUnreg = true;
+        } catch (NotCompliantMBeanException | MBeanRegistrationException | InstanceAlreadyExistsException e) {
+            LOG.warn("Error registering MBean {}", MXBEAN_OBJECT_NAME, e);
+        }
+    }
+
+    @VisibleForTesting
+    List<String> getAdaptivePollingState() {
+        return contexts.values().stream()
+                .filter(StatisticsContextImpl.class::isInstance)
+                .flatMap(context -> ((StatisticsContextImpl<?>) context).describeAdaptivePolling().stream())
+                .collect(Collectors.toList());
     }
 
     @VisibleForTesting
@@ -113,6 +156,8 @@ public final class StatisticsManagerImpl implements StatisticsManager {
                 statisticsWriterProvider,
                 executor,
                 config,
+                pollingScheduler,
+                new AdaptivePollingPolicy(maxPollingInterval()),
                 !isStatisticsFullyDisabled && config.getIsStatisticsPollingOn(),
                 useReconciliationFramework);
 
@@ -120,6 +165,16 @@ public final class StatisticsManagerImpl implements StatisticsManager {
         return statisticsContext;
     }
 
+    // Unchanged statistics are polled at least once per maximum timer delay
+    private int maxPollingInterval() {
+        if (!config.getAdaptiveStatisticsPolling()) {
+            return 1;
+        }
+        final long interval = config.getMaximumTimerDelay().getValue().toJava()
+                / config.getBasicTimerDelay().getValue().toJava();
+        return (int) Math.min(Math.max(interval, 1), Integer.MAX_VALUE);
+    }
+
     @Override
     public void onDeviceRemoved(final DeviceInfo deviceInfo) {
         contexts.remove(deviceInfo);
@@ -136,5 +191,15 @@ public final class StatisticsManagerImpl implements StatisticsManager {
         }
 
         contexts.clear();
+        pollingScheduler.close();
+
+        if (runUnreg) {
+            runUnreg = false;
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(MXBEAN_OBJECT_NAME);
+            } catch (InstanceNotFoundException | MBeanRegistrationException e) {
+                LOG.warn("Error unregistering MBean {}", MXBEAN_OBJECT_NAME, e);
+            }
+        }
     }
 }
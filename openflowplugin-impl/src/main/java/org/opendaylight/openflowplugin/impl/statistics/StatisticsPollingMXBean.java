@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import java.util.List;
+import javax.management.MXBean;
+
+/**
+ * Exposes the state of statistics polling of connected devices.
+ */
+@MXBean
+public interface StatisticsPollingMXBean {
+    /**
+     * Get the current polling interval of each statistics type of each device, with the number of polls skipped
+     * because the type did not change recently.
+     *
+     * @return one line per device and statistics type
+     */
+    List<String> getAdaptivePollingState();
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.eclipse.jdt.annotation.NonNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs statistics gathering of all devices on a single timer. Each device polls at its own cadence through a
+ * {@link StatisticsPollingService}, which starts at a random phase and adds a small random jitter to every poll, so
+ * that devices connected at the same time do not poll in lockstep.
+ *
+ * <p>
+ * The number of gatherings running at the same time may be capped. As every gathering requests one statistics type
+ * at a time, this caps the number of statistics multipart requests in flight. Gatherings over the cap wait in a queue,
+ * where gatherings needed to initialize a device take precedence over periodic polls.
+ */
+final class StatisticsPollingScheduler implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(StatisticsPollingScheduler.class);
+
+    static final long DEFAULT_STATS_TIMEOUT = 50000;
+
+    /**
+     * A gathering waiting for capacity.
+     */
+    private record Task(Supplier<ListenableFuture<Boolean>> gathering, long timeoutMillis, Runnable onRelease,
+            SettableFuture<Boolean> result) {
+        void reject() {
+            result.setException(new RejectedExecutionException("Statistics polling scheduler is closed"));
+            onRelease.run();
+        }
+    }
+
+    @GuardedBy("this")
+    private final ArrayDeque<Task> priorityQueue = new ArrayDeque<>();
+    @GuardedBy("this")
+    private final ArrayDeque<Task> pollQueue = new ArrayDeque<>();
+    private final ScheduledExecutorService timer;
+    private final int maxInFlight;
+
+    @GuardedBy("this")
+    private int inFlight;
+    @GuardedBy("this")
+    private boolean closed;
+
+    /**
+     * Create a new scheduler.
+     *
+     * @param timer executor used to run polls and timeouts
+     * @param maxInFlight maximum number of gatherings running at the same time, 0 if unlimited
+     */
+    StatisticsPollingScheduler(@NonNull final ScheduledExecutorService timer, final int maxInFlight) {
+        checkArgument(maxInFlight >= 0, "Invalid maximum of gatherings in flight %s", maxInFlight);
+        this.timer = requireNonNull(timer);
+        this.maxInFlight = maxInFlight;
+    }
+
+    ScheduledExecutorService timer() {
+        return timer;
+    }
+
+    /**
+     * Run a gathering needed to initialize a device, ahead of any periodic polls waiting for capacity.
+     *
+     * @param gathering supplier of the gathering
+     * @return future completing with the outcome of the gathering
+     */
+    ListenableFuture<Boolean> submitPriority(@NonNull final Supplier<ListenableFuture<Boolean>> gathering) {
+        return submit(gathering, true, DEFAULT_STATS_TIMEOUT, () -> { });
+    }
+
+    /**
+     * Run a gathering once there is capacity for it. The capacity is held until the gathering completes or the timeout
+     * expires, whichever comes first, at which point {@code onRelease} is invoked. The gathering itself is not
+     * cancelled by the timeout.
+     *
+     * @param gathering supplier of the gathering
+     * @param priority true if the gathering takes precedence over periodic polls
+     * @param timeoutMillis maximum time the gathering holds its capacity, in milliseconds
+     * @param onRelease invoked once the capacity is released
+     * @return future completing with the outcome of the gathering
+     */
+    ListenableFuture<Boolean> submit(@NonNull final Supplier<ListenableFuture<Boolean>> gathering,
+            final boolean priority, final long timeoutMillis, @NonNull final Runnable onRelease) {
+        final Task task = new Task(requireNonNull(gathering), timeoutMillis, requireNonNull(onRelease),
+            SettableFuture.create());
+
+        final boolean rejected;
+        synchronized (this) {
+            rejected = closed;
+            if (!rejected) {
+                if (maxInFlight != 0 && inFlight >= maxInFlight) {
+                    (priority ? priorityQueue : pollQueue).add(task);
+                    LOG.debug("Statistics gathering queued, {} priority and {} periodic gatherings waiting",
+                        priorityQueue.size(), pollQueue.size());
+                    return task.result();
+                }
+                inFlight++;
+            }
+        }
+
+        if (rejected) {
+            task.reject();
+        } else {
+            start(task);
+        }
+        return task.result();
+    }
+
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void start(final Task task) {
+        final AtomicBoolean released = new AtomicBoolean();
+        final Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                release();
+                task.onRelease().run();
+            }
+        };
+
+        final ListenableFuture<Boolean> future;
+        try {
+            future = task.gathering().get();
+        } catch (RuntimeException e) {
+            task.result().setException(e);
+            release.run();
+            return;
+        }
+        task.result().setFuture(future);
+        final long timeoutMillis = task.timeoutMillis();
+
+        final ScheduledFuture<?> timeout;
+        try {
+            timeout = timer.schedule(() -> {
+                if (!future.isDone()) {
+                    LOG.warn("Statistics gathering did not complete in {} ms, releasing its capacity", timeoutMillis);
+                }
+                release.run();
+            }, timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Statistics polling scheduler is shutting down, not tracking gathering timeout", e);
+            future.addListener(release, MoreExecutors.directExecutor());
+            return;
+        }
+
+        future.addListener(() -> {
+            timeout.cancel(false);
+            release.run();
+        }, MoreExecutors.directExecutor());
+    }
+
+    private void release() {
+        final Task next;
+        synchronized (this) {
+            next = priorityQueue.isEmpty() ? pollQueue.poll() : priorityQueue.poll();
+            if (next == null) {
+                inFlight--;
+                return;
+            }
+        }
+
+        // Capacity is handed over to the next gathering, run it outside of the caller's context
+        try {
+            timer.execute(() -> start(next));
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Statistics polling scheduler is shutting down, rejecting queued gathering", e);
+            release();
+            next.reject();
+        }
+    }
+
+    @Override
+    public void close() {
+        final List<Task> queued = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            queued.addAll(priorityQueue);
+            queued.addAll(pollQueue);
+            priorityQueue.clear();
+            pollQueue.clear();
+        }
+
+        queued.forEach(Task::reject);
+        timer.shutdownNow();
+    }
+}
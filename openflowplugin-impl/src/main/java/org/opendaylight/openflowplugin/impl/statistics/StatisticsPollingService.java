@@ -7,84 +7,151 @@
  */
 package org.opendaylight.openflowplugin.impl.statistics;
 
-import com.google.common.util.concurrent.AbstractScheduledService;
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
-import com.google.common.util.concurrent.Service;
 import com.google.common.util.concurrent.SettableFuture;
-import java.util.concurrent.CancellationException;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
+import org.checkerframework.checker.lock.qual.GuardedBy;
+import org.checkerframework.checker.lock.qual.Holding;
 import org.eclipse.jdt.annotation.NonNull;
-import org.opendaylight.openflowplugin.api.ConnectionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class StatisticsPollingService extends AbstractScheduledService {
+/**
+ * Periodic statistics gathering of a single device, run by a {@link StatisticsPollingScheduler}. A poll is due every
+ * polling interval, stretched up to the maximum timer delay when gathering takes longer. Due times are counted from
+ * the previous due time, not from the end of the previous poll, so the cadence does not drift. The first poll is due
+ * at a random phase and every poll starts with a random jitter after it is due.
+ */
+public class StatisticsPollingService {
     private static final Logger LOG = LoggerFactory.getLogger(StatisticsPollingService.class);
-    private static final long DEFAULT_STATS_TIMEOUT = 50000;
 
+    /**
+     * Maximum delay of a poll after it is due, as a fraction of the polling delay.
+     */
+    static final double JITTER = 0.1;
+
+    private final SettableFuture<Void> future = SettableFuture.create();
+    private final StatisticsPollingScheduler scheduler;
     private final TimeCounter counter;
     private final long pollingInterval;
     private final long maximumTimerDelay;
     private final Supplier<ListenableFuture<Boolean>> gatheringSupplier;
-    private final SettableFuture<Void> future = SettableFuture.create();
 
-    StatisticsPollingService(@NonNull final TimeCounter counter,
+    @GuardedBy("this")
+    private boolean running;
+    @GuardedBy("this")
+    private boolean polling;
+    @GuardedBy("this")
+    private long dueNanos;
+    @GuardedBy("this")
+    private ScheduledFuture<?> nextPoll;
+
+    StatisticsPollingService(@NonNull final StatisticsPollingScheduler scheduler,
+                             @NonNull final TimeCounter counter,
                              final long pollingInterval,
                              final long maximumTimerDelay,
                              @NonNull final Supplier<ListenableFuture<Boolean>> gatheringSupplier) {
-        this.counter = counter;
+        this.scheduler = requireNonNull(scheduler);
+        this.counter = requireNonNull(counter);
         this.pollingInterval = pollingInterval;
         this.maximumTimerDelay = maximumTimerDelay;
-        this.gatheringSupplier = gatheringSupplier;
-        this.addListener(new StatisticsPollingServiceListener(), MoreExecutors.directExecutor());
+        this.gatheringSupplier = requireNonNull(gatheringSupplier);
+    }
+
+    void start() {
+        counter.markStart();
+
+        synchronized (this) {
+            running = true;
+            // Spread first polls of devices connected at the same time over a whole delay, keeping the mean
+            final long delay = delayNanos();
+            dueNanos = System.nanoTime() + delay / 2 + ThreadLocalRandom.current().nextLong(delay);
+            schedule();
+        }
     }
 
     ListenableFuture<Void> stop() {
-        stopAsync();
+        synchronized (this) {
+            running = false;
+            if (nextPoll != null) {
+                nextPoll.cancel(false);
+                nextPoll = null;
+            }
+            if (!polling) {
+                future.set(null);
+            }
+        }
         return future;
     }
 
-    @Override
-    protected void startUp() {
-        counter.markStart();
-    }
+    @VisibleForTesting
+    void poll() {
+        synchronized (this) {
+            if (!running) {
+                return;
+            }
+            nextPoll = null;
+            polling = true;
+        }
 
-    @Override
-    protected void runOneIteration() throws Exception {
         final long averageTime = counter.getAverageTimeBetweenMarks();
-        final long statsTimeout = averageTime > 0 ? 3 * averageTime : DEFAULT_STATS_TIMEOUT;
-        final CompletableFuture<Boolean> waitFuture = new CompletableFuture<>();
+        final long statsTimeout = averageTime > 0 ? 3 * averageTime : StatisticsPollingScheduler.DEFAULT_STATS_TIMEOUT;
+
+        Futures.addCallback(scheduler.submit(gatheringSupplier, false, statsTimeout, this::pollFinished),
+            new FutureCallback<Boolean>() {
+                @Override
+                public void onSuccess(final Boolean result) {
+                    LOG.trace("Statistics gathering finished with {}", result);
+                }
+
+                @Override
+                public void onFailure(final Throwable throwable) {
+                    LOG.warn("Exception occured while waiting for the stats collection.", throwable);
+                }
+            }, MoreExecutors.directExecutor());
+    }
 
-        Futures.addCallback(gatheringSupplier.get(), new FutureCallback<Boolean>() {
-            @Override
-            public void onSuccess(final Boolean result) {
-                waitFuture.complete(result);
-            }
+    private void pollFinished() {
+        counter.addTimeMark();
 
-            @Override
-            public void onFailure(final Throwable throwable) {
-                waitFuture.completeExceptionally(throwable);
+        synchronized (this) {
+            polling = false;
+            if (!running) {
+                future.set(null);
+                return;
             }
-        }, MoreExecutors.directExecutor());
+
+            // Keep the cadence, unless the poll overran the next due time
+            dueNanos = Math.max(dueNanos + delayNanos(), System.nanoTime());
+            schedule();
+        }
+    }
+
+    @Holding("this")
+    private void schedule() {
+        final long jitter = (long) (ThreadLocalRandom.current().nextDouble() * JITTER * delayNanos());
+        final long delay = Math.max(0, dueNanos + jitter - System.nanoTime());
 
         try {
-            waitFuture.get(statsTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            LOG.warn("Exception occured while waiting for the stats collection.", e);
-        } finally {
-            counter.addTimeMark();
+            nextPoll = scheduler.timer().schedule(this::poll, delay, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            LOG.debug("Statistics polling scheduler is shut down, stopping polling", e);
+            running = false;
+            future.set(null);
         }
     }
 
-    @Override
-    protected Scheduler scheduler() {
+    long delayNanos() {
         final long averageStatisticsGatheringTime = counter.getAverageTimeBetweenMarks();
         long currentTimerDelay = pollingInterval;
 
@@ -96,24 +163,6 @@ public class StatisticsPollingService extends AbstractScheduledService {
             }
         }
 
-        return Scheduler.newFixedDelaySchedule(currentTimerDelay, currentTimerDelay, TimeUnit.MILLISECONDS);
-    }
-
-    private final class StatisticsPollingServiceListener extends Service.Listener {
-        @Override
-        public void terminated(final Service.State from) {
-            super.terminated(from);
-            future.set(null);
-        }
-
-        @Override
-        public void failed(final Service.State from, final Throwable failure) {
-            super.failed(from, failure);
-            if (!(failure instanceof CancellationException) && !(failure instanceof ConnectionException)) {
-                future.setException(failure);
-            } else {
-                future.set(null);
-            }
-        }
+        return TimeUnit.MILLISECONDS.toNanos(currentTimerDelay);
     }
 }
@@ -19,6 +19,7 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import org.opendaylight.openflowplugin.impl.services.batch.BatchPlanStep;
+import org.opendaylight.openflowplugin.impl.services.batch.BatchStepDependencies;
 import org.opendaylight.openflowplugin.impl.services.batch.BatchStepType;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutputBuilder;
@@ -65,6 +66,27 @@ public final class FlatBatchUtil {
         }
     }
 
+    /**
+     * Mark barriers only between steps which depend on each other's groups and meters, see
+     * {@link BatchStepDependencies}. Unlike {@link #markBarriersWhereNeeded(List)} this leaves steps of conflicting
+     * types to be sent back to back as long as they do not refer to the same IDs.
+     *
+     * @param batchPlan batch plan steps
+     */
+    public static void markBarriersOnDependencies(final List<BatchPlanStep> batchPlan) {
+        final BatchStepDependencies dependencies = new BatchStepDependencies();
+
+        BatchPlanStep previousPlanStep = null;
+        for (BatchPlanStep planStep : batchPlan) {
+            if (previousPlanStep != null && dependencies.dependsOnPrevious(planStep)) {
+                previousPlanStep.setBarrierAfter(true);
+                dependencies.clear();
+            }
+            dependencies.record(planStep);
+            previousPlanStep = planStep;
+        }
+    }
+
     @VisibleForTesting
     static boolean decideBarrier(final EnumSet<BatchStepType> previousTypes, final BatchStepType type) {
         return isFlowBarrierNeeded(previousTypes, type)
@@ -32,7 +32,7 @@ import org.opendaylight.yangtools.yang.common.Uint32;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigurationServiceFactoryImplTest {
-    private static final int CONFIG_PROP_COUNT = 25;
+    private static final int CONFIG_PROP_COUNT = 38;
     private static final boolean IS_STATISTICS_POLLING_ON = true;
     private static final Uint16 BARRIER_COUNT_LIMIT = Uint16.valueOf(2000);
     private static final Uint32 BARRIER_INTERVAL_TIMEOUT_LIMIT = Uint32.valueOf(3000);
@@ -53,6 +53,19 @@ public class ConfigurationServiceFactoryImplTest {
     private static final Uint16 DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = Uint16.ZERO;
     private static final Uint16 DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS = Uint16.valueOf(60);
     private static final Uint32 DEVICE_DATASTORE_REMOVAL_DELAY = Uint32.valueOf(500);
+    private static final boolean INCREMENTAL_FLOW_REGISTRY_FILL = true;
+    private static final Uint32 PACKET_IN_RATE_LIMIT = Uint32.valueOf(20000);
+    private static final Uint32 FLOW_STATISTICS_MIN_DELTA = Uint32.valueOf(100);
+    private static final Uint16 STATISTICS_POLLING_CONCURRENCY = Uint16.valueOf(64);
+    private static final boolean ADAPTIVE_STATISTICS_POLLING = true;
+    private static final Uint16 TRANSACTION_BATCH_SIZE = Uint16.valueOf(128);
+    private static final Uint32 TRANSACTION_BATCH_DELAY = Uint32.valueOf(500);
+    private static final Uint16 TRANSACTION_MAX_OUTSTANDING_COMMITS = Uint16.valueOf(4);
+    private static final Uint16 HANDSHAKE_CONCURRENCY = Uint16.valueOf(100);
+    private static final Uint16 CONTEXT_CREATION_CONCURRENCY = Uint16.valueOf(16);
+    private static final Uint16 MASTERSHIP_CONCURRENCY = Uint16.valueOf(32);
+    private static final Uint16 FEATURE_DISCOVERY_CONCURRENCY = Uint16.valueOf(64);
+    private static final Uint16 CONNECTION_STAGE_QUEUE_SIZE = Uint16.valueOf(1000);
 
     @Mock
     private OpenflowProviderConfig config;
@@ -90,6 +103,20 @@ public class ConfigurationServiceFactoryImplTest {
         when(config.getDeviceConnectionRateLimitPerMin()).thenReturn(DEVICE_CONNECTION_RATE_LIMIT_PER_MIN);
         when(config.getDeviceConnectionHoldTimeInSeconds()).thenReturn(DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS);
         when(config.getDeviceDatastoreRemovalDelay()).thenReturn(new NonZeroUint32Type(DEVICE_DATASTORE_REMOVAL_DELAY));
+        when(config.getIncrementalFlowRegistryFill()).thenReturn(INCREMENTAL_FLOW_REGISTRY_FILL);
+        when(config.getPacketInRateLimit()).thenReturn(PACKET_IN_RATE_LIMIT);
+        when(config.getFlowStatisticsMinDelta()).thenReturn(FLOW_STATISTICS_MIN_DELTA);
+        when(config.getStatisticsPollingConcurrency()).thenReturn(STATISTICS_POLLING_CONCURRENCY);
+        when(config.getAdaptiveStatisticsPolling()).thenReturn(ADAPTIVE_STATISTICS_POLLING);
+        when(config.getTransactionBatchSize()).thenReturn(TRANSACTION_BATCH_SIZE);
+        when(config.getTransactionBatchDelay()).thenReturn(TRANSACTION_BATCH_DELAY);
+        when(config.getTransactionMaxOutstandingCommits())
+                .thenReturn(new NonZeroUint16Type(TRANSACTION_MAX_OUTSTANDING_COMMITS));
+        when(config.getHandshakeConcurrency()).thenReturn(HANDSHAKE_CONCURRENCY);
+        when(config.getContextCreationConcurrency()).thenReturn(CONTEXT_CREATION_CONCURRENCY);
+        when(config.getMastershipConcurrency()).thenReturn(MASTERSHIP_CONCURRENCY);
+        when(config.getFeatureDiscoveryConcurrency()).thenReturn(FEATURE_DISCOVERY_CONCURRENCY);
+        when(config.getConnectionStageQueueSize()).thenReturn(CONNECTION_STAGE_QUEUE_SIZE);
 
         configurationService = new ConfigurationServiceFactoryImpl().newInstance(config);
         configurationService.update(Map.of(
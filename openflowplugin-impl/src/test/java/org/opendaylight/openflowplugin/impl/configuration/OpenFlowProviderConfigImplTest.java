@@ -45,6 +45,19 @@ public class OpenFlowProviderConfigImplTest {
     private static final Uint16 DEVICE_CONNECTION_RATE_LIMIT_PER_MIN = Uint16.ZERO;
     private static final Uint16 DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS = Uint16.valueOf(60);
     private static final Uint32 DEVICE_DATASTORE_REMOVAL_DELAY = Uint32.valueOf(500);
+    private static final Boolean INCREMENTAL_FLOW_REGISTRY_FILL = true;
+    private static final Uint32 PACKET_IN_RATE_LIMIT = Uint32.valueOf(20000);
+    private static final Uint32 FLOW_STATISTICS_MIN_DELTA = Uint32.valueOf(100);
+    private static final Uint16 STATISTICS_POLLING_CONCURRENCY = Uint16.valueOf(64);
+    private static final Boolean ADAPTIVE_STATISTICS_POLLING = true;
+    private static final Uint16 TRANSACTION_BATCH_SIZE = Uint16.valueOf(128);
+    private static final Uint32 TRANSACTION_BATCH_DELAY = Uint32.valueOf(500);
+    private static final Uint16 TRANSACTION_MAX_OUTSTANDING_COMMITS = Uint16.valueOf(4);
+    private static final Uint16 HANDSHAKE_CONCURRENCY = Uint16.valueOf(100);
+    private static final Uint16 CONTEXT_CREATION_CONCURRENCY = Uint16.valueOf(16);
+    private static final Uint16 MASTERSHIP_CONCURRENCY = Uint16.valueOf(32);
+    private static final Uint16 FEATURE_DISCOVERY_CONCURRENCY = Uint16.valueOf(64);
+    private static final Uint16 CONNECTION_STAGE_QUEUE_SIZE = Uint16.valueOf(1000);
 
     @Mock
     private ConfigurationService configurationService;
@@ -91,6 +104,33 @@ public class OpenFlowProviderConfigImplTest {
                 any())).thenReturn(DEVICE_CONNECTION_HOLD_TIME_IN_SECONDS);
         when(configurationService.getProperty(eq(ConfigurationProperty.DEVICE_DATASTORE_REMOVAL_DELAY.toString()),
                 any())).thenReturn(DEVICE_DATASTORE_REMOVAL_DELAY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.INCREMENTAL_FLOW_REGISTRY_FILL.toString()),
+                any())).thenReturn(INCREMENTAL_FLOW_REGISTRY_FILL);
+        when(configurationService.getProperty(eq(ConfigurationProperty.PACKET_IN_RATE_LIMIT.toString()), any()))
+                .thenReturn(PACKET_IN_RATE_LIMIT);
+        when(configurationService.getProperty(eq(ConfigurationProperty.FLOW_STATISTICS_MIN_DELTA.toString()), any()))
+                .thenReturn(FLOW_STATISTICS_MIN_DELTA);
+        when(configurationService.getProperty(eq(ConfigurationProperty.STATISTICS_POLLING_CONCURRENCY.toString()),
+                any())).thenReturn(STATISTICS_POLLING_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.ADAPTIVE_STATISTICS_POLLING.toString()),
+                any())).thenReturn(ADAPTIVE_STATISTICS_POLLING);
+        when(configurationService.getProperty(eq(ConfigurationProperty.TRANSACTION_BATCH_SIZE.toString()), any()))
+                .thenReturn(TRANSACTION_BATCH_SIZE);
+        when(configurationService.getProperty(eq(ConfigurationProperty.TRANSACTION_BATCH_DELAY.toString()), any()))
+                .thenReturn(TRANSACTION_BATCH_DELAY);
+        when(configurationService.getProperty(
+                eq(ConfigurationProperty.TRANSACTION_MAX_OUTSTANDING_COMMITS.toString()), any()))
+                .thenReturn(TRANSACTION_MAX_OUTSTANDING_COMMITS);
+        when(configurationService.getProperty(eq(ConfigurationProperty.HANDSHAKE_CONCURRENCY.toString()), any()))
+                .thenReturn(HANDSHAKE_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.CONTEXT_CREATION_CONCURRENCY.toString()), any()))
+                .thenReturn(CONTEXT_CREATION_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.MASTERSHIP_CONCURRENCY.toString()), any()))
+                .thenReturn(MASTERSHIP_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.FEATURE_DISCOVERY_CONCURRENCY.toString()),
+                any())).thenReturn(FEATURE_DISCOVERY_CONCURRENCY);
+        when(configurationService.getProperty(eq(ConfigurationProperty.CONNECTION_STAGE_QUEUE_SIZE.toString()), any()))
+                .thenReturn(CONNECTION_STAGE_QUEUE_SIZE);
         openflowProviderConfig = new OpenFlowProviderConfigImpl(configurationService);
     }
 
@@ -197,4 +237,70 @@ public class OpenFlowProviderConfigImplTest {
                 openflowProviderConfig.getDeviceDatastoreRemovalDelay().getValue());
     }
 
+    @Test
+    public void getIncrementalFlowRegistryFill() {
+        assertEquals(INCREMENTAL_FLOW_REGISTRY_FILL, openflowProviderConfig.getIncrementalFlowRegistryFill());
+    }
+
+    @Test
+    public void getPacketInRateLimit() {
+        assertEquals(PACKET_IN_RATE_LIMIT, openflowProviderConfig.getPacketInRateLimit());
+    }
+
+    @Test
+    public void getFlowStatisticsMinDelta() {
+        assertEquals(FLOW_STATISTICS_MIN_DELTA, openflowProviderConfig.getFlowStatisticsMinDelta());
+    }
+
+    @Test
+    public void getStatisticsPollingConcurrency() {
+        assertEquals(STATISTICS_POLLING_CONCURRENCY, openflowProviderConfig.getStatisticsPollingConcurrency());
+    }
+
+    @Test
+    public void getAdaptiveStatisticsPolling() {
+        assertEquals(ADAPTIVE_STATISTICS_POLLING, openflowProviderConfig.getAdaptiveStatisticsPolling());
+    }
+
+    @Test
+    public void getTransactionBatchSize() {
+        assertEquals(TRANSACTION_BATCH_SIZE, openflowProviderConfig.getTransactionBatchSize());
+    }
+
+    @Test
+    public void getTransactionBatchDelay() {
+        assertEquals(TRANSACTION_BATCH_DELAY, openflowProviderConfig.getTransactionBatchDelay());
+    }
+
+    @Test
+    public void getTransactionMaxOutstandingCommits() {
+        assertEquals(TRANSACTION_MAX_OUTSTANDING_COMMITS,
+                openflowProviderConfig.getTransactionMaxOutstandingCommits().getValue());
+    }
+
+    @Test
+    public void getHandshakeConcurrency() {
+        assertEquals(HANDSHAKE_CONCURRENCY, openflowProviderConfig.getHandshakeConcurrency());
+    }
+
+    @Test
+    public void getContextCreationConcurrency() {
+        assertEquals(CONTEXT_CREATION_CONCURRENCY, openflowProviderConfig.getContextCreationConcurrency());
+    }
+
+    @Test
+    public void getMastershipConcurrency() {
+        assertEquals(MASTERSHIP_CONCURRENCY, openflowProviderConfig.getMastershipConcurrency());
+    }
+
+    @Test
+    public void getFeatureDiscoveryConcurrency() {
+        assertEquals(FEATURE_DISCOVERY_CONCURRENCY, openflowProviderConfig.getFeatureDiscoveryConcurrency());
+    }
+
+    @Test
+    public void getConnectionStageQueueSize() {
+        assertEquals(CONNECTION_STAGE_QUEUE_SIZE, openflowProviderConfig.getConnectionStageQueueSize());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.connection;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.Test;
+import org.opendaylight.mdsal.binding.api.DataObjectModification;
+import org.opendaylight.mdsal.binding.api.DataObjectModification.ModificationType;
+import org.opendaylight.mdsal.binding.api.DataTreeIdentifier;
+import org.opendaylight.mdsal.binding.api.DataTreeModification;
+import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline.Stage;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.NodeKey;
+import org.opendaylight.yangtools.yang.binding.InstanceIdentifier;
+import org.opendaylight.yangtools.yang.common.Uint64;
+
+/**
+ * Test for {@link DeviceConnectionPipeline}.
+ */
+public class DeviceConnectionPipelineTest {
+    private static final Uint64 KNOWN_DPID = Uint64.ONE;
+    private static final Uint64 UNKNOWN_DPID = Uint64.TWO;
+
+    private final List<String> started = new ArrayList<>();
+    private final List<String> rejected = new ArrayList<>();
+    private final List<SettableFuture<Void>> running = new ArrayList<>();
+
+    @Test
+    public void testConcurrencyLimit() {
+        final DeviceConnectionPipeline pipeline = new DeviceConnectionPipeline(MoreExecutors.directExecutor(), 2, 0);
+        submit(pipeline, Stage.CONTEXT_CREATION, UNKNOWN_DPID, "first");
+        submit(pipeline, Stage.CONTEXT_CREATION, UNKNOWN_DPID, "second");
+        submit(pipeline, Stage.CONTEXT_CREATION, UNKNOWN_DPID, "third");
+        assertEquals(List.of("first", "second"), started);
+
+        // Stages do not share their capacity
+        submit(pipeline, Stage.FEATURE_DISCOVERY, UNKNOWN_DPID, "other stage");
+        assertEquals(List.of("first", "second", "other stage"), started);
+
+        running.get(0).set(null);
+        assertEquals(List.of("first", "second", "other stage", "third"), started);
+        assertTrue(rejected.isEmpty());
+    }
+
+    @Test
+    public void testKnownDevicesFirst() {
+        final DeviceConnectionPipeline pipeline = new DeviceConnectionPipeline(MoreExecutors.directExecutor(), 1, 0);
+        pipeline.deviceConnected(KNOWN_DPID, null);
+        assertTrue(pipeline.isKnown(KNOWN_DPID));
+        assertFalse(pipeline.isKnown(UNKNOWN_DPID));
+
+        submit(pipeline, Stage.CONTEXT_CREATION, UNKNOWN_DPID, "running");
+        submit(pipeline, Stage.CONTEXT_CREATION, UNKNOWN_DPID, "unknown");
+        submit(pipeline, Stage.CONTEXT_CREATION, KNOWN_DPID, "known");
+        assertEquals(List.of("running"), started);
+
+        running.get(0).set(null);
+        assertEquals(List.of("running", "known"), started);
+        running.get(1).set(null);
+        assertEquals(List.of("running", "known", "unknown"), started);
+    }
+
+    @Test
+    public void testKnownFromConfigInventory() {
+        final DeviceConnectionPipeline pipeline = new DeviceConnectionPipeline(MoreExecutors.directExecutor(), 1, 0);
+        final Node node = new NodeBuilder().setId(new NodeId("openflow:1")).build();
+
+        // Changes within a node are ignored
+        pipeline.onNodesChanged(List.of(change(ModificationType.SUBTREE_MODIFIED, node)));
+        assertFalse(pipeline.isKnown(KNOWN_DPID));
+
+        pipeline.onNodesChanged(List.of(change(ModificationType.WRITE, null)));
+        assertTrue(pipeline.isKnown(KNOWN_DPID));
+
+        pipeline.onNodesChanged(List.of(change(ModificationType.DELETE, node)));
+        assertFalse(pipeline.isKnown(KNOWN_DPID));
+    }
+
+    @Test
+    public void testQueueFull() {
+        final DeviceConnectionPipeline pipeline = new DeviceConnectionPipeline(MoreExecutors.directExecutor(), 1, 1);
+        pipeline.deviceConnected(KNOWN_DPID, null);
+
+        submit(pipeline, Stage.MASTERSHIP, UNKNOWN_DPID, "running");
+        submit(pipeline, Stage.MASTERSHIP, UNKNOWN_DPID, "queued");
+        submit(pipeline, Stage.MASTERSHIP, UNKNOWN_DPID, "unknown");
+        assertEquals(List.of("unknown"), rejected);
+
+        // A known device displaces the queued unknown device
+        submit(pipeline, Stage.MASTERSHIP, KNOWN_DPID, "known");
+        assertEquals(List.of("unknown", "queued"), rejected);
+
+        running.get(0).set(null);
+        assertEquals(List.of("running", "known"), started);
+
+        final String statistics = pipeline.getStageStatistics().get(Stage.MASTERSHIP.ordinal());
+        assertTrue(statistics, statistics.startsWith("MASTERSHIP: running=1/1 queued=0/1"));
+        assertTrue(statistics, statistics.contains("submitted=4 rejected=2 completed=1"));
+    }
+
+    @Test
+    public void testKnownHandshakeAddress() throws Exception {
+        final DeviceConnectionPipeline pipeline = new DeviceConnectionPipeline(MoreExecutors.directExecutor(), 1, 0);
+        final InetAddress address = InetAddress.getByName("192.0.2.1");
+        pipeline.deviceConnected(KNOWN_DPID, new InetSocketAddress(address, 6653));
+
+        pipeline.submitHandshake(null, task("running"), () -> rejected.add("running"));
+        pipeline.submitHandshake(new InetSocketAddress(InetAddress.getByName("192.0.2.2"), 6653), task("unknown"),
+            () -> rejected.add("unknown"));
+        // A reconnecting device uses another port
+        pipeline.submitHandshake(new InetSocketAddress(address, 6654), task("known"), () -> rejected.add("known"));
+
+        running.get(0).set(null);
+        assertEquals(List.of("running", "known"), started);
+    }
+
+    @Test
+    public void testExecutorAfterClose() {
+        final DeviceConnectionPipeline pipeline = new DeviceConnectionPipeline(MoreExecutors.directExecutor(), 1, 0);
+        submit(pipeline, Stage.MASTERSHIP, KNOWN_DPID, "running");
+        submit(pipeline, Stage.MASTERSHIP, KNOWN_DPID, "queued");
+        pipeline.close();
+        assertEquals(List.of("queued"), rejected);
+
+        // Callbacks rejected by a closed stage are run by the caller
+        pipeline.executor(Stage.MASTERSHIP, KNOWN_DPID).execute(() -> started.add("callback"));
+        assertEquals(List.of("running", "callback"), started);
+    }
+
+    private void submit(final DeviceConnectionPipeline pipeline, final Stage stage, final Uint64 datapathId,
+            final String name) {
+        pipeline.submit(stage, datapathId, task(name), () -> rejected.add(name));
+    }
+
+    private static DataTreeModification<Node> change(final ModificationType type, final @Nullable Node before) {
+        final DataObjectModification<Node> mod = mock(DataObjectModification.class);
+        when(mod.modificationType()).thenReturn(type);
+        if (type == ModificationType.WRITE) {
+            when(mod.dataBefore()).thenReturn(before);
+        }
+        final DataTreeModification<Node> change = mock(DataTreeModification.class);
+        when(change.getRootNode()).thenReturn(mod);
+        if (type != ModificationType.SUBTREE_MODIFIED) {
+            when(change.getRootPath()).thenReturn(DataTreeIdentifier.of(LogicalDatastoreType.CONFIGURATION,
+                InstanceIdentifier.create(Nodes.class).child(Node.class, new NodeKey(new NodeId("openflow:1")))));
+        }
+        return change;
+    }
+
+    private Supplier<SettableFuture<Void>> task(final String name) {
+        return () -> {
+            started.add(name);
+            final SettableFuture<Void> future = SettableFuture.create();
+            running.add(future);
+            return future;
+        };
+    }
+}
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,6 +30,7 @@ import org.opendaylight.openflowplugin.api.openflow.connection.DeviceConnectionS
 import org.opendaylight.openflowplugin.api.openflow.connection.HandshakeContext;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceConnectedHandler;
 import org.opendaylight.openflowplugin.impl.connection.ConnectionContextImpl;
+import org.opendaylight.openflowplugin.impl.connection.DeviceConnectionPipeline;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.BarrierOutputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.FeaturesReply;
@@ -67,7 +69,8 @@ public class HandshakeListenerImplTest {
         when(connectionContextSpy.getConnectionAdapter()).thenReturn(connectionAdapter);
         when(features.getDatapathId()).thenReturn(Uint64.TEN);
         when(features.getVersion()).thenReturn(Uint8.ONE);
-        handshakeListener = new HandshakeListenerImpl(connectionContextSpy, deviceConnectedHandler);
+        handshakeListener = new HandshakeListenerImpl(connectionContextSpy, deviceConnectedHandler,
+            new DeviceConnectionPipeline(MoreExecutors.directExecutor()));
         handshakeListener.setHandshakeContext(handshakeContext);
     }
 
@@ -14,6 +14,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -22,6 +24,7 @@ import com.google.common.util.concurrent.FluentFuture;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import io.netty.buffer.Unpooled;
 import io.netty.util.HashedWheelTimer;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
@@ -39,6 +42,7 @@ import org.opendaylight.mdsal.binding.api.TransactionChain;
 import org.opendaylight.mdsal.common.api.CommitInfo;
 import org.opendaylight.mdsal.common.api.LogicalDatastoreType;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.protocol.api.keys.MessageTypeKey;
 import org.opendaylight.openflowplugin.api.OFConstants;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
@@ -262,7 +266,7 @@ public class DeviceContextImplTest {
                 true, false,
                 contextChainHolder,
                 queuedNotificationManager,
-                false);
+                false, false, 0, null);
         ((DeviceContextImpl) deviceContext).lazyTransactionManagerInitialization();
         deviceContextSpy = Mockito.spy(deviceContext);
 
@@ -379,6 +383,27 @@ public class DeviceContextImplTest {
                 eq(MessageSpy.StatisticsGroup.FROM_SWITCH_PUBLISHED_SUCCESS));
     }
 
+    @Test
+    public void testProcessPacketInMessageNotAdmitted() {
+        final NotificationPublishService mockedNotificationPublishService = mock(NotificationPublishService.class);
+        when(mockedNotificationPublishService.offerNotification(any(PacketReceived.class)))
+                .thenReturn(Futures.immediateFuture("dummy value"));
+        deviceContext.setNotificationPublishService(mockedNotificationPublishService);
+        deviceContext.updatePacketInAdmissionRate(1);
+
+        deviceContext.processPacketInMessage(mock(PacketInMessage.class));
+        deviceContext.processPacketInMessage(mock(PacketInMessage.class));
+
+        final LazyPacketIn mockedLazyPacketIn = mock(LazyPacketIn.class);
+        when(mockedLazyPacketIn.getPayload()).thenReturn(Unpooled.EMPTY_BUFFER);
+        deviceContext.processLazyPacketInMessage(mockedLazyPacketIn);
+
+        verify(mockedLazyPacketIn, never()).toPacketInMessage();
+        verify(mockedNotificationPublishService).offerNotification(any(PacketReceived.class));
+        verify(messageSpy, times(2)).spyMessage(Mockito.<Class>any(),
+                eq(MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_LIMIT_REACHED_AND_DROPPED));
+    }
+
     @Test
     public void testProcessPacketInMessageFutureFailure() {
         final PacketInMessage mockedPacketInMessage = mock(PacketInMessage.class);
@@ -131,6 +131,10 @@ public class DeviceManagerImplTest {
                         .setSkipTableFeatures(false)
                         .setUseSingleLayerSerialization(true)
                         .setIsStatisticsPollingOn(false)
+                        .setIncrementalFlowRegistryFill(false)
+                        .setPacketInRateLimit(Uint32.ZERO)
+                        .setFlowStatisticsMinDelta(Uint32.ZERO)
+                        .setTransactionBatchSize(Uint16.ZERO)
                         .build(),
                 dataBroker,
                 messageIntelligenceAgency,
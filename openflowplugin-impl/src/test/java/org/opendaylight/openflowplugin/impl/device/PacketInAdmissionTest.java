@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.device;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.base.Ticker;
+import io.netty.buffer.Unpooled;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
+import org.opendaylight.openflowplugin.api.openflow.statistics.ofpspecific.MessageSpy;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.NoMatch;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketIn;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketInReason;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.PacketReceivedBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.packet.service.rev130709.SendToController;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.table.types.rev131026.TableId;
+import org.opendaylight.yangtools.yang.common.Uint8;
+
+/**
+ * Test for {@link PacketInAdmission}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PacketInAdmissionTest {
+    private static final byte[] LLDP = frame(0x88, 0xCC);
+    private static final byte[] VLAN_ARP = frame(0x81, 0x00, 0x00, 0x0A, 0x08, 0x06);
+    private static final byte[] IPV4 = frame(0x08, 0x00);
+
+    private final Ticker ticker = new Ticker() {
+        @Override
+        public long read() {
+            return now;
+        }
+    };
+
+    @Mock
+    private MessageSpy messageSpy;
+    private PacketInAdmission admission;
+    private long now;
+
+    @Before
+    public void setUp() {
+        admission = new PacketInAdmission(messageSpy, ticker);
+    }
+
+    @Test
+    public void testIsPriority() {
+        assertTrue(PacketInAdmission.isPriority(LLDP));
+        assertTrue(PacketInAdmission.isPriority(VLAN_ARP));
+        assertFalse(PacketInAdmission.isPriority(IPV4));
+        assertFalse(PacketInAdmission.isPriority(new byte[4]));
+        assertFalse(PacketInAdmission.isPriority((byte[]) null));
+    }
+
+    @Test
+    public void testIsPriorityByteBuf() {
+        assertTrue(PacketInAdmission.isPriority(Unpooled.wrappedBuffer(new byte[3], VLAN_ARP).skipBytes(3)));
+        assertFalse(PacketInAdmission.isPriority(Unpooled.wrappedBuffer(IPV4)));
+        assertFalse(PacketInAdmission.isPriority(Unpooled.wrappedBuffer(LLDP, 0, 13)));
+    }
+
+    /**
+     * Lazily decoded packets are admitted from the same buckets, without being decoded.
+     */
+    @Test
+    public void testLazyPacketIn() {
+        admission.updateRate(100);
+
+        final LazyPacketIn packetIn = mock(LazyPacketIn.class);
+        when(packetIn.getTableId()).thenReturn(Uint8.ZERO);
+        when(packetIn.getReason()).thenReturn(
+            org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.PacketInReason.OFPRNOMATCH);
+        when(packetIn.getPayload()).thenAnswer(invocation -> Unpooled.wrappedBuffer(IPV4));
+
+        for (int i = 0; i < 50; ++i) {
+            assertTrue(admission.admit(packetIn, PacketIn.class));
+        }
+        // Shares the bucket of equivalent fully decoded packets
+        assertFalse(admission.admit(packetIn(0, NoMatch.VALUE, IPV4), PacketIn.class));
+        assertFalse(admission.admit(packetIn, PacketIn.class));
+        verify(packetIn, never()).toPacketInMessage();
+    }
+
+    @Test
+    public void testUnlimited() {
+        for (int i = 0; i < 1000; ++i) {
+            assertTrue(admission.admit(packetIn(0, NoMatch.VALUE, IPV4), PacketIn.class));
+        }
+        verify(messageSpy, times(1000)).spyMessage(PacketIn.class,
+            MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_ADMITTED);
+    }
+
+    /**
+     * A single table-id/reason combination may only take a share of the device rate, leaving the rest to others.
+     */
+    @Test
+    public void testTableReasonShare() {
+        admission.updateRate(100);
+
+        assertAdmitted(50, packetIn(0, NoMatch.VALUE, IPV4));
+        verify(messageSpy).spyMessage(PacketIn.class,
+            MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_TABLE_RATE_DROPPED);
+
+        assertAdmitted(50, packetIn(1, SendToController.VALUE, IPV4));
+        assertAdmitted(0, packetIn(2, NoMatch.VALUE, IPV4));
+        verify(messageSpy).spyMessage(PacketIn.class,
+            MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_DEVICE_RATE_DROPPED);
+
+        // Buckets are full again after a while
+        now += TimeUnit.SECONDS.toNanos(2);
+        assertAdmitted(50, packetIn(0, NoMatch.VALUE, IPV4));
+    }
+
+    /**
+     * LLDP and ARP are admitted from their reserved share when generic punts have exhausted the device rate.
+     */
+    @Test
+    public void testPriority() {
+        admission.updateRate(100);
+
+        assertAdmitted(50, packetIn(0, NoMatch.VALUE, IPV4));
+        assertAdmitted(50, packetIn(1, NoMatch.VALUE, IPV4));
+        assertFalse(admission.admit(packetIn(2, NoMatch.VALUE, IPV4), PacketIn.class));
+
+        assertAdmitted(25, packetIn(0, NoMatch.VALUE, LLDP));
+        verify(messageSpy, times(25)).spyMessage(PacketIn.class,
+            MessageSpy.StatisticsGroup.FROM_SWITCH_PACKET_IN_PRIORITY_ADMITTED);
+    }
+
+    private void assertAdmitted(final int count, final PacketIn packetIn) {
+        for (int i = 0; i < count; ++i) {
+            assertTrue(admission.admit(packetIn, PacketIn.class));
+        }
+        assertFalse(admission.admit(packetIn, PacketIn.class));
+    }
+
+    private static PacketIn packetIn(final int tableId, final PacketInReason reason, final byte[] payload) {
+        return new PacketReceivedBuilder()
+            .setTableId(new TableId(Uint8.valueOf(tableId)))
+            .setPacketInReason(reason)
+            .setPayload(payload)
+            .build();
+    }
+
+    private static byte[] frame(final int... etherType) {
+        final byte[] frame = new byte[12 + etherType.length + 46];
+        for (int i = 0; i < etherType.length; ++i) {
+            frame[12 + i] = (byte) etherType[i];
+        }
+        return frame;
+    }
+}
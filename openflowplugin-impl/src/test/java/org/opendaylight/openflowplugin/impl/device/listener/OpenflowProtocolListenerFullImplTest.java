@@ -8,6 +8,7 @@
 package org.opendaylight.openflowplugin.impl.device.listener;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -21,6 +22,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opendaylight.openflowjava.protocol.api.connection.ConnectionAdapter;
+import org.opendaylight.openflowjava.protocol.api.connection.LazyPacketIn;
 import org.opendaylight.openflowjava.protocol.api.util.EncodeConstants;
 import org.opendaylight.openflowplugin.api.openflow.device.handlers.DeviceReplyProcessor;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.protocol.rev130731.EchoReplyInput;
@@ -150,6 +152,17 @@ public class OpenflowProtocolListenerFullImplTest {
         verify(deviceReplyProcessor).processPacketInMessage(any(PacketInMessage.class));
     }
 
+    /**
+     * Test method for {@link OpenflowProtocolListenerFullImpl#onLazyPacketIn(LazyPacketIn)}.
+     */
+    @Test
+    public void testOnLazyPacketIn() {
+        final LazyPacketIn packetIn = mock(LazyPacketIn.class);
+        ofProtocolListener.onLazyPacketIn(packetIn);
+
+        verify(deviceReplyProcessor).processLazyPacketInMessage(packetIn);
+    }
+
     /**
      * Test method for
      * {@link OpenflowProtocolListenerFullImpl#onPortStatus(
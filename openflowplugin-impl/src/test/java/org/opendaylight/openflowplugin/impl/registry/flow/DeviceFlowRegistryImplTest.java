@@ -7,16 +7,20 @@
  */
 package org.opendaylight.openflowplugin.impl.registry.flow;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,6 +45,7 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.Fl
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.statistics.rev130819.flow.and.statistics.map.list.FlowAndStatisticsMapList;
@@ -126,6 +131,68 @@ public class DeviceFlowRegistryImplTest {
         deviceFlowRegistry.addMark(key);
     }
 
+    @Test
+    public void testIncrementalFill() throws Exception {
+        final InstanceIdentifier<FlowCapableNode> path = nodeInstanceIdentifier.augmentation(FlowCapableNode.class);
+        final InstanceIdentifier<Table> tablePath = path.child(Table.class, new TableKey(Uint8.ONE));
+
+        final Flow flow = new FlowBuilder()
+                .setTableId(Uint8.ONE)
+                .setPriority(Uint16.TEN)
+                .setCookie(new FlowCookie(Uint64.TEN))
+                .setId(new FlowId("HELLO"))
+                .build();
+
+        doReturn(FluentFutures.immediateFluentFuture(Optional.empty())).when(readOnlyTransaction).read(any(), any());
+        doReturn(FluentFutures.immediateFluentFuture(Optional.of(new TableBuilder()
+                .setId(Uint8.ONE)
+                .setFlow(BindingMap.of(flow))
+                .build()))).when(readOnlyTransaction).read(LogicalDatastoreType.CONFIGURATION, tablePath);
+
+        deviceFlowRegistry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+            nodeInstanceIdentifier, history, true, 0);
+        deviceFlowRegistry.fill().get();
+
+        // One transaction per datastore, one read per table, never the whole node, even with concurrent readers
+        verify(dataBroker, times(2)).newReadOnlyTransaction();
+        verify(readOnlyTransaction, times(256)).read(eq(LogicalDatastoreType.CONFIGURATION), any());
+        verify(readOnlyTransaction, times(256)).read(eq(LogicalDatastoreType.OPERATIONAL), any());
+        verify(readOnlyTransaction, never()).read(LogicalDatastoreType.CONFIGURATION, path);
+        verify(readOnlyTransaction, times(2)).close();
+
+        assertEquals("HELLO", deviceFlowRegistry.retrieveDescriptor(FlowRegistryKeyFactory.VERSION_1_3.create(flow))
+            .getFlowId().getValue());
+        assertEquals(1, deviceFlowRegistry.getLastFillStatistics().flows());
+        assertEquals(1, deviceFlowRegistry.getLastFillStatistics().tables());
+    }
+
+    @Test
+    public void testFillReplacesAlienId() throws Exception {
+        final InstanceIdentifier<FlowCapableNode> path = nodeInstanceIdentifier.augmentation(FlowCapableNode.class);
+
+        final Flow flow = new FlowBuilder()
+                .setTableId(Uint8.ONE)
+                .setPriority(Uint16.TEN)
+                .setCookie(new FlowCookie(Uint64.TEN))
+                .setId(new FlowId("HELLO"))
+                .build();
+        final FlowRegistryKey flowKey = FlowRegistryKeyFactory.VERSION_1_3.create(flow);
+
+        // Statistics reported the flow before the registry was filled
+        deviceFlowRegistry.store(flowKey);
+        assertTrue(deviceFlowRegistry.retrieveDescriptor(flowKey).getFlowId().getValue().startsWith("#UF$TABLE*"));
+
+        fillRegistry(path, new FlowCapableNodeBuilder()
+                .setTable(BindingMap.of(new TableBuilder()
+                        .setId(Uint8.ONE)
+                        .setFlow(BindingMap.of(flow))
+                        .build()))
+                .build());
+
+        assertEquals("HELLO", deviceFlowRegistry.retrieveDescriptor(flowKey).getFlowId().getValue());
+        assertEquals(2, deviceFlowRegistry.getAllFlowDescriptors().size());
+    }
+
     @Test
     public void testFailedFill() throws Exception {
         final InstanceIdentifier<FlowCapableNode> path = nodeInstanceIdentifier.augmentation(FlowCapableNode.class);
@@ -195,6 +262,24 @@ public class DeviceFlowRegistryImplTest {
         Assert.assertEquals("ut:1", deviceFlowRegistry.retrieveDescriptor(key2).getFlowId().getValue());
     }
 
+    @Test
+    public void testStoreBoundDescriptor() {
+        // descriptor is already bound to key, key2 needs to get an alien ID
+        final FlowRegistryKey key2 = FlowRegistryKeyFactory.VERSION_1_3.create(
+                TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build());
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+
+        Assert.assertEquals(2, deviceFlowRegistry.size());
+        Assert.assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key));
+        Assert.assertTrue(deviceFlowRegistry.retrieveDescriptor(key2).getFlowId().getValue().startsWith("#UF$TABLE*"));
+
+        // once key is removed, descriptor can be bound again
+        deviceFlowRegistry.addMark(key);
+        deviceFlowRegistry.storeDescriptor(key2, descriptor);
+        Assert.assertEquals(1, deviceFlowRegistry.size());
+        Assert.assertEquals(descriptor, deviceFlowRegistry.retrieveDescriptor(key2));
+    }
+
     @Test
     public void testStoreIfNecessary() {
         FlowId newFlowId;
@@ -219,6 +304,69 @@ public class DeviceFlowRegistryImplTest {
         Assert.assertEquals(2, deviceFlowRegistry.getAllFlowDescriptors().size());
     }
 
+    @Test
+    public void testStoreTracking() {
+        Assert.assertEquals(List.of(), deviceFlowRegistry.finishStoreTracking(true));
+
+        // key is not stored while tracking an incomplete reply, hence it is neither reported nor removed
+        deviceFlowRegistry.startStoreTracking();
+        final FlowRegistryKey key2 = FlowRegistryKeyFactory.VERSION_1_3.create(
+                TestFlowHelper.createFlowAndStatisticsMapListBuilder(2).build());
+        deviceFlowRegistry.store(key2);
+        Assert.assertEquals(List.of(), deviceFlowRegistry.finishStoreTracking(false));
+        Assert.assertEquals(2, deviceFlowRegistry.size());
+
+        // key is not stored while tracking, hence it is reported and removed
+        deviceFlowRegistry.startStoreTracking();
+        deviceFlowRegistry.store(key2);
+        Assert.assertEquals(List.of(descriptor), deviceFlowRegistry.finishStoreTracking(true));
+        Assert.assertEquals(1, deviceFlowRegistry.size());
+        Assert.assertNull(deviceFlowRegistry.retrieveDescriptor(key));
+
+        // it is not reported again
+        deviceFlowRegistry.startStoreTracking();
+        deviceFlowRegistry.store(key2);
+        Assert.assertEquals(List.of(), deviceFlowRegistry.finishStoreTracking(true));
+
+        // removed flows are reported as well
+        deviceFlowRegistry.storeDescriptor(key, descriptor);
+        deviceFlowRegistry.addMark(key);
+        deviceFlowRegistry.startStoreTracking();
+        deviceFlowRegistry.store(key2);
+        Assert.assertEquals(List.of(descriptor), deviceFlowRegistry.finishStoreTracking(true));
+        Assert.assertEquals(1, deviceFlowRegistry.size());
+    }
+
+    @Test
+    public void testStatisticsUnchanged() {
+        // without a minimum delta, statistics are always written
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 1, 64, 10));
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 1, 64, 10));
+
+        deviceFlowRegistry = new DeviceFlowRegistryImpl(OFConstants.OFP_VERSION_1_3, dataBroker,
+            nodeInstanceIdentifier, history, false, 10);
+        deviceFlowRegistry.storeDescriptor(key, descriptor);
+
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 1, 64, 10));
+        Assert.assertTrue(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 1, 64, 20));
+        Assert.assertTrue(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 10, 640, 20));
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 11, 704, 20));
+
+        // duration bucket changed
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 11, 704, 300));
+        Assert.assertTrue(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 11, 704, 310));
+
+        // counters reset
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 0, 0, 1));
+        Assert.assertTrue(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 0, 0, 1));
+
+        // removed flows are forgotten
+        deviceFlowRegistry.addMark(key);
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 0, 0, 1));
+        deviceFlowRegistry.clearStatistics();
+        Assert.assertFalse(deviceFlowRegistry.isStatisticsUnchanged(descriptor, 0, 0, 1));
+    }
+
     @Test
     public void testRemoveDescriptor() {
         deviceFlowRegistry.addMark(key);
@@ -10,7 +10,9 @@ package org.opendaylight.openflowplugin.impl.services;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -43,7 +45,11 @@ import org.opendaylight.openflowplugin.openflow.md.core.sal.convertor.ConvertorM
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNode;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowCapableNodeBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.Table;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.TableKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.Flow;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.tables.table.FlowKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.NodeId;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.Nodes;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.inventory.rev130819.nodes.Node;
@@ -222,6 +228,37 @@ public class MultipartRequestOnTheFlyCallbackTest {
         verify(mockedReadOnlyTx, never()).read(LogicalDatastoreType.OPERATIONAL, nodePath);
         verify(mockedReadOnlyTx, never()).close();
         verify(mockedDeviceContext, times(1)).writeToTransaction(eq(LogicalDatastoreType.OPERATIONAL), any(), any());
+        verify(mockedFlowRegistry).startStoreTracking();
+        verify(mockedFlowRegistry, never()).finishStoreTracking(anyBoolean());
+        verify(mockedDeviceContext).submitTransaction();
+    }
+
+    /**
+     * The last reply of flow statistics, flows known to the registry which were not reported are removed.
+     */
+    @Test
+    public void testOnSuccessRemovesUnreportedFlows() throws Exception {
+        final MultipartReplyMessageBuilder mpReplyMessage = new MultipartReplyMessageBuilder()
+                .setType(MultipartType.OFPMPFLOW)
+                .setFlags(new MultipartRequestFlags(false))
+                .setMultipartReplyBody(new MultipartReplyFlowCaseBuilder()
+                    .setMultipartReplyFlow(new MultipartReplyFlowBuilder().setFlowStats(List.of()).build())
+                    .build())
+                .setXid(Uint32.valueOf(21));
+
+        when(mockedDeviceContext.isTransactionsEnabled()).thenReturn(true);
+        when(mockedFlowDescriptor.getTableKey()).thenReturn(new TableKey(tableId));
+        when(mockedFlowRegistry.finishStoreTracking(true)).thenReturn(List.of(mockedFlowDescriptor));
+
+        multipartRequestOnTheFlyCallback.onSuccess(mpReplyMessage.build());
+
+        assertTrue(dummyRequestContext.getFuture().get().isSuccessful());
+        verify(mockedFlowRegistry).startStoreTracking();
+        verify(mockedDeviceContext).addDeleteToTxChain(LogicalDatastoreType.OPERATIONAL, NODE_PATH
+                .augmentation(FlowCapableNode.class)
+                .child(Table.class, new TableKey(tableId))
+                .child(Flow.class, new FlowKey(new FlowId("mookus"))));
+        verify(mockedDeviceContext).submitTransaction();
     }
 
     /**
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.openflow.common.types.rev130731.MultipartType;
+
+/**
+ * Test for {@link AdaptivePollingPolicy}.
+ */
+public class AdaptivePollingPolicyTest {
+    private final AdaptivePollingPolicy policy = new AdaptivePollingPolicy(4);
+
+    /**
+     * An unchanged type backs off exponentially up to the maximum interval and returns to every poll on change.
+     */
+    @Test
+    public void testBackOff() {
+        assertEquals(1, pollsUntilDue(MultipartType.OFPMPGROUPDESC));
+        policy.recordDigest(MultipartType.OFPMPGROUPDESC, 42);
+        assertEquals(1, pollsUntilDue(MultipartType.OFPMPGROUPDESC));
+        policy.recordDigest(MultipartType.OFPMPGROUPDESC, 42);
+        assertEquals(2, pollsUntilDue(MultipartType.OFPMPGROUPDESC));
+        policy.recordDigest(MultipartType.OFPMPGROUPDESC, 42);
+        assertEquals(4, pollsUntilDue(MultipartType.OFPMPGROUPDESC));
+        policy.recordDigest(MultipartType.OFPMPGROUPDESC, 42);
+        assertEquals(4, pollsUntilDue(MultipartType.OFPMPGROUPDESC));
+
+        policy.recordDigest(MultipartType.OFPMPGROUPDESC, 43);
+        assertEquals(1, pollsUntilDue(MultipartType.OFPMPGROUPDESC));
+
+        assertEquals(List.of("OFPMPGROUPDESC: every 1 polls (3000 ms), 7 polls skipped"), policy.describe(3000));
+    }
+
+    /**
+     * Types without a reported digest are gathered on every poll.
+     */
+    @Test
+    public void testNoDigest() {
+        policy.recordDigest(MultipartType.OFPMPMETERCONFIG, 42);
+        policy.recordDigest(MultipartType.OFPMPMETERCONFIG, 42);
+        assertFalse(policy.isDue(MultipartType.OFPMPMETERCONFIG));
+        assertTrue(policy.isDue(MultipartType.OFPMPFLOW));
+        assertTrue(policy.isDue(MultipartType.OFPMPFLOW));
+    }
+
+    @Test
+    public void testDisabled() {
+        final AdaptivePollingPolicy disabled = new AdaptivePollingPolicy(1);
+        assertFalse(disabled.isAdaptive());
+        assertTrue(policy.isAdaptive());
+        disabled.recordDigest(MultipartType.OFPMPTABLE, 42);
+        disabled.recordDigest(MultipartType.OFPMPTABLE, 42);
+        assertTrue(disabled.isDue(MultipartType.OFPMPTABLE));
+    }
+
+    private int pollsUntilDue(final MultipartType type) {
+        int polls = 1;
+        while (!policy.isDue(type)) {
+            polls++;
+        }
+        return polls;
+    }
+}
@@ -11,6 +11,8 @@ package org.opendaylight.openflowplugin.impl.statistics;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.Executors;
+import org.junit.After;
 import org.junit.Before;
 import org.opendaylight.openflowjava.protocol.api.connection.OutboundQueue;
 import org.opendaylight.openflowplugin.api.openflow.connection.ConnectionContext;
@@ -51,6 +53,7 @@ public class StatisticsContextImpMockInitiation {
     DeviceInfo mockedDeviceInfo;
     StatisticsManager mockedStatisticsManager;
     ContextChainMastershipWatcher mockedMastershipWatcher;
+    StatisticsPollingScheduler pollingScheduler;
 
     static final KeyedInstanceIdentifier<Node, NodeKey> DUMMY_NODE_ID = InstanceIdentifier.create(Nodes.class)
             .child(Node.class, new NodeKey(new NodeId("dummyNodeId")));
@@ -65,6 +68,7 @@ public class StatisticsContextImpMockInitiation {
         mockedDeviceInfo = mock(DeviceInfo.class);
         mockedStatisticsManager = mock(StatisticsManager.class);
         mockedMastershipWatcher = mock(ContextChainMastershipWatcher.class);
+        pollingScheduler = new StatisticsPollingScheduler(Executors.newSingleThreadScheduledExecutor(), 0);
 
         final FeaturesReply mockedFeatures = mock(FeaturesReply.class);
         final MessageSpy mockedMessageSpy = mock(MessageSpy.class);
@@ -90,4 +94,9 @@ public class StatisticsContextImpMockInitiation {
         when(mockedConnectionContext.getConnectionState()).thenReturn(ConnectionContext.CONNECTION_STATE.WORKING);
 
     }
+
+    @After
+    public void tearDown() {
+        pollingScheduler.close();
+    }
 }
@@ -96,6 +96,8 @@ public class StatisticsContextImplParamTest extends StatisticsContextImpMockInit
                 MultipartWriterProviderFactory.createDefaultProvider(mockedDeviceContext),
                 MoreExecutors.directExecutor(),
                 config,
+                pollingScheduler,
+                new AdaptivePollingPolicy(1),
                 true,
                 false);
 
@@ -72,6 +72,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                         .createDefaultProvider(mockedDeviceContext),
                 MoreExecutors.directExecutor(),
                 config,
+                pollingScheduler,
+                new AdaptivePollingPolicy(1),
                 true,
                 false);
 
@@ -99,6 +101,8 @@ public class StatisticsContextImplTest extends StatisticsContextImpMockInitiatio
                                 .createDefaultProvider(mockedDeviceContext),
                         MoreExecutors.directExecutor(),
                         config,
+                        pollingScheduler,
+                        new AdaptivePollingPolicy(1),
                         true,
                         false);
 
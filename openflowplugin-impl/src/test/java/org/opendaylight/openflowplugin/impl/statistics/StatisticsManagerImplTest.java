@@ -53,6 +53,7 @@ import org.opendaylight.yangtools.concepts.Registration;
 import org.opendaylight.yangtools.yang.binding.KeyedInstanceIdentifier;
 import org.opendaylight.yangtools.yang.binding.Rpc;
 import org.opendaylight.yangtools.yang.common.RpcResult;
+import org.opendaylight.yangtools.yang.common.Uint16;
 import org.opendaylight.yangtools.yang.common.Uint32;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -108,6 +109,8 @@ public class StatisticsManagerImplTest {
                         .setBasicTimerDelay(new NonZeroUint32Type(Uint32.valueOf(3000)))
                         .setMaximumTimerDelay(new NonZeroUint32Type(Uint32.valueOf(900000)))
                         .setIsStatisticsPollingOn(false)
+                        .setStatisticsPollingConcurrency(Uint16.ZERO)
+                        .setAdaptiveStatisticsPolling(false)
                         .build(), rpcProviderRegistry,
                 convertorManager,
                 MoreExecutors.directExecutor());
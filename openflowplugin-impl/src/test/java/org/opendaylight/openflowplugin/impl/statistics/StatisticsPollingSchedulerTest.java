@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2026 PANTHEON.tech, s.r.o. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.openflowplugin.impl.statistics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+/**
+ * Test for {@link StatisticsPollingScheduler}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class StatisticsPollingSchedulerTest {
+    @Mock
+    private ScheduledExecutorService timer;
+    @Mock
+    private ScheduledFuture<?> timeout;
+
+    private final List<String> started = new ArrayList<>();
+    private final List<String> released = new ArrayList<>();
+    private StatisticsPollingScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        doReturn(timeout).when(timer).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        scheduler = new StatisticsPollingScheduler(timer, 1);
+    }
+
+    /**
+     * Gatherings over the cap wait for capacity and initial gatherings are run ahead of periodic polls.
+     */
+    @Test
+    public void testCapAndPriority() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(timer).execute(any(Runnable.class));
+
+        final SettableFuture<Boolean> first = SettableFuture.create();
+        final SettableFuture<Boolean> second = SettableFuture.create();
+        scheduler.submit(gathering("poll1", first), false, 1000, () -> released.add("poll1"));
+        scheduler.submit(gathering("poll2", SettableFuture.create()), false, 1000, () -> released.add("poll2"));
+        scheduler.submitPriority(gathering("init", second));
+        assertEquals(List.of("poll1"), started);
+
+        first.set(Boolean.TRUE);
+        assertEquals(List.of("poll1", "init"), started);
+        assertEquals(List.of("poll1"), released);
+        verify(timeout).cancel(false);
+
+        second.set(Boolean.TRUE);
+        assertEquals(List.of("poll1", "init", "poll2"), started);
+    }
+
+    /**
+     * An expired gathering releases its capacity without being cancelled.
+     */
+    @Test
+    public void testTimeout() {
+        final SettableFuture<Boolean> future = SettableFuture.create();
+        final ListenableFuture<Boolean> result = scheduler.submit(gathering("poll1", future), false, 1000,
+            () -> released.add("poll1"));
+        scheduler.submit(gathering("poll2", SettableFuture.create()), false, 1000, () -> released.add("poll2"));
+
+        final ArgumentCaptor<Runnable> timeoutTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(timer).schedule(timeoutTask.capture(), anyLong(), any(TimeUnit.class));
+        timeoutTask.getValue().run();
+
+        assertEquals(List.of("poll1"), released);
+        assertFalse(result.isDone());
+        verify(timer).execute(any(Runnable.class));
+    }
+
+    @Test
+    public void testClose() throws InterruptedException {
+        scheduler.submit(gathering("poll1", SettableFuture.create()), false, 1000, () -> released.add("poll1"));
+        final ListenableFuture<Boolean> queued = scheduler.submit(gathering("poll2", SettableFuture.create()), false,
+            1000, () -> released.add("poll2"));
+
+        scheduler.close();
+        verify(timer).shutdownNow();
+        assertEquals(List.of("poll2"), released);
+        assertRejected(queued);
+        assertRejected(scheduler.submitPriority(gathering("init", SettableFuture.create())));
+        assertEquals(List.of("poll1"), started);
+    }
+
+    private Supplier<ListenableFuture<Boolean>> gathering(final String name, final ListenableFuture<Boolean> future) {
+        return () -> {
+            started.add(name);
+            return future;
+        };
+    }
+
+    private static void assertRejected(final ListenableFuture<Boolean> future) throws InterruptedException {
+        assertTrue(future.isDone());
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+            return;
+        }
+        throw new AssertionError("Future was not rejected");
+    }
+}
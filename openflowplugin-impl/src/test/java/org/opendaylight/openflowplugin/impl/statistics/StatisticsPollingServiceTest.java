@@ -8,53 +8,93 @@
 
 package org.opendaylight.openflowplugin.impl.statistics;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 @RunWith(MockitoJUnitRunner.class)
 public class StatisticsPollingServiceTest {
+    private static final long DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(12000);
+
     @Mock
     private TimeCounter timeCounter;
     @Mock
     private Supplier<ListenableFuture<Boolean>> gatheringSupplier;
+    @Mock
+    private ScheduledExecutorService timer;
+    @Mock
+    private ScheduledFuture<?> scheduledFuture;
 
     private StatisticsPollingService statisticsPollingService;
 
     @Before
     public void setUp() {
         when(timeCounter.getAverageTimeBetweenMarks()).thenReturn(15000L);
-        when(gatheringSupplier.get()).thenReturn(Futures.immediateFuture(true));
-        statisticsPollingService = new StatisticsPollingService(
+        doReturn(scheduledFuture).when(timer).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        statisticsPollingService = new StatisticsPollingService(new StatisticsPollingScheduler(timer, 0),
                 timeCounter, 10000, 12000,
                 gatheringSupplier);
     }
 
+    /**
+     * The first poll is due at a random phase of the polling delay, which is stretched by long gatherings up to the
+     * maximum timer delay.
+     */
     @Test
-    public void startUp() {
-        statisticsPollingService.startUp();
+    public void start() {
+        statisticsPollingService.start();
         verify(timeCounter).markStart();
+
+        final ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(timer).schedule(any(Runnable.class), delay.capture(), eq(TimeUnit.NANOSECONDS));
+        assertTrue(delay.getValue() <= DELAY_NANOS * (1.5 + StatisticsPollingService.JITTER));
+        assertTrue(delay.getValue() > DELAY_NANOS / 2 - TimeUnit.SECONDS.toNanos(1));
     }
 
     @Test
-    public void runOneIteration() throws Exception {
-        statisticsPollingService.runOneIteration();
+    public void poll() {
+        when(gatheringSupplier.get()).thenReturn(Futures.immediateFuture(true));
+        statisticsPollingService.start();
+        statisticsPollingService.poll();
+
         verify(gatheringSupplier).get();
         verify(timeCounter).addTimeMark();
+        // Once for the first poll, once for the gathering timeout and once for the next poll
+        verify(timer, times(3)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
     @Test
-    public void scheduler() {
-        statisticsPollingService.scheduler();
-        verify(timeCounter).getAverageTimeBetweenMarks();
+    public void stop() {
+        statisticsPollingService.start();
+        assertTrue(statisticsPollingService.stop().isDone());
+        verify(scheduledFuture).cancel(false);
+
+        statisticsPollingService.poll();
+        verify(timer).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void delayNanos() {
+        assertEquals(DELAY_NANOS, statisticsPollingService.delayNanos());
+        verify(timeCounter).getAverageTimeBetweenMarks();
+    }
+}
@@ -15,6 +15,10 @@ import org.junit.Assert;
 import org.junit.Test;
 import org.opendaylight.openflowplugin.impl.services.batch.BatchPlanStep;
 import org.opendaylight.openflowplugin.impl.services.batch.BatchStepType;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.GroupActionCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.action.group.action._case.GroupActionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.Action;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.action.types.rev131112.action.list.ActionBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutput;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.ProcessFlatBatchOutputBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.flat.batch.failure.ids.aug.FlatBatchFailureFlowIdCaseBuilder;
@@ -61,11 +65,26 @@ import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev16032
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.output.BatchFailureBuilder;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flat.batch.service.rev160321.process.flat.batch.output.BatchFailureKey;
 import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.inventory.rev130819.FlowId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.Instructions;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.flow.InstructionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.ApplyActionsCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.MeterCaseBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.apply.actions._case.ApplyActionsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.instruction.meter._case.MeterBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.Instruction;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.InstructionBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.flow.types.rev131026.instruction.list.InstructionKey;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.GroupId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.BucketsBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.buckets.BucketBuilder;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.group.types.rev131018.group.buckets.BucketId;
+import org.opendaylight.yang.gen.v1.urn.opendaylight.meter.types.rev130918.MeterId;
 import org.opendaylight.yangtools.yang.binding.util.BindingMap;
 import org.opendaylight.yangtools.yang.common.ErrorType;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
 import org.opendaylight.yangtools.yang.common.Uint16;
+import org.opendaylight.yangtools.yang.common.Uint32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -162,6 +181,64 @@ public class FlatBatchUtilTest {
         Assert.assertFalse(batchPlan.get(0).isBarrierAfter());
     }
 
+    @Test
+    public void testMarkBarriersOnDependencies_noBarrier() {
+        final List<Batch> batches = List.of(
+                // steps of conflicting types not referring to each other's IDs
+                createGroupAddBatch(1, 0),
+                createFlowAddBatch(2, null),
+                createFlowRemoveBatch(3),
+                createGroupRemoveBatch(4),
+                createMeterAddBatch(5),
+                createFlowAddBatch(0, 6L)
+        );
+
+        final List<BatchPlanStep> batchPlan = FlatBatchUtil.assembleBatchPlan(batches);
+        FlatBatchUtil.markBarriersOnDependencies(batchPlan);
+
+        Assert.assertEquals(6, batchPlan.size());
+        for (BatchPlanStep planStep : batchPlan) {
+            Assert.assertFalse(planStep.isBarrierAfter());
+        }
+    }
+
+    @Test
+    public void testMarkBarriersOnDependencies() {
+        final List<Batch> batches = List.of(
+                createGroupAddBatch(1, 0),
+                createMeterAddBatch(5),
+                // forwards to group 1 -> barrier before
+                createFlowAddBatch(1, null),
+                // metered by meter 5, added before the barrier
+                createFlowAddBatch(0, 5L),
+                // chains to group 1, added before the barrier
+                createGroupAddBatch(2, 1),
+                // referred to by the removed flow -> barrier before
+                createFlowRemoveBatch(3),
+                createGroupRemoveBatch(3)
+        );
+
+        final List<BatchPlanStep> batchPlan = FlatBatchUtil.assembleBatchPlan(batches);
+        FlatBatchUtil.markBarriersOnDependencies(batchPlan);
+
+        Assert.assertEquals(7, batchPlan.size());
+        final boolean[] expected = {false, true, false, false, false, true, false};
+        for (int i = 0; i < batchPlan.size(); i++) {
+            Assert.assertEquals("barrier after step " + i, expected[i], batchPlan.get(i).isBarrierAfter());
+        }
+    }
+
+    @Test
+    public void testMarkBarriersOnDependencies_sameGroup() {
+        final List<BatchPlanStep> batchPlan = FlatBatchUtil.assembleBatchPlan(List.of(
+                createGroupRemoveBatch(1),
+                createGroupAddBatch(1, 0)));
+        FlatBatchUtil.markBarriersOnDependencies(batchPlan);
+
+        Assert.assertTrue(batchPlan.get(0).isBarrierAfter());
+        Assert.assertFalse(batchPlan.get(1).isBarrierAfter());
+    }
+
     @Test
     public void testDecideBarrier() {
         Assert.assertTrue(FlatBatchUtil.decideBarrier(EnumSet.of(BatchStepType.GROUP_ADD), BatchStepType.FLOW_ADD));
@@ -280,6 +357,95 @@ public class FlatBatchUtilTest {
                 .build();
     }
 
+    private static Batch createFlowAddBatch(final long groupId, final Long meterId) {
+        return createBatch(new FlatBatchAddFlowCaseBuilder()
+                .setFlatBatchAddFlow(BindingMap.of(new FlatBatchAddFlowBuilder()
+                        .setBatchOrder(Uint16.ZERO)
+                        .setInstructions(createInstructions(groupId, meterId))
+                        .build()))
+                .build());
+    }
+
+    private static Batch createFlowRemoveBatch(final long groupId) {
+        return createBatch(new FlatBatchRemoveFlowCaseBuilder()
+                .setFlatBatchRemoveFlow(BindingMap.of(new FlatBatchRemoveFlowBuilder()
+                        .setBatchOrder(Uint16.ZERO)
+                        .setInstructions(createInstructions(groupId, null))
+                        .build()))
+                .build());
+    }
+
+    private static Batch createGroupAddBatch(final long groupId, final long chainedGroupId) {
+        final var bucket = new BucketBuilder().setBucketId(new BucketId(Uint32.ZERO));
+        if (chainedGroupId != 0) {
+            bucket.setAction(BindingMap.of(createGroupAction(chainedGroupId)));
+        }
+        return createBatch(new FlatBatchAddGroupCaseBuilder()
+                .setFlatBatchAddGroup(BindingMap.of(new FlatBatchAddGroupBuilder()
+                        .setBatchOrder(Uint16.ZERO)
+                        .setGroupId(new GroupId(Uint32.valueOf(groupId)))
+                        .setBuckets(new BucketsBuilder().setBucket(BindingMap.of(bucket.build())).build())
+                        .build()))
+                .build());
+    }
+
+    private static Batch createGroupRemoveBatch(final long groupId) {
+        return createBatch(new FlatBatchRemoveGroupCaseBuilder()
+                .setFlatBatchRemoveGroup(BindingMap.of(new FlatBatchRemoveGroupBuilder()
+                        .setBatchOrder(Uint16.ZERO)
+                        .setGroupId(new GroupId(Uint32.valueOf(groupId)))
+                        .build()))
+                .build());
+    }
+
+    private static Batch createMeterAddBatch(final long meterId) {
+        return createBatch(new FlatBatchAddMeterCaseBuilder()
+                .setFlatBatchAddMeter(BindingMap.of(new FlatBatchAddMeterBuilder()
+                        .setBatchOrder(Uint16.ZERO)
+                        .setMeterId(new MeterId(Uint32.valueOf(meterId)))
+                        .build()))
+                .build());
+    }
+
+    private static Batch createBatch(final BatchChoice batchCase) {
+        return new BatchBuilder()
+                .setBatchOrder(Uint16.ZERO)
+                .setBatchChoice(batchCase)
+                .build();
+    }
+
+    private static Instructions createInstructions(final long groupId, final Long meterId) {
+        final var instructions = BindingMap.<InstructionKey, Instruction>orderedBuilder();
+        if (groupId != 0) {
+            instructions.add(new InstructionBuilder()
+                    .setOrder(0)
+                    .setInstruction(new ApplyActionsCaseBuilder()
+                            .setApplyActions(new ApplyActionsBuilder()
+                                    .setAction(BindingMap.of(createGroupAction(groupId)))
+                                    .build())
+                            .build())
+                    .build());
+        }
+        if (meterId != null) {
+            instructions.add(new InstructionBuilder()
+                    .setOrder(1)
+                    .setInstruction(new MeterCaseBuilder()
+                            .setMeter(new MeterBuilder().setMeterId(new MeterId(Uint32.valueOf(meterId))).build())
+                            .build())
+                    .build());
+        }
+        return new InstructionsBuilder().setInstruction(instructions.build()).build();
+    }
+
+    private static Action createGroupAction(final long groupId) {
+        return new ActionBuilder()
+                .setOrder(0)
+                .setAction(new GroupActionCaseBuilder()
+                        .setGroupAction(new GroupActionBuilder().setGroupId(Uint32.valueOf(groupId)).build())
+                        .build())
+                .build();
+    }
+
     private static Map<FlatBatchAddGroupKey, FlatBatchAddGroup> repeatFlatBatchAddGroupIntoList(final int size) {
         final var list = BindingMap.<FlatBatchAddGroupKey, FlatBatchAddGroup>orderedBuilder(size);
         for (int i = 0; i < size; i++) {